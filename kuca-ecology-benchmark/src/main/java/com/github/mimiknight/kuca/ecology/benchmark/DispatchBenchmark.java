@@ -0,0 +1,63 @@
+package com.github.mimiknight.kuca.ecology.benchmark;
+
+import com.github.mimiknight.kuca.ecology.benchmark.fixture.BenchContexts;
+import com.github.mimiknight.kuca.ecology.benchmark.fixture.BenchRequest;
+import com.github.mimiknight.kuca.ecology.benchmark.fixture.BenchResponse;
+import com.github.mimiknight.kuca.ecology.core.HandlerExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HandlerExecutor端到端基准测试
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 11:10:48
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DispatchBenchmark {
+
+    @Param({"0", "1", "5"})
+    private int filterCount;
+
+    private AnnotationConfigApplicationContext context;
+
+    private HandlerExecutor handlerExecutor;
+
+    private BenchRequest request;
+
+    @Setup
+    public void setup() {
+        context = BenchContexts.create(filterCount, 0);
+        handlerExecutor = context.getBean(HandlerExecutor.class);
+        request = new BenchRequest();
+        request.setBody("benchmark");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BenchResponse execute() throws Exception {
+        return handlerExecutor.execute(request);
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.mimiknight.kuca.ecology.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 基准测试启动类
+ * <p>
+ * 接受JMH标准命令行参数，并默认开启GC分析器，同时输出吞吐量与分配速率（gc.alloc.rate.norm即每次操作分配的字节数）
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 11:27:40
+ */
+public final class EcologyBenchmarkRunner {
+
+    private EcologyBenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
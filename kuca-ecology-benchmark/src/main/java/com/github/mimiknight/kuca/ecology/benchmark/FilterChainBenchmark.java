@@ -0,0 +1,65 @@
+package com.github.mimiknight.kuca.ecology.benchmark;
+
+import com.github.mimiknight.kuca.ecology.benchmark.fixture.BenchFilter;
+import com.github.mimiknight.kuca.ecology.benchmark.fixture.BenchHandler;
+import com.github.mimiknight.kuca.ecology.benchmark.fixture.BenchRequest;
+import com.github.mimiknight.kuca.ecology.benchmark.fixture.BenchResponse;
+import com.github.mimiknight.kuca.ecology.filter.EcologyHandlerFilter;
+import com.github.mimiknight.kuca.ecology.filter.HandlerFilterChainFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 过滤器链基准测试
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 11:18:02
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FilterChainBenchmark {
+
+    @Param({"0", "1", "5", "20"})
+    private int filterCount;
+
+    private EcologyHandlerFilter<?, ?, ?>[] filters;
+
+    private BenchHandler handler;
+
+    private BenchRequest request;
+
+    private BenchResponse response;
+
+    @Setup
+    public void setup() {
+        filters = new EcologyHandlerFilter<?, ?, ?>[filterCount];
+        for (int i = 0; i < filterCount; i++) {
+            filters[i] = new BenchFilter(i);
+        }
+        handler = new BenchHandler();
+        request = new BenchRequest();
+        request.setBody("benchmark");
+        response = new BenchResponse();
+    }
+
+    @Benchmark
+    public BenchResponse doFilter() throws Exception {
+        HandlerFilterChainFactory.getFilterChain(filters, handler).doFilter(request, response);
+        return response;
+    }
+}
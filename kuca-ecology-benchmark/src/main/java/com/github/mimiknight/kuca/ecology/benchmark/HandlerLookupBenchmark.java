@@ -0,0 +1,77 @@
+package com.github.mimiknight.kuca.ecology.benchmark;
+
+import com.github.mimiknight.kuca.ecology.benchmark.fixture.BenchContexts;
+import com.github.mimiknight.kuca.ecology.benchmark.fixture.BenchRequest;
+import com.github.mimiknight.kuca.ecology.core.DispatchPlan;
+import com.github.mimiknight.kuca.ecology.core.DispatchPlanBox;
+import com.github.mimiknight.kuca.ecology.handler.HandlerBox;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handler查找基准测试
+ * <p>
+ * 对比调度计划的单次查找与逐个Map查找
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 11:14:30
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HandlerLookupBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+
+    private DispatchPlanBox planBox;
+
+    private HandlerBox handlerBox;
+
+    private Class<?> requestClass;
+
+    @Setup
+    public void setup() {
+        context = BenchContexts.create(0, 0);
+        planBox = context.getBean(DispatchPlanBox.class);
+        handlerBox = context.getBean(HandlerBox.class);
+        requestClass = new BenchRequest().getClass();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 调度计划查找
+     */
+    @Benchmark
+    public DispatchPlan planLookup() {
+        return planBox.getPlan(requestClass);
+    }
+
+    /**
+     * 逐个Map查找Handler与响应Class
+     */
+    @Benchmark
+    public void mapLookup(Blackhole blackhole) {
+        blackhole.consume(handlerBox.getRequestHandlerMap().get(requestClass));
+        blackhole.consume(handlerBox.getRequestResponseMap().get(requestClass));
+    }
+}
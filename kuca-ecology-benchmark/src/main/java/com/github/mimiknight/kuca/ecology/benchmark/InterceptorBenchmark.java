@@ -0,0 +1,81 @@
+package com.github.mimiknight.kuca.ecology.benchmark;
+
+import com.github.mimiknight.kuca.ecology.benchmark.fixture.BenchContexts;
+import com.github.mimiknight.kuca.ecology.benchmark.fixture.BenchHandler;
+import com.github.mimiknight.kuca.ecology.benchmark.fixture.BenchRequest;
+import com.github.mimiknight.kuca.ecology.benchmark.fixture.BenchResponse;
+import com.github.mimiknight.kuca.ecology.core.HandlerExecutor;
+import com.github.mimiknight.kuca.ecology.core.HandlerInterceptorExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 拦截器执行基准测试
+ * <p>
+ * execute为按请求查找拦截器Map的执行方式，dispatch为调度计划中已编排拦截器的端到端执行
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 11:21:37
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class InterceptorBenchmark {
+
+    @Param({"0", "1", "5"})
+    private int interceptorCount;
+
+    private AnnotationConfigApplicationContext context;
+
+    private HandlerInterceptorExecutor interceptorExecutor;
+
+    private HandlerExecutor handlerExecutor;
+
+    private BenchHandler handler;
+
+    private BenchRequest request;
+
+    private BenchResponse response;
+
+    @Setup
+    public void setup() {
+        context = BenchContexts.create(0, interceptorCount);
+        interceptorExecutor = context.getBean(HandlerInterceptorExecutor.class);
+        handlerExecutor = context.getBean(HandlerExecutor.class);
+        handler = context.getBean(BenchHandler.class);
+        request = new BenchRequest();
+        request.setBody("benchmark");
+        response = new BenchResponse();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean execute() throws Exception {
+        return interceptorExecutor.execute(request, response, handler);
+    }
+
+    @Benchmark
+    public BenchResponse dispatch() throws Exception {
+        return handlerExecutor.execute(request);
+    }
+}
@@ -0,0 +1,126 @@
+package com.github.mimiknight.kuca.ecology.benchmark;
+
+import com.github.mimiknight.kuca.ecology.ratelimit.KeyedTokenBuckets;
+import com.github.mimiknight.kuca.ecology.ratelimit.TokenBucket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 限流基准测试
+ * <p>
+ * 所有核心同时获取令牌，衡量令牌桶CAS与有界令牌桶表在高竞争下的开销；
+ * 令牌速率足够大，测得的是获取令牌本身的开销而不是被拒绝的比例
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 21:48:26
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(Threads.MAX)
+public class RateLimiterBenchmark {
+
+    private static final double PERMITS_PER_SECOND = 1.0E9;
+
+    private static final int BURST = 1_000_000;
+
+    /**
+     * 共享的令牌桶与令牌桶表
+     */
+    @State(Scope.Benchmark)
+    public static class Shared {
+
+        /**
+         * 令牌桶表容量
+         */
+        @Param({"1024"})
+        public int maxKeys;
+
+        /**
+         * 随机键的取值范围，大于容量时持续发生淘汰
+         */
+        @Param({"256", "100000"})
+        public int keySpace;
+
+        public TokenBucket bucket;
+
+        public KeyedTokenBuckets keyedBuckets;
+
+        public String[] keys;
+
+        @Setup
+        public void setup() {
+            bucket = new TokenBucket(PERMITS_PER_SECOND, BURST);
+            keyedBuckets = new KeyedTokenBuckets(PERMITS_PER_SECOND, BURST, maxKeys);
+            keys = new String[keySpace];
+            for (int i = 0; i < keySpace; i++) {
+                keys[i] = "client-" + i;
+            }
+        }
+    }
+
+    /**
+     * 每个线程独占的键
+     */
+    @State(Scope.Thread)
+    public static class PerThread {
+
+        private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+        public String key;
+
+        @Setup
+        public void setup() {
+            key = "thread-" + SEQUENCE.incrementAndGet();
+        }
+    }
+
+    /**
+     * 基线：只读取当前时间
+     */
+    @Benchmark
+    public long baseline() {
+        return System.nanoTime();
+    }
+
+    /**
+     * 所有线程竞争同一个令牌桶
+     */
+    @Benchmark
+    public boolean sharedBucket(Shared shared) {
+        return shared.bucket.tryAcquire(System.nanoTime());
+    }
+
+    /**
+     * 每个线程使用自己的键，令牌桶之间没有竞争
+     */
+    @Benchmark
+    public boolean keyedPerThread(Shared shared, PerThread perThread) {
+        return shared.keyedBuckets.tryAcquire(perThread.key, System.nanoTime());
+    }
+
+    /**
+     * 随机键，键空间大于容量时包含淘汰开销
+     */
+    @Benchmark
+    public boolean keyedRandom(Shared shared) {
+        String key = shared.keys[ThreadLocalRandom.current().nextInt(shared.keys.length)];
+        return shared.keyedBuckets.tryAcquire(key, System.nanoTime());
+    }
+}
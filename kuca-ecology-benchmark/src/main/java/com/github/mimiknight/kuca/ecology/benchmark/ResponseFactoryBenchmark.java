@@ -0,0 +1,80 @@
+package com.github.mimiknight.kuca.ecology.benchmark;
+
+import com.github.mimiknight.kuca.ecology.benchmark.fixture.BenchResponse;
+import com.github.mimiknight.kuca.ecology.handler.ConstructorResponseFactory;
+import com.github.mimiknight.kuca.ecology.handler.EcologyResponseFactory;
+import com.github.mimiknight.kuca.ecology.handler.ResponseFactories;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 响应对象创建基准测试
+ * <p>
+ * 对比每次请求反射查找构造器、缓存构造器、LambdaMetafactory生成工厂与直接new的开销
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 10:40:12
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResponseFactoryBenchmark {
+
+    private Class<BenchResponse> responseClass;
+
+    private EcologyResponseFactory<BenchResponse> constructorFactory;
+
+    private EcologyResponseFactory<BenchResponse> generatedFactory;
+
+    @Setup
+    public void setup() throws Exception {
+        responseClass = BenchResponse.class;
+        constructorFactory = new ConstructorResponseFactory<>(BenchResponse.class);
+        generatedFactory = ResponseFactories.create(BenchResponse.class);
+    }
+
+    /**
+     * 原有实现：每次请求反射查找构造器并实例化
+     */
+    @Benchmark
+    public BenchResponse reflectiveLookup() throws Exception {
+        return responseClass.getDeclaredConstructor().newInstance();
+    }
+
+    /**
+     * 降级实现：缓存构造器后反射实例化
+     */
+    @Benchmark
+    public BenchResponse cachedConstructor() throws Exception {
+        return constructorFactory.newInstance();
+    }
+
+    /**
+     * LambdaMetafactory生成的工厂
+     */
+    @Benchmark
+    public BenchResponse generatedFactory() throws Exception {
+        return generatedFactory.newInstance();
+    }
+
+    /**
+     * 基线：直接new
+     */
+    @Benchmark
+    public BenchResponse baseline() {
+        return new BenchResponse();
+    }
+}
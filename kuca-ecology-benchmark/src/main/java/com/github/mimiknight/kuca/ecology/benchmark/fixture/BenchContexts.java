@@ -0,0 +1,53 @@
+package com.github.mimiknight.kuca.ecology.benchmark.fixture;
+
+import com.github.mimiknight.kuca.ecology.core.DispatchPlanBox;
+import com.github.mimiknight.kuca.ecology.core.HandlerExecutor;
+import com.github.mimiknight.kuca.ecology.core.HandlerFilterExecutor;
+import com.github.mimiknight.kuca.ecology.core.HandlerInterceptorExecutor;
+import com.github.mimiknight.kuca.ecology.filter.HandlerFilterBox;
+import com.github.mimiknight.kuca.ecology.handler.HandlerBox;
+import com.github.mimiknight.kuca.ecology.interceptor.HandlerInterceptorBox;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * 基准测试Spring容器工具类
+ * <p>
+ * 只注册starter自身的组件与基准测试夹具，不启动Web容器
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 11:05:22
+ */
+public final class BenchContexts {
+
+    private BenchContexts() {
+    }
+
+    /**
+     * 创建容器
+     *
+     * @param filterCount      过滤器个数
+     * @param interceptorCount 拦截器个数
+     * @return {@link AnnotationConfigApplicationContext}
+     */
+    public static AnnotationConfigApplicationContext create(int filterCount, int interceptorCount) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.register(HandlerBox.class,
+                HandlerInterceptorBox.class,
+                HandlerFilterBox.class,
+                DispatchPlanBox.class,
+                HandlerInterceptorExecutor.class,
+                HandlerFilterExecutor.class,
+                HandlerExecutor.class,
+                BenchHandler.class);
+        for (int i = 0; i < filterCount; i++) {
+            int order = i;
+            context.registerBean("benchFilter" + i, BenchFilter.class, () -> new BenchFilter(order));
+        }
+        for (int i = 0; i < interceptorCount; i++) {
+            int order = i;
+            context.registerBean("benchInterceptor" + i, BenchInterceptor.class, () -> new BenchInterceptor(order));
+        }
+        context.refresh();
+        return context;
+    }
+}
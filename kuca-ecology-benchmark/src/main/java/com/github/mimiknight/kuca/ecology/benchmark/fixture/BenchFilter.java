@@ -0,0 +1,31 @@
+package com.github.mimiknight.kuca.ecology.benchmark.fixture;
+
+import com.github.mimiknight.kuca.ecology.filter.EcologyHandlerFilter;
+import com.github.mimiknight.kuca.ecology.filter.HandlerFilterChain;
+
+/**
+ * 基准测试过滤器
+ * <p>
+ * 直接放行，不同实例通过order区分先后顺序
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 11:03:41
+ */
+public class BenchFilter implements EcologyHandlerFilter<BenchRequest, BenchResponse, BenchHandler> {
+
+    private final int order;
+
+    public BenchFilter(int order) {
+        this.order = order;
+    }
+
+    @Override
+    public void doFilter(BenchRequest request, BenchResponse response, HandlerFilterChain chain) throws Exception {
+        chain.doFilter(request, response);
+    }
+
+    @Override
+    public int getOrder() {
+        return order;
+    }
+}
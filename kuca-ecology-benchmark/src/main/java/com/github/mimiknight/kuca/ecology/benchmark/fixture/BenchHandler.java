@@ -0,0 +1,19 @@
+package com.github.mimiknight.kuca.ecology.benchmark.fixture;
+
+import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
+
+/**
+ * 基准测试Handler
+ * <p>
+ * 只回写请求体，便于单独衡量调度本身的开销
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 11:03:04
+ */
+public class BenchHandler implements EcologyRequestHandler<BenchRequest, BenchResponse> {
+
+    @Override
+    public void handle(BenchRequest request, BenchResponse response) {
+        response.setBody(request.getBody());
+    }
+}
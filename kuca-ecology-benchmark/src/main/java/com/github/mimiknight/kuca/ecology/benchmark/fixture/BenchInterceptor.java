@@ -0,0 +1,35 @@
+package com.github.mimiknight.kuca.ecology.benchmark.fixture;
+
+import com.github.mimiknight.kuca.ecology.interceptor.EcologyHandlerInterceptor;
+
+/**
+ * 基准测试拦截器
+ * <p>
+ * 各拦截方法直接放行，不同实例通过order区分先后顺序
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 11:04:15
+ */
+public class BenchInterceptor implements EcologyHandlerInterceptor<BenchRequest, BenchResponse> {
+
+    private final int order;
+
+    public BenchInterceptor(int order) {
+        this.order = order;
+    }
+
+    @Override
+    public boolean doBefore(BenchRequest request, BenchResponse response) {
+        return true;
+    }
+
+    @Override
+    public boolean doAfterReturn(BenchRequest request, BenchResponse response) {
+        return true;
+    }
+
+    @Override
+    public int getOrder() {
+        return order;
+    }
+}
@@ -0,0 +1,12 @@
+package com.github.mimiknight.kuca.ecology.benchmark.fixture;
+
+import com.github.mimiknight.kuca.ecology.model.request.BaseRequest;
+
+/**
+ * 基准测试请求
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 11:02:10
+ */
+public class BenchRequest extends BaseRequest<String, String> {
+}
@@ -0,0 +1,12 @@
+package com.github.mimiknight.kuca.ecology.benchmark.fixture;
+
+import com.github.mimiknight.kuca.ecology.model.response.BaseResponse;
+
+/**
+ * 基准测试响应
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 11:02:36
+ */
+public class BenchResponse extends BaseResponse<String> {
+}
@@ -0,0 +1,302 @@
+package com.github.mimiknight.kuca.ecology.indexer;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Ecology索引注解处理器
+ * <p>
+ * 编译期找出Handler、过滤器与拦截器实现类，按运行时反射扫描相同的规则解析其绑定的Request与Response，
+ * 写入{@code META-INF/kuca-ecology.index}；starter启动时读取该索引，不再逐个反射扫描Bean的方法
+ * <p>
+ * 不依赖starter，只按类名识别组件接口；编译路径上没有starter时不生成索引
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 08:12:40
+ */
+@SupportedAnnotationTypes("*")
+public class EcologyIndexProcessor extends AbstractProcessor {
+
+    private interface Constant {
+
+        /**
+         * 索引文件位置
+         */
+        String INDEX_LOCATION = "META-INF/kuca-ecology.index";
+
+        /**
+         * 索引文件头
+         */
+        String INDEX_HEADER = "# kind component request response";
+
+        String REQUEST_CLASS_NAME = "com.github.mimiknight.kuca.ecology.model.request.EcologyRequest";
+
+        String RESPONSE_CLASS_NAME = "com.github.mimiknight.kuca.ecology.model.response.EcologyResponse";
+
+    }
+
+    /**
+     * 组件类型，名称与starter中的IndexKind一致
+     */
+    private enum Kind {
+
+        HANDLER("com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler", "handle", null),
+
+        ASYNC_HANDLER("com.github.mimiknight.kuca.ecology.handler.EcologyAsyncRequestHandler", "handle", null),
+
+        REACTIVE_HANDLER("com.github.mimiknight.kuca.ecology.handler.EcologyReactiveRequestHandler", "handle", null),
+
+        FILTER("com.github.mimiknight.kuca.ecology.filter.EcologyHandlerFilter", "doFilter",
+                "com.github.mimiknight.kuca.ecology.filter.HandlerFilterChain"),
+
+        REACTIVE_FILTER("com.github.mimiknight.kuca.ecology.filter.EcologyReactiveHandlerFilter", "doFilter",
+                "com.github.mimiknight.kuca.ecology.filter.ReactiveHandlerFilterChain"),
+
+        INTERCEPTOR("com.github.mimiknight.kuca.ecology.interceptor.EcologyHandlerInterceptor", "doBefore", null);
+
+        /**
+         * 组件接口类名
+         */
+        private final String interfaceName;
+
+        /**
+         * 绑定方法名
+         */
+        private final String methodName;
+
+        /**
+         * 过滤器链类名，非过滤器为null
+         */
+        private final String chainName;
+
+        Kind(String interfaceName, String methodName, String chainName) {
+            this.interfaceName = interfaceName;
+            this.methodName = methodName;
+            this.chainName = chainName;
+        }
+    }
+
+    private Elements elements;
+
+    private Types types;
+
+    /**
+     * 本次编译处理过的组件类名
+     */
+    private final Set<String> processed = new HashSet<>();
+
+    /**
+     * 索引行（有序，保证输出稳定）
+     */
+    private final Set<String> lines = new TreeSet<>();
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement request = elements.getTypeElement(Constant.REQUEST_CLASS_NAME);
+        TypeElement response = elements.getTypeElement(Constant.RESPONSE_CLASS_NAME);
+        if (null == request || null == response) {
+            return false;
+        }
+        if (roundEnv.processingOver()) {
+            if (!processed.isEmpty()) {
+                mergePreviousIndex();
+                writeIndex();
+            }
+            return false;
+        }
+        for (Element element : roundEnv.getRootElements()) {
+            collect(element, request.asType(), response.asType());
+        }
+        return false;
+    }
+
+    /**
+     * 收集类型（含嵌套类型）中的组件
+     *
+     * @param element  元素
+     * @param request  EcologyRequest类型
+     * @param response EcologyResponse类型
+     */
+    private void collect(Element element, TypeMirror request, TypeMirror response) {
+        if (!element.getKind().isClass() && !element.getKind().isInterface()) {
+            return;
+        }
+        TypeElement type = (TypeElement) element;
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            collect(nested, request, response);
+        }
+        if (ElementKind.CLASS != type.getKind() || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return;
+        }
+        String componentName = elements.getBinaryName(type).toString();
+        processed.add(componentName);
+        for (Kind kind : Kind.values()) {
+            TypeElement componentInterface = elements.getTypeElement(kind.interfaceName);
+            if (null == componentInterface
+                    || !types.isAssignable(types.erasure(type.asType()), types.erasure(componentInterface.asType()))) {
+                continue;
+            }
+            TypeMirror chain = null;
+            if (null != kind.chainName) {
+                TypeElement chainElement = elements.getTypeElement(kind.chainName);
+                if (null == chainElement) {
+                    continue;
+                }
+                chain = types.erasure(chainElement.asType());
+            }
+            for (String binding : findBindings(type, kind, chain, request, response)) {
+                lines.add(kind.name() + ' ' + componentName + ' ' + binding);
+            }
+        }
+    }
+
+    /**
+     * 找出组件绑定的Request与Response
+     * <p>
+     * 与运行时反射扫描规则一致：public、非static、方法名与参数个数匹配，
+     * 第1个参数为EcologyRequest，第2个参数为EcologyResponse，过滤器的第3个参数为对应的过滤器链；
+     * 继承的泛型方法按当前类的实际类型参数解析
+     *
+     * @param type     组件类型
+     * @param kind     组件种类
+     * @param chain    过滤器链类型，非过滤器为null
+     * @param request  EcologyRequest类型
+     * @param response EcologyResponse类型
+     * @return {@link List} 形如“Request Response”的绑定
+     */
+    private List<String> findBindings(TypeElement type, Kind kind, TypeMirror chain,
+                                      TypeMirror request, TypeMirror response) {
+        int parameterCount = null == chain ? 2 : 3;
+        DeclaredType declaredType = (DeclaredType) type.asType();
+        Set<String> bindings = new LinkedHashSet<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            if (!method.getModifiers().contains(Modifier.PUBLIC)
+                    || method.getModifiers().contains(Modifier.STATIC)
+                    || !method.getSimpleName().contentEquals(kind.methodName)
+                    || parameterCount != method.getParameters().size()) {
+                continue;
+            }
+            List<? extends TypeMirror> parameterTypes =
+                    ((ExecutableType) types.asMemberOf(declaredType, method)).getParameterTypes();
+            TypeMirror requestType = types.erasure(parameterTypes.get(0));
+            TypeMirror responseType = types.erasure(parameterTypes.get(1));
+            if (!isSubtype(requestType, request)
+                    || !isSubtype(responseType, response)
+                    || (null != chain && !isSubtype(types.erasure(parameterTypes.get(2)), chain))) {
+                continue;
+            }
+            bindings.add(binaryName(requestType) + ' ' + binaryName(responseType));
+        }
+        return new ArrayList<>(bindings);
+    }
+
+    private boolean isSubtype(TypeMirror type, TypeMirror superType) {
+        return TypeKind.DECLARED == type.getKind() && types.isAssignable(type, types.erasure(superType));
+    }
+
+    private String binaryName(TypeMirror type) {
+        return elements.getBinaryName((TypeElement) types.asElement(type)).toString();
+    }
+
+    /**
+     * 合并已有索引
+     * <p>
+     * 增量编译时只处理变更的源文件，保留未重新编译且仍然存在的组件的索引行
+     */
+    private void mergePreviousIndex() {
+        Filer filer = processingEnv.getFiler();
+        try {
+            FileObject previous = filer.getResource(StandardLocation.CLASS_OUTPUT, "", Constant.INDEX_LOCATION);
+            try (InputStream in = previous.openInputStream();
+                 BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                String line;
+                while (null != (line = reader.readLine())) {
+                    String[] parts = line.trim().split(" ");
+                    if (4 != parts.length || line.startsWith("#") || processed.contains(parts[1])) {
+                        continue;
+                    }
+                    if (null != elements.getTypeElement(parts[1].replace('$', '.'))) {
+                        lines.add(line.trim());
+                    }
+                }
+            }
+        } catch (FileNotFoundException | NoSuchFileException e) {
+            // 首次编译，没有已有索引
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "Unable to read the previous ecology index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 写入索引
+     */
+    private void writeIndex() {
+        if (lines.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject file = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", Constant.INDEX_LOCATION);
+            try (OutputStream out = file.openOutputStream();
+                 Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+                writer.write(Constant.INDEX_HEADER);
+                writer.write('\n');
+                for (String line : lines) {
+                    writer.write(line);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write the ecology index: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.mimiknight.kuca.ecology.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 调度失败JFR事件
+ * <p>
+ * 请求未绑定处理器、请求重复绑定处理器或响应时记录
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 19:09:15
+ */
+@Name("com.github.mimiknight.kuca.ecology.DispatchFailure")
+@Label("Dispatch Failure")
+@Category({"Kuca", "Ecology"})
+@Description("Ecology request could not be bound or dispatched to a handler")
+final class DispatchFailureEvent extends jdk.jfr.Event {
+
+    @Label("Request Class")
+    Class<?> requestClass;
+
+    @Label("Handler Class")
+    Class<?> handlerClass;
+
+    @Label("Failure")
+    String failure;
+
+    @Label("Message")
+    String message;
+
+}
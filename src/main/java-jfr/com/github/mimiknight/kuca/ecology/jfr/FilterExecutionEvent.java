@@ -0,0 +1,35 @@
+package com.github.mimiknight.kuca.ecology.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 过滤器执行JFR事件
+ * <p>
+ * 持续时间包含后续过滤器与处理器
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 19:04:36
+ */
+@Name("com.github.mimiknight.kuca.ecology.FilterExecution")
+@Label("Filter Execution")
+@Category({"Kuca", "Ecology"})
+@Description("Execution of an ecology handler filter, including the rest of the chain")
+@Threshold("0 ms")
+@StackTrace(false)
+final class FilterExecutionEvent extends jdk.jfr.Event {
+
+    @Label("Request Class")
+    Class<?> requestClass;
+
+    @Label("Filter Class")
+    Class<?> filterClass;
+
+    @Label("Success")
+    boolean success;
+
+}
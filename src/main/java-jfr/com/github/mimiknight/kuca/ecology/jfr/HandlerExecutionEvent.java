@@ -0,0 +1,33 @@
+package com.github.mimiknight.kuca.ecology.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 业务处理器执行JFR事件
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 19:02:11
+ */
+@Name("com.github.mimiknight.kuca.ecology.HandlerExecution")
+@Label("Handler Execution")
+@Category({"Kuca", "Ecology"})
+@Description("Execution of an ecology request handler")
+@Threshold("0 ms")
+@StackTrace(false)
+final class HandlerExecutionEvent extends jdk.jfr.Event {
+
+    @Label("Request Class")
+    Class<?> requestClass;
+
+    @Label("Handler Class")
+    Class<?> handlerClass;
+
+    @Label("Success")
+    boolean success;
+
+}
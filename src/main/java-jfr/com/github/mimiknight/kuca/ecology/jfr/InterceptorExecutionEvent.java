@@ -0,0 +1,36 @@
+package com.github.mimiknight.kuca.ecology.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 拦截器执行JFR事件
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 19:06:50
+ */
+@Name("com.github.mimiknight.kuca.ecology.InterceptorExecution")
+@Label("Interceptor Execution")
+@Category({"Kuca", "Ecology"})
+@Description("Execution of one phase of an ecology handler interceptor")
+@Threshold("0 ms")
+@StackTrace(false)
+final class InterceptorExecutionEvent extends jdk.jfr.Event {
+
+    @Label("Request Class")
+    Class<?> requestClass;
+
+    @Label("Interceptor Class")
+    Class<?> interceptorClass;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Success")
+    boolean success;
+
+}
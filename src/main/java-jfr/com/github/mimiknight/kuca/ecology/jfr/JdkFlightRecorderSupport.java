@@ -0,0 +1,85 @@
+package com.github.mimiknight.kuca.ecology.jfr;
+
+import com.github.mimiknight.kuca.ecology.filter.EcologyHandlerFilter;
+import com.github.mimiknight.kuca.ecology.handler.EcologyAsyncRequestHandler;
+import com.github.mimiknight.kuca.ecology.handler.EcologyBatchRequestHandler;
+import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
+import com.github.mimiknight.kuca.ecology.interceptor.EcologyHandlerInterceptor;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+
+/**
+ * 基于jdk.jfr的JFR事件支持
+ * <p>
+ * 由{@link FlightRecorderSupportHolder}按类名加载
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 17:57:03
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+final class JdkFlightRecorderSupport implements FlightRecorderSupport {
+
+    /**
+     * 调度失败事件类型
+     */
+    private static final EventType DISPATCH_FAILURE_EVENT_TYPE = EventType.getEventType(DispatchFailureEvent.class);
+
+    JdkFlightRecorderSupport() {
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return FlightRecorder.isAvailable();
+    }
+
+    @Override
+    public EcologyRequestHandler decorateHandler(EcologyRequestHandler handler,
+                                                 Class<?> requestClass,
+                                                 Class<?> handlerClass,
+                                                 long thresholdNanos) {
+        if (handler instanceof EcologyBatchRequestHandler) {
+            return new JfrBatchRequestHandler((EcologyBatchRequestHandler) handler, requestClass, handlerClass,
+                    thresholdNanos);
+        }
+        return new JfrRequestHandler(handler, requestClass, handlerClass, thresholdNanos);
+    }
+
+    @Override
+    public EcologyAsyncRequestHandler decorateAsyncHandler(EcologyAsyncRequestHandler handler,
+                                                           Class<?> requestClass,
+                                                           Class<?> handlerClass,
+                                                           long thresholdNanos) {
+        return new JfrAsyncRequestHandler(handler, requestClass, handlerClass, thresholdNanos);
+    }
+
+    @Override
+    public EcologyHandlerFilter decorateFilter(EcologyHandlerFilter filter,
+                                               Class<?> requestClass,
+                                               Class<?> filterClass,
+                                               long thresholdNanos) {
+        return new JfrHandlerFilter(filter, requestClass, filterClass, thresholdNanos);
+    }
+
+    @Override
+    public EcologyHandlerInterceptor decorateInterceptor(EcologyHandlerInterceptor interceptor,
+                                                         Class<?> requestClass,
+                                                         Class<?> interceptorClass,
+                                                         long thresholdNanos) {
+        return new JfrHandlerInterceptor(interceptor, requestClass, interceptorClass, thresholdNanos);
+    }
+
+    @Override
+    public void dispatchFailure(Class<?> requestClass, Class<?> handlerClass, String failure, String message) {
+        if (!DISPATCH_FAILURE_EVENT_TYPE.isEnabled()) {
+            return;
+        }
+        DispatchFailureEvent event = new DispatchFailureEvent();
+        if (event.shouldCommit()) {
+            event.requestClass = requestClass;
+            event.handlerClass = handlerClass;
+            event.failure = failure;
+            event.message = message;
+            event.commit();
+        }
+    }
+}
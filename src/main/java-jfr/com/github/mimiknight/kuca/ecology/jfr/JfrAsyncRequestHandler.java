@@ -0,0 +1,78 @@
+package com.github.mimiknight.kuca.ecology.jfr;
+
+import com.github.mimiknight.kuca.ecology.handler.EcologyAsyncRequestHandler;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+import jdk.jfr.EventType;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 记录JFR事件的异步业务处理器
+ * <p>
+ * 事件从调用handle方法开始，到返回的CompletionStage完成时结束
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 19:17:05
+ */
+final class JfrAsyncRequestHandler<Q extends EcologyRequest, P extends EcologyResponse>
+        implements EcologyAsyncRequestHandler<Q, P> {
+
+    /**
+     * 事件类型，未在录制时不创建事件对象
+     */
+    private static final EventType EVENT_TYPE = EventType.getEventType(HandlerExecutionEvent.class);
+
+    private final EcologyAsyncRequestHandler<Q, P> handler;
+
+    private final Class<?> requestClass;
+
+    private final Class<?> handlerClass;
+
+    private final long thresholdNanos;
+
+    JfrAsyncRequestHandler(EcologyAsyncRequestHandler<Q, P> handler,
+                           Class<?> requestClass,
+                           Class<?> handlerClass,
+                           long thresholdNanos) {
+        this.handler = handler;
+        this.requestClass = requestClass;
+        this.handlerClass = handlerClass;
+        this.thresholdNanos = thresholdNanos;
+    }
+
+    @Override
+    public CompletionStage<P> handle(Q request, P response) throws Exception {
+        if (!EVENT_TYPE.isEnabled()) {
+            return handler.handle(request, response);
+        }
+        HandlerExecutionEvent event = new HandlerExecutionEvent();
+        long start = System.nanoTime();
+        event.begin();
+        CompletionStage<P> stage;
+        try {
+            stage = handler.handle(request, response);
+        } catch (Exception | Error ex) {
+            complete(event, start, false);
+            throw ex;
+        }
+        return stage.whenComplete((value, throwable) -> complete(event, start, null == throwable));
+    }
+
+    /**
+     * 结束并提交事件
+     *
+     * @param event   事件
+     * @param start   开始时间（纳秒）
+     * @param success 是否执行成功
+     */
+    private void complete(HandlerExecutionEvent event, long start, boolean success) {
+        event.end();
+        if (System.nanoTime() - start >= thresholdNanos && event.shouldCommit()) {
+            event.requestClass = requestClass;
+            event.handlerClass = handlerClass;
+            event.success = success;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.mimiknight.kuca.ecology.jfr;
+
+import com.github.mimiknight.kuca.ecology.handler.EcologyBatchRequestHandler;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+import jdk.jfr.EventType;
+
+import java.util.List;
+
+/**
+ * 记录JFR事件的批量业务处理器
+ * <p>
+ * 单个请求与{@link JfrRequestHandler}一致；一次批量处理记录为一个处理器执行事件
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-19 11:47:05
+ */
+final class JfrBatchRequestHandler<Q extends EcologyRequest, P extends EcologyResponse>
+        implements EcologyBatchRequestHandler<Q, P> {
+
+    /**
+     * 事件类型，未在录制时不创建事件对象
+     */
+    private static final EventType EVENT_TYPE = EventType.getEventType(HandlerExecutionEvent.class);
+
+    private final EcologyBatchRequestHandler<Q, P> handler;
+
+    private final JfrRequestHandler<Q, P> single;
+
+    private final Class<?> requestClass;
+
+    private final Class<?> handlerClass;
+
+    private final long thresholdNanos;
+
+    JfrBatchRequestHandler(EcologyBatchRequestHandler<Q, P> handler,
+                           Class<?> requestClass,
+                           Class<?> handlerClass,
+                           long thresholdNanos) {
+        this.handler = handler;
+        this.single = new JfrRequestHandler<>(handler, requestClass, handlerClass, thresholdNanos);
+        this.requestClass = requestClass;
+        this.handlerClass = handlerClass;
+        this.thresholdNanos = thresholdNanos;
+    }
+
+    @Override
+    public void handle(Q request, P response) throws Exception {
+        single.handle(request, response);
+    }
+
+    @Override
+    public void handleBatch(List<Q> requests, List<P> responses) throws Exception {
+        // 未在录制时直接执行
+        if (!EVENT_TYPE.isEnabled()) {
+            handler.handleBatch(requests, responses);
+            return;
+        }
+        HandlerExecutionEvent event = new HandlerExecutionEvent();
+        long start = System.nanoTime();
+        event.begin();
+        try {
+            handler.handleBatch(requests, responses);
+            event.success = true;
+        } finally {
+            event.end();
+            if (System.nanoTime() - start >= thresholdNanos && event.shouldCommit()) {
+                event.requestClass = requestClass;
+                event.handlerClass = handlerClass;
+                event.commit();
+            }
+        }
+    }
+}
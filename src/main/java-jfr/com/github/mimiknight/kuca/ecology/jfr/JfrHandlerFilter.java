@@ -0,0 +1,85 @@
+package com.github.mimiknight.kuca.ecology.jfr;
+
+import com.github.mimiknight.kuca.ecology.filter.EcologyHandlerFilter;
+import com.github.mimiknight.kuca.ecology.filter.HandlerFilterChain;
+import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+import jdk.jfr.EventType;
+
+/**
+ * 记录JFR事件的过滤器
+ * <p>
+ * 生命周期方法与排序直接委托给原过滤器
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 19:20:31
+ */
+final class JfrHandlerFilter<Q extends EcologyRequest, P extends EcologyResponse, H extends EcologyRequestHandler<Q, P>>
+        implements EcologyHandlerFilter<Q, P, H> {
+
+    /**
+     * 事件类型，未在录制时不创建事件对象
+     */
+    private static final EventType EVENT_TYPE = EventType.getEventType(FilterExecutionEvent.class);
+
+    private final EcologyHandlerFilter<Q, P, H> filter;
+
+    private final Class<?> requestClass;
+
+    private final Class<?> filterClass;
+
+    private final long thresholdNanos;
+
+    JfrHandlerFilter(EcologyHandlerFilter<Q, P, H> filter,
+                     Class<?> requestClass,
+                     Class<?> filterClass,
+                     long thresholdNanos) {
+        this.filter = filter;
+        this.requestClass = requestClass;
+        this.filterClass = filterClass;
+        this.thresholdNanos = thresholdNanos;
+    }
+
+    @Override
+    public void init() {
+        filter.init();
+    }
+
+    @Override
+    public void doFilter(Q request, P response, HandlerFilterChain chain) throws Exception {
+        if (!EVENT_TYPE.isEnabled()) {
+            filter.doFilter(request, response, chain);
+            return;
+        }
+        FilterExecutionEvent event = new FilterExecutionEvent();
+        long start = System.nanoTime();
+        event.begin();
+        try {
+            filter.doFilter(request, response, chain);
+            event.success = true;
+        } finally {
+            event.end();
+            if (System.nanoTime() - start >= thresholdNanos && event.shouldCommit()) {
+                event.requestClass = requestClass;
+                event.filterClass = filterClass;
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        filter.destroy();
+    }
+
+    @Override
+    public boolean isPerRequestLifecycle() {
+        return filter.isPerRequestLifecycle();
+    }
+
+    @Override
+    public int getOrder() {
+        return filter.getOrder();
+    }
+}
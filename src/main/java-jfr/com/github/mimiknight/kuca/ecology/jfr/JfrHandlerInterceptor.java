@@ -0,0 +1,127 @@
+package com.github.mimiknight.kuca.ecology.jfr;
+
+import com.github.mimiknight.kuca.ecology.interceptor.EcologyHandlerInterceptor;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+import jdk.jfr.EventType;
+
+/**
+ * 记录JFR事件的拦截器
+ * <p>
+ * 后置异常拦截重新抛出传入的异常时仍视为执行成功
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 19:24:12
+ */
+final class JfrHandlerInterceptor<Q extends EcologyRequest, P extends EcologyResponse>
+        implements EcologyHandlerInterceptor<Q, P> {
+
+    private interface Constant {
+
+        String PHASE_BEFORE = "before";
+
+        String PHASE_AFTER_RETURN = "after_return";
+
+        String PHASE_AFTER_THROWING = "after_throwing";
+
+    }
+
+    /**
+     * 事件类型，未在录制时不创建事件对象
+     */
+    private static final EventType EVENT_TYPE = EventType.getEventType(InterceptorExecutionEvent.class);
+
+    private final EcologyHandlerInterceptor<Q, P> interceptor;
+
+    private final Class<?> requestClass;
+
+    private final Class<?> interceptorClass;
+
+    private final long thresholdNanos;
+
+    JfrHandlerInterceptor(EcologyHandlerInterceptor<Q, P> interceptor,
+                          Class<?> requestClass,
+                          Class<?> interceptorClass,
+                          long thresholdNanos) {
+        this.interceptor = interceptor;
+        this.requestClass = requestClass;
+        this.interceptorClass = interceptorClass;
+        this.thresholdNanos = thresholdNanos;
+    }
+
+    @Override
+    public boolean doBefore(Q request, P response) throws Exception {
+        if (!EVENT_TYPE.isEnabled()) {
+            return interceptor.doBefore(request, response);
+        }
+        InterceptorExecutionEvent event = new InterceptorExecutionEvent();
+        long start = System.nanoTime();
+        event.begin();
+        try {
+            boolean result = interceptor.doBefore(request, response);
+            event.success = true;
+            return result;
+        } finally {
+            complete(event, start, Constant.PHASE_BEFORE);
+        }
+    }
+
+    @Override
+    public boolean doAfterReturn(Q request, P response) throws Exception {
+        if (!EVENT_TYPE.isEnabled()) {
+            return interceptor.doAfterReturn(request, response);
+        }
+        InterceptorExecutionEvent event = new InterceptorExecutionEvent();
+        long start = System.nanoTime();
+        event.begin();
+        try {
+            boolean result = interceptor.doAfterReturn(request, response);
+            event.success = true;
+            return result;
+        } finally {
+            complete(event, start, Constant.PHASE_AFTER_RETURN);
+        }
+    }
+
+    @Override
+    public boolean doAfterThrowing(Q request, P response, Exception ex) throws Exception {
+        if (!EVENT_TYPE.isEnabled()) {
+            return interceptor.doAfterThrowing(request, response, ex);
+        }
+        InterceptorExecutionEvent event = new InterceptorExecutionEvent();
+        long start = System.nanoTime();
+        event.begin();
+        try {
+            boolean result = interceptor.doAfterThrowing(request, response, ex);
+            event.success = true;
+            return result;
+        } catch (Exception thrown) {
+            event.success = thrown == ex;
+            throw thrown;
+        } finally {
+            complete(event, start, Constant.PHASE_AFTER_THROWING);
+        }
+    }
+
+    /**
+     * 结束并提交事件
+     *
+     * @param event 事件
+     * @param start 开始时间（纳秒）
+     * @param phase 拦截阶段
+     */
+    private void complete(InterceptorExecutionEvent event, long start, String phase) {
+        event.end();
+        if (System.nanoTime() - start >= thresholdNanos && event.shouldCommit()) {
+            event.requestClass = requestClass;
+            event.interceptorClass = interceptorClass;
+            event.phase = phase;
+            event.commit();
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return interceptor.getOrder();
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.mimiknight.kuca.ecology.jfr;
+
+import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+import jdk.jfr.EventType;
+
+/**
+ * 记录JFR事件的业务处理器
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 19:13:40
+ */
+final class JfrRequestHandler<Q extends EcologyRequest, P extends EcologyResponse>
+        implements EcologyRequestHandler<Q, P> {
+
+    /**
+     * 事件类型，未在录制时不创建事件对象
+     */
+    private static final EventType EVENT_TYPE = EventType.getEventType(HandlerExecutionEvent.class);
+
+    private final EcologyRequestHandler<Q, P> handler;
+
+    private final Class<?> requestClass;
+
+    private final Class<?> handlerClass;
+
+    private final long thresholdNanos;
+
+    JfrRequestHandler(EcologyRequestHandler<Q, P> handler,
+                      Class<?> requestClass,
+                      Class<?> handlerClass,
+                      long thresholdNanos) {
+        this.handler = handler;
+        this.requestClass = requestClass;
+        this.handlerClass = handlerClass;
+        this.thresholdNanos = thresholdNanos;
+    }
+
+    @Override
+    public void handle(Q request, P response) throws Exception {
+        // 未在录制时直接执行
+        if (!EVENT_TYPE.isEnabled()) {
+            handler.handle(request, response);
+            return;
+        }
+        HandlerExecutionEvent event = new HandlerExecutionEvent();
+        long start = System.nanoTime();
+        event.begin();
+        try {
+            handler.handle(request, response);
+            event.success = true;
+        } finally {
+            event.end();
+            if (System.nanoTime() - start >= thresholdNanos && event.shouldCommit()) {
+                event.requestClass = requestClass;
+                event.handlerClass = handlerClass;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.mimiknight.kuca.ecology.audit;
+
+import lombok.Getter;
+
+/**
+ * 审计日志统计
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 11:27:40
+ */
+@Getter
+public final class AuditLogStats {
+
+    /**
+     * 进入队列的记录数
+     */
+    private final long recordedCount;
+
+    /**
+     * 队列已满被丢弃的记录数
+     */
+    private final long droppedCount;
+
+    /**
+     * 写入成功的记录数
+     */
+    private final long writtenCount;
+
+    /**
+     * 写入失败的记录数
+     */
+    private final long failedCount;
+
+    /**
+     * 写入批次数
+     */
+    private final long flushCount;
+
+    /**
+     * 当前队列长度
+     */
+    private final int queueSize;
+
+    AuditLogStats(long recordedCount,
+                  long droppedCount,
+                  long writtenCount,
+                  long failedCount,
+                  long flushCount,
+                  int queueSize) {
+        this.recordedCount = recordedCount;
+        this.droppedCount = droppedCount;
+        this.writtenCount = writtenCount;
+        this.failedCount = failedCount;
+        this.flushCount = flushCount;
+        this.queueSize = queueSize;
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.mimiknight.kuca.ecology.audit;
+
+/**
+ * 审计结果
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 11:20:14
+ */
+public enum AuditOutcome {
+
+    /**
+     * 执行成功（含被过滤器拦截而未执行处理器的请求）
+     */
+    SUCCESS,
+
+    /**
+     * 执行抛出异常（含限流、舱壁与截止时间拒绝）
+     */
+    FAILURE
+
+}
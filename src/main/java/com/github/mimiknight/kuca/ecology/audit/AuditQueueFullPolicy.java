@@ -0,0 +1,21 @@
+package com.github.mimiknight.kuca.ecology.audit;
+
+/**
+ * 审计队列已满时的处理策略
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 11:21:02
+ */
+public enum AuditQueueFullPolicy {
+
+    /**
+     * 丢弃新的审计记录，请求线程不等待
+     */
+    DROP,
+
+    /**
+     * 请求线程等待队列出现空位，超过等待时限后丢弃
+     */
+    BLOCK
+
+}
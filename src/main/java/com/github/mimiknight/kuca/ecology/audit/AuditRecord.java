@@ -0,0 +1,68 @@
+package com.github.mimiknight.kuca.ecology.audit;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 审计记录
+ * <p>
+ * 不可变；请求线程只保存Class与耗时等原始值，类名解析与序列化由后台写入线程完成
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 11:23:45
+ */
+@Getter
+public final class AuditRecord {
+
+    /**
+     * 请求Class
+     */
+    private final Class<?> requestClass;
+
+    /**
+     * 处理器Class（可能为代理Class）
+     */
+    private final Class<?> handlerClass;
+
+    /**
+     * 执行结果
+     */
+    private final AuditOutcome outcome;
+
+    /**
+     * 异常Class，执行成功时为null
+     */
+    private final Class<?> errorClass;
+
+    /**
+     * 耗时（纳秒）
+     */
+    private final long latencyNanos;
+
+    /**
+     * 执行结束时间（毫秒时间戳）
+     */
+    private final long timestamp;
+
+    /**
+     * 选定的请求头，未配置或请求不携带请求头时为null
+     */
+    private final Map<String, String> headers;
+
+    public AuditRecord(Class<?> requestClass,
+                       Class<?> handlerClass,
+                       AuditOutcome outcome,
+                       Class<?> errorClass,
+                       long latencyNanos,
+                       long timestamp,
+                       Map<String, String> headers) {
+        this.requestClass = requestClass;
+        this.handlerClass = handlerClass;
+        this.outcome = outcome;
+        this.errorClass = errorClass;
+        this.latencyNanos = latencyNanos;
+        this.timestamp = timestamp;
+        this.headers = headers;
+    }
+}
@@ -0,0 +1,397 @@
+package com.github.mimiknight.kuca.ecology.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mimiknight.kuca.ecology.config.EcologyProperties;
+import com.github.mimiknight.kuca.ecology.model.request.BaseRequest;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 请求审计日志
+ * <p>
+ * 每个请求执行结束后生成一条审计记录放入有界的无锁队列，请求线程不访问数据库；
+ * 后台写入线程在积累到批量大小或到达刷新间隔时通过{@link EcologyAuditSink}批量写入。
+ * 队列已满时按配置丢弃记录或让请求线程短暂等待；批量写入失败时逐条重写该批记录，
+ * 单条记录写入失败只记录日志与统计，不影响同批的其它记录。
+ * 需要配置kuca.ecology.audit.enabled=true开启
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 11:42:53
+ */
+@Slf4j
+@ConditionalOnProperty(prefix = "kuca.ecology.audit", name = "enabled", havingValue = "true")
+public class EcologyAuditLog {
+
+    private interface Constant {
+
+        String THREAD_NAME = "ecology-audit-writer";
+
+        /**
+         * 阻塞策略下请求线程每次等待的时长（纳秒）
+         */
+        long BLOCK_PARK_NANOS = 100_000L;
+
+        /**
+         * 关闭时等待写入剩余记录的时限（毫秒）
+         */
+        long SHUTDOWN_TIMEOUT_MILLIS = 5_000L;
+
+        /**
+         * 单个请求头值保存的最大长度，超出部分截断
+         */
+        int MAX_HEADER_VALUE_LENGTH = 256;
+
+    }
+
+    @Autowired
+    private ObjectProvider<EcologyProperties> propertiesProvider;
+
+    @Autowired
+    private ObjectProvider<EcologyAuditSink> sinkProvider;
+
+    @Autowired
+    private ObjectProvider<JdbcTemplate> jdbcTemplateProvider;
+
+    @Autowired
+    private ObjectProvider<ObjectMapper> objectMapperProvider;
+
+    /**
+     * 审计记录队列
+     */
+    private final ConcurrentLinkedQueue<AuditRecord> queue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 队列长度，用于限制队列容量
+     */
+    private final AtomicInteger queueSize = new AtomicInteger();
+
+    private final LongAdder recordedCount = new LongAdder();
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    private final LongAdder writtenCount = new LongAdder();
+
+    private final LongAdder failedCount = new LongAdder();
+
+    private final LongAdder flushCount = new LongAdder();
+
+    /**
+     * 队列容量
+     */
+    private int capacity;
+
+    /**
+     * 批量大小
+     */
+    private int batchSize;
+
+    /**
+     * 刷新间隔（纳秒）
+     */
+    private long flushIntervalNanos;
+
+    /**
+     * 队列已满时的处理策略
+     */
+    private AuditQueueFullPolicy queueFullPolicy;
+
+    /**
+     * 阻塞策略下的等待时限（纳秒）
+     */
+    private long blockTimeoutNanos;
+
+    /**
+     * 需要记录的请求头名称
+     */
+    private String[] headerNames;
+
+    /**
+     * 审计记录写入目标
+     */
+    private EcologyAuditSink sink;
+
+    /**
+     * 后台写入线程
+     */
+    private Thread writer;
+
+    private volatile boolean running;
+
+    /**
+     * 写入线程等待时，队列长度达到该值即可凑满一批，由放入方唤醒
+     */
+    private volatile int wakeupSize;
+
+    /**
+     * 初始化方法
+     */
+    @PostConstruct
+    public void init() {
+        EcologyProperties.Audit audit = propertiesProvider.getIfAvailable(EcologyProperties::new).getAudit();
+        this.capacity = audit.getQueueCapacity();
+        this.batchSize = audit.getBatchSize();
+        this.wakeupSize = batchSize;
+        this.flushIntervalNanos = audit.getFlushInterval().toNanos();
+        this.queueFullPolicy = audit.getQueueFullPolicy();
+        this.blockTimeoutNanos = audit.getBlockTimeout().toNanos();
+        this.headerNames = audit.getHeaders().toArray(new String[0]);
+        this.sink = sinkProvider.getIfAvailable(() -> createSink(audit));
+        this.running = true;
+        this.writer = new Thread(this::runWriter, Constant.THREAD_NAME);
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * 销毁方法
+     * <p>
+     * 停止接收新记录，等待写入线程写完队列中剩余的记录
+     */
+    @PreDestroy
+    public void destroy() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(Constant.SHUTDOWN_TIMEOUT_MILLIS);
+        if (writer.isAlive()) {
+            log.warn("The audit writer is not terminated in time,pending = {}", queueSize.get());
+        }
+    }
+
+    /**
+     * 创建JDBC写入目标
+     *
+     * @param audit 审计配置
+     * @return {@link EcologyAuditSink}
+     */
+    private EcologyAuditSink createSink(EcologyProperties.Audit audit) {
+        JdbcTemplate jdbcTemplate = jdbcTemplateProvider.getIfAvailable();
+        if (null == jdbcTemplate) {
+            throw new IllegalStateException("The audit log requires a JdbcTemplate bean or an EcologyAuditSink bean");
+        }
+        JdbcAuditSink jdbcSink = new JdbcAuditSink(jdbcTemplate,
+                objectMapperProvider.getIfAvailable(ObjectMapper::new),
+                audit.getTableName());
+        if (audit.isInitializeSchema()) {
+            jdbcSink.initializeSchema();
+        }
+        return jdbcSink;
+    }
+
+    /**
+     * 记录一次请求执行
+     *
+     * @param handler      业务处理器
+     * @param request      请求参数
+     * @param latencyNanos 耗时（纳秒）
+     * @param failure      执行异常，成功时为null
+     */
+    public void record(Object handler, EcologyRequest request, long latencyNanos, Throwable failure) {
+        Throwable cause = failure;
+        while (cause instanceof CompletionException && null != cause.getCause()) {
+            cause = cause.getCause();
+        }
+        AuditRecord record = new AuditRecord(request.getClass(),
+                null == handler ? null : handler.getClass(),
+                null == cause ? AuditOutcome.SUCCESS : AuditOutcome.FAILURE,
+                null == cause ? null : cause.getClass(),
+                latencyNanos,
+                System.currentTimeMillis(),
+                selectHeaders(request));
+        if (offer(record)) {
+            recordedCount.increment();
+        } else {
+            droppedCount.increment();
+        }
+    }
+
+    /**
+     * 放入队列
+     *
+     * @param record 审计记录
+     * @return boolean 队列已满且等待超时时返回false
+     */
+    private boolean offer(AuditRecord record) {
+        if (!running) {
+            return false;
+        }
+        long deadline = 0L;
+        while (true) {
+            int size = queueSize.incrementAndGet();
+            if (size <= capacity) {
+                queue.offer(record);
+                // 可以凑满一批时唤醒写入线程
+                if (size == wakeupSize) {
+                    LockSupport.unpark(writer);
+                }
+                return true;
+            }
+            queueSize.decrementAndGet();
+            if (AuditQueueFullPolicy.DROP == queueFullPolicy) {
+                return false;
+            }
+            long now = System.nanoTime();
+            if (0L == deadline) {
+                deadline = now + blockTimeoutNanos;
+                LockSupport.unpark(writer);
+            } else if (now - deadline >= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(this, Constant.BLOCK_PARK_NANOS);
+        }
+    }
+
+    /**
+     * 读取选定的请求头
+     *
+     * @param request 请求参数
+     * @return {@link Map} 未配置请求头或请求未携带时返回null
+     */
+    private Map<String, String> selectHeaders(EcologyRequest request) {
+        if (0 == headerNames.length || !(request instanceof BaseRequest)
+                || !((BaseRequest<?, ?>) request).hasHeaders()) {
+            return null;
+        }
+        HttpHeaders headers = ((BaseRequest<?, ?>) request).getHeaders();
+        Map<String, String> selected = null;
+        for (String name : headerNames) {
+            List<String> values = headers.get(name);
+            if (null == values || values.isEmpty()) {
+                continue;
+            }
+            if (null == selected) {
+                selected = new LinkedHashMap<>(headerNames.length * 2);
+            }
+            String value = 1 == values.size() ? values.get(0) : String.join(",", values);
+            // 截断过长的请求头，避免单条记录超出存储的列长度
+            selected.put(name, value.length() > Constant.MAX_HEADER_VALUE_LENGTH
+                    ? value.substring(0, Constant.MAX_HEADER_VALUE_LENGTH)
+                    : value);
+        }
+        return selected;
+    }
+
+    /**
+     * 写入线程主循环
+     * <p>
+     * 批次满时立即写入，否则在刷新间隔到达时写入已积累的记录；停止后写完队列中剩余的记录
+     */
+    private void runWriter() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        long nextFlush = System.nanoTime() + flushIntervalNanos;
+        while (running) {
+            AuditRecord record = queue.poll();
+            if (null != record) {
+                queueSize.decrementAndGet();
+                batch.add(record);
+                if (batch.size() >= batchSize) {
+                    flush(batch);
+                    nextFlush = System.nanoTime() + flushIntervalNanos;
+                }
+                continue;
+            }
+            long now = System.nanoTime();
+            if (now - nextFlush >= 0) {
+                flush(batch);
+                nextFlush = now + flushIntervalNanos;
+                continue;
+            }
+            // 已取出的记录计入批次，放入方按剩余数量唤醒；设置后重新检查，避免错过设置前放入的记录
+            int required = batchSize - batch.size();
+            wakeupSize = required;
+            if (queueSize.get() < required) {
+                LockSupport.parkNanos(this, nextFlush - now);
+            }
+        }
+        AuditRecord record;
+        while (null != (record = queue.poll())) {
+            queueSize.decrementAndGet();
+            batch.add(record);
+            if (batch.size() >= batchSize) {
+                flush(batch);
+            }
+        }
+        flush(batch);
+    }
+
+    /**
+     * 写入一批记录并清空批次
+     *
+     * @param batch 批次
+     */
+    private void flush(List<AuditRecord> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            sink.write(batch);
+            writtenCount.add(batch.size());
+        } catch (Exception e) {
+            if (1 == batch.size()) {
+                failedCount.increment();
+                log.warn("The audit records are not written,count = 1,cause = {}", e.getMessage());
+            } else {
+                log.warn("The audit batch is not written,retry one by one,count = {},cause = {}",
+                        batch.size(), e.getMessage());
+                writeOneByOne(batch);
+            }
+        } finally {
+            flushCount.increment();
+            batch.clear();
+        }
+    }
+
+    /**
+     * 逐条写入批量写入失败的记录
+     *
+     * @param batch 批次
+     */
+    private void writeOneByOne(List<AuditRecord> batch) {
+        int failed = 0;
+        Exception cause = null;
+        for (AuditRecord record : batch) {
+            try {
+                sink.write(Collections.singletonList(record));
+                writtenCount.increment();
+            } catch (Exception e) {
+                failed++;
+                cause = e;
+            }
+        }
+        if (failed > 0) {
+            failedCount.add(failed);
+            log.warn("The audit records are not written,count = {},cause = {}", failed, cause.getMessage());
+        }
+    }
+
+    /**
+     * 获取统计
+     *
+     * @return {@link AuditLogStats}
+     */
+    public AuditLogStats stats() {
+        return new AuditLogStats(recordedCount.sum(),
+                droppedCount.sum(),
+                writtenCount.sum(),
+                failedCount.sum(),
+                flushCount.sum(),
+                queueSize.get());
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.mimiknight.kuca.ecology.audit;
+
+import java.util.List;
+
+/**
+ * 审计记录写入目标
+ * <p>
+ * 容器中存在该类型的Bean时使用该Bean，否则使用{@link JdbcAuditSink}；
+ * 只由后台写入线程调用，实现无需线程安全；写入返回后记录列表会被清空复用，实现不应持有该列表
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 11:26:18
+ */
+public interface EcologyAuditSink {
+
+    /**
+     * 写入一批审计记录
+     *
+     * @param records 审计记录，不为空
+     * @throws Exception 写入异常，本批记录计为写入失败
+     */
+    void write(List<AuditRecord> records) throws Exception;
+
+}
@@ -0,0 +1,138 @@
+package com.github.mimiknight.kuca.ecology.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * JDBC审计记录写入目标
+ * <p>
+ * 每批记录通过一次JDBC批量插入写入；建表语句使用{@code CREATE TABLE IF NOT EXISTS}，适用于H2、MySQL与PostgreSQL，
+ * 其它数据库应关闭kuca.ecology.audit.initialize-schema并自行建表。选定的请求头以JSON对象保存，
+ * 超出列长度时从末尾逐个舍弃请求头，保证单条记录不会导致整批插入失败
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 11:31:26
+ */
+public class JdbcAuditSink implements EcologyAuditSink {
+
+    private interface Constant {
+
+        /**
+         * 表名格式，表名会拼接到SQL中，只允许字母、数字、下划线与点
+         */
+        Pattern TABLE_NAME_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+
+        /**
+         * 请求头列的最大长度，与建表语句一致
+         */
+        int MAX_HEADERS_LENGTH = 4000;
+
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final String createTableSql;
+
+    private final String insertSql;
+
+    public JdbcAuditSink(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, String tableName) {
+        Assert.notNull(jdbcTemplate, "The jdbcTemplate argument is required; it must not be null");
+        Assert.notNull(objectMapper, "The objectMapper argument is required; it must not be null");
+        Assert.isTrue(null != tableName && Constant.TABLE_NAME_PATTERN.matcher(tableName).matches(),
+                "The tableName argument is invalid,tableName = " + tableName);
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.createTableSql = "CREATE TABLE IF NOT EXISTS " + tableName + " ("
+                + "request_class VARCHAR(255) NOT NULL,"
+                + "handler_class VARCHAR(255),"
+                + "outcome VARCHAR(16) NOT NULL,"
+                + "error_class VARCHAR(255),"
+                + "latency_micros BIGINT NOT NULL,"
+                + "headers VARCHAR(" + Constant.MAX_HEADERS_LENGTH + "),"
+                + "created_at TIMESTAMP NOT NULL)";
+        this.insertSql = "INSERT INTO " + tableName
+                + " (request_class, handler_class, outcome, error_class, latency_micros, headers, created_at)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?)";
+    }
+
+    /**
+     * 建表（表已存在时不做修改）
+     */
+    public void initializeSchema() {
+        jdbcTemplate.execute(createTableSql);
+    }
+
+    @Override
+    public void write(List<AuditRecord> records) {
+        jdbcTemplate.batchUpdate(insertSql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                AuditRecord record = records.get(i);
+                ps.setString(1, record.getRequestClass().getName());
+                setClassName(ps, 2, record.getHandlerClass());
+                ps.setString(3, record.getOutcome().name());
+                setClassName(ps, 4, record.getErrorClass());
+                ps.setLong(5, TimeUnit.NANOSECONDS.toMicros(record.getLatencyNanos()));
+                if (null == record.getHeaders()) {
+                    ps.setNull(6, Types.VARCHAR);
+                } else {
+                    ps.setString(6, toJson(record));
+                }
+                ps.setTimestamp(7, new Timestamp(record.getTimestamp()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return records.size();
+            }
+        });
+    }
+
+    private static void setClassName(PreparedStatement ps, int index, Class<?> type) throws SQLException {
+        if (null == type) {
+            ps.setNull(index, Types.VARCHAR);
+        } else {
+            // 代理Class记录为用户Class
+            ps.setString(index, ClassUtils.getUserClass(type).getName());
+        }
+    }
+
+    private String toJson(AuditRecord record) throws SQLException {
+        try {
+            String json = objectMapper.writeValueAsString(record.getHeaders());
+            if (json.length() <= Constant.MAX_HEADERS_LENGTH) {
+                return json;
+            }
+            // 从末尾逐个舍弃请求头直到不超出列长度，保持JSON完整
+            List<Map.Entry<String, String>> entries = new ArrayList<>(record.getHeaders().entrySet());
+            Map<String, String> headers = new LinkedHashMap<>();
+            for (int size = entries.size() - 1; json.length() > Constant.MAX_HEADERS_LENGTH; size--) {
+                headers.clear();
+                for (Map.Entry<String, String> entry : entries.subList(0, size)) {
+                    headers.put(entry.getKey(), entry.getValue());
+                }
+                json = objectMapper.writeValueAsString(headers);
+            }
+            return json;
+        } catch (JsonProcessingException e) {
+            throw new SQLException("The audit headers can not be serialized", e);
+        }
+    }
+}
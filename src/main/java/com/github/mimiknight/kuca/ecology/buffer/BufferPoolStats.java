@@ -0,0 +1,94 @@
+package com.github.mimiknight.kuca.ecology.buffer;
+
+import lombok.Getter;
+
+/**
+ * 缓冲池统计
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 23:47:35
+ */
+@Getter
+public final class BufferPoolStats {
+
+    /**
+     * 获取次数
+     */
+    private final long acquireCount;
+
+    /**
+     * 归还次数
+     */
+    private final long releaseCount;
+
+    /**
+     * 从池中复用的次数
+     */
+    private final long hitCount;
+
+    /**
+     * 新分配池化缓冲区的次数
+     */
+    private final long allocateCount;
+
+    /**
+     * 超过最大池化大小而直接分配的次数
+     */
+    private final long unpooledCount;
+
+    /**
+     * 检测到的泄漏次数（未归还即被回收，仅统计被采样跟踪的缓冲区）
+     */
+    private final long leakCount;
+
+    /**
+     * 使用中的字节数（未被采样的泄漏缓冲区不会被扣除，为估计值）
+     */
+    private final long usedBytes;
+
+    /**
+     * 池中空闲的字节数
+     */
+    private final long pooledBytes;
+
+    BufferPoolStats(long acquireCount,
+                    long releaseCount,
+                    long hitCount,
+                    long allocateCount,
+                    long unpooledCount,
+                    long leakCount,
+                    long usedBytes,
+                    long pooledBytes) {
+        this.acquireCount = acquireCount;
+        this.releaseCount = releaseCount;
+        this.hitCount = hitCount;
+        this.allocateCount = allocateCount;
+        this.unpooledCount = unpooledCount;
+        this.leakCount = leakCount;
+        this.usedBytes = usedBytes;
+        this.pooledBytes = pooledBytes;
+    }
+
+    /**
+     * 复用率
+     *
+     * @return double 无分配时为1.0
+     */
+    public double getHitRate() {
+        long total = hitCount + allocateCount + unpooledCount;
+        return 0 == total ? 1.0 : (double) hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+        return "BufferPoolStats{acquireCount=" + acquireCount
+                + ", releaseCount=" + releaseCount
+                + ", hitCount=" + hitCount
+                + ", allocateCount=" + allocateCount
+                + ", unpooledCount=" + unpooledCount
+                + ", leakCount=" + leakCount
+                + ", usedBytes=" + usedBytes
+                + ", pooledBytes=" + pooledBytes
+                + "}";
+    }
+}
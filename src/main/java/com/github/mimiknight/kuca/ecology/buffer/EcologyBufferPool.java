@@ -0,0 +1,317 @@
+package com.github.mimiknight.kuca.ecology.buffer;
+
+import com.github.mimiknight.kuca.ecology.config.EcologyProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.util.Assert;
+
+import javax.annotation.PostConstruct;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 堆外缓冲池
+ * <p>
+ * 按2的幂划分大小等级，每个等级缓存空闲的直接缓冲区，避免大响应体在堆上分配大对象；
+ * 超过最大池化大小的请求直接分配且不回收。按采样间隔为缓冲区登记虚引用，
+ * 未归还即被回收的缓冲区计为泄漏，其底层缓冲区重新放回池中；
+ * 可通过kuca.ecology.buffer.enabled=false关闭
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 23:52:08
+ */
+@Slf4j
+@ConditionalOnProperty(prefix = "kuca.ecology.buffer", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class EcologyBufferPool {
+
+    @Autowired
+    private ObjectProvider<EcologyProperties> propertiesProvider;
+
+    /**
+     * 最小等级大小的以2为底的对数
+     */
+    private int minShift;
+
+    /**
+     * 最大池化大小
+     */
+    private int maxSize;
+
+    /**
+     * 大小等级
+     */
+    private SizeClass[] sizeClasses;
+
+    /**
+     * 泄漏检测采样间隔，0表示关闭
+     */
+    private int leakSamplingInterval;
+
+    private final LongAdder acquireCount = new LongAdder();
+
+    private final LongAdder releaseCount = new LongAdder();
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder allocateCount = new LongAdder();
+
+    private final LongAdder unpooledCount = new LongAdder();
+
+    private final LongAdder leakCount = new LongAdder();
+
+    private final LongAdder usedBytes = new LongAdder();
+
+    /**
+     * 泄漏检测引用队列
+     */
+    private final ReferenceQueue<PooledBuffer> leakQueue = new ReferenceQueue<>();
+
+    /**
+     * 未归还的泄漏跟踪器（保持跟踪器本身可达）
+     */
+    private final Set<LeakTracker> trackers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 初始化方法
+     */
+    @PostConstruct
+    public void init() {
+        EcologyProperties.Buffer buffer = propertiesProvider.getIfAvailable(EcologyProperties::new).getBuffer();
+        int minSize = (int) Math.min(Integer.MAX_VALUE >> 1, Math.max(1, buffer.getMinSize().toBytes()));
+        int maxSize = (int) Math.min(1 << 30, Math.max(minSize, buffer.getMaxSize().toBytes()));
+        this.minShift = 32 - Integer.numberOfLeadingZeros(minSize - 1);
+        int maxShift = 31 - Integer.numberOfLeadingZeros(maxSize);
+        if (maxShift < minShift) {
+            maxShift = minShift;
+        }
+        this.maxSize = 1 << maxShift;
+        this.sizeClasses = new SizeClass[maxShift - minShift + 1];
+        long maxPooledBytes = buffer.getMaxPooledBytesPerClass().toBytes();
+        for (int i = 0; i < sizeClasses.length; i++) {
+            int size = 1 << (minShift + i);
+            sizeClasses[i] = new SizeClass(size, (int) Math.max(1, Math.min(Integer.MAX_VALUE, maxPooledBytes / size)));
+        }
+        this.leakSamplingInterval = Math.max(0, buffer.getLeakSamplingInterval());
+        log.debug("The buffer pool is initialized,minSize = {},maxSize = {},sizeClasses = {}",
+                1 << minShift, this.maxSize, sizeClasses.length);
+    }
+
+    /**
+     * 获取缓冲区
+     *
+     * @param capacity 最小容量
+     * @return {@link PooledBuffer} 写入模式，position为0
+     */
+    public PooledBuffer acquire(int capacity) {
+        Assert.isTrue(capacity >= 0, "The capacity argument must not be negative");
+        drainLeaks();
+        acquireCount.increment();
+        return new PooledBuffer(this, take(capacity), isSampled());
+    }
+
+    /**
+     * 获取统计信息
+     *
+     * @return {@link BufferPoolStats}
+     */
+    public BufferPoolStats getStats() {
+        drainLeaks();
+        long pooledBytes = 0;
+        for (SizeClass sizeClass : sizeClasses) {
+            pooledBytes += (long) sizeClass.pooled.get() * sizeClass.size;
+        }
+        return new BufferPoolStats(acquireCount.sum(),
+                releaseCount.sum(),
+                hitCount.sum(),
+                allocateCount.sum(),
+                unpooledCount.sum(),
+                leakCount.sum(),
+                usedBytes.sum(),
+                pooledBytes);
+    }
+
+    /**
+     * 从池中取出或新分配缓冲区
+     *
+     * @param capacity 最小容量
+     * @return {@link ByteBuffer}
+     */
+    ByteBuffer take(int capacity) {
+        ByteBuffer buffer;
+        if (capacity > maxSize) {
+            unpooledCount.increment();
+            buffer = ByteBuffer.allocateDirect(capacity);
+        } else {
+            SizeClass sizeClass = sizeClasses[indexOf(capacity)];
+            buffer = sizeClass.poll();
+            if (null == buffer) {
+                allocateCount.increment();
+                buffer = ByteBuffer.allocateDirect(sizeClass.size);
+            } else {
+                hitCount.increment();
+                buffer.clear();
+            }
+        }
+        usedBytes.add(buffer.capacity());
+        return buffer;
+    }
+
+    /**
+     * 将缓冲区放回池中，非池化大小或等级已满时丢弃
+     *
+     * @param buffer 缓冲区
+     */
+    void recycle(ByteBuffer buffer) {
+        int capacity = buffer.capacity();
+        usedBytes.add(-capacity);
+        if (capacity > maxSize || Integer.bitCount(capacity) != 1) {
+            return;
+        }
+        int index = Integer.numberOfTrailingZeros(capacity) - minShift;
+        if (index >= 0) {
+            sizeClasses[index].offer(buffer);
+        }
+    }
+
+    /**
+     * 归还缓冲区
+     *
+     * @param buffer  缓冲区
+     * @param tracker 泄漏跟踪器，可为null
+     */
+    void release(ByteBuffer buffer, LeakTracker tracker) {
+        releaseCount.increment();
+        if (null != tracker) {
+            trackers.remove(tracker);
+            tracker.buffer = null;
+            tracker.clear();
+        }
+        recycle(buffer);
+    }
+
+    /**
+     * 登记泄漏跟踪器
+     *
+     * @param pooledBuffer 池化缓冲区
+     * @param buffer       缓冲区
+     * @return {@link LeakTracker}
+     */
+    LeakTracker track(PooledBuffer pooledBuffer, ByteBuffer buffer) {
+        LeakTracker tracker = new LeakTracker(pooledBuffer, leakQueue, buffer);
+        trackers.add(tracker);
+        return tracker;
+    }
+
+    /**
+     * 处理已被回收但未归还的缓冲区
+     */
+    private void drainLeaks() {
+        Reference<? extends PooledBuffer> reference;
+        while (null != (reference = leakQueue.poll())) {
+            LeakTracker tracker = (LeakTracker) reference;
+            if (!trackers.remove(tracker)) {
+                continue;
+            }
+            leakCount.increment();
+            ByteBuffer buffer = tracker.buffer;
+            tracker.buffer = null;
+            log.warn("A pooled buffer is garbage collected without being released,capacity = {}",
+                    null == buffer ? 0 : buffer.capacity());
+            if (null != buffer) {
+                recycle(buffer);
+            }
+        }
+    }
+
+    /**
+     * 本次获取是否登记泄漏跟踪
+     *
+     * @return boolean
+     */
+    private boolean isSampled() {
+        int interval = leakSamplingInterval;
+        return interval == 1 || (interval > 1 && ThreadLocalRandom.current().nextInt(interval) == 0);
+    }
+
+    /**
+     * 计算容量对应的等级下标
+     *
+     * @param capacity 容量，不大于最大池化大小
+     * @return int
+     */
+    private int indexOf(int capacity) {
+        if (capacity <= 1 << minShift) {
+            return 0;
+        }
+        return 32 - Integer.numberOfLeadingZeros(capacity - 1) - minShift;
+    }
+
+    /**
+     * 大小等级
+     */
+    private static final class SizeClass {
+
+        /**
+         * 缓冲区大小
+         */
+        private final int size;
+
+        /**
+         * 最多缓存的空闲缓冲区数量
+         */
+        private final int maxPooled;
+
+        /**
+         * 当前缓存的空闲缓冲区数量
+         */
+        private final AtomicInteger pooled = new AtomicInteger();
+
+        private final ConcurrentLinkedQueue<ByteBuffer> queue = new ConcurrentLinkedQueue<>();
+
+        private SizeClass(int size, int maxPooled) {
+            this.size = size;
+            this.maxPooled = maxPooled;
+        }
+
+        private ByteBuffer poll() {
+            ByteBuffer buffer = queue.poll();
+            if (null != buffer) {
+                pooled.decrementAndGet();
+            }
+            return buffer;
+        }
+
+        private void offer(ByteBuffer buffer) {
+            if (pooled.incrementAndGet() > maxPooled) {
+                pooled.decrementAndGet();
+                return;
+            }
+            queue.offer(buffer);
+        }
+    }
+
+    /**
+     * 泄漏跟踪器
+     * <p>
+     * 持有底层缓冲区的强引用，池化缓冲区未归还即被回收时仍可取回底层缓冲区
+     */
+    static final class LeakTracker extends PhantomReference<PooledBuffer> {
+
+        volatile ByteBuffer buffer;
+
+        private LeakTracker(PooledBuffer referent, ReferenceQueue<? super PooledBuffer> queue, ByteBuffer buffer) {
+            super(referent, queue);
+            this.buffer = buffer;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.github.mimiknight.kuca.ecology.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * 池化的堆外缓冲区
+ * <p>
+ * 通过{@link EcologyBufferPool#acquire(int)}获取，使用完毕后调用{@link #release()}归还；
+ * 作为{@link com.github.mimiknight.kuca.ecology.model.response.DirectBufferResponse}的响应体时，
+ * Web层写出后自动归还。写出的内容为缓冲区的[0, position)区间，即写入模式下已写入的数据
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 23:40:16
+ */
+public final class PooledBuffer {
+
+    private static final AtomicIntegerFieldUpdater<PooledBuffer> RELEASED =
+            AtomicIntegerFieldUpdater.newUpdater(PooledBuffer.class, "released");
+
+    /**
+     * 所属缓冲池
+     */
+    private final EcologyBufferPool pool;
+
+    /**
+     * 泄漏跟踪器，未被采样时为null
+     */
+    private final EcologyBufferPool.LeakTracker tracker;
+
+    /**
+     * 缓冲区
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * 是否已归还（0：未归还，1：已归还）
+     */
+    private volatile int released;
+
+    PooledBuffer(EcologyBufferPool pool, ByteBuffer buffer, boolean tracked) {
+        this.pool = pool;
+        this.buffer = buffer;
+        this.tracker = tracked ? pool.track(this, buffer) : null;
+    }
+
+    /**
+     * 获取缓冲区
+     *
+     * @return {@link ByteBuffer}
+     * @throws IllegalStateException 已归还
+     */
+    public ByteBuffer getBuffer() {
+        ensureNotReleased();
+        return buffer;
+    }
+
+    /**
+     * 确保剩余可写空间不小于指定大小，空间不足时换用更大的缓冲区并复制已写入的数据
+     *
+     * @param writable 需要的可写空间
+     * @return {@link ByteBuffer} 当前缓冲区
+     * @throws IllegalStateException 已归还
+     */
+    public ByteBuffer ensureWritable(int writable) {
+        ensureNotReleased();
+        if (buffer.remaining() >= writable) {
+            return buffer;
+        }
+        int required = buffer.position() + writable;
+        if (required < 0) {
+            throw new IllegalArgumentException("The required capacity overflows,writable = " + writable);
+        }
+        // 按2倍扩容，溢出时按需要的大小分配
+        int doubled = buffer.capacity() << 1;
+        ByteBuffer target = pool.take(doubled > required ? doubled : required);
+        buffer.flip();
+        target.put(buffer);
+        ByteBuffer old = buffer;
+        this.buffer = target;
+        if (null != tracker) {
+            tracker.buffer = target;
+        }
+        pool.recycle(old);
+        return target;
+    }
+
+    /**
+     * 已写入的数据长度
+     *
+     * @return int
+     */
+    public int readableBytes() {
+        ensureNotReleased();
+        return buffer.position();
+    }
+
+    /**
+     * 归还缓冲区，重复调用时忽略
+     */
+    public void release() {
+        if (!RELEASED.compareAndSet(this, 0, 1)) {
+            return;
+        }
+        ByteBuffer old = buffer;
+        this.buffer = null;
+        pool.release(old, tracker);
+    }
+
+    /**
+     * 是否已归还
+     *
+     * @return boolean
+     */
+    public boolean isReleased() {
+        return released == 1;
+    }
+
+    private void ensureNotReleased() {
+        if (released == 1) {
+            throw new IllegalStateException("The pooled buffer is already released");
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.mimiknight.kuca.ecology.bulkhead;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 并发限制器抽象类
+ * <p>
+ * 执行中的数量与上限均为原子变量，获取许可时通过CAS在不超过当前上限的前提下加一
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 20:17:51
+ */
+public abstract class AbstractConcurrencyLimiter implements ConcurrencyLimiter {
+
+    private final AtomicInteger inFlight;
+
+    /**
+     * 当前并发上限
+     */
+    protected final AtomicInteger limit;
+
+    protected AbstractConcurrencyLimiter(int initialLimit) {
+        this.inFlight = new AtomicInteger();
+        this.limit = new AtomicInteger(initialLimit);
+    }
+
+    @Override
+    public boolean tryAcquire() {
+        for (; ; ) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void release(long latencyNanos, boolean success) {
+        int current = inFlight.getAndDecrement();
+        onSample(latencyNanos, success, current);
+    }
+
+    /**
+     * 处理一次执行结果，用于调整上限
+     *
+     * @param latencyNanos 执行耗时（纳秒）
+     * @param success      是否执行成功
+     * @param inFlight     释放前执行中的数量
+     */
+    protected abstract void onSample(long latencyNanos, boolean success, int inFlight);
+
+    @Override
+    public int getLimit() {
+        return limit.get();
+    }
+
+    @Override
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
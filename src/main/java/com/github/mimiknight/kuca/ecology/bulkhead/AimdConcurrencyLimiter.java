@@ -0,0 +1,51 @@
+package com.github.mimiknight.kuca.ecology.bulkhead;
+
+/**
+ * AIMD并发限制器
+ * <p>
+ * 执行成功、耗时未超过阈值且执行中的数量不少于上限的一半时上限加一；
+ * 执行失败或耗时超过阈值时上限乘以缩小比例；上限始终在[minLimit, maxLimit]之间
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 20:24:33
+ */
+public class AimdConcurrencyLimiter extends AbstractConcurrencyLimiter {
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final long latencyThresholdNanos;
+
+    private final double backoffRatio;
+
+    public AimdConcurrencyLimiter(int initialLimit,
+                                  int minLimit,
+                                  int maxLimit,
+                                  long latencyThresholdNanos,
+                                  double backoffRatio) {
+        super(initialLimit);
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+    }
+
+    @Override
+    protected void onSample(long latencyNanos, boolean success, int inFlight) {
+        for (; ; ) {
+            int current = limit.get();
+            int next;
+            if (!success || latencyNanos > latencyThresholdNanos) {
+                next = Math.max(minLimit, (int) (current * backoffRatio));
+            } else if (inFlight * 2 >= current) {
+                next = Math.min(maxLimit, current + 1);
+            } else {
+                return;
+            }
+            if (next == current || limit.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+}
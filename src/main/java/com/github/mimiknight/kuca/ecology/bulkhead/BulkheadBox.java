@@ -0,0 +1,112 @@
+package com.github.mimiknight.kuca.ecology.bulkhead;
+
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 装载舱壁的容器
+ * <p>
+ * 调度计划构建时按处理器或请求参数类上的{@link EcologyBulkhead}注解为每个请求Class创建独立的并发限制器；
+ * 可通过kuca.ecology.bulkhead.enabled=false关闭
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 20:36:02
+ */
+@Slf4j
+@ConditionalOnProperty(prefix = "kuca.ecology.bulkhead", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BulkheadBox {
+
+    private interface Constant {
+
+        int INIT_CAPACITY = 16;
+
+    }
+
+    /**
+     * 请求Class与并发限制器映射Map
+     */
+    private final ConcurrentMap<Class<?>, ConcurrencyLimiter> limiterMap;
+
+    public BulkheadBox() {
+        this.limiterMap = new ConcurrentHashMap<>(Constant.INIT_CAPACITY);
+    }
+
+    /**
+     * 创建并发限制器
+     *
+     * @param requestClass 请求Class
+     * @param handler      业务处理器
+     * @return {@link ConcurrencyLimiter} 未标注{@link EcologyBulkhead}时返回null
+     */
+    public ConcurrencyLimiter create(Class<EcologyRequest> requestClass, Object handler) {
+        EcologyBulkhead bulkhead = AnnotatedElementUtils.findMergedAnnotation(
+                AopUtils.getTargetClass(handler), EcologyBulkhead.class);
+        if (null == bulkhead) {
+            bulkhead = AnnotatedElementUtils.findMergedAnnotation(requestClass, EcologyBulkhead.class);
+        }
+        if (null == bulkhead) {
+            limiterMap.remove(requestClass);
+            return null;
+        }
+        ConcurrencyLimiter limiter = newLimiter(bulkhead);
+        limiterMap.put(requestClass, limiter);
+        log.debug("The bulkhead is created,request = {},mode = {},limit = {}",
+                requestClass.getName(), bulkhead.mode(), bulkhead.limit());
+        return limiter;
+    }
+
+    /**
+     * 按注解创建并发限制器
+     *
+     * @param bulkhead 舱壁注解
+     * @return {@link ConcurrencyLimiter}
+     */
+    private static ConcurrencyLimiter newLimiter(EcologyBulkhead bulkhead) {
+        Assert.isTrue(bulkhead.limit() > 0, "The bulkhead limit must be greater than 0");
+        Assert.isTrue(bulkhead.minLimit() > 0 && bulkhead.minLimit() <= bulkhead.maxLimit(),
+                "The bulkhead minLimit must be greater than 0 and not greater than maxLimit");
+        int initialLimit = Math.max(bulkhead.minLimit(), Math.min(bulkhead.maxLimit(), bulkhead.limit()));
+        switch (bulkhead.mode()) {
+            case AIMD:
+                return new AimdConcurrencyLimiter(initialLimit,
+                        bulkhead.minLimit(),
+                        bulkhead.maxLimit(),
+                        TimeUnit.MILLISECONDS.toNanos(bulkhead.latencyThreshold()),
+                        bulkhead.backoffRatio());
+            case GRADIENT:
+                return new GradientConcurrencyLimiter(initialLimit, bulkhead.minLimit(), bulkhead.maxLimit());
+            case FIXED:
+            default:
+                return new FixedConcurrencyLimiter(bulkhead.limit());
+        }
+    }
+
+    /**
+     * 获取并发限制器
+     *
+     * @param requestClass 请求Class
+     * @return {@link ConcurrencyLimiter} 不存在时返回null
+     */
+    public ConcurrencyLimiter getLimiter(Class<?> requestClass) {
+        return limiterMap.get(requestClass);
+    }
+
+    /**
+     * 获取全部并发限制器
+     *
+     * @return {@link Map}
+     */
+    public Map<Class<?>, ConcurrencyLimiter> getLimiterMap() {
+        return Collections.unmodifiableMap(limiterMap);
+    }
+}
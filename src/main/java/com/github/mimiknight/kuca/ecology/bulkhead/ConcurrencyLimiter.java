@@ -0,0 +1,42 @@
+package com.github.mimiknight.kuca.ecology.bulkhead;
+
+/**
+ * 并发限制器
+ * <p>
+ * 实现类不得使用锁，请求路径上只有原子变量的CAS操作
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 20:14:22
+ */
+public interface ConcurrencyLimiter {
+
+    /**
+     * 尝试获取执行许可
+     *
+     * @return boolean 达到上限时返回false
+     */
+    boolean tryAcquire();
+
+    /**
+     * 释放执行许可
+     *
+     * @param latencyNanos 执行耗时（纳秒）
+     * @param success      是否执行成功
+     */
+    void release(long latencyNanos, boolean success);
+
+    /**
+     * 获取当前并发上限
+     *
+     * @return int
+     */
+    int getLimit();
+
+    /**
+     * 获取当前执行中的数量
+     *
+     * @return int
+     */
+    int getInFlight();
+
+}
@@ -0,0 +1,66 @@
+package com.github.mimiknight.kuca.ecology.bulkhead;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 舱壁注解
+ * <p>
+ * 标注在请求处理器或请求参数类上，限制该请求Class同时执行的数量，达到上限时抛出
+ * {@link com.github.mimiknight.kuca.ecology.exception.BulkheadFullException}；
+ * 同时标注时以处理器上的注解为准
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 20:11:06
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EcologyBulkhead {
+
+    /**
+     * 上限模式
+     *
+     * @return {@link LimitMode}
+     */
+    LimitMode mode() default LimitMode.FIXED;
+
+    /**
+     * 并发上限，自适应模式下为初始上限
+     *
+     * @return int
+     */
+    int limit() default 64;
+
+    /**
+     * 自适应模式的最小上限
+     *
+     * @return int
+     */
+    int minLimit() default 1;
+
+    /**
+     * 自适应模式的最大上限
+     *
+     * @return int
+     */
+    int maxLimit() default 1024;
+
+    /**
+     * AIMD模式的耗时阈值（毫秒），超过时缩小上限
+     *
+     * @return long
+     */
+    long latencyThreshold() default 1000;
+
+    /**
+     * AIMD模式缩小上限的比例
+     *
+     * @return double
+     */
+    double backoffRatio() default 0.9;
+
+}
@@ -0,0 +1,19 @@
+package com.github.mimiknight.kuca.ecology.bulkhead;
+
+/**
+ * 固定上限并发限制器
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 20:21:09
+ */
+public class FixedConcurrencyLimiter extends AbstractConcurrencyLimiter {
+
+    public FixedConcurrencyLimiter(int limit) {
+        super(limit);
+    }
+
+    @Override
+    protected void onSample(long latencyNanos, boolean success, int inFlight) {
+        // 固定上限不做调整
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.mimiknight.kuca.ecology.bulkhead;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 梯度并发限制器
+ * <p>
+ * 以观察到的最小耗时作为无排队耗时，新上限 = 当前上限 × (最小耗时 / 本次耗时) + 排队余量，
+ * 梯度限制在[0.5, 1.0]之间并做平滑，执行失败时按最小梯度缩小；最小耗时每隔固定样本数重置一次，以适应下游变化
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 20:29:14
+ */
+public class GradientConcurrencyLimiter extends AbstractConcurrencyLimiter {
+
+    private interface Constant {
+
+        /**
+         * 最小耗时重置间隔（样本数）
+         */
+        int MIN_LATENCY_RESET_SAMPLES = 1000;
+
+        /**
+         * 平滑系数
+         */
+        double SMOOTHING = 0.2;
+
+        /**
+         * 最小梯度
+         */
+        double MIN_GRADIENT = 0.5;
+
+    }
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    /**
+     * 观察到的最小耗时（纳秒）
+     */
+    private final AtomicLong minLatency;
+
+    private final AtomicInteger samples;
+
+    public GradientConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        super(initialLimit);
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.minLatency = new AtomicLong(Long.MAX_VALUE);
+        this.samples = new AtomicInteger();
+    }
+
+    @Override
+    protected void onSample(long latencyNanos, boolean success, int inFlight) {
+        if (samples.incrementAndGet() % Constant.MIN_LATENCY_RESET_SAMPLES == 0) {
+            minLatency.set(Long.MAX_VALUE);
+        }
+        long min = updateMinLatency(Math.max(1L, latencyNanos));
+        for (; ; ) {
+            int current = limit.get();
+            double gradient = success
+                    ? Math.max(Constant.MIN_GRADIENT, Math.min(1.0, (double) min / Math.max(1L, latencyNanos)))
+                    : Constant.MIN_GRADIENT;
+            double target = current * gradient + Math.sqrt(current);
+            // 执行中的数量不足上限一半时不扩大上限
+            if (target > current && inFlight * 2 < current) {
+                return;
+            }
+            double smoothed = current * (1 - Constant.SMOOTHING) + target * Constant.SMOOTHING;
+            int rounded = (int) (smoothed > current ? Math.ceil(smoothed) : Math.floor(smoothed));
+            int next = Math.max(minLimit, Math.min(maxLimit, rounded));
+            if (next == current || limit.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 更新最小耗时
+     *
+     * @param latencyNanos 本次耗时（纳秒）
+     * @return long 更新后的最小耗时
+     */
+    private long updateMinLatency(long latencyNanos) {
+        for (; ; ) {
+            long current = minLatency.get();
+            if (latencyNanos >= current) {
+                return current;
+            }
+            if (minLatency.compareAndSet(current, latencyNanos)) {
+                return latencyNanos;
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.mimiknight.kuca.ecology.bulkhead;
+
+/**
+ * 并发上限模式
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 20:08:40
+ */
+public enum LimitMode {
+
+    /**
+     * 固定上限
+     */
+    FIXED,
+
+    /**
+     * 加性增、乘性减：耗时未超过阈值且并发接近上限时上限加一，超过阈值或执行失败时按比例缩小
+     */
+    AIMD,
+
+    /**
+     * 梯度：按最小耗时与当前耗时之比调整上限，耗时上升时上限随之下降
+     */
+    GRADIENT
+
+}
@@ -0,0 +1,22 @@
+package com.github.mimiknight.kuca.ecology.cache;
+
+/**
+ * 响应缓存阶段
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 16:57:40
+ */
+public enum CacheStage {
+
+    /**
+     * 过滤器之前查找缓存，命中时不执行过滤器与处理器，缓存的是过滤器执行完成后的响应；
+     * 默认缓存键不含请求头，携带不同凭证的请求会命中同一条缓存，只应用于无需鉴权的请求
+     */
+    BEFORE_FILTERS,
+
+    /**
+     * 过滤器之后、处理器之前查找缓存，鉴权等过滤器对每个请求都会执行，缓存的是处理器的响应
+     */
+    AFTER_FILTERS
+
+}
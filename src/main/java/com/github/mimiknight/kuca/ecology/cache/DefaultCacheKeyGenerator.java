@@ -0,0 +1,32 @@
+package com.github.mimiknight.kuca.ecology.cache;
+
+import com.github.mimiknight.kuca.ecology.model.request.BaseRequest;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.request.StreamingRequest;
+
+import java.util.Arrays;
+
+/**
+ * 默认响应缓存键生成器
+ * <p>
+ * {@link BaseRequest}以请求行查询参数与请求体作为缓存键，请求头不参与；
+ * {@link StreamingRequest}的请求体为输入流，不缓存；
+ * 其他请求以请求对象本身作为缓存键
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 17:03:27
+ */
+public class DefaultCacheKeyGenerator implements EcologyCacheKeyGenerator {
+
+    @Override
+    public Object generate(EcologyRequest request) {
+        if (request instanceof StreamingRequest) {
+            return null;
+        }
+        if (request instanceof BaseRequest) {
+            BaseRequest<?, ?> baseRequest = (BaseRequest<?, ?>) request;
+            return Arrays.asList(baseRequest.getQuery(), baseRequest.getBody());
+        }
+        return request;
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.mimiknight.kuca.ecology.cache;
+
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+
+/**
+ * 响应缓存键生成器接口
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 17:01:16
+ */
+@FunctionalInterface
+public interface EcologyCacheKeyGenerator {
+
+    /**
+     * 生成缓存键
+     * <p>
+     * 缓存按请求Class隔离，缓存键无需包含请求Class；缓存键需正确实现equals与hashCode方法
+     *
+     * @param request 请求参数
+     * @return {@link Object} 缓存键，为null时该请求不使用缓存
+     */
+    Object generate(EcologyRequest request);
+
+}
@@ -0,0 +1,63 @@
+package com.github.mimiknight.kuca.ecology.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 响应缓存注解
+ * <p>
+ * 标注在同步请求处理器或请求参数类上，相同缓存键的请求在有效期内直接返回缓存的响应副本；
+ * 同时标注时以处理器上的注解为准。只应用于无副作用的查询类处理器；
+ * 响应体持有资源的响应（堆外缓冲、推送流、流式输出）不缓存
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 16:55:12
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EcologyCacheable {
+
+    /**
+     * 写入后的有效时长
+     *
+     * @return long
+     */
+    long ttl() default 60;
+
+    /**
+     * 有效时长单位
+     *
+     * @return {@link TimeUnit}
+     */
+    TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+    /**
+     * 最大缓存条数，超出后按访问频率淘汰（W-TinyLFU）
+     *
+     * @return long
+     */
+    long maximumSize() default 1024;
+
+    /**
+     * 缓存查找所处的阶段
+     * <p>
+     * 默认在过滤器之后查找，鉴权等过滤器对每个请求都会执行；
+     * 改为{@link CacheStage#BEFORE_FILTERS}时命中缓存的请求不执行过滤器，只应用于无需鉴权的公开查询
+     *
+     * @return {@link CacheStage}
+     */
+    CacheStage stage() default CacheStage.AFTER_FILTERS;
+
+    /**
+     * 缓存键生成器，优先使用容器中该类型的Bean，不存在时通过无参构造器实例化
+     *
+     * @return {@link Class}
+     */
+    Class<? extends EcologyCacheKeyGenerator> keyGenerator() default DefaultCacheKeyGenerator.class;
+
+}
@@ -0,0 +1,128 @@
+package com.github.mimiknight.kuca.ecology.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.mimiknight.kuca.ecology.handler.EcologyResponseFactory;
+import com.github.mimiknight.kuca.ecology.handler.ResponseCopier;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+import lombok.Getter;
+
+/**
+ * 单个请求Class的响应缓存
+ * <p>
+ * 写入与读取时均通过{@link ResponseCopier}复制响应对象，响应体按JSON深复制，缓存中的响应不会被调用方修改
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 17:10:31
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public final class EcologyResponseCache {
+
+    /**
+     * 请求Class
+     */
+    @Getter
+    private final Class<?> requestClass;
+
+    /**
+     * 缓存阶段
+     */
+    @Getter
+    private final CacheStage stage;
+
+    private final EcologyCacheKeyGenerator keyGenerator;
+
+    private final EcologyResponseFactory responseFactory;
+
+    private final Cache<Object, EcologyResponse> cache;
+
+    EcologyResponseCache(Class<?> requestClass,
+                         EcologyCacheable cacheable,
+                         EcologyCacheKeyGenerator keyGenerator,
+                         EcologyResponseFactory responseFactory) {
+        this.requestClass = requestClass;
+        this.stage = cacheable.stage();
+        this.keyGenerator = keyGenerator;
+        this.responseFactory = responseFactory;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(cacheable.ttl(), cacheable.timeUnit())
+                .maximumSize(cacheable.maximumSize())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 生成缓存键
+     *
+     * @param request 请求参数
+     * @return {@link Object} 为null时不使用缓存
+     */
+    public Object generateKey(EcologyRequest request) {
+        return keyGenerator.generate(request);
+    }
+
+    /**
+     * 读取缓存并复制到目标响应
+     *
+     * @param key    缓存键
+     * @param target 目标响应
+     * @return boolean 是否命中
+     * @throws Exception 响应复制异常
+     */
+    public boolean copyTo(Object key, EcologyResponse target) throws Exception {
+        EcologyResponse cached = cache.getIfPresent(key);
+        if (null == cached) {
+            return false;
+        }
+        ResponseCopier.copy(cached, target);
+        return true;
+    }
+
+    /**
+     * 写入缓存
+     *
+     * @param key      缓存键
+     * @param response 响应
+     * @throws Exception 响应对象实例化或复制异常
+     */
+    public void put(Object key, EcologyResponse response) throws Exception {
+        EcologyResponse copy = responseFactory.newInstance();
+        ResponseCopier.copy(response, copy);
+        cache.put(key, copy);
+    }
+
+    /**
+     * 失效指定请求对应的缓存
+     *
+     * @param request 请求参数
+     */
+    public void invalidate(EcologyRequest request) {
+        Object key = generateKey(request);
+        if (null != key) {
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * 失效全部缓存
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 获取缓存统计
+     *
+     * @return {@link ResponseCacheStats}
+     */
+    public ResponseCacheStats stats() {
+        CacheStats stats = cache.stats();
+        return new ResponseCacheStats(requestClass,
+                stats.hitCount(),
+                stats.missCount(),
+                stats.evictionCount(),
+                cache.estimatedSize());
+    }
+}
@@ -0,0 +1,161 @@
+package com.github.mimiknight.kuca.ecology.cache;
+
+import com.github.mimiknight.kuca.ecology.handler.EcologyResponseFactory;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 装载响应缓存的容器
+ * <p>
+ * 调度计划构建时按处理器或请求参数类上的{@link EcologyCacheable}注解为每个请求Class创建独立的缓存，
+ * 并提供统计与失效入口；依赖Caffeine，可通过kuca.ecology.cache.enabled=false关闭
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 17:18:44
+ */
+@Slf4j
+@ConditionalOnClass(name = "com.github.benmanes.caffeine.cache.Caffeine")
+@ConditionalOnProperty(prefix = "kuca.ecology.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ResponseCacheBox {
+
+    private interface Constant {
+
+        int INIT_CAPACITY = 16;
+
+    }
+
+    @Autowired
+    private ApplicationContext appContext;
+
+    /**
+     * 请求Class与响应缓存映射Map
+     */
+    private final ConcurrentMap<Class<?>, EcologyResponseCache> cacheMap;
+
+    public ResponseCacheBox() {
+        this.cacheMap = new ConcurrentHashMap<>(Constant.INIT_CAPACITY);
+    }
+
+    /**
+     * 创建响应缓存
+     *
+     * @param requestClass    请求Class
+     * @param handler         业务处理器
+     * @param responseFactory 响应对象工厂
+     * @return {@link EcologyResponseCache} 未标注{@link EcologyCacheable}时返回null
+     */
+    @SuppressWarnings({"rawtypes"})
+    public EcologyResponseCache create(Class<EcologyRequest> requestClass,
+                                       Object handler,
+                                       EcologyResponseFactory responseFactory) {
+        EcologyCacheable cacheable = AnnotatedElementUtils.findMergedAnnotation(
+                AopUtils.getTargetClass(handler), EcologyCacheable.class);
+        if (null == cacheable) {
+            cacheable = AnnotatedElementUtils.findMergedAnnotation(requestClass, EcologyCacheable.class);
+        }
+        if (null == cacheable) {
+            cacheMap.remove(requestClass);
+            return null;
+        }
+        EcologyResponseCache cache = new EcologyResponseCache(requestClass,
+                cacheable,
+                getKeyGenerator(cacheable.keyGenerator()),
+                responseFactory);
+        cacheMap.put(requestClass, cache);
+        log.debug("The response cache is created,request = {},stage = {}", requestClass.getName(), cacheable.stage());
+        return cache;
+    }
+
+    /**
+     * 获取缓存键生成器
+     *
+     * @param type 缓存键生成器Class
+     * @return {@link EcologyCacheKeyGenerator}
+     */
+    private EcologyCacheKeyGenerator getKeyGenerator(Class<? extends EcologyCacheKeyGenerator> type) {
+        Map<String, ? extends EcologyCacheKeyGenerator> beans = appContext.getBeansOfType(type);
+        if (beans.size() == 1) {
+            return beans.values().iterator().next();
+        }
+        return BeanUtils.instantiateClass(type);
+    }
+
+    /**
+     * 获取响应缓存
+     *
+     * @param requestClass 请求Class
+     * @return {@link EcologyResponseCache} 不存在时返回null
+     */
+    public EcologyResponseCache getCache(Class<?> requestClass) {
+        return cacheMap.get(requestClass);
+    }
+
+    /**
+     * 失效指定请求对应的缓存
+     *
+     * @param request 请求参数
+     */
+    public void invalidate(EcologyRequest request) {
+        EcologyResponseCache cache = cacheMap.get(request.getClass());
+        if (null != cache) {
+            cache.invalidate(request);
+        }
+    }
+
+    /**
+     * 失效指定请求Class的全部缓存
+     *
+     * @param requestClass 请求Class
+     */
+    public void invalidateAll(Class<?> requestClass) {
+        EcologyResponseCache cache = cacheMap.get(requestClass);
+        if (null != cache) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * 失效全部缓存
+     */
+    public void invalidateAll() {
+        cacheMap.values().forEach(EcologyResponseCache::invalidateAll);
+    }
+
+    /**
+     * 获取指定请求Class的缓存统计
+     *
+     * @param requestClass 请求Class
+     * @return {@link ResponseCacheStats} 不存在时返回null
+     */
+    public ResponseCacheStats getStats(Class<?> requestClass) {
+        EcologyResponseCache cache = cacheMap.get(requestClass);
+        return null == cache ? null : cache.stats();
+    }
+
+    /**
+     * 获取全部缓存统计
+     *
+     * @return {@link List}
+     */
+    public List<ResponseCacheStats> getStats() {
+        List<ResponseCacheStats> stats = new ArrayList<>(cacheMap.size());
+        for (EcologyResponseCache cache : cacheMap.values()) {
+            stats.add(cache.stats());
+        }
+        return Collections.unmodifiableList(stats);
+    }
+}
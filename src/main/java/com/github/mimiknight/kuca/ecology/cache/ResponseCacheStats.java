@@ -0,0 +1,65 @@
+package com.github.mimiknight.kuca.ecology.cache;
+
+import lombok.Getter;
+
+/**
+ * 响应缓存统计
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 17:06:52
+ */
+@Getter
+public final class ResponseCacheStats {
+
+    /**
+     * 请求Class
+     */
+    private final Class<?> requestClass;
+
+    /**
+     * 命中次数
+     */
+    private final long hitCount;
+
+    /**
+     * 未命中次数
+     */
+    private final long missCount;
+
+    /**
+     * 淘汰次数
+     */
+    private final long evictionCount;
+
+    /**
+     * 当前缓存条数（估计值）
+     */
+    private final long size;
+
+    ResponseCacheStats(Class<?> requestClass, long hitCount, long missCount, long evictionCount, long size) {
+        this.requestClass = requestClass;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    /**
+     * 命中率
+     *
+     * @return double 无访问时为1.0
+     */
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return 0 == requestCount ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ResponseCacheStats{requestClass=" + requestClass.getName()
+                + ", hitCount=" + hitCount
+                + ", missCount=" + missCount
+                + ", evictionCount=" + evictionCount
+                + ", size=" + size + '}';
+    }
+}
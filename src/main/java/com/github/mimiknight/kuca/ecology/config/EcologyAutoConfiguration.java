@@ -0,0 +1,46 @@
+package com.github.mimiknight.kuca.ecology.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Ecology自动配置类
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 15:24:38
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(EcologyProperties.class)
+public class EcologyAutoConfiguration {
+
+    /**
+     * 批量执行线程池Bean名称
+     */
+    public static final String BATCH_EXECUTOR_BEAN_NAME = "ecologyBatchExecutor";
+
+    /**
+     * 批量执行线程池
+     * <p>
+     * 容器中已存在同名Bean时不再创建
+     *
+     * @param properties 配置属性
+     * @return {@link ThreadPoolTaskExecutor}
+     */
+    @Bean(name = BATCH_EXECUTOR_BEAN_NAME)
+    @ConditionalOnMissingBean(name = BATCH_EXECUTOR_BEAN_NAME)
+    public ThreadPoolTaskExecutor ecologyBatchExecutor(EcologyProperties properties) {
+        EcologyProperties.Batch batch = properties.getBatch();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(batch.getCorePoolSize());
+        executor.setMaxPoolSize(batch.getMaxPoolSize());
+        executor.setQueueCapacity(batch.getQueueCapacity());
+        executor.setThreadNamePrefix(batch.getThreadNamePrefix());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+}
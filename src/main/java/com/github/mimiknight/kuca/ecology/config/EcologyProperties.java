@@ -0,0 +1,401 @@
+package com.github.mimiknight.kuca.ecology.config;
+
+import com.github.mimiknight.kuca.ecology.audit.AuditQueueFullPolicy;
+import com.github.mimiknight.kuca.ecology.idempotent.IdempotencyStoreType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ecology配置属性
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 15:20:04
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = EcologyProperties.PREFIX)
+public class EcologyProperties {
+
+    /**
+     * 配置前缀
+     */
+    public static final String PREFIX = "kuca.ecology";
+
+    /**
+     * 批量执行配置
+     */
+    private Batch batch = new Batch();
+
+    /**
+     * 响应缓存配置
+     */
+    private Cache cache = new Cache();
+
+    /**
+     * 请求合并配置
+     */
+    private Coalescing coalescing = new Coalescing();
+
+    /**
+     * 度量配置
+     */
+    private Metrics metrics = new Metrics();
+
+    /**
+     * JFR事件配置
+     */
+    private Jfr jfr = new Jfr();
+
+    /**
+     * 舱壁配置
+     */
+    private Bulkhead bulkhead = new Bulkhead();
+
+    /**
+     * 限流配置
+     */
+    private RateLimit rateLimit = new RateLimit();
+
+    /**
+     * 截止时间配置
+     */
+    private Deadline deadline = new Deadline();
+
+    /**
+     * 堆外缓冲池配置
+     */
+    private Buffer buffer = new Buffer();
+
+    /**
+     * 编译期索引配置
+     */
+    private Index index = new Index();
+
+    /**
+     * 幂等配置
+     */
+    private Idempotency idempotency = new Idempotency();
+
+    /**
+     * 审计日志配置
+     */
+    private Audit audit = new Audit();
+
+    /**
+     * 批量执行配置
+     */
+    @Getter
+    @Setter
+    public static class Batch {
+
+        /**
+         * 线程池核心线程数
+         */
+        private int corePoolSize = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * 线程池最大线程数
+         */
+        private int maxPoolSize = Runtime.getRuntime().availableProcessors() * 2;
+
+        /**
+         * 线程池队列容量，队列已满且线程数达到上限时由调用线程执行
+         */
+        private int queueCapacity = 1024;
+
+        /**
+         * 线程名前缀
+         */
+        private String threadNamePrefix = "ecology-batch-";
+    }
+
+    /**
+     * 响应缓存配置
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+
+        /**
+         * 是否开启响应缓存（需引入Caffeine）
+         */
+        private boolean enabled = true;
+    }
+
+    /**
+     * 请求合并配置
+     */
+    @Getter
+    @Setter
+    public static class Coalescing {
+
+        /**
+         * 等待合并执行结果的最长时间，请求设置了截止时间时取两者中较早的一个
+         */
+        private Duration waitTimeout = Duration.ofSeconds(30);
+    }
+
+    /**
+     * 度量配置
+     */
+    @Getter
+    @Setter
+    public static class Metrics {
+
+        /**
+         * 是否开启度量（需引入Micrometer且容器中存在MeterRegistry）
+         */
+        private boolean enabled = true;
+
+        /**
+         * 处理器耗时是否发布直方图，过滤器与拦截器始终只记录普通耗时
+         */
+        private boolean percentileHistogram = false;
+    }
+
+    /**
+     * JFR事件配置
+     */
+    @Getter
+    @Setter
+    public static class Jfr {
+
+        /**
+         * 是否记录JFR事件（需运行在支持JFR的JDK上），默认关闭
+         */
+        private boolean enabled = false;
+
+        /**
+         * 处理器执行事件的提交阈值
+         */
+        private Duration handlerThreshold = Duration.ofMillis(10);
+
+        /**
+         * 过滤器执行事件的提交阈值
+         */
+        private Duration filterThreshold = Duration.ofMillis(10);
+
+        /**
+         * 拦截器执行事件的提交阈值
+         */
+        private Duration interceptorThreshold = Duration.ofMillis(10);
+    }
+
+    /**
+     * 舱壁配置
+     */
+    @Getter
+    @Setter
+    public static class Bulkhead {
+
+        /**
+         * 是否开启舱壁
+         */
+        private boolean enabled = true;
+    }
+
+    /**
+     * 限流配置
+     */
+    @Getter
+    @Setter
+    public static class RateLimit {
+
+        /**
+         * 是否开启限流
+         */
+        private boolean enabled = true;
+    }
+
+    /**
+     * 截止时间配置
+     */
+    @Getter
+    @Setter
+    public static class Deadline {
+
+        /**
+         * 是否开启截止时间
+         */
+        private boolean enabled = true;
+
+        /**
+         * 全局执行时限，未配置时不限制
+         */
+        private Duration defaultTimeout;
+
+        /**
+         * 携带剩余时限（毫秒）的请求头名称，未配置时不读取请求头
+         */
+        private String header;
+    }
+
+    /**
+     * 堆外缓冲池配置
+     */
+    @Getter
+    @Setter
+    public static class Buffer {
+
+        /**
+         * 是否开启堆外缓冲池
+         */
+        private boolean enabled = true;
+
+        /**
+         * 最小等级大小（向上取2的幂）
+         */
+        private DataSize minSize = DataSize.ofKilobytes(4);
+
+        /**
+         * 最大池化大小（向下取2的幂），超过时直接分配且不回收
+         */
+        private DataSize maxSize = DataSize.ofMegabytes(8);
+
+        /**
+         * 每个等级最多缓存的空闲字节数
+         */
+        private DataSize maxPooledBytesPerClass = DataSize.ofMegabytes(32);
+
+        /**
+         * 泄漏检测采样间隔，1表示跟踪全部缓冲区，0表示关闭
+         */
+        private int leakSamplingInterval = 16;
+    }
+
+    /**
+     * 编译期索引配置
+     */
+    @Getter
+    @Setter
+    public static class Index {
+
+        /**
+         * 是否读取kuca-ecology-indexer生成的索引，关闭时全部组件使用反射扫描
+         */
+        private boolean enabled = true;
+    }
+
+    /**
+     * 幂等配置
+     */
+    @Getter
+    @Setter
+    public static class Idempotency {
+
+        /**
+         * 是否开启幂等
+         */
+        private boolean enabled = true;
+
+        /**
+         * 携带幂等键的请求头名称
+         */
+        private String header = "Idempotency-Key";
+
+        /**
+         * 内置存储类型，容器中存在EcologyIdempotencyStore的Bean时忽略
+         */
+        private IdempotencyStoreType store = IdempotencyStoreType.MEMORY;
+
+        /**
+         * JDBC存储的表名
+         */
+        private String tableName = "ecology_idempotency";
+
+        /**
+         * JDBC存储是否在启动时建表（表已存在时不做修改）
+         */
+        private boolean initializeSchema = true;
+
+        /**
+         * 内存存储最多保存的记录数，JDBC存储时为内存层最多缓存的记录数；
+         * 达到上限时淘汰最早完成的记录，只有执行中的记录占满上限时才拒绝新的幂等键
+         */
+        private int memoryMaximumSize = 10000;
+
+        /**
+         * 执行租约时长，执行方异常退出时租约到期后相同幂等键可重新执行
+         */
+        private Duration pendingTimeout = Duration.ofMinutes(1);
+
+        /**
+         * 重复请求等待首次执行完成的时限
+         */
+        private Duration waitTimeout = Duration.ofSeconds(30);
+
+        /**
+         * 等待其它实例执行完成时的轮询间隔
+         */
+        private Duration pollInterval = Duration.ofMillis(100);
+
+        /**
+         * 过期记录清理间隔
+         */
+        private Duration cleanupInterval = Duration.ofMinutes(1);
+
+        /**
+         * 每批清理的记录数
+         */
+        private int cleanupBatchSize = 500;
+    }
+
+    /**
+     * 审计日志配置
+     */
+    @Getter
+    @Setter
+    public static class Audit {
+
+        /**
+         * 是否开启审计日志（需容器中存在JdbcTemplate或EcologyAuditSink的Bean）
+         */
+        private boolean enabled = false;
+
+        /**
+         * JDBC写入目标的表名
+         */
+        private String tableName = "ecology_audit_log";
+
+        /**
+         * JDBC写入目标是否在启动时建表（表已存在时不做修改）
+         */
+        private boolean initializeSchema = true;
+
+        /**
+         * 需要记录的请求头名称
+         */
+        private List<String> headers = new ArrayList<>();
+
+        /**
+         * 队列容量
+         */
+        private int queueCapacity = 8192;
+
+        /**
+         * 每批写入的记录数，队列中积累到该数量时立即写入
+         */
+        private int batchSize = 256;
+
+        /**
+         * 刷新间隔，未积累到批量大小的记录最迟在该间隔后写入
+         */
+        private Duration flushInterval = Duration.ofSeconds(1);
+
+        /**
+         * 队列已满时的处理策略
+         */
+        private AuditQueueFullPolicy queueFullPolicy = AuditQueueFullPolicy.DROP;
+
+        /**
+         * 阻塞策略下请求线程的最长等待时间，超过后丢弃
+         */
+        private Duration blockTimeout = Duration.ofMillis(100);
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.mimiknight.kuca.ecology.core;
+
+import com.github.mimiknight.kuca.ecology.handler.EcologyAsyncRequestHandler;
+import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 异步处理器调用
+ * <p>
+ * 作为过滤器链的末端被调用，调用异步处理器后立即返回，并记录其异步结果；
+ * 过滤器在异步处理器被调用前按顺序执行，过滤器未放行时直接以当前响应完成；
+ * 同时记录异步处理器自身返回的异步结果，供舱壁按处理器的实际完成时间释放许可
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 13:26:50
+ */
+final class AsyncHandlerInvocation<Q extends EcologyRequest, P extends EcologyResponse>
+        implements EcologyRequestHandler<Q, P> {
+
+    private final HandlerInterceptorExecutor interceptorExecutor;
+
+    private final DispatchPlan plan;
+
+    private final EcologyAsyncRequestHandler<Q, P> asyncHandler;
+
+    private CompletableFuture<P> result;
+
+    private CompletionStage<P> handlerStage;
+
+    AsyncHandlerInvocation(HandlerInterceptorExecutor interceptorExecutor,
+                           DispatchPlan plan,
+                           EcologyAsyncRequestHandler<Q, P> asyncHandler) {
+        this.interceptorExecutor = interceptorExecutor;
+        this.plan = plan;
+        this.asyncHandler = asyncHandler;
+    }
+
+    @Override
+    public void handle(Q request, P response) {
+        EcologyAsyncRequestHandler<Q, P> handler = (q, p) -> {
+            CompletionStage<P> stage = asyncHandler.handle(q, p);
+            this.handlerStage = stage;
+            return stage;
+        };
+        this.result = interceptorExecutor.executeAsync(plan.getInterceptors(), request, response, handler);
+    }
+
+    /**
+     * 获取异步处理器自身返回的异步结果
+     * <p>
+     * 不受截止时间影响，截止时间到达后处理器仍可能在执行
+     *
+     * @return {@link CompletionStage} 处理器未被调用（过滤器或拦截器未放行、处理器同步抛出异常）时返回null
+     */
+    CompletionStage<P> getHandlerStage() {
+        return handlerStage;
+    }
+
+    /**
+     * 获取异步结果
+     *
+     * @param response 接口出参
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<P> getResult(P response) {
+        if (null == result) {
+            return CompletableFuture.completedFuture(response);
+        }
+        return result;
+    }
+}
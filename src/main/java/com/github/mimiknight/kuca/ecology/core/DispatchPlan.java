@@ -0,0 +1,231 @@
+package com.github.mimiknight.kuca.ecology.core;
+
+import com.github.mimiknight.kuca.ecology.bulkhead.ConcurrencyLimiter;
+import com.github.mimiknight.kuca.ecology.cache.EcologyResponseCache;
+import com.github.mimiknight.kuca.ecology.deadline.DeadlinePolicy;
+import com.github.mimiknight.kuca.ecology.filter.EcologyHandlerFilter;
+import com.github.mimiknight.kuca.ecology.filter.EcologyReactiveHandlerFilter;
+import com.github.mimiknight.kuca.ecology.handler.EcologyAsyncRequestHandler;
+import com.github.mimiknight.kuca.ecology.handler.EcologyBatchRequestHandler;
+import com.github.mimiknight.kuca.ecology.handler.EcologyReactiveRequestHandler;
+import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
+import com.github.mimiknight.kuca.ecology.handler.EcologyResponseFactory;
+import com.github.mimiknight.kuca.ecology.idempotent.EcologyIdempotency;
+import com.github.mimiknight.kuca.ecology.interceptor.EcologyHandlerInterceptor;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+import com.github.mimiknight.kuca.ecology.ratelimit.EcologyRateLimiter;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 请求调度计划
+ * <p>
+ * 启动时按请求Class预先编排好的不可变调度信息，包含Handler、响应对象工厂、有序的过滤器与拦截器；
+ * 请求执行时只需一次查找即可获得完整的调度信息
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 09:20:18
+ */
+@Getter
+@SuppressWarnings({"rawtypes"})
+public final class DispatchPlan {
+
+    /**
+     * 请求Class
+     */
+    private final Class<EcologyRequest> requestClass;
+
+    /**
+     * 响应Class
+     */
+    private final Class<EcologyResponse> responseClass;
+
+    /**
+     * 业务处理器（绑定异步处理器时为null）
+     */
+    private final EcologyRequestHandler handler;
+
+    /**
+     * 业务处理器调用入口（处理器开启请求合并或过滤器后缓存时为其包装，否则与handler相同）
+     */
+    private final EcologyRequestHandler invoker;
+
+    /**
+     * 异步业务处理器（绑定同步处理器时为null，绑定响应式处理器时为其适配器）
+     */
+    private final EcologyAsyncRequestHandler asyncHandler;
+
+    /**
+     * 响应式业务处理器（未绑定响应式处理器时为null）
+     */
+    private final EcologyReactiveRequestHandler reactiveHandler;
+
+    /**
+     * 实际的业务处理器（包装前），运行时重新编排时据此判断处理器是否被替换
+     */
+    private final Object target;
+
+    /**
+     * 响应对象工厂
+     */
+    private final EcologyResponseFactory responseFactory;
+
+    /**
+     * 响应缓存（未开启缓存时为null）
+     */
+    private final EcologyResponseCache responseCache;
+
+    /**
+     * 幂等执行器（未标注幂等时为null）
+     */
+    private final EcologyIdempotency idempotency;
+
+    /**
+     * 限流器（未开启限流时为null）
+     */
+    private final EcologyRateLimiter rateLimiter;
+
+    /**
+     * 并发限制器（未开启舱壁时为null）
+     */
+    private final ConcurrencyLimiter limiter;
+
+    /**
+     * 截止时间策略（未设置执行时限且不读取请求头时为null）
+     */
+    private final DeadlinePolicy deadlinePolicy;
+
+    /**
+     * 有序的过滤器（请求间共享，只在包内读取，对外通过{@link #getFilterList()}只读访问）
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private final EcologyHandlerFilter[] filters;
+
+    /**
+     * 有序的响应式过滤器（请求间共享，只在包内读取，对外通过{@link #getReactiveFilterList()}只读访问）
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private final EcologyReactiveHandlerFilter[] reactiveFilters;
+
+    /**
+     * 有序的拦截器（不可变）
+     */
+    private final List<EcologyHandlerInterceptor<?, ?>> interceptors;
+
+    DispatchPlan(Class<EcologyRequest> requestClass,
+                 Class<EcologyResponse> responseClass,
+                 EcologyRequestHandler handler,
+                 EcologyRequestHandler invoker,
+                 EcologyAsyncRequestHandler asyncHandler,
+                 EcologyReactiveRequestHandler reactiveHandler,
+                 Object target,
+                 EcologyResponseFactory responseFactory,
+                 EcologyResponseCache responseCache,
+                 EcologyIdempotency idempotency,
+                 EcologyRateLimiter rateLimiter,
+                 ConcurrencyLimiter limiter,
+                 DeadlinePolicy deadlinePolicy,
+                 EcologyHandlerFilter[] filters,
+                 EcologyReactiveHandlerFilter[] reactiveFilters,
+                 List<EcologyHandlerInterceptor<?, ?>> interceptors) {
+        this.requestClass = requestClass;
+        this.responseClass = responseClass;
+        this.handler = handler;
+        this.invoker = invoker;
+        this.asyncHandler = asyncHandler;
+        this.reactiveHandler = reactiveHandler;
+        this.target = target;
+        this.responseFactory = responseFactory;
+        this.responseCache = responseCache;
+        this.idempotency = idempotency;
+        this.rateLimiter = rateLimiter;
+        this.limiter = limiter;
+        this.deadlinePolicy = deadlinePolicy;
+        this.filters = filters;
+        this.reactiveFilters = reactiveFilters;
+        this.interceptors = interceptors;
+    }
+
+    /**
+     * 是否绑定了异步处理器
+     *
+     * @return boolean
+     */
+    public boolean isAsync() {
+        return null != asyncHandler;
+    }
+
+    /**
+     * 批量执行时能否通过一次批量处理完成整组请求
+     * <p>
+     * 只有处理器实现了{@link EcologyBatchRequestHandler}且调度计划没有任何执行阶段时才能批量处理，
+     * 见{@link #getBatchBlockingStages()}；度量与JFR事件不影响批量处理，一次批量处理记录为一个样本。
+     * 否则每个请求仍按调度计划逐个完整执行，各阶段不会被跳过
+     *
+     * @return boolean
+     */
+    public boolean isBatchable() {
+        return handler instanceof EcologyBatchRequestHandler && getBatchBlockingStages().isEmpty();
+    }
+
+    /**
+     * 获取使批量处理器无法批量处理的执行阶段
+     * <p>
+     * 过滤器、限流、舱壁、截止时间、响应缓存、拦截器、幂等与请求合并均需逐个请求执行
+     *
+     * @return {@link List} 阶段名称，可以批量处理时为空集合
+     */
+    public List<String> getBatchBlockingStages() {
+        List<String> stages = new ArrayList<>(2);
+        if (filters.length > 0) {
+            stages.add("filter");
+        }
+        if (null != rateLimiter) {
+            stages.add("rate-limit");
+        }
+        if (null != limiter) {
+            stages.add("bulkhead");
+        }
+        if (null != deadlinePolicy) {
+            stages.add("deadline");
+        }
+        if (null != responseCache) {
+            stages.add("response-cache");
+        }
+        if (!interceptors.isEmpty()) {
+            stages.add("interceptor");
+        }
+        if (null != idempotency) {
+            stages.add("idempotency");
+        }
+        // 其余阶段之外仍被包装时只可能是请求合并
+        if (stages.isEmpty() && null != invoker && !(invoker instanceof EcologyBatchRequestHandler)) {
+            stages.add("coalescing");
+        }
+        return stages;
+    }
+
+    /**
+     * 获取有序的过滤器
+     *
+     * @return {@link List} 不可修改的视图
+     */
+    public List<EcologyHandlerFilter> getFilterList() {
+        return Collections.unmodifiableList(Arrays.asList(filters));
+    }
+
+    /**
+     * 获取有序的响应式过滤器
+     *
+     * @return {@link List} 不可修改的视图
+     */
+    public List<EcologyReactiveHandlerFilter> getReactiveFilterList() {
+        return Collections.unmodifiableList(Arrays.asList(reactiveFilters));
+    }
+}
@@ -0,0 +1,530 @@
+package com.github.mimiknight.kuca.ecology.core;
+
+import com.github.mimiknight.kuca.ecology.bulkhead.BulkheadBox;
+import com.github.mimiknight.kuca.ecology.bulkhead.ConcurrencyLimiter;
+import com.github.mimiknight.kuca.ecology.cache.CacheStage;
+import com.github.mimiknight.kuca.ecology.cache.EcologyResponseCache;
+import com.github.mimiknight.kuca.ecology.cache.ResponseCacheBox;
+import com.github.mimiknight.kuca.ecology.config.EcologyProperties;
+import com.github.mimiknight.kuca.ecology.deadline.DeadlineBox;
+import com.github.mimiknight.kuca.ecology.deadline.DeadlinePolicy;
+import com.github.mimiknight.kuca.ecology.filter.EcologyHandlerFilter;
+import com.github.mimiknight.kuca.ecology.filter.EcologyReactiveHandlerFilter;
+import com.github.mimiknight.kuca.ecology.filter.HandlerFilterBox;
+import com.github.mimiknight.kuca.ecology.handler.EcologyAsyncRequestHandler;
+import com.github.mimiknight.kuca.ecology.handler.EcologyBatchRequestHandler;
+import com.github.mimiknight.kuca.ecology.handler.EcologyCoalescingRequestHandler;
+import com.github.mimiknight.kuca.ecology.handler.EcologyReactiveRequestHandler;
+import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
+import com.github.mimiknight.kuca.ecology.handler.EcologyResponseFactory;
+import com.github.mimiknight.kuca.ecology.handler.HandlerBox;
+import com.github.mimiknight.kuca.ecology.handler.ResponseCopier;
+import com.github.mimiknight.kuca.ecology.idempotent.EcologyIdempotency;
+import com.github.mimiknight.kuca.ecology.idempotent.IdempotencyBox;
+import com.github.mimiknight.kuca.ecology.interceptor.EcologyHandlerInterceptor;
+import com.github.mimiknight.kuca.ecology.jfr.EcologyFlightRecorder;
+import com.github.mimiknight.kuca.ecology.interceptor.HandlerInterceptorBox;
+import com.github.mimiknight.kuca.ecology.metrics.EcologyMetrics;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+import com.github.mimiknight.kuca.ecology.ratelimit.EcologyRateLimiter;
+import com.github.mimiknight.kuca.ecology.ratelimit.RateLimiterBox;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.util.ClassUtils;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 装载请求调度计划的容器
+ * <p>
+ * 在HandlerBox、HandlerFilterBox、HandlerInterceptorBox初始化完成后，按请求Class一次性编排调度计划；
+ * 运行时通过{@link ClassValue}查找，查找结果缓存在Class对象上，避免每次请求重复计算哈希
+ * <p>
+ * 声明在父类或接口上的过滤器与拦截器在编排时并入每个具体请求Class的有序列表，
+ * 运行时不再沿类型层次查找；order相同时父类型上声明的组件在前，同一类型上保持注册顺序
+ * <p>
+ * 调度计划以不可变快照发布：运行时注册组件时复制快照、重新编排受影响的请求Class并整体替换，
+ * 每个快照持有自己的{@link ClassValue}；读取方不加锁，已开始执行的请求继续使用其获取到的调度计划
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 09:31:45
+ */
+@Slf4j
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class DispatchPlanBox {
+
+    @Autowired
+    private HandlerBox handlerBox;
+
+    @Autowired
+    private HandlerFilterBox handlerFilterBox;
+
+    @Autowired
+    private HandlerInterceptorBox handlerInterceptorBox;
+
+    @Autowired
+    private HandlerInterceptorExecutor interceptorExecutor;
+
+    @Autowired(required = false)
+    private ResponseCacheBox responseCacheBox;
+
+    @Autowired(required = false)
+    private EcologyMetrics ecologyMetrics;
+
+    @Autowired(required = false)
+    private RateLimiterBox rateLimiterBox;
+
+    @Autowired(required = false)
+    private BulkheadBox bulkheadBox;
+
+    @Autowired(required = false)
+    private EcologyFlightRecorder flightRecorder;
+
+    @Autowired(required = false)
+    private DeadlineBox deadlineBox;
+
+    @Autowired(required = false)
+    private IdempotencyBox idempotencyBox;
+
+    @Autowired
+    private ObjectProvider<EcologyProperties> propertiesProvider;
+
+    /**
+     * 空过滤器数组
+     */
+    private static final EcologyHandlerFilter[] EMPTY_FILTERS = new EcologyHandlerFilter[0];
+
+    /**
+     * 空响应式过滤器数组
+     */
+    private static final EcologyReactiveHandlerFilter[] EMPTY_REACTIVE_FILTERS = new EcologyReactiveHandlerFilter[0];
+
+    /**
+     * 当前调度计划快照
+     */
+    private volatile PlanSnapshot snapshot;
+
+    public DispatchPlanBox() {
+        this.snapshot = new PlanSnapshot(0L, Collections.emptyMap());
+    }
+
+    /**
+     * 初始化方法
+     */
+    @PostConstruct
+    public void init() {
+        initPlanMap();
+    }
+
+    /**
+     * 初始化调度计划Map
+     */
+    private void initPlanMap() {
+        Map<Class<EcologyRequest>, EcologyRequestHandler> handlerMap = handlerBox.getRequestHandlerMap();
+        Map<Class<EcologyRequest>, EcologyAsyncRequestHandler> asyncHandlerMap = handlerBox.getRequestAsyncHandlerMap();
+        Map<Class<EcologyRequest>, EcologyReactiveRequestHandler> reactiveHandlerMap =
+                handlerBox.getRequestReactiveHandlerMap();
+        Map<Class<?>, DispatchPlan> map = new HashMap<>(
+                (handlerMap.size() + asyncHandlerMap.size() + reactiveHandlerMap.size()) * 2);
+        for (Map.Entry<Class<EcologyRequest>, EcologyRequestHandler> entry : handlerMap.entrySet()) {
+            Class<EcologyRequest> requestClass = entry.getKey();
+            map.put(requestClass, buildPlan(requestClass, entry.getValue(), null, null, null));
+        }
+        for (Map.Entry<Class<EcologyRequest>, EcologyAsyncRequestHandler> entry : asyncHandlerMap.entrySet()) {
+            Class<EcologyRequest> requestClass = entry.getKey();
+            map.put(requestClass, buildPlan(requestClass, null, entry.getValue(), null, null));
+        }
+        for (Map.Entry<Class<EcologyRequest>, EcologyReactiveRequestHandler> entry : reactiveHandlerMap.entrySet()) {
+            Class<EcologyRequest> requestClass = entry.getKey();
+            EcologyReactiveRequestHandler reactiveHandler = entry.getValue();
+            map.put(requestClass,
+                    buildPlan(requestClass, null, new ReactiveHandlerAdapter(reactiveHandler), reactiveHandler, null));
+        }
+        this.snapshot = new PlanSnapshot(snapshot.version + 1, Collections.unmodifiableMap(map));
+        log.debug("The dispatch plans are built,size = {}", map.size());
+    }
+
+    /**
+     * 重新编排调度计划并发布新的快照
+     * <p>
+     * 只重新编排给定的请求Class及已编排的子类型请求Class（父类型上的过滤器与拦截器同样作用于子类型），
+     * 其余调度计划原样复用；处理器未被替换时复用原有的响应缓存、限流器、
+     * 并发限制器与截止时间策略，保留其运行状态；写入方串行执行
+     *
+     * @param requestClasses 受影响的请求Class
+     */
+    synchronized void rebuild(Collection<Class<EcologyRequest>> requestClasses) {
+        if (CollectionUtils.isEmpty(requestClasses)) {
+            return;
+        }
+        PlanSnapshot current = this.snapshot;
+        Set<Class<EcologyRequest>> affected = new LinkedHashSet<>(requestClasses);
+        for (Class<?> planned : current.planMap.keySet()) {
+            for (Class<EcologyRequest> requestClass : requestClasses) {
+                if (requestClass.isAssignableFrom(planned)) {
+                    affected.add((Class<EcologyRequest>) planned);
+                    break;
+                }
+            }
+        }
+        Map<Class<?>, DispatchPlan> map = new HashMap<>(current.planMap);
+        for (Class<EcologyRequest> requestClass : affected) {
+            DispatchPlan plan = buildPlan(requestClass, current.planMap.get(requestClass));
+            if (null == plan) {
+                map.remove(requestClass);
+            } else {
+                map.put(requestClass, plan);
+            }
+        }
+        this.snapshot = new PlanSnapshot(current.version + 1, Collections.unmodifiableMap(map));
+        log.debug("The dispatch plans are rebuilt,requests = {},version = {}", affected.size(), snapshot.version);
+    }
+
+    /**
+     * 按HandlerBox中当前绑定的处理器构建调度计划
+     *
+     * @param requestClass 请求Class
+     * @param previous     原调度计划，不存在时为null
+     * @return {@link DispatchPlan} 请求未绑定处理器时返回null
+     */
+    private DispatchPlan buildPlan(Class<EcologyRequest> requestClass, DispatchPlan previous) {
+        EcologyRequestHandler handler = handlerBox.getRequestHandlerMap().get(requestClass);
+        if (null != handler) {
+            return buildPlan(requestClass, handler, null, null, previous);
+        }
+        EcologyAsyncRequestHandler asyncHandler = handlerBox.getRequestAsyncHandlerMap().get(requestClass);
+        if (null != asyncHandler) {
+            return buildPlan(requestClass, null, asyncHandler, null, previous);
+        }
+        EcologyReactiveRequestHandler reactiveHandler = handlerBox.getRequestReactiveHandlerMap().get(requestClass);
+        if (null != reactiveHandler) {
+            return buildPlan(requestClass, null, new ReactiveHandlerAdapter(reactiveHandler), reactiveHandler,
+                    previous);
+        }
+        return null;
+    }
+
+    /**
+     * 构建调度计划
+     *
+     * @param requestClass    请求Class
+     * @param handler         业务处理器
+     * @param asyncHandler    异步业务处理器
+     * @param reactiveHandler 响应式业务处理器
+     * @param previous        原调度计划，不存在时为null
+     * @return {@link DispatchPlan}
+     */
+    private DispatchPlan buildPlan(Class<EcologyRequest> requestClass,
+                                   EcologyRequestHandler handler,
+                                   EcologyAsyncRequestHandler asyncHandler,
+                                   EcologyReactiveRequestHandler reactiveHandler,
+                                   DispatchPlan previous) {
+        Class<EcologyResponse> responseClass = handlerBox.getRequestResponseMap().get(requestClass);
+        EcologyResponseFactory responseFactory = handlerBox.getResponseFactoryMap().get(responseClass);
+        List<Class<EcologyRequest>> hierarchy = requestHierarchy(requestClass);
+        List<EcologyHandlerFilter> filters = merge(hierarchy, handlerFilterBox::getHandlerFilterByKey);
+        List<EcologyReactiveHandlerFilter> reactiveFilters =
+                merge(hierarchy, handlerFilterBox::getReactiveHandlerFilterByKey);
+        List<EcologyHandlerInterceptor<?, ?>> interceptors =
+                merge(hierarchy, handlerInterceptorBox.getHandlerInterceptorMap()::get);
+        // 异步处理器包装前的实际处理器
+        Object asyncTarget = null == reactiveHandler ? asyncHandler : reactiveHandler;
+        Object target = null == handler ? asyncTarget : handler;
+        // 处理器未被替换时复用原有的有状态组件
+        boolean reuse = null != previous && previous.getTarget() == target
+                && previous.getResponseFactory() == responseFactory;
+        // 响应体持有资源（堆外缓冲、推送流、流式输出）时不能复制共享，不使用响应缓存与请求合并
+        boolean copyable = ResponseCopier.isCopyable(responseClass);
+        // 响应缓存只用于同步处理器
+        EcologyResponseCache responseCache = null;
+        if (reuse) {
+            responseCache = previous.getResponseCache();
+        } else if (null != handler && null != responseCacheBox) {
+            responseCache = responseCacheBox.create(requestClass, handler, responseFactory);
+            if (null != responseCache && !copyable) {
+                log.warn("The response owns a resource and cannot be cached,request = {},response = {}",
+                        requestClass.getName(), responseClass.getName());
+                responseCache = null;
+            }
+        }
+        // 幂等同样只用于同步处理器，异步与响应式处理器标注时启动失败
+        EcologyIdempotency idempotency = null;
+        if (reuse) {
+            idempotency = previous.getIdempotency();
+        } else if (null != idempotencyBox && null != handler) {
+            idempotency = idempotencyBox.create(requestClass, handler, responseFactory);
+        } else if (null != idempotencyBox && idempotencyBox.isAnnotated(requestClass, target)) {
+            throw new IllegalStateException("The idempotent request is only supported by synchronous handlers,request = "
+                    + requestClass.getName() + ",handler = " + AopUtils.getTargetClass(target).getName());
+        }
+        EcologyHandlerFilter[] filterArray = CollectionUtils.isEmpty(filters)
+                ? EMPTY_FILTERS
+                : filters.toArray(EMPTY_FILTERS);
+        interceptors = immutableCopy(interceptors);
+        EcologyRateLimiter rateLimiter;
+        ConcurrencyLimiter limiter;
+        DeadlinePolicy deadlinePolicy;
+        if (reuse) {
+            rateLimiter = previous.getRateLimiter();
+            limiter = previous.getLimiter();
+            deadlinePolicy = previous.getDeadlinePolicy();
+        } else {
+            rateLimiter = null == rateLimiterBox ? null : rateLimiterBox.create(requestClass, target);
+            limiter = null == bulkheadBox ? null : bulkheadBox.create(requestClass, target);
+            deadlinePolicy = null == deadlineBox ? null : deadlineBox.create(requestClass, target);
+        }
+        // 开启度量时包装处理器、过滤器与拦截器
+        boolean metricsEnabled = null != ecologyMetrics && ecologyMetrics.isEnabled();
+        if (metricsEnabled) {
+            if (null != asyncHandler) {
+                asyncHandler = ecologyMetrics.decorate(requestClass, asyncHandler, asyncTarget);
+            }
+            if (filterArray.length > 0) {
+                filterArray = ecologyMetrics.decorate(requestClass, filterArray);
+            }
+            if (!interceptors.isEmpty()) {
+                interceptors = Collections.unmodifiableList(ecologyMetrics.decorate(requestClass, interceptors));
+            }
+        }
+        // 开启JFR事件时包装处理器、过滤器与拦截器
+        boolean jfrEnabled = null != flightRecorder && flightRecorder.isEnabled();
+        if (jfrEnabled) {
+            if (null != asyncHandler) {
+                asyncHandler = flightRecorder.decorate(requestClass, asyncHandler, asyncTarget);
+            }
+            if (filterArray.length > 0) {
+                filterArray = flightRecorder.decorate(requestClass, filterArray);
+            }
+            if (!interceptors.isEmpty()) {
+                interceptors = Collections.unmodifiableList(flightRecorder.decorate(requestClass, interceptors));
+            }
+        }
+        DispatchPlan plan = new DispatchPlan(requestClass,
+                responseClass,
+                handler,
+                buildInvoker(requestClass, handler, responseFactory, copyable, responseCache, idempotency,
+                        interceptors, metricsEnabled, jfrEnabled),
+                asyncHandler,
+                reactiveHandler,
+                target,
+                responseFactory,
+                responseCache,
+                idempotency,
+                rateLimiter,
+                limiter,
+                deadlinePolicy,
+                filterArray,
+                reactiveFilters.isEmpty() ? EMPTY_REACTIVE_FILTERS : reactiveFilters.toArray(EMPTY_REACTIVE_FILTERS),
+                interceptors);
+        if (handler instanceof EcologyBatchRequestHandler && !plan.isBatchable()) {
+            log.warn("The batch handler is executed one request at a time,request = {},stages = {}",
+                    requestClass.getName(), plan.getBatchBlockingStages());
+        }
+        return plan;
+    }
+
+    /**
+     * 构建业务处理器调用入口
+     * <p>
+     * 由内到外依次为：业务处理器 - 度量 - JFR事件 - 请求合并 - 过滤器后缓存 - 幂等 - 拦截器；
+     * 拦截器位于最外层，命中缓存与重放的幂等请求同样经过鉴权等拦截器，
+     * 前置拦截未放行或异常被后置异常拦截处理的请求不会写入缓存或记录为幂等结果；
+     * 没有拦截器时不包装，过滤器链末端直接调用处理器
+     *
+     * @param requestClass    请求Class
+     * @param handler         业务处理器
+     * @param responseFactory 响应对象工厂
+     * @param copyable        响应是否可复制共享，不可复制时不合并请求
+     * @param responseCache   响应缓存
+     * @param idempotency     幂等执行器
+     * @param interceptors    有序的拦截器
+     * @param metricsEnabled  是否开启度量
+     * @param jfrEnabled      是否开启JFR事件
+     * @return {@link EcologyRequestHandler}
+     */
+    private EcologyRequestHandler buildInvoker(Class<EcologyRequest> requestClass,
+                                               EcologyRequestHandler handler,
+                                               EcologyResponseFactory responseFactory,
+                                               boolean copyable,
+                                               EcologyResponseCache responseCache,
+                                               EcologyIdempotency idempotency,
+                                               List<EcologyHandlerInterceptor<?, ?>> interceptors,
+                                               boolean metricsEnabled,
+                                               boolean jfrEnabled) {
+        if (null == handler) {
+            return null;
+        }
+        EcologyRequestHandler invoker = handler;
+        if (metricsEnabled) {
+            invoker = ecologyMetrics.decorate(requestClass, invoker);
+        }
+        if (jfrEnabled) {
+            invoker = flightRecorder.decorate(requestClass, invoker);
+        }
+        if (handler instanceof EcologyCoalescingRequestHandler && !copyable) {
+            log.warn("The response owns a resource and cannot be shared,request coalescing is disabled,request = {}",
+                    requestClass.getName());
+        } else if (handler instanceof EcologyCoalescingRequestHandler) {
+            long waitTimeout = propertiesProvider.getIfAvailable(EcologyProperties::new)
+                    .getCoalescing().getWaitTimeout().toNanos();
+            invoker = new HandlerCoalescer((EcologyCoalescingRequestHandler) handler, invoker, responseFactory,
+                    waitTimeout);
+        }
+        if (null != responseCache && CacheStage.AFTER_FILTERS == responseCache.getStage()) {
+            invoker = new ResponseCacheHandler(responseCache, invoker);
+        }
+        if (null != idempotency) {
+            invoker = new IdempotentRequestHandler(idempotency, invoker);
+        }
+        if (!interceptors.isEmpty()) {
+            invoker = new InterceptedRequestHandler(interceptorExecutor, interceptors, invoker);
+        }
+        return invoker;
+    }
+
+    /**
+     * 请求Class的类型层次
+     * <p>
+     * 只包含EcologyRequest的子类型：先是接口，再按父类由远及近，最后是请求Class本身
+     *
+     * @param requestClass 请求Class
+     * @return {@link List}
+     */
+    private static List<Class<EcologyRequest>> requestHierarchy(Class<EcologyRequest> requestClass) {
+        LinkedList<Class<EcologyRequest>> hierarchy = new LinkedList<>();
+        for (Class<?> type = requestClass;
+             null != type && EcologyRequest.class.isAssignableFrom(type);
+             type = type.getSuperclass()) {
+            hierarchy.addFirst((Class<EcologyRequest>) type);
+        }
+        // getAllInterfacesForClassAsSet由近及远，逆序插入表头后接口同样由远及近
+        for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(requestClass)) {
+            if (EcologyRequest.class.isAssignableFrom(type)) {
+                hierarchy.addFirst((Class<EcologyRequest>) type);
+            }
+        }
+        return hierarchy;
+    }
+
+    /**
+     * 合并类型层次上声明的组件，按order稳定排序
+     *
+     * @param hierarchy 请求Class的类型层次
+     * @param declared  按类型查找声明的组件，不存在时可返回null
+     * @param <T>       组件泛型
+     * @return {@link List} 不存在时返回空集合
+     */
+    private static <T extends Ordered> List<T> merge(List<Class<EcologyRequest>> hierarchy,
+                                                     Function<Class<EcologyRequest>, List<T>> declared) {
+        List<T> merged = null;
+        for (Class<EcologyRequest> type : hierarchy) {
+            List<T> list = declared.apply(type);
+            if (CollectionUtils.isEmpty(list)) {
+                continue;
+            }
+            if (null == merged) {
+                merged = new ArrayList<>(list);
+            } else {
+                merged.addAll(list);
+            }
+        }
+        if (null == merged) {
+            return Collections.emptyList();
+        }
+        // 各类型上的列表已经有序，合并后稳定排序
+        merged.sort(Comparator.comparingInt(Ordered::getOrder));
+        return merged;
+    }
+
+    /**
+     * 复制为不可变集合
+     *
+     * @param list 原集合
+     * @param <T>  元素泛型
+     * @return {@link List}
+     */
+    private static <T> List<T> immutableCopy(List<T> list) {
+        if (CollectionUtils.isEmpty(list)) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(new ArrayList<>(list));
+    }
+
+    /**
+     * 获取调度计划
+     *
+     * @param requestClass 请求Class
+     * @return {@link DispatchPlan} 不存在时返回null
+     */
+    public DispatchPlan getPlan(Class<?> requestClass) {
+        return snapshot.lookup.get(requestClass);
+    }
+
+    /**
+     * 获取调度计划Map
+     *
+     * @return {@link Map} 当前快照，不可修改
+     */
+    public Map<Class<?>, DispatchPlan> getPlanMap() {
+        return snapshot.planMap;
+    }
+
+    /**
+     * 获取当前快照版本，每次发布新快照时加1
+     *
+     * @return long
+     */
+    public long getVersion() {
+        return snapshot.version;
+    }
+
+    /**
+     * 调度计划快照
+     * <p>
+     * 不可变；查找器与快照一一对应，替换快照后旧查找器缓存在Class对象上的结果随旧快照一起被回收
+     */
+    private static final class PlanSnapshot {
+
+        /**
+         * 快照版本
+         */
+        private final long version;
+
+        /**
+         * Request与调度计划映射Map
+         */
+        private final Map<Class<?>, DispatchPlan> planMap;
+
+        /**
+         * 调度计划查找器
+         */
+        private final ClassValue<DispatchPlan> lookup;
+
+        PlanSnapshot(long version, Map<Class<?>, DispatchPlan> planMap) {
+            this.version = version;
+            this.planMap = planMap;
+            this.lookup = new ClassValue<DispatchPlan>() {
+                @Override
+                protected DispatchPlan computeValue(Class<?> type) {
+                    return planMap.get(type);
+                }
+            };
+        }
+    }
+}
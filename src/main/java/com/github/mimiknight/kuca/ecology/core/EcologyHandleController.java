@@ -8,6 +8,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.util.Assert;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 适配handler方法的抽象类
  *
@@ -39,6 +41,11 @@ public abstract class EcologyHandleController {
         Assert.notNull(request, "The request argument is required; it must not be null");
         Assert.notNull(handlerClass, "The handlerClass argument is required; it must not be null");
 
+        // 调度计划中已绑定的handler与目标handler一致时，直接按调度计划执行，无需再从容器中获取Bean
+        DispatchPlan plan = handlerExecutor.getPlan(request.getClass());
+        if (null != plan && handlerClass.isInstance(plan.getHandler())) {
+            return handlerExecutor.execute(request);
+        }
         H handler = appContext.getBean(handlerClass);
         return handlerExecutor.execute(request, handler);
     }
@@ -57,4 +64,21 @@ public abstract class EcologyHandleController {
         return handlerExecutor.execute(request);
     }
 
+    /**
+     * 异步处理方法
+     * <p>
+     * 返回的CompletableFuture交由Spring MVC异步处理，处理完成前不占用容器线程
+     *
+     * @param <Q>     接口入参泛型
+     * @param <P>     接口出参泛型
+     * @param request 接口入参
+     * @return {@link CompletableFuture} 响应参数
+     * @throws Exception 异常
+     */
+    public <Q extends EcologyRequest, P extends EcologyResponse> CompletableFuture<P> handleAsync(Q request)
+            throws Exception {
+        Assert.notNull(request, "The request argument is required; it must not be null");
+        return handlerExecutor.executeAsync(request);
+    }
+
 }
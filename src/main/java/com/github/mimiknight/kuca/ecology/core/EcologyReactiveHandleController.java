@@ -0,0 +1,33 @@
+package com.github.mimiknight.kuca.ecology.core;
+
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Mono;
+
+/**
+ * 适配响应式handler方法的抽象类
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 14:58:10
+ */
+public abstract class EcologyReactiveHandleController {
+
+    @Autowired
+    private ReactiveHandlerExecutor reactiveHandlerExecutor;
+
+    /**
+     * 处理方法
+     *
+     * @param <Q>     接口入参泛型
+     * @param <P>     接口出参泛型
+     * @param request 接口入参
+     * @return {@link Mono} 响应参数
+     */
+    public <Q extends EcologyRequest, P extends EcologyResponse> Mono<P> handle(Q request) {
+        Assert.notNull(request, "The request argument is required; it must not be null");
+        return reactiveHandlerExecutor.execute(request);
+    }
+
+}
@@ -0,0 +1,188 @@
+package com.github.mimiknight.kuca.ecology.core;
+
+import com.github.mimiknight.kuca.ecology.filter.EcologyHandlerFilter;
+import com.github.mimiknight.kuca.ecology.filter.EcologyReactiveHandlerFilter;
+import com.github.mimiknight.kuca.ecology.filter.HandlerFilterBox;
+import com.github.mimiknight.kuca.ecology.handler.HandlerBox;
+import com.github.mimiknight.kuca.ecology.interceptor.EcologyHandlerInterceptor;
+import com.github.mimiknight.kuca.ecology.interceptor.HandlerInterceptorBox;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 运行时组件注册入口
+ * <p>
+ * 不重启应用即可添加或替换Handler、过滤器与拦截器：更新对应的Box后只重新编排受影响的请求Class，
+ * 以新的调度计划快照整体替换旧快照；请求执行路径不加锁，已开始执行的请求继续使用其获取到的调度计划。
+ * 写入方串行执行，每次调用只发布一次快照
+ * <p>
+ * 移除的过滤器不回调destroy方法，由调用方在使用它的请求排空后自行销毁
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 09:26:53
+ */
+@SuppressWarnings({"rawtypes"})
+public class EcologyRegistry {
+
+    @Autowired
+    private HandlerBox handlerBox;
+
+    @Autowired
+    private HandlerFilterBox handlerFilterBox;
+
+    @Autowired
+    private HandlerInterceptorBox handlerInterceptorBox;
+
+    @Autowired
+    private DispatchPlanBox planBox;
+
+    /**
+     * 注册或替换Handler
+     * <p>
+     * 请求已绑定其它Handler时替换原有绑定；同一个Handler未变化时保留原有的缓存、限流等运行状态
+     *
+     * @param handler 同步、异步或响应式Handler
+     * @return {@link List} 绑定的请求Class
+     * @throws NoSuchMethodException 响应类不存在无参构造器
+     */
+    public synchronized List<Class<EcologyRequest>> registerHandler(Object handler) throws NoSuchMethodException {
+        List<Class<EcologyRequest>> requestClasses = handlerBox.register(handler);
+        planBox.rebuild(requestClasses);
+        return requestClasses;
+    }
+
+    /**
+     * 添加过滤器
+     *
+     * @param filter 过滤器
+     */
+    public synchronized void registerFilter(EcologyHandlerFilter filter) {
+        publish(handlerFilterBox.addFilter(filter));
+    }
+
+    /**
+     * 替换过滤器
+     * <p>
+     * 移除与添加在同一个快照中生效，请求不会观察到两者都不存在或同时存在的中间状态
+     *
+     * @param oldFilter 原过滤器（与注册时为同一对象）
+     * @param newFilter 新过滤器
+     * @return boolean 原过滤器未注册时返回false，此时仍会添加新过滤器
+     */
+    public synchronized boolean replaceFilter(EcologyHandlerFilter oldFilter, EcologyHandlerFilter newFilter) {
+        Assert.notNull(newFilter, "The newFilter argument is required; it must not be null");
+        Class<EcologyRequest> added = handlerFilterBox.addFilter(newFilter);
+        Class<EcologyRequest> removed = handlerFilterBox.removeFilter(oldFilter);
+        publishAll(added, removed);
+        return null != removed;
+    }
+
+    /**
+     * 移除过滤器
+     *
+     * @param filter 过滤器（与注册时为同一对象）
+     * @return boolean 未注册时返回false
+     */
+    public synchronized boolean unregisterFilter(EcologyHandlerFilter filter) {
+        return publish(handlerFilterBox.removeFilter(filter));
+    }
+
+    /**
+     * 添加响应式过滤器
+     *
+     * @param filter 响应式过滤器
+     */
+    public synchronized void registerReactiveFilter(EcologyReactiveHandlerFilter filter) {
+        publish(handlerFilterBox.addReactiveFilter(filter));
+    }
+
+    /**
+     * 移除响应式过滤器
+     *
+     * @param filter 响应式过滤器（与注册时为同一对象）
+     * @return boolean 未注册时返回false
+     */
+    public synchronized boolean unregisterReactiveFilter(EcologyReactiveHandlerFilter filter) {
+        return publish(handlerFilterBox.removeReactiveFilter(filter));
+    }
+
+    /**
+     * 添加拦截器
+     *
+     * @param interceptor 拦截器
+     */
+    public synchronized void registerInterceptor(EcologyHandlerInterceptor<?, ?> interceptor) {
+        publish(handlerInterceptorBox.addInterceptor(interceptor));
+    }
+
+    /**
+     * 替换拦截器
+     *
+     * @param oldInterceptor 原拦截器（与注册时为同一对象）
+     * @param newInterceptor 新拦截器
+     * @return boolean 原拦截器未注册时返回false，此时仍会添加新拦截器
+     */
+    public synchronized boolean replaceInterceptor(EcologyHandlerInterceptor<?, ?> oldInterceptor,
+                                                   EcologyHandlerInterceptor<?, ?> newInterceptor) {
+        Assert.notNull(newInterceptor, "The newInterceptor argument is required; it must not be null");
+        Class<EcologyRequest> added = handlerInterceptorBox.addInterceptor(newInterceptor);
+        Class<EcologyRequest> removed = handlerInterceptorBox.removeInterceptor(oldInterceptor);
+        publishAll(added, removed);
+        return null != removed;
+    }
+
+    /**
+     * 移除拦截器
+     *
+     * @param interceptor 拦截器（与注册时为同一对象）
+     * @return boolean 未注册时返回false
+     */
+    public synchronized boolean unregisterInterceptor(EcologyHandlerInterceptor<?, ?> interceptor) {
+        return publish(handlerInterceptorBox.removeInterceptor(interceptor));
+    }
+
+    /**
+     * 获取当前调度计划快照版本
+     *
+     * @return long
+     */
+    public long getVersion() {
+        return planBox.getVersion();
+    }
+
+    /**
+     * 重新编排请求的调度计划并发布新快照
+     *
+     * @param requestClass 受影响的请求Class，为null时不发布
+     * @return boolean 是否发布
+     */
+    private boolean publish(Class<EcologyRequest> requestClass) {
+        if (null == requestClass) {
+            return false;
+        }
+        planBox.rebuild(Collections.singletonList(requestClass));
+        return true;
+    }
+
+    /**
+     * 重新编排多个请求的调度计划并发布一个新快照
+     *
+     * @param requestClasses 受影响的请求Class，忽略null
+     */
+    @SafeVarargs
+    private final void publishAll(Class<EcologyRequest>... requestClasses) {
+        Set<Class<EcologyRequest>> set = new LinkedHashSet<>(requestClasses.length);
+        for (Class<EcologyRequest> requestClass : requestClasses) {
+            if (null != requestClass) {
+                set.add(requestClass);
+            }
+        }
+        planBox.rebuild(set);
+    }
+}
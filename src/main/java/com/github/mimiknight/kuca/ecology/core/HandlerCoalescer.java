@@ -0,0 +1,114 @@
+package com.github.mimiknight.kuca.ecology.core;
+
+import com.github.mimiknight.kuca.ecology.deadline.Deadline;
+import com.github.mimiknight.kuca.ecology.deadline.DeadlineContext;
+import com.github.mimiknight.kuca.ecology.handler.EcologyCoalescingRequestHandler;
+import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
+import com.github.mimiknight.kuca.ecology.handler.EcologyResponseFactory;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 处理器请求合并器
+ * <p>
+ * 合并键相同的并发请求中，第一个到达的请求执行处理器，结果写入独立的响应对象；
+ * 执行期间到达的请求等待同一结果，所有请求（包括执行者）各自复制一份响应，共享的响应对象不会被修改；
+ * 执行完成后立即移除合并键，之后到达的请求重新执行
+ * <p>
+ * 等待时间不超过当前请求的截止时间与配置的最长等待时间中较早的一个：
+ * 先到达截止时间时抛出{@link com.github.mimiknight.kuca.ecology.exception.DeadlineExceededException}，
+ * 否则抛出{@link TimeoutException}；等待超时不影响执行中的请求
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 16:20:05
+ */
+final class HandlerCoalescer<Q extends EcologyRequest, P extends EcologyResponse>
+        implements EcologyRequestHandler<Q, P> {
+
+    private final EcologyCoalescingRequestHandler<Q, P> handler;
+
+    /**
+     * 实际执行的处理器（处理器本身或其包装）
+     */
+    private final EcologyRequestHandler<Q, P> delegate;
+
+    private final EcologyResponseFactory<P> responseFactory;
+
+    /**
+     * 最长等待时间（纳秒）
+     */
+    private final long waitTimeoutNanos;
+
+    /**
+     * 执行中的请求
+     */
+    private final ConcurrentMap<Object, CompletableFuture<P>> inflight;
+
+    HandlerCoalescer(EcologyCoalescingRequestHandler<Q, P> handler,
+                     EcologyRequestHandler<Q, P> delegate,
+                     EcologyResponseFactory<P> responseFactory,
+                     long waitTimeoutNanos) {
+        this.handler = handler;
+        this.delegate = delegate;
+        this.responseFactory = responseFactory;
+        this.waitTimeoutNanos = waitTimeoutNanos;
+        this.inflight = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void handle(Q request, P response) throws Exception {
+        Object key = handler.coalescingKey(request);
+        if (null == key) {
+            delegate.handle(request, response);
+            return;
+        }
+        CompletableFuture<P> call = new CompletableFuture<>();
+        CompletableFuture<P> existing = inflight.putIfAbsent(key, call);
+        if (null != existing) {
+            // 等待执行中的请求
+            handler.copyResponse(awaitShared(existing), response);
+            return;
+        }
+        try {
+            P shared = responseFactory.newInstance();
+            delegate.handle(request, shared);
+            call.complete(shared);
+            handler.copyResponse(shared, response);
+        } catch (Throwable ex) {
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inflight.remove(key, call);
+        }
+    }
+
+    /**
+     * 等待执行中的请求完成
+     *
+     * @param existing 执行中的请求
+     * @return {@link P} 共享的响应
+     * @throws Exception 执行中的请求抛出的异常或等待超时
+     */
+    private P awaitShared(CompletableFuture<P> existing) throws Exception {
+        Deadline deadline = DeadlineContext.current();
+        long timeout = waitTimeoutNanos;
+        if (null != deadline) {
+            timeout = Math.min(timeout, deadline.remainingNanos());
+        }
+        try {
+            return HandlerExecutor.await(existing, Math.max(timeout, 0L), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            if (null != deadline) {
+                deadline.check();
+            }
+            throw new TimeoutException("The coalesced request is not completed within "
+                    + TimeUnit.NANOSECONDS.toMillis(waitTimeoutNanos) + " ms");
+        }
+    }
+}
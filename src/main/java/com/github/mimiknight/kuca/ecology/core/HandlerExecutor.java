@@ -1,13 +1,41 @@
 package com.github.mimiknight.kuca.ecology.core;
 
+import com.github.mimiknight.kuca.ecology.audit.EcologyAuditLog;
+import com.github.mimiknight.kuca.ecology.bulkhead.ConcurrencyLimiter;
+import com.github.mimiknight.kuca.ecology.cache.CacheStage;
+import com.github.mimiknight.kuca.ecology.cache.EcologyResponseCache;
+import com.github.mimiknight.kuca.ecology.config.EcologyAutoConfiguration;
+import com.github.mimiknight.kuca.ecology.deadline.Deadline;
+import com.github.mimiknight.kuca.ecology.deadline.DeadlineContext;
+import com.github.mimiknight.kuca.ecology.deadline.DeadlinePolicy;
+import com.github.mimiknight.kuca.ecology.exception.BulkheadFullException;
 import com.github.mimiknight.kuca.ecology.exception.HandlerNotFoundException;
+import com.github.mimiknight.kuca.ecology.handler.EcologyAsyncRequestHandler;
+import com.github.mimiknight.kuca.ecology.handler.EcologyBatchRequestHandler;
 import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
-import com.github.mimiknight.kuca.ecology.handler.HandlerBox;
+import com.github.mimiknight.kuca.ecology.jfr.DispatchFailureRecorder;
 import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
 import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+import com.github.mimiknight.kuca.ecology.ratelimit.EcologyRateLimiter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Handler执行器类
@@ -20,7 +48,7 @@ import org.springframework.stereotype.Component;
 public class HandlerExecutor {
 
     @Autowired
-    private HandlerBox handlerBox;
+    private DispatchPlanBox planBox;
 
     @Autowired
     private HandlerInterceptorExecutor interceptorExecutor;
@@ -28,8 +56,17 @@ public class HandlerExecutor {
     @Autowired
     private HandlerFilterExecutor filterExecutor;
 
+    @Autowired(required = false)
+    @Qualifier(EcologyAutoConfiguration.BATCH_EXECUTOR_BEAN_NAME)
+    private Executor batchExecutor;
+
+    @Autowired(required = false)
+    private EcologyAuditLog auditLog;
+
     /**
      * 执行方法
+     * <p>
+     * 请求绑定的是异步处理器时，阻塞等待异步处理完成
      *
      * @param <Q>     请求参数泛型
      * @param <P>     响应参数泛型
@@ -42,14 +79,471 @@ public class HandlerExecutor {
     public <Q extends EcologyRequest,
             P extends EcologyResponse,
             H extends EcologyRequestHandler<Q, P>> P execute(Q request) throws Exception {
-        // 通过请求参数Class获取handler
-        H handler = (H) handlerBox.getRequestHandlerMap().get(request.getClass());
-        if (null == handler) {
+        // 通过请求参数Class获取调度计划
+        DispatchPlan plan = getRequiredPlan(request);
+        if (plan.isAsync()) {
+            return await(executeAsync(plan, request));
+        }
+        return execute(plan, request, (H) plan.getInvoker());
+    }
+
+    /**
+     * 异步执行方法
+     * <p>
+     * 请求绑定的是同步处理器时，在当前线程执行完成后返回已完成的结果
+     *
+     * @param <Q>     请求参数泛型
+     * @param <P>     响应参数泛型
+     * @param request 请求参数对象
+     * @return {@link CompletableFuture} 响应
+     * @throws Exception 异常
+     */
+    @SuppressWarnings({"unchecked"})
+    public <Q extends EcologyRequest,
+            P extends EcologyResponse> CompletableFuture<P> executeAsync(Q request) throws Exception {
+        DispatchPlan plan = getRequiredPlan(request);
+        if (plan.isAsync()) {
+            return executeAsync(plan, request);
+        }
+        P response = execute(plan, request, (EcologyRequestHandler<Q, P>) plan.getInvoker());
+        return CompletableFuture.completedFuture(response);
+    }
+
+    /**
+     * 批量执行方法
+     * <p>
+     * 请求按Class分组，不同分组在批量执行线程池中并行执行，同一分组内按顺序执行；
+     * 分组绑定的处理器实现了{@link EcologyBatchRequestHandler}且调度计划没有任何执行阶段时
+     * （见{@link DispatchPlan#isBatchable()}），整组请求通过一次批量处理完成，
+     * 否则每个请求按调度计划逐个完整执行（限流、舱壁、截止时间、过滤器、缓存、幂等、拦截器等均不跳过）；
+     * 任意分组执行失败时，等待全部分组结束后抛出第一个异常
+     *
+     * @param requests 请求参数对象集合
+     * @return {@link List} 响应，与请求参数按顺序一一对应
+     * @throws Exception 异常
+     */
+    public List<EcologyResponse> executeAll(Collection<? extends EcologyRequest> requests) throws Exception {
+        Assert.notNull(requests, "The requests argument is required; it must not be null");
+        List<EcologyRequest> requestList = new ArrayList<>(requests);
+        EcologyResponse[] responses = new EcologyResponse[requestList.size()];
+        // 按请求Class分组，记录请求下标
+        Map<Class<?>, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < requestList.size(); i++) {
+            EcologyRequest request = requestList.get(i);
+            Assert.notNull(request, "The requests argument must not contain null elements");
+            groups.computeIfAbsent(request.getClass(), k -> new ArrayList<>()).add(i);
+        }
+        // 只有一个分组或没有批量执行线程池时，在当前线程执行
+        if (groups.size() <= 1 || null == batchExecutor) {
+            for (List<Integer> indexes : groups.values()) {
+                executeGroup(requestList, indexes, responses);
+            }
+            return Arrays.asList(responses);
+        }
+        List<CompletableFuture<Void>> futures = new ArrayList<>(groups.size());
+        for (List<Integer> indexes : groups.values()) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    executeGroup(requestList, indexes, responses);
+                } catch (Exception ex) {
+                    throw new CompletionException(ex);
+                }
+            }, batchExecutor));
+        }
+        await(CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])));
+        return Arrays.asList(responses);
+    }
+
+    /**
+     * 执行同一请求Class的分组
+     *
+     * @param requests  全部请求参数
+     * @param indexes   分组内请求下标
+     * @param responses 全部响应
+     * @throws Exception 异常
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void executeGroup(List<EcologyRequest> requests,
+                              List<Integer> indexes,
+                              EcologyResponse[] responses) throws Exception {
+        DispatchPlan plan = getRequiredPlan(requests.get(indexes.get(0)));
+        if (plan.isBatchable()) {
+            // 没有任何执行阶段，整组请求由批量处理器一次处理
+            List<EcologyRequest> batchRequests = new ArrayList<>(indexes.size());
+            List<EcologyResponse> batchResponses = new ArrayList<>(indexes.size());
+            for (int index : indexes) {
+                EcologyResponse response = plan.getResponseFactory().newInstance();
+                responses[index] = response;
+                batchRequests.add(requests.get(index));
+                batchResponses.add(response);
+            }
+            long start = System.nanoTime();
+            Throwable failure = null;
+            try {
+                // 调用入口可能被度量或JFR事件包装，一次批量处理记录为一个样本
+                ((EcologyBatchRequestHandler) plan.getInvoker()).handleBatch(batchRequests, batchResponses);
+            } catch (Exception | Error ex) {
+                failure = ex;
+                throw ex;
+            } finally {
+                // 整组请求共享批量执行的耗时与结果
+                for (EcologyRequest request : batchRequests) {
+                    audit(plan.getTarget(), request, start, failure);
+                }
+            }
+            return;
+        }
+        for (int index : indexes) {
+            EcologyRequest request = requests.get(index);
+            if (plan.isAsync()) {
+                responses[index] = await(executeAsync(plan, request));
+            } else {
+                responses[index] = execute(plan, request, plan.getInvoker());
+            }
+        }
+    }
+
+    /**
+     * 按调度计划异步执行
+     *
+     * @param <Q>     请求参数泛型
+     * @param <P>     响应参数泛型
+     * @param plan    调度计划
+     * @param request 请求参数对象
+     * @return {@link CompletableFuture} 响应
+     * @throws Exception 异常
+     */
+    @SuppressWarnings({"unchecked"})
+    private <Q extends EcologyRequest,
+            P extends EcologyResponse> CompletableFuture<P> executeAsync(DispatchPlan plan, Q request) throws Exception {
+        // 实例化响应对象
+        P response = (P) plan.getResponseFactory().newInstance();
+        return dispatchAsync(plan, request, response);
+    }
+
+    /**
+     * 按调度计划执行同步处理器
+     * <p>
+     * 设置了截止时间时，执行期间可通过{@link DeadlineContext#current()}获取
+     *
+     * @param <Q>      请求参数泛型
+     * @param <P>      响应参数泛型
+     * @param plan     调度计划
+     * @param request  请求参数对象
+     * @param response 响应参数对象
+     * @return {@link P} 响应
+     * @throws Exception 异常
+     */
+    <Q extends EcologyRequest,
+            P extends EcologyResponse> P dispatch(DispatchPlan plan, Q request, P response) throws Exception {
+        long start = System.nanoTime();
+        Throwable failure = null;
+        Deadline deadline = resolveDeadline(plan, request);
+        Deadline previous = null == deadline ? null : DeadlineContext.attach(deadline);
+        try {
+            return dispatch(plan, request, response, deadline);
+        } catch (Exception | Error ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            if (null != deadline) {
+                DeadlineContext.restore(previous);
+            }
+            audit(plan.getTarget(), request, start, failure);
+        }
+    }
+
+    /**
+     * 按调度计划执行同步处理器
+     * <p>
+     * 执行顺序为：限流 - 过滤器前缓存 - 舱壁 - 过滤器 - 拦截器 - 幂等 - 过滤器后缓存 - 处理器，
+     * 拦截器及其后的阶段已在启动时编排为调度计划的处理器调用入口；
+     * 过滤器前缓存命中时直接复制缓存的响应，不执行过滤器与处理器
+     *
+     * @param <Q>      请求参数泛型
+     * @param <P>      响应参数泛型
+     * @param plan     调度计划
+     * @param request  请求参数对象
+     * @param response 响应参数对象
+     * @param deadline 截止时间，可为null
+     * @return {@link P} 响应
+     * @throws Exception 异常
+     */
+    @SuppressWarnings({"unchecked"})
+    private <Q extends EcologyRequest,
+            P extends EcologyResponse> P dispatch(DispatchPlan plan,
+                                                  Q request,
+                                                  P response,
+                                                  Deadline deadline) throws Exception {
+        EcologyRateLimiter rateLimiter = plan.getRateLimiter();
+        if (null != rateLimiter) {
+            rateLimiter.acquire(request);
+        }
+        EcologyRequestHandler<Q, P> invoker = plan.getInvoker();
+        EcologyResponseCache cache = plan.getResponseCache();
+        if (null == cache || CacheStage.BEFORE_FILTERS != cache.getStage()) {
+            guardedService(plan, request, response, invoker, deadline);
+            return response;
+        }
+        // 过滤器前查找缓存
+        Object key = cache.generateKey(request);
+        if (null == key) {
+            guardedService(plan, request, response, invoker, deadline);
+            return response;
+        }
+        if (cache.copyTo(key, response)) {
+            return response;
+        }
+        ResponseCacheInvocation<Q, P> invocation = new ResponseCacheInvocation<>(invoker);
+        guardedService(plan, request, response, invocation, deadline);
+        // 过滤器未放行时不写入缓存
+        if (invocation.isInvoked()) {
+            cache.put(key, response);
+        }
+        return response;
+    }
+
+    /**
+     * 按调度计划执行异步处理器
+     * <p>
+     * 设置了截止时间时，截止时间只在异步处理器的handle方法返回前可通过{@link DeadlineContext#current()}获取；
+     * 到达截止时间时结果以超时异常结束，处理器返回的异步结果不会被取消，处理器需按截止时间自行停止工作；
+     * 舱壁许可在处理器自身的异步结果完成后才释放，并以其耗时与结果作为限流样本，截止时间不会提前释放许可
+     *
+     * @param <Q>      请求参数泛型
+     * @param <P>      响应参数泛型
+     * @param plan     调度计划
+     * @param request  请求参数对象
+     * @param response 响应参数对象
+     * @return {@link CompletableFuture} 响应
+     * @throws Exception 异常
+     */
+    @SuppressWarnings({"unchecked"})
+    <Q extends EcologyRequest,
+            P extends EcologyResponse> CompletableFuture<P> dispatchAsync(DispatchPlan plan,
+                                                                          Q request,
+                                                                          P response) throws Exception {
+        ConcurrencyLimiter limiter = plan.getLimiter();
+        long start = System.nanoTime();
+        boolean acquired = false;
+        Deadline deadline = null;
+        Deadline previous = null;
+        AsyncHandlerInvocation<Q, P> invocation = null;
+        CompletableFuture<P> result;
+        try {
+            // 限流与舱壁的拒绝同样记录审计
+            EcologyRateLimiter rateLimiter = plan.getRateLimiter();
+            if (null != rateLimiter) {
+                rateLimiter.acquire(request);
+            }
+            if (null != limiter) {
+                acquire(plan, limiter);
+                acquired = true;
+            }
+            deadline = resolveDeadline(plan, request);
+            if (null != deadline) {
+                previous = DeadlineContext.attach(deadline);
+            }
+            // 过滤器链末端调用异步处理器
+            invocation = new AsyncHandlerInvocation<>(interceptorExecutor,
+                    plan,
+                    (EcologyAsyncRequestHandler<Q, P>) plan.getAsyncHandler());
+            doService(plan, request, response, invocation, deadline);
+            result = invocation.getResult(response);
+        } catch (Exception | Error ex) {
+            if (acquired) {
+                // 过滤器在处理器被调用后抛出异常时，许可仍随处理器自身的结果释放
+                release(limiter, invocation, start, false);
+            }
+            audit(plan.getTarget(), request, start, ex);
+            throw ex;
+        } finally {
+            if (null != deadline) {
+                DeadlineContext.restore(previous);
+            }
+        }
+        if (null != limiter) {
+            // 许可随处理器自身的结果释放，截止时间结束调用方可见的结果时处理器仍占用许可
+            release(limiter, invocation, start, !result.isCompletedExceptionally());
+        }
+        if (null != deadline) {
+            result = plan.getDeadlinePolicy().within(result, deadline);
+        }
+        if (null != auditLog) {
+            result = result.whenComplete((value, throwable) -> audit(plan.getTarget(), request, start, throwable));
+        }
+        return result;
+    }
+
+    /**
+     * 释放异步调度的舱壁许可
+     * <p>
+     * 处理器已被调用时在其自身的异步结果完成后释放，并以其耗时与结果作为限流样本；
+     * 处理器未被调用时立即释放
+     *
+     * @param limiter    并发限制器
+     * @param invocation 异步处理器调用，可为null
+     * @param start      开始时间（纳秒）
+     * @param success    处理器未被调用时的执行结果
+     */
+    private static void release(ConcurrencyLimiter limiter,
+                                AsyncHandlerInvocation<?, ?> invocation,
+                                long start,
+                                boolean success) {
+        CompletionStage<?> stage = null == invocation ? null : invocation.getHandlerStage();
+        if (null == stage) {
+            limiter.release(System.nanoTime() - start, success);
+            return;
+        }
+        stage.whenComplete((value, throwable) -> limiter.release(System.nanoTime() - start, null == throwable));
+    }
+
+    /**
+     * 在并发限制器保护下执行业务逻辑
+     *
+     * @param <Q>      请求参数泛型
+     * @param <P>      响应参数泛型
+     * @param plan     调度计划
+     * @param request  请求参数
+     * @param response 响应参数
+     * @param handler  执行器
+     * @param deadline 截止时间，可为null
+     * @throws Exception 异常
+     */
+    private <Q extends EcologyRequest,
+            P extends EcologyResponse> void guardedService(DispatchPlan plan,
+                                                           Q request,
+                                                           P response,
+                                                           EcologyRequestHandler<Q, P> handler,
+                                                           Deadline deadline) throws Exception {
+        ConcurrencyLimiter limiter = plan.getLimiter();
+        if (null == limiter) {
+            doService(plan, request, response, handler, deadline);
+            return;
+        }
+        acquire(plan, limiter);
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            doService(plan, request, response, handler, deadline);
+            success = true;
+        } finally {
+            limiter.release(System.nanoTime() - start, success);
+        }
+    }
+
+    /**
+     * 获取执行许可，并发数达到上限时立即拒绝
+     *
+     * @param plan    调度计划
+     * @param limiter 并发限制器
+     */
+    private static void acquire(DispatchPlan plan, ConcurrencyLimiter limiter) {
+        if (!limiter.tryAcquire()) {
+            throw new BulkheadFullException(plan.getRequestClass(), limiter.getLimit());
+        }
+    }
+
+    /**
+     * 计算请求的截止时间
+     *
+     * @param plan    调度计划
+     * @param request 请求参数对象
+     * @return {@link Deadline} 未设置截止时间时返回null
+     */
+    private static Deadline resolveDeadline(DispatchPlan plan, EcologyRequest request) {
+        DeadlinePolicy policy = plan.getDeadlinePolicy();
+        return null == policy ? null : policy.resolve(request);
+    }
+
+    /**
+     * 记录审计日志，未开启审计时忽略
+     *
+     * @param handler 业务处理器
+     * @param request 请求参数对象
+     * @param start   开始时间（纳秒）
+     * @param failure 执行异常，成功时为null
+     */
+    private void audit(Object handler, EcologyRequest request, long start, Throwable failure) {
+        if (null != auditLog) {
+            auditLog.record(handler, request, System.nanoTime() - start, failure);
+        }
+    }
+
+    /**
+     * 获取请求对应的调度计划
+     *
+     * @param request 请求参数对象
+     * @return {@link DispatchPlan}
+     */
+    DispatchPlan getRequiredPlan(EcologyRequest request) {
+        DispatchPlan plan = planBox.getPlan(request.getClass());
+        if (null == plan) {
             String requestName = request.getClass().getSimpleName();
             log.error("The handler is undefined or not managed by spring,request class name = {}", requestName);
+            DispatchFailureRecorder.handlerNotFound(request.getClass(), null,
+                    "The handler is undefined or not managed by spring.");
             throw new HandlerNotFoundException("The handler is undefined or not managed by spring.");
         }
-        return execute(request, handler);
+        return plan;
+    }
+
+    /**
+     * 阻塞等待异步结果
+     *
+     * @param <P>    结果泛型
+     * @param future 异步结果
+     * @return {@link P} 结果
+     * @throws Exception 异常
+     */
+    static <P> P await(CompletableFuture<P> future) throws Exception {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw ex;
+        } catch (ExecutionException ex) {
+            throw unwrap(ex);
+        }
+    }
+
+    /**
+     * 限时阻塞等待异步结果
+     *
+     * @param <P>     结果泛型
+     * @param future  异步结果
+     * @param timeout 最长等待时间
+     * @param unit    时间单位
+     * @return {@link P} 结果
+     * @throws TimeoutException 超过最长等待时间仍未完成
+     * @throws Exception        异常
+     */
+    static <P> P await(CompletableFuture<P> future, long timeout, TimeUnit unit) throws Exception {
+        try {
+            return future.get(timeout, unit);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw ex;
+        } catch (ExecutionException ex) {
+            throw unwrap(ex);
+        }
+    }
+
+    /**
+     * 取出异步执行的原始异常
+     *
+     * @param ex 异步执行异常
+     * @return {@link Exception} 原始异常，原始异常不是Exception时返回ex本身
+     */
+    private static Exception unwrap(ExecutionException ex) {
+        Throwable cause = ex.getCause();
+        while (cause instanceof CompletionException && null != cause.getCause()) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof Exception) {
+            return (Exception) cause;
+        }
+        return ex;
     }
 
     /**
@@ -68,37 +562,96 @@ public class HandlerExecutor {
             P extends EcologyResponse,
             H extends EcologyRequestHandler<Q, P>> P execute(Q request, H handler) throws Exception {
 
-        Class<?> responseClass = handlerBox.getRequestResponseMap().get(request.getClass());
-        if (null == responseClass) {
+        DispatchPlan plan = planBox.getPlan(request.getClass());
+        if (null == plan) {
             String handlerName = handler.getClass().getSimpleName();
             log.error("The class of response is not exist,handler name = {}", handlerName);
+            DispatchFailureRecorder.handlerNotFound(request.getClass(), handler.getClass(),
+                    "The class object of response is not exist.");
             throw new ClassNotFoundException("The class object of response is not exist.");
         }
+        return execute(plan, request, handler);
+    }
+
+    /**
+     * 按调度计划执行
+     * <p>
+     * 指定的处理器即调度计划绑定的处理器（包装前或包装后）时，完整执行限流、舱壁、截止时间、缓存与幂等等阶段；
+     * 其它处理器只经过过滤器与拦截器
+     *
+     * @param <Q>     请求参数泛型
+     * @param <P>     响应参数泛型
+     * @param <H>     处理器泛型
+     * @param plan    调度计划
+     * @param request 请求参数对象
+     * @param handler 处理器对象
+     * @return {@link P} 响应
+     * @throws Exception 异常
+     */
+    @SuppressWarnings({"unchecked"})
+    private <Q extends EcologyRequest,
+            P extends EcologyResponse,
+            H extends EcologyRequestHandler<Q, P>> P execute(DispatchPlan plan, Q request, H handler) throws Exception {
         // 实例化响应对象
-        P response = (P) responseClass.getDeclaredConstructor().newInstance();
+        P response = (P) plan.getResponseFactory().newInstance();
         // 执行业务逻辑
-        doService(request, response, handler);
+        if (handler == plan.getInvoker() || handler == plan.getHandler() || handler == plan.getTarget()) {
+            dispatch(plan, request, response);
+            return response;
+        }
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            if (plan.getInterceptors().isEmpty()) {
+                doService(plan, request, response, handler, null);
+            } else {
+                // 指定的处理器同样经过调度计划中的拦截器
+                doService(plan, request, response,
+                        new InterceptedRequestHandler<>(interceptorExecutor, plan.getInterceptors(), handler), null);
+            }
+        } catch (Exception | Error ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            audit(handler, request, start, failure);
+        }
         // 构建成功响应
         return response;
     }
 
+    /**
+     * 获取调度计划
+     *
+     * @param requestClass 请求Class
+     * @return {@link DispatchPlan} 不存在时返回null
+     */
+    public DispatchPlan getPlan(Class<?> requestClass) {
+        return planBox.getPlan(requestClass);
+    }
+
     /**
      * 执行业务逻辑
      *
      * @param <Q>      请求参数泛型
      * @param <P>      响应参数泛型
      * @param <H>      处理器泛型
+     * @param plan     调度计划
      * @param request  请求参数
      * @param response 响应参数
      * @param handler  执行器
+     * @param deadline 截止时间，可为null
      * @throws Exception 异常
      */
     private <Q extends EcologyRequest,
             P extends EcologyResponse,
-            H extends EcologyRequestHandler<Q, P>> void doService(Q request, P response, H handler) throws Exception {
+            H extends EcologyRequestHandler<Q, P>> void doService(DispatchPlan plan,
+                                                                  Q request,
+                                                                  P response,
+                                                                  H handler,
+                                                                  Deadline deadline) throws Exception {
 
         // 执行过滤器
-        this.filterExecutor.execute(request, response, handler);
+        this.filterExecutor.execute(plan, request, response, handler, deadline);
     }
 
 }
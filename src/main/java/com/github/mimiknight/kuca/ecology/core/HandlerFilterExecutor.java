@@ -1,17 +1,12 @@
 package com.github.mimiknight.kuca.ecology.core;
 
+import com.github.mimiknight.kuca.ecology.deadline.Deadline;
 import com.github.mimiknight.kuca.ecology.filter.ApplicationHandlerFilterChain;
 import com.github.mimiknight.kuca.ecology.filter.EcologyHandlerFilter;
-import com.github.mimiknight.kuca.ecology.filter.HandlerFilterBox;
-import com.github.mimiknight.kuca.ecology.filter.HandlerFilterChain;
 import com.github.mimiknight.kuca.ecology.filter.HandlerFilterChainFactory;
 import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
 import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
 import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
-import org.apache.commons.collections4.CollectionUtils;
-import org.springframework.beans.factory.annotation.Autowired;
-
-import java.util.List;
 
 /**
  * Handler过滤器执行器
@@ -21,31 +16,68 @@ import java.util.List;
  */
 public class HandlerFilterExecutor {
 
-    @Autowired
-    private HandlerFilterBox handlerFilterBox;
-
     /**
      * 过滤链执行
+     * <p>
+     * 当前请求没有注册的过滤器时直接执行业务处理器
+     *
+     * @param <Q>      接口入参泛型
+     * @param <P>      接口出参泛型
+     * @param <H>      业务执行器泛型
+     * @param plan     调度计划
+     * @param request  接口入参
+     * @param response 接口出参
+     * @param handler  业务执行器
+     * @throws Exception 被抛出的异常
+     */
+    @SuppressWarnings({"rawtypes"})
+    public <Q extends EcologyRequest,
+            P extends EcologyResponse,
+            H extends EcologyRequestHandler<Q, P>> void execute(DispatchPlan plan,
+                                                                Q request,
+                                                                P response,
+                                                                H handler) throws Exception {
+        execute(plan, request, response, handler, null);
+    }
+
+    /**
+     * 带截止时间的过滤链执行
+     * <p>
+     * 过滤器与业务处理器执行前检查是否已截止，已截止时抛出
+     * {@link com.github.mimiknight.kuca.ecology.exception.DeadlineExceededException}；
+     * 已执行完成的处理器不再检查，即使完成时已超过截止时间也返回其结果
      *
      * @param <Q>      接口入参泛型
      * @param <P>      接口出参泛型
      * @param <H>      业务执行器泛型
+     * @param plan     调度计划
      * @param request  接口入参
      * @param response 接口出参
      * @param handler  业务执行器
+     * @param deadline 截止时间，可为null
      * @throws Exception 被抛出的异常
      */
-    @SuppressWarnings({"rawtypes", "unchecked"})
+    @SuppressWarnings({"rawtypes"})
     public <Q extends EcologyRequest,
             P extends EcologyResponse,
-            H extends EcologyRequestHandler<Q, P>> void execute(Q request, P response, H handler) throws Exception {
-        Class<EcologyRequest> requestClass = (Class<EcologyRequest>) request.getClass();
+            H extends EcologyRequestHandler<Q, P>> void execute(DispatchPlan plan,
+                                                                Q request,
+                                                                P response,
+                                                                H handler,
+                                                                Deadline deadline) throws Exception {
         // 获取过滤器
-        List<EcologyHandlerFilter> filters = handlerFilterBox.getHandlerFilterByKey(requestClass);
+        EcologyHandlerFilter[] filters = plan.getFilters();
+        if (filters.length == 0) {
+            if (null == deadline) {
+                handler.handle(request, response);
+                return;
+            }
+            deadline.check();
+            handler.handle(request, response);
+            return;
+        }
         // 获取过滤器链
-        ApplicationHandlerFilterChain filterChain = HandlerFilterChainFactory.getFilterChain();
-        // 初始化过滤器链参数
-        filterChain.init(handler, filters);
+        ApplicationHandlerFilterChain filterChain = HandlerFilterChainFactory.getFilterChain(filters, handler, deadline);
         // 执行过滤器
         filterChain.doFilter(request, response);
     }
@@ -1,5 +1,6 @@
 package com.github.mimiknight.kuca.ecology.core;
 
+import com.github.mimiknight.kuca.ecology.handler.EcologyAsyncRequestHandler;
 import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
 import com.github.mimiknight.kuca.ecology.interceptor.EcologyHandlerInterceptor;
 import com.github.mimiknight.kuca.ecology.interceptor.HandlerInterceptorBox;
@@ -13,7 +14,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.util.Assert;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Handler 拦截器执行器
@@ -30,7 +35,9 @@ public class HandlerInterceptorExecutor {
     /**
      * 拦截器执行方法
      * <p>
-     * 当系统中没有注册的拦截器或者当前handler下没有注册的拦截器，则方法返回false，否则返回true
+     * 当系统中没有注册的拦截器或者当前handler下没有注册的拦截器，则方法返回false，否则返回true；
+     * 每次调用都会查找拦截器Map，且只匹配直接声明在请求Class上的拦截器；
+     * {@link HandlerExecutor}使用调度计划中已合并父类型拦截器的有序列表，不经过此方法
      *
      * @param <Q>      接口入参泛型
      * @param <P>      接口出参泛型
@@ -67,6 +74,128 @@ public class HandlerInterceptorExecutor {
         return true;
     }
 
+    /**
+     * 按已解析的拦截器执行
+     * <p>
+     * 调度计划在启动时为请求Class解析好有序的拦截器，执行时不再查找拦截器Map
+     *
+     * @param <Q>          接口入参泛型
+     * @param <P>          接口出参泛型
+     * @param <H>          接口处理器泛型
+     * @param interceptors 拦截器集合，不能为空
+     * @param request      接口入参
+     * @param response     接口出参
+     * @param handler      业务处理器
+     * @return boolean 处理器是否执行且正常完成，前置拦截未放行或异常被后置异常拦截处理时返回false
+     * @throws Exception 被抛出的异常
+     */
+    public <Q extends EcologyRequest,
+            P extends EcologyResponse,
+            H extends EcologyRequestHandler<Q, P>> boolean execute(List<EcologyHandlerInterceptor<?, ?>> interceptors,
+                                                                   Q request,
+                                                                   P response,
+                                                                   H handler) throws Exception {
+        return doInterceptor(interceptors, request, response, handler);
+    }
+
+    /**
+     * 异步拦截器执行方法
+     * <p>
+     * 前置拦截在调用异步处理器之前执行；后置返回拦截、后置异常拦截在处理器返回的CompletionStage完成时执行；
+     * 前置拦截抛出的异常直接结束结果，不执行后置异常拦截
+     *
+     * @param <Q>          接口入参泛型
+     * @param <P>          接口出参泛型
+     * @param <H>          异步接口处理器泛型
+     * @param interceptors 拦截器集合
+     * @param request      接口入参
+     * @param response     接口出参
+     * @param handler      异步业务处理器
+     * @return {@link CompletableFuture}
+     */
+    public <Q extends EcologyRequest,
+            P extends EcologyResponse,
+            H extends EcologyAsyncRequestHandler<Q, P>> CompletableFuture<P> executeAsync(List<EcologyHandlerInterceptor<?, ?>> interceptors,
+                                                                                        Q request,
+                                                                                        P response,
+                                                                                        H handler) {
+        CompletableFuture<P> result = new CompletableFuture<>();
+        // 前置拦截抛出的异常与同步处理器一致，不经过后置异常拦截
+        try {
+            // 批量执行前置拦截
+            if (CollectionUtils.isNotEmpty(interceptors) && !applyDoBefore(interceptors, request, response)) {
+                result.complete(response);
+                return result;
+            }
+        } catch (Exception ex) {
+            result.completeExceptionally(ex);
+            return result;
+        }
+        try {
+            // 执行handler
+            CompletionStage<P> stage = handler.handle(request, response);
+            stage.whenComplete((value, throwable) ->
+                    completeAsync(result, interceptors, request, null == value ? response : value, throwable));
+        } catch (Exception ex) {
+            completeAsync(result, interceptors, request, response, ex);
+        }
+        return result;
+    }
+
+    /**
+     * 异步处理完成后执行后置拦截并完成结果
+     *
+     * @param <Q>          接口入参泛型
+     * @param <P>          接口出参泛型
+     * @param result       异步结果
+     * @param interceptors 拦截器集合
+     * @param request      接口入参
+     * @param response     接口出参
+     * @param throwable    处理器抛出的异常，正常完成时为null
+     */
+    private <Q extends EcologyRequest,
+            P extends EcologyResponse> void completeAsync(CompletableFuture<P> result,
+                                                          List<EcologyHandlerInterceptor<?, ?>> interceptors,
+                                                          Q request,
+                                                          P response,
+                                                          Throwable throwable) {
+        Throwable cause = unwrap(throwable);
+        if (CollectionUtils.isEmpty(interceptors) || (null != cause && !(cause instanceof Exception))) {
+            if (null == cause) {
+                result.complete(response);
+            } else {
+                result.completeExceptionally(cause);
+            }
+            return;
+        }
+        try {
+            if (null == cause) {
+                // 批量执行后置拦截
+                applyDoAfterReturn(interceptors, request, response);
+            } else {
+                // 执行后置异常拦截
+                applyDoAfterThrowing(interceptors, request, response, (Exception) cause);
+            }
+            result.complete(response);
+        } catch (Exception ex) {
+            result.completeExceptionally(ex);
+        }
+    }
+
+    /**
+     * 解开异步包装异常
+     *
+     * @param throwable 异常
+     * @return {@link Throwable}
+     */
+    private static Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && null != cause.getCause()) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
 
     /**
      * 执行拦截器
@@ -80,17 +209,18 @@ public class HandlerInterceptorExecutor {
      * @param request      接口入参
      * @param response     接口出参
      * @param handler      业务处理器
+     * @return boolean 处理器是否执行且正常完成
      * @throws Exception 被抛出异常
      */
     private <Q extends EcologyRequest,
             P extends EcologyResponse,
-            H extends EcologyRequestHandler<Q, P>> void doInterceptor(List<EcologyHandlerInterceptor<?, ?>> interceptors,
-                                                                      Q request,
-                                                                      P response,
-                                                                      H handler) throws Exception {
+            H extends EcologyRequestHandler<Q, P>> boolean doInterceptor(List<EcologyHandlerInterceptor<?, ?>> interceptors,
+                                                                         Q request,
+                                                                         P response,
+                                                                         H handler) throws Exception {
         // 批量执行前置拦截
         if (!applyDoBefore(interceptors, request, response)) {
-            return;
+            return false;
         }
         try {
             // 执行handler
@@ -98,10 +228,11 @@ public class HandlerInterceptorExecutor {
         } catch (Exception ex) {
             // 执行后置异常拦截
             applyDoAfterThrowing(interceptors, request, response, ex);
-            return;
+            return false;
         }
         // 批量执行后置拦截
         applyDoAfterReturn(interceptors, request, response);
+        return true;
     }
 
     /**
@@ -0,0 +1,37 @@
+package com.github.mimiknight.kuca.ecology.core;
+
+import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
+import com.github.mimiknight.kuca.ecology.idempotent.EcologyIdempotency;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+
+/**
+ * 幂等阶段的处理器
+ * <p>
+ * 位于过滤器链末端，鉴权等过滤器对重复请求同样执行；携带幂等键时按幂等键执行或重放，否则直接执行
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 10:57:31
+ */
+final class IdempotentRequestHandler<Q extends EcologyRequest, P extends EcologyResponse>
+        implements EcologyRequestHandler<Q, P> {
+
+    private final EcologyIdempotency idempotency;
+
+    private final EcologyRequestHandler<Q, P> handler;
+
+    IdempotentRequestHandler(EcologyIdempotency idempotency, EcologyRequestHandler<Q, P> handler) {
+        this.idempotency = idempotency;
+        this.handler = handler;
+    }
+
+    @Override
+    public void handle(Q request, P response) throws Exception {
+        String key = idempotency.resolveKey(request);
+        if (null == key) {
+            handler.handle(request, response);
+            return;
+        }
+        idempotency.execute(key, request, response, handler);
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.mimiknight.kuca.ecology.core;
+
+import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
+import com.github.mimiknight.kuca.ecology.interceptor.EcologyHandlerInterceptor;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+
+import java.util.List;
+
+/**
+ * 拦截器阶段的处理器
+ * <p>
+ * 编排调度计划时只为存在拦截器的请求Class创建，位于过滤器链末端、幂等与过滤器后缓存之外，
+ * 重放的幂等请求与命中缓存的请求同样经过拦截器；拦截器在启动时已按顺序解析，执行时不再查找
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 10:41:12
+ */
+final class InterceptedRequestHandler<Q extends EcologyRequest, P extends EcologyResponse>
+        implements EcologyRequestHandler<Q, P> {
+
+    private final HandlerInterceptorExecutor interceptorExecutor;
+
+    private final List<EcologyHandlerInterceptor<?, ?>> interceptors;
+
+    private final EcologyRequestHandler<Q, P> handler;
+
+    InterceptedRequestHandler(HandlerInterceptorExecutor interceptorExecutor,
+                              List<EcologyHandlerInterceptor<?, ?>> interceptors,
+                              EcologyRequestHandler<Q, P> handler) {
+        this.interceptorExecutor = interceptorExecutor;
+        this.interceptors = interceptors;
+        this.handler = handler;
+    }
+
+    @Override
+    public void handle(Q request, P response) throws Exception {
+        interceptorExecutor.execute(interceptors, request, response, handler);
+    }
+
+    /**
+     * 执行拦截器与处理器
+     *
+     * @param request  请求参数
+     * @param response 响应参数
+     * @return boolean 处理器是否执行且正常完成，前置拦截未放行或异常被后置异常拦截处理时返回false
+     * @throws Exception 异常
+     */
+    boolean invoke(Q request, P response) throws Exception {
+        return interceptorExecutor.execute(interceptors, request, response, handler);
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.mimiknight.kuca.ecology.core;
+
+import com.github.mimiknight.kuca.ecology.handler.EcologyAsyncRequestHandler;
+import com.github.mimiknight.kuca.ecology.handler.EcologyReactiveRequestHandler;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 响应式处理器适配器
+ * <p>
+ * 将响应式处理器适配为异步处理器，使其复用异步调度流程（过滤器、拦截器）
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 14:31:02
+ */
+final class ReactiveHandlerAdapter<Q extends EcologyRequest, P extends EcologyResponse>
+        implements EcologyAsyncRequestHandler<Q, P> {
+
+    private final EcologyReactiveRequestHandler<Q, P> handler;
+
+    ReactiveHandlerAdapter(EcologyReactiveRequestHandler<Q, P> handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletionStage<P> handle(Q request, P response) {
+        return handler.handle(request, response).toFuture();
+    }
+}
@@ -0,0 +1,110 @@
+package com.github.mimiknight.kuca.ecology.core;
+
+import com.github.mimiknight.kuca.ecology.filter.ApplicationReactiveHandlerFilterChain;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.function.Supplier;
+
+/**
+ * 响应式Handler执行器
+ * <p>
+ * 复用HandlerBox、HandlerFilterBox、HandlerInterceptorBox构建的调度计划，执行顺序为：
+ * 响应式过滤器 - 过滤器 - 拦截器 - 业务处理器；
+ * 同步处理器，以及配置了过滤器或拦截器（阻塞式API）的异步与响应式处理器，整体被调度到boundedElastic线程池执行，
+ * 避免阻塞事件循环线程；没有过滤器与拦截器的异步与响应式处理器仍在订阅线程上调用
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 14:45:27
+ */
+@ConditionalOnClass(name = "reactor.core.publisher.Mono")
+public class ReactiveHandlerExecutor {
+
+    @Autowired
+    private HandlerExecutor handlerExecutor;
+
+    /**
+     * 执行方法
+     *
+     * @param <Q>     请求参数泛型
+     * @param <P>     响应参数泛型
+     * @param request 请求参数对象
+     * @return {@link Mono} 响应
+     */
+    @SuppressWarnings({"unchecked"})
+    public <Q extends EcologyRequest, P extends EcologyResponse> Mono<P> execute(Q request) {
+        return Mono.defer(() -> {
+            DispatchPlan plan = handlerExecutor.getRequiredPlan(request);
+            P response;
+            try {
+                // 实例化响应对象
+                response = (P) plan.getResponseFactory().newInstance();
+            } catch (Exception ex) {
+                return Mono.error(ex);
+            }
+            ReactiveInvocation<Q, P> invocation = new ReactiveInvocation<>(plan, request, response);
+            ApplicationReactiveHandlerFilterChain filterChain =
+                    new ApplicationReactiveHandlerFilterChain(plan.getReactiveFilters(), invocation);
+            return filterChain.doFilter(request, response).then(Mono.fromSupplier(invocation::getResult));
+        });
+    }
+
+    /**
+     * 响应式过滤器链末端
+     *
+     * @param <Q> 请求参数泛型
+     * @param <P> 响应参数泛型
+     */
+    private final class ReactiveInvocation<Q extends EcologyRequest, P extends EcologyResponse>
+            implements Supplier<Mono<Void>> {
+
+        private final DispatchPlan plan;
+
+        private final Q request;
+
+        private final P response;
+
+        private P result;
+
+        private ReactiveInvocation(DispatchPlan plan, Q request, P response) {
+            this.plan = plan;
+            this.request = request;
+            this.response = response;
+        }
+
+        @Override
+        public Mono<Void> get() {
+            Mono<P> mono;
+            if (plan.isAsync()) {
+                mono = Mono.defer(() -> {
+                    try {
+                        return Mono.fromFuture(handlerExecutor.dispatchAsync(plan, request, response));
+                    } catch (Exception ex) {
+                        return Mono.error(ex);
+                    }
+                });
+                // 过滤器与拦截器同步执行，不能在事件循环线程上运行
+                if (plan.getFilters().length > 0 || !plan.getInterceptors().isEmpty()) {
+                    mono = mono.subscribeOn(Schedulers.boundedElastic());
+                }
+            } else {
+                mono = Mono.fromCallable(() -> handlerExecutor.dispatch(plan, request, response))
+                        .subscribeOn(Schedulers.boundedElastic());
+            }
+            return mono.doOnNext(value -> this.result = value).then();
+        }
+
+        /**
+         * 获取最终响应
+         *
+         * @return {@link P} 业务处理器未执行（被过滤器拦截）时返回原响应参数
+         */
+        private P getResult() {
+            return null == result ? response : result;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.mimiknight.kuca.ecology.core;
+
+import com.github.mimiknight.kuca.ecology.cache.EcologyResponseCache;
+import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+
+/**
+ * 过滤器后缓存阶段的处理器
+ * <p>
+ * 位于过滤器链末端，命中时复制缓存响应，未命中时执行处理器并写入缓存
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 17:36:50
+ */
+final class ResponseCacheHandler<Q extends EcologyRequest, P extends EcologyResponse>
+        implements EcologyRequestHandler<Q, P> {
+
+    private final EcologyResponseCache cache;
+
+    private final EcologyRequestHandler<Q, P> handler;
+
+    ResponseCacheHandler(EcologyResponseCache cache, EcologyRequestHandler<Q, P> handler) {
+        this.cache = cache;
+        this.handler = handler;
+    }
+
+    @Override
+    public void handle(Q request, P response) throws Exception {
+        Object key = cache.generateKey(request);
+        if (null == key) {
+            handler.handle(request, response);
+            return;
+        }
+        if (cache.copyTo(key, response)) {
+            return;
+        }
+        handler.handle(request, response);
+        cache.put(key, response);
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.mimiknight.kuca.ecology.core;
+
+import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+
+/**
+ * 过滤器前缓存阶段的处理器调用
+ * <p>
+ * 作为过滤器链末端记录处理器是否被执行，过滤器或拦截器未放行的请求（例如鉴权失败）、
+ * 异常被后置异常拦截处理的请求不写入缓存
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 17:32:08
+ */
+final class ResponseCacheInvocation<Q extends EcologyRequest, P extends EcologyResponse>
+        implements EcologyRequestHandler<Q, P> {
+
+    private final EcologyRequestHandler<Q, P> handler;
+
+    private boolean invoked;
+
+    ResponseCacheInvocation(EcologyRequestHandler<Q, P> handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked"})
+    public void handle(Q request, P response) throws Exception {
+        if (handler instanceof InterceptedRequestHandler) {
+            invoked = ((InterceptedRequestHandler<Q, P>) handler).invoke(request, response);
+            return;
+        }
+        handler.handle(request, response);
+        invoked = true;
+    }
+
+    /**
+     * 处理器是否已执行成功
+     *
+     * @return boolean
+     */
+    boolean isInvoked() {
+        return invoked;
+    }
+}
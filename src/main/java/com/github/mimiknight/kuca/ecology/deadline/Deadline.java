@@ -0,0 +1,97 @@
+package com.github.mimiknight.kuca.ecology.deadline;
+
+import com.github.mimiknight.kuca.ecology.exception.DeadlineExceededException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 请求截止时间
+ * <p>
+ * 基于{@link System#nanoTime()}，不受系统时钟调整影响；过滤器可通过
+ * {@link com.github.mimiknight.kuca.ecology.filter.HandlerFilterChain#getDeadline()}获取，
+ * 处理器可通过{@link DeadlineContext#current()}获取，并将剩余时间传递给下游调用
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 22:14:03
+ */
+public final class Deadline {
+
+    /**
+     * 截止时间（纳秒）
+     */
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * 从当前时间起指定时长后截止
+     *
+     * @param timeout 时长
+     * @param unit    时长单位
+     * @return {@link Deadline}
+     */
+    public static Deadline after(long timeout, TimeUnit unit) {
+        return new Deadline(System.nanoTime() + unit.toNanos(timeout));
+    }
+
+    /**
+     * 获取剩余时间
+     *
+     * @param unit 时间单位
+     * @return long 已截止时为0或负数
+     */
+    public long remaining(TimeUnit unit) {
+        return unit.convert(remainingNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 获取剩余时间（纳秒）
+     *
+     * @return long 已截止时为0或负数
+     */
+    public long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    /**
+     * 是否已截止
+     *
+     * @return boolean
+     */
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * 已截止时抛出异常
+     *
+     * @throws DeadlineExceededException 已截止
+     */
+    public void check() {
+        long remaining = remainingNanos();
+        if (remaining <= 0) {
+            throw new DeadlineExceededException("The request deadline is exceeded by "
+                    + TimeUnit.NANOSECONDS.toMillis(-remaining) + " ms");
+        }
+    }
+
+    /**
+     * 取两个截止时间中较早的一个
+     *
+     * @param other 另一个截止时间，可为null
+     * @return {@link Deadline}
+     */
+    public Deadline earlier(Deadline other) {
+        if (null == other) {
+            return this;
+        }
+        return deadlineNanos - other.deadlineNanos <= 0 ? this : other;
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline{remaining=" + remaining(TimeUnit.MILLISECONDS) + "ms}";
+    }
+}
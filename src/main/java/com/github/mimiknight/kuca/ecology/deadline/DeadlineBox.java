@@ -0,0 +1,147 @@
+package com.github.mimiknight.kuca.ecology.deadline;
+
+import com.github.mimiknight.kuca.ecology.config.EcologyProperties;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * 装载截止时间策略的容器
+ * <p>
+ * 调度计划构建时按处理器或请求参数类上的{@link EcologyDeadline}注解与全局配置为每个请求Class创建截止时间策略；
+ * 可通过kuca.ecology.deadline.enabled=false关闭
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 22:35:19
+ */
+@Slf4j
+@ConditionalOnProperty(prefix = "kuca.ecology.deadline", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DeadlineBox {
+
+    private interface Constant {
+
+        int INIT_CAPACITY = 16;
+
+        String THREAD_NAME = "ecology-deadline";
+
+    }
+
+    @Autowired
+    private ObjectProvider<EcologyProperties> propertiesProvider;
+
+    /**
+     * 请求Class与截止时间策略映射Map
+     */
+    private final ConcurrentMap<Class<?>, DeadlinePolicy> policyMap;
+
+    /**
+     * 全局执行时限（纳秒），不大于0时不限制
+     */
+    private long defaultTimeoutNanos;
+
+    /**
+     * 全局截止时间请求头名称
+     */
+    private String defaultHeader;
+
+    /**
+     * 异步处理器超时调度器
+     */
+    private ScheduledThreadPoolExecutor scheduler;
+
+    public DeadlineBox() {
+        this.policyMap = new ConcurrentHashMap<>(Constant.INIT_CAPACITY);
+    }
+
+    /**
+     * 初始化方法
+     */
+    @PostConstruct
+    public void init() {
+        EcologyProperties.Deadline deadline = propertiesProvider.getIfAvailable(EcologyProperties::new).getDeadline();
+        Duration defaultTimeout = deadline.getDefaultTimeout();
+        this.defaultTimeoutNanos = null == defaultTimeout ? 0 : defaultTimeout.toNanos();
+        this.defaultHeader = StringUtils.trimToNull(deadline.getHeader());
+        this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, Constant.THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * 销毁方法
+     */
+    @PreDestroy
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 创建截止时间策略
+     *
+     * @param requestClass 请求Class
+     * @param handler      业务处理器
+     * @return {@link DeadlinePolicy} 没有执行时限也没有请求头时返回null
+     */
+    public DeadlinePolicy create(Class<EcologyRequest> requestClass, Object handler) {
+        EcologyDeadline annotation = AnnotatedElementUtils.findMergedAnnotation(
+                AopUtils.getTargetClass(handler), EcologyDeadline.class);
+        if (null == annotation) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(requestClass, EcologyDeadline.class);
+        }
+        long timeoutNanos = defaultTimeoutNanos;
+        String header = defaultHeader;
+        if (null != annotation) {
+            if (annotation.timeout() > 0) {
+                timeoutNanos = annotation.timeUnit().toNanos(annotation.timeout());
+            }
+            if (StringUtils.isNotBlank(annotation.header())) {
+                header = annotation.header().trim();
+            }
+        }
+        if (timeoutNanos <= 0 && null == header) {
+            policyMap.remove(requestClass);
+            return null;
+        }
+        DeadlinePolicy policy = new DeadlinePolicy(requestClass, timeoutNanos, header, scheduler);
+        policyMap.put(requestClass, policy);
+        log.debug("The deadline policy is created,request = {},timeoutNanos = {},header = {}",
+                requestClass.getName(), timeoutNanos, header);
+        return policy;
+    }
+
+    /**
+     * 获取截止时间策略
+     *
+     * @param requestClass 请求Class
+     * @return {@link DeadlinePolicy} 不存在时返回null
+     */
+    public DeadlinePolicy getPolicy(Class<?> requestClass) {
+        return policyMap.get(requestClass);
+    }
+
+    /**
+     * 获取全部截止时间策略
+     *
+     * @return {@link Map}
+     */
+    public Map<Class<?>, DeadlinePolicy> getPolicyMap() {
+        return Collections.unmodifiableMap(policyMap);
+    }
+}
@@ -0,0 +1,51 @@
+package com.github.mimiknight.kuca.ecology.deadline;
+
+/**
+ * 当前线程的请求截止时间
+ * <p>
+ * 同步处理器执行期间始终可用；异步处理器只在handle方法返回之前可用，需要时应自行保存
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 22:18:27
+ */
+public final class DeadlineContext {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private DeadlineContext() {
+    }
+
+    /**
+     * 获取当前线程的截止时间
+     *
+     * @return {@link Deadline} 未设置截止时间时返回null
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 设置当前线程的截止时间
+     *
+     * @param deadline 截止时间
+     * @return {@link Deadline} 之前的截止时间，用于{@link #restore(Deadline)}
+     */
+    public static Deadline attach(Deadline deadline) {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(deadline);
+        return previous;
+    }
+
+    /**
+     * 恢复之前的截止时间
+     *
+     * @param previous {@link #attach(Deadline)}返回的截止时间
+     */
+    public static void restore(Deadline previous) {
+        if (null == previous) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.github.mimiknight.kuca.ecology.deadline;
+
+import com.github.mimiknight.kuca.ecology.exception.DeadlineExceededException;
+import com.github.mimiknight.kuca.ecology.model.request.BaseRequest;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import lombok.Getter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 单个请求Class的截止时间策略
+ * <p>
+ * 调度计划构建时创建，请求执行时按执行时限与请求头计算截止时间
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 22:27:52
+ */
+public final class DeadlinePolicy {
+
+    /**
+     * 请求Class
+     */
+    @Getter
+    private final Class<?> requestClass;
+
+    /**
+     * 执行时限（纳秒），不大于0时不限制
+     */
+    @Getter
+    private final long timeoutNanos;
+
+    /**
+     * 携带剩余时限（毫秒）的请求头名称，可为null
+     */
+    @Getter
+    private final String header;
+
+    /**
+     * 异步处理器超时调度器
+     */
+    private final ScheduledExecutorService scheduler;
+
+    DeadlinePolicy(Class<?> requestClass, long timeoutNanos, String header, ScheduledExecutorService scheduler) {
+        this.requestClass = requestClass;
+        this.timeoutNanos = timeoutNanos;
+        this.header = header;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * 计算请求的截止时间
+     *
+     * @param request 请求参数
+     * @return {@link Deadline} 没有执行时限且请求头缺失时返回null
+     */
+    public Deadline resolve(EcologyRequest request) {
+        Deadline deadline = timeoutNanos > 0 ? Deadline.after(timeoutNanos, TimeUnit.NANOSECONDS) : null;
+        if (null == header || !(request instanceof BaseRequest)) {
+            return deadline;
+        }
+        String value = ((BaseRequest<?, ?>) request).getFirstHeader(header);
+        if (null == value) {
+            return deadline;
+        }
+        long millis;
+        try {
+            millis = Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+            // 请求头格式错误时忽略
+            return deadline;
+        }
+        return Deadline.after(millis, TimeUnit.MILLISECONDS).earlier(deadline);
+    }
+
+    /**
+     * 为异步结果设置截止时间
+     * <p>
+     * 到达截止时间时以{@link DeadlineExceededException}结束结果，并取消传入的异步结果，
+     * 依赖该结果的后续阶段不再执行；处理器自身返回的异步结果不会被取消，处理器需通过截止时间自行停止工作。
+     * 结果先完成时取消超时任务
+     *
+     * @param <T>      结果泛型
+     * @param future   调用方可见的异步结果
+     * @param deadline 截止时间
+     * @return {@link CompletableFuture}
+     */
+    public <T> CompletableFuture<T> within(CompletableFuture<T> future, Deadline deadline) {
+        if (future.isDone()) {
+            return future;
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        ScheduledFuture<?> timeout = scheduler.schedule(() -> {
+            if (result.completeExceptionally(new DeadlineExceededException("The request deadline is exceeded,request = "
+                    + requestClass.getSimpleName()))) {
+                future.cancel(false);
+            }
+        }, Math.max(0, deadline.remainingNanos()), TimeUnit.NANOSECONDS);
+        future.whenComplete((value, throwable) -> {
+            timeout.cancel(false);
+            if (null == throwable) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(throwable);
+            }
+        });
+        return result;
+    }
+}
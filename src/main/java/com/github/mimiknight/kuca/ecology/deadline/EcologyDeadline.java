@@ -0,0 +1,46 @@
+package com.github.mimiknight.kuca.ecology.deadline;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 请求截止时间注解
+ * <p>
+ * 标注在请求处理器或请求参数类上，为该请求Class设置执行时限，超过时限时抛出
+ * {@link com.github.mimiknight.kuca.ecology.exception.DeadlineExceededException}；
+ * 同时标注时以处理器上的注解为准，未标注时使用kuca.ecology.deadline.default-timeout
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 22:21:36
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EcologyDeadline {
+
+    /**
+     * 执行时限，0表示不限制（仍可由请求头指定）
+     *
+     * @return long
+     */
+    long timeout() default 0;
+
+    /**
+     * 执行时限单位
+     *
+     * @return {@link TimeUnit}
+     */
+    TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+
+    /**
+     * 携带剩余时限（毫秒）的请求头名称，为空时使用kuca.ecology.deadline.header；
+     * 请求头与执行时限同时存在时取较早的截止时间
+     *
+     * @return {@link String}
+     */
+    String header() default "";
+}
@@ -0,0 +1,33 @@
+package com.github.mimiknight.kuca.ecology.exception;
+
+import lombok.Getter;
+
+/**
+ * 舱壁已满异常
+ * <p>
+ * 请求Class的并发数达到上限时抛出；不填充异常栈，拒绝请求时开销很小
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 20:05:18
+ */
+@Getter
+public class BulkheadFullException extends RuntimeException {
+
+    private static final long serialVersionUID = -2716451381286327040L;
+
+    /**
+     * 请求Class
+     */
+    private final transient Class<?> requestClass;
+
+    /**
+     * 拒绝时的并发上限
+     */
+    private final int limit;
+
+    public BulkheadFullException(Class<?> requestClass, int limit) {
+        super("The bulkhead is full,request = " + requestClass.getName() + ",limit = " + limit, null, false, false);
+        this.requestClass = requestClass;
+        this.limit = limit;
+    }
+}
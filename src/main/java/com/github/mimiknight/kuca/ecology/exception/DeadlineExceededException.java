@@ -0,0 +1,18 @@
+package com.github.mimiknight.kuca.ecology.exception;
+
+/**
+ * 请求超过截止时间异常
+ * <p>
+ * 不填充异常栈，超时后尽快结束请求
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 22:10:44
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = -5402213716622450975L;
+
+    public DeadlineExceededException(String message) {
+        super(message, null, false, false);
+    }
+}
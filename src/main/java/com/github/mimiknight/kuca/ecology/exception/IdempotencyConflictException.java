@@ -0,0 +1,48 @@
+package com.github.mimiknight.kuca.ecology.exception;
+
+import lombok.Getter;
+
+/**
+ * 幂等冲突异常
+ * <p>
+ * 相同幂等键的请求在等待时限内仍未执行完成时抛出，客户端可稍后使用同一幂等键重试；
+ * 相同幂等键的请求参数与首次请求不一致时也抛出该异常，此时重试不会成功；不填充异常栈
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 10:31:09
+ */
+@Getter
+public class IdempotencyConflictException extends RuntimeException {
+
+    private static final long serialVersionUID = -4410957213360867149L;
+
+    /**
+     * 请求Class
+     */
+    private final transient Class<?> requestClass;
+
+    /**
+     * 幂等键
+     */
+    private final String key;
+
+    /**
+     * 是否因请求参数与首次请求不一致而冲突
+     */
+    private final boolean fingerprintMismatch;
+
+    public IdempotencyConflictException(Class<?> requestClass, String key) {
+        this(requestClass, key, false);
+    }
+
+    public IdempotencyConflictException(Class<?> requestClass, String key, boolean fingerprintMismatch) {
+        super((fingerprintMismatch
+                        ? "The idempotency key is reused with a different request,request = "
+                        : "The idempotent request is still in progress,request = ")
+                        + requestClass.getName() + ",key = " + key,
+                null, false, false);
+        this.requestClass = requestClass;
+        this.key = key;
+        this.fingerprintMismatch = fingerprintMismatch;
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.mimiknight.kuca.ecology.exception;
+
+import lombok.Getter;
+
+/**
+ * 幂等存储已满异常
+ * <p>
+ * 进程内幂等存储的记录数达到上限且全部为执行中的记录、没有可淘汰的已完成记录时抛出，客户端可稍后重试；不填充异常栈
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 19:12:37
+ */
+@Getter
+public class IdempotencyStoreFullException extends RuntimeException {
+
+    private static final long serialVersionUID = 3184726093518849271L;
+
+    /**
+     * 存储键
+     */
+    private final String key;
+
+    /**
+     * 最多保存的记录数
+     */
+    private final int maximumSize;
+
+    public IdempotencyStoreFullException(String key, int maximumSize) {
+        super("The idempotency store is full,key = " + key + ",maximumSize = " + maximumSize, null, false, false);
+        this.key = key;
+        this.maximumSize = maximumSize;
+    }
+}
@@ -0,0 +1,28 @@
+package com.github.mimiknight.kuca.ecology.exception;
+
+import com.github.mimiknight.kuca.ecology.push.CloseReason;
+import lombok.Getter;
+
+/**
+ * 推送流已关闭异常
+ * <p>
+ * 生产者向已关闭（客户端断开、消费过慢或超时）的推送流发送数据时抛出；不填充异常栈
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 01:08:53
+ */
+@Getter
+public class PushStreamClosedException extends RuntimeException {
+
+    private static final long serialVersionUID = -3318402713990617265L;
+
+    /**
+     * 关闭原因
+     */
+    private final CloseReason reason;
+
+    public PushStreamClosedException(CloseReason reason) {
+        super("The push stream is closed,reason = " + reason, null, false, false);
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.mimiknight.kuca.ecology.exception;
+
+import lombok.Getter;
+
+/**
+ * 超出限流异常
+ * <p>
+ * 请求Class或限流键的令牌耗尽时抛出；不填充异常栈，拒绝请求时开销很小
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 21:02:37
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 6129884371027716302L;
+
+    /**
+     * 请求Class
+     */
+    private final transient Class<?> requestClass;
+
+    /**
+     * 限流键，按请求Class整体限流时为null
+     */
+    private final String key;
+
+    public RateLimitExceededException(Class<?> requestClass, String key) {
+        super("The rate limit is exceeded,request = " + requestClass.getName() + ",key = " + key, null, false, false);
+        this.requestClass = requestClass;
+        this.key = key;
+    }
+}
@@ -1,15 +1,15 @@
 package com.github.mimiknight.kuca.ecology.filter;
 
+import com.github.mimiknight.kuca.ecology.deadline.Deadline;
 import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
 import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
 import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
-import org.apache.commons.collections4.CollectionUtils;
-
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * Handler过滤器实现类
+ * <p>
+ * 过滤器数组由调度计划在启动时构建并在请求间共享，过滤器链本身只记录当前执行位置；
+ * 设置了截止时间时，每个过滤器与业务处理器执行前检查是否已截止
  *
  * @author MiMiKnight victor2015yhm@gmail.com
  * @since 2023-09-09 00:09:41
@@ -17,71 +17,82 @@ import java.util.List;
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class ApplicationHandlerFilterChain implements HandlerFilterChain {
 
-    private final List<EcologyHandlerFilter> filters;
+    /**
+     * 共享的有序过滤器数组（只读）
+     */
+    private final EcologyHandlerFilter[] filters;
+
+    private final EcologyRequestHandler handler;
+
+    /**
+     * 截止时间，可为null
+     */
+    private final Deadline deadline;
 
     private int position;
 
-    private EcologyRequestHandler handler;
+    public <Q extends EcologyRequest,
+            P extends EcologyResponse,
+            H extends EcologyRequestHandler<Q, P>> ApplicationHandlerFilterChain(EcologyHandlerFilter[] filters,
+                                                                                H handler) {
+        this(filters, handler, null);
+    }
 
-    public ApplicationHandlerFilterChain() {
-        this.filters = new ArrayList<>();
+    public <Q extends EcologyRequest,
+            P extends EcologyResponse,
+            H extends EcologyRequestHandler<Q, P>> ApplicationHandlerFilterChain(EcologyHandlerFilter[] filters,
+                                                                                H handler,
+                                                                                Deadline deadline) {
+        this.filters = filters;
+        this.handler = handler;
+        this.deadline = deadline;
         this.position = 0;
     }
 
     @Override
     public <Q extends EcologyRequest,
             P extends EcologyResponse> void doFilter(Q request, P response) throws Exception {
+        if (null != deadline) {
+            deadline.check();
+        }
         // 递归执行过滤器
-        if (position < filters.size()) {
-            EcologyHandlerFilter filter = filters.get(position++);
-            filter.init();
-            filter.doFilter(request, response, this);
-            filter.destroy();
+        if (position < filters.length) {
+            EcologyHandlerFilter filter = filters[position++];
+            if (filter.isPerRequestLifecycle()) {
+                doFilterWithLifecycle(filter, request, response);
+            } else {
+                filter.doFilter(request, response, this);
+            }
             return;
         }
         // 执行业务逻辑
         this.handler.handle(request, response);
     }
 
-    public <Q extends EcologyRequest,
-            P extends EcologyResponse,
-            H extends EcologyRequestHandler<Q, P>,
-            F extends EcologyHandlerFilter<Q, P, H>> void addFilter(F filter) {
-        this.filters.add(filter);
-    }
-
-    public <Q extends EcologyRequest,
-            P extends EcologyResponse,
-            H extends EcologyRequestHandler<Q, P>,
-            F extends EcologyHandlerFilter<Q, P, H>> void addFilter(List<F> filters) {
-        this.filters.addAll(filters);
-    }
-
-    public <Q extends EcologyRequest,
-            P extends EcologyResponse,
-            H extends EcologyRequestHandler<Q, P>> void setTarget(H target) {
-        this.handler = target;
+    @Override
+    public Deadline getDeadline() {
+        return deadline;
     }
 
     /**
-     * 初始化过滤器链
+     * 执行带有请求级生命周期回调的过滤器
      *
-     * @param <Q>     接口入参泛型
-     * @param <P>     接口出参泛型
-     * @param <H>     业务处理器泛型
-     * @param <F>     过滤器泛型
-     * @param handler 接口业务处理器
-     * @param filters 接口过滤器接口
+     * @param <Q>      接口入参泛型
+     * @param <P>      接口出参泛型
+     * @param filter   过滤器
+     * @param request  接口入参
+     * @param response 接口出参
+     * @throws Exception 被抛出的异常
      */
-    public <Q extends EcologyRequest,
-            P extends EcologyResponse,
-            H extends EcologyRequestHandler<Q, P>,
-            F extends EcologyHandlerFilter<Q, P, H>> void init(H handler, List<F> filters) {
-        // 设置目标对象
-        this.setTarget(handler);
-        // 设置过滤器
-        if (CollectionUtils.isNotEmpty(filters)) {
-            this.addFilter(filters);
+    private <Q extends EcologyRequest,
+            P extends EcologyResponse> void doFilterWithLifecycle(EcologyHandlerFilter filter,
+                                                                  Q request,
+                                                                  P response) throws Exception {
+        filter.init();
+        try {
+            filter.doFilter(request, response, this);
+        } finally {
+            filter.destroy();
         }
     }
 }
@@ -0,0 +1,50 @@
+package com.github.mimiknight.kuca.ecology.filter;
+
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * Handler响应式过滤器链实现类
+ * <p>
+ * 过滤器数组由调度计划在启动时构建并在请求间共享，过滤器链本身只记录当前执行位置
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 14:11:20
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class ApplicationReactiveHandlerFilterChain implements ReactiveHandlerFilterChain {
+
+    /**
+     * 共享的有序响应式过滤器数组（只读）
+     */
+    private final EcologyReactiveHandlerFilter[] filters;
+
+    /**
+     * 过滤器链末端
+     */
+    private final Supplier<Mono<Void>> target;
+
+    private int position;
+
+    public ApplicationReactiveHandlerFilterChain(EcologyReactiveHandlerFilter[] filters, Supplier<Mono<Void>> target) {
+        this.filters = filters;
+        this.target = target;
+        this.position = 0;
+    }
+
+    @Override
+    public <Q extends EcologyRequest,
+            P extends EcologyResponse> Mono<Void> doFilter(Q request, P response) {
+        return Mono.defer(() -> {
+            if (position < filters.length) {
+                EcologyReactiveHandlerFilter filter = filters[position++];
+                return filter.doFilter(request, response, this);
+            }
+            // 执行过滤器链末端
+            return target.get();
+        });
+    }
+}
@@ -15,6 +15,8 @@ public interface EcologyHandlerFilter<Q extends EcologyRequest, P extends Ecolog
 
     /**
      * 初始化方法
+     * <p>
+     * 默认在容器启动时回调一次；{@link #isPerRequestLifecycle()}返回true时改为每次请求前回调
      */
     default void init() {
     }
@@ -31,7 +33,18 @@ public interface EcologyHandlerFilter<Q extends EcologyRequest, P extends Ecolog
 
     /**
      * 销毁方法
+     * <p>
+     * 默认在容器关闭时回调一次；{@link #isPerRequestLifecycle()}返回true时改为每次请求后回调
      */
     default void destroy() {
     }
+
+    /**
+     * 是否在每次请求时回调{@link #init()}与{@link #destroy()}方法
+     *
+     * @return boolean 默认false
+     */
+    default boolean isPerRequestLifecycle() {
+        return false;
+    }
 }
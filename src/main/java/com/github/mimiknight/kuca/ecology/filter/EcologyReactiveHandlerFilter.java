@@ -0,0 +1,30 @@
+package com.github.mimiknight.kuca.ecology.filter;
+
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+import org.springframework.core.Ordered;
+import reactor.core.publisher.Mono;
+
+/**
+ * Handler响应式过滤器接口
+ * <p>
+ * 仅在响应式执行时生效，先于{@link EcologyHandlerFilter}执行，且可以在业务处理完成后继续处理
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 14:07:45
+ */
+public interface EcologyReactiveHandlerFilter<Q extends EcologyRequest, P extends EcologyResponse> extends Ordered {
+
+    /**
+     * 过滤器方法体
+     * <p>
+     * 放行时返回chain.doFilter(request, response)或以其为基础组合的Mono，每次过滤最多调用一次chain.doFilter
+     *
+     * @param request  接口入参
+     * @param response 接口出参
+     * @param chain    响应式过滤器链
+     * @return {@link Mono}
+     */
+    Mono<Void> doFilter(Q request, P response, ReactiveHandlerFilterChain chain);
+
+}
@@ -1,25 +1,32 @@
 package com.github.mimiknight.kuca.ecology.filter;
 
-import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
+import com.github.mimiknight.kuca.ecology.index.EcologyIndex;
+import com.github.mimiknight.kuca.ecology.index.IndexKind;
+import com.github.mimiknight.kuca.ecology.index.IndexedBinding;
 import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
 import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
+import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.ResolvableType;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeSet;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -40,6 +47,8 @@ public class HandlerFilterBox {
 
         int DO_FILTER_METHOD_PARAMETER_COUNT = 3;
 
+        String REACTOR_CLASS_NAME = "reactor.core.publisher.Mono";
+
     }
 
     @Autowired
@@ -50,90 +59,271 @@ public class HandlerFilterBox {
      */
     private final ConcurrentMap<Class<EcologyRequest>, List<EcologyHandlerFilter>> handlerFilterMap;
 
+    /**
+     * Handler 响应式过滤器Map
+     */
+    private final ConcurrentMap<Class<EcologyRequest>, List<EcologyReactiveHandlerFilter>> reactiveHandlerFilterMap;
+
     /**
      * 空参构造
      */
     public HandlerFilterBox() {
         this.handlerFilterMap = new ConcurrentHashMap<>(Constant.INIT_CAPACITY);
+        this.reactiveHandlerFilterMap = new ConcurrentHashMap<>(Constant.INIT_CAPACITY);
     }
 
     @PostConstruct
     public void init() {
         initFilterMap();
+        initFilterLifecycle();
+    }
+
+    /**
+     * 销毁方法
+     * <p>
+     * 回调非请求级生命周期过滤器的destroy方法
+     */
+    @PreDestroy
+    public void destroy() {
+        for (EcologyHandlerFilter filter : distinctFilters()) {
+            if (!filter.isPerRequestLifecycle()) {
+                filter.destroy();
+            }
+        }
+    }
+
+    /**
+     * 回调非请求级生命周期过滤器的init方法
+     */
+    private void initFilterLifecycle() {
+        for (EcologyHandlerFilter filter : distinctFilters()) {
+            if (!filter.isPerRequestLifecycle()) {
+                filter.init();
+            }
+        }
+    }
+
+    /**
+     * 获取去重后的过滤器
+     *
+     * @return {@link Set}
+     */
+    private Set<EcologyHandlerFilter> distinctFilters() {
+        Set<EcologyHandlerFilter> filters = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (List<EcologyHandlerFilter> list : handlerFilterMap.values()) {
+            filters.addAll(list);
+        }
+        return filters;
     }
 
 
     /**
      * 初始化过滤器Map
+     * <p>
+     * 优先使用编译期索引，未被索引的过滤器回退为反射扫描
      */
     public void initFilterMap() {
+        EcologyIndex index = EcologyIndex.load(appContext);
         Map<String, EcologyHandlerFilter> map = appContext.getBeansOfType(EcologyHandlerFilter.class);
-        if (MapUtils.isEmpty(map)) {
+        if (MapUtils.isNotEmpty(map)) {
+            buildFilterMap(map.values(), index, IndexKind.FILTER, HandlerFilterChain.class, handlerFilterMap);
+        }
+        // 响应式过滤器依赖Reactor
+        if (!ClassUtils.isPresent(Constant.REACTOR_CLASS_NAME, appContext.getClassLoader())) {
             return;
         }
-        buildFilterMap(map.values());
+        Map<String, EcologyReactiveHandlerFilter> reactiveMap =
+                appContext.getBeansOfType(EcologyReactiveHandlerFilter.class);
+        if (MapUtils.isNotEmpty(reactiveMap)) {
+            buildFilterMap(reactiveMap.values(), index, IndexKind.REACTIVE_FILTER,
+                    ReactiveHandlerFilterChain.class, reactiveHandlerFilterMap);
+        }
     }
 
 
     /**
      * 构建过滤器Map
      *
-     * @param filters 过滤器集合
+     * @param filters   过滤器集合
+     * @param index     编译期索引
+     * @param kind      索引组件种类
+     * @param chainType 过滤器链类型
+     * @param filterMap 目标过滤器Map
      */
     @SuppressWarnings({"rawtypes", "unchecked"})
-    private void buildFilterMap(Collection<EcologyHandlerFilter> filters) {
+    private void buildFilterMap(Collection<? extends Ordered> filters,
+                                EcologyIndex index,
+                                IndexKind kind,
+                                Class<?> chainType,
+                                ConcurrentMap filterMap) {
         Assert.notEmpty(filters, "The interceptors argument is required; it must not be empty");
 
-        HashMap<Class<EcologyRequest>, TreeSet<EcologyHandlerFilter>> map = new HashMap<>();
+        for (Ordered filter : filters) {
+            Class<EcologyRequest> requestClass = findRequestClass(filter, index, kind, chainType);
+            if (null != requestClass) {
+                putIt(filterMap, requestClass, filter);
+            }
+        }
 
-        for (EcologyHandlerFilter filter : filters) { // outer
-            for (Method method : filter.getClass().getMethods()) { // inner
-                if (isDoFilterMethod(method)) {
-                    Class<EcologyRequest> requestClass = (Class<EcologyRequest>) method.getParameterTypes()[0];
-                    sortIt(map, requestClass, filter);
-                    break;
-                }
-            } // end inner
-        } // end outer
+        // 稳定排序，order相同时保持Bean的注册顺序
+        for (Object list : filterMap.values()) {
+            ((List<Ordered>) list).sort(new HandlerFilterComparator<>());
+        }
+    }
+
+    /**
+     * 找出过滤器绑定的请求Class
+     * <p>
+     * 优先使用编译期索引，未被索引时按过滤器接口的泛型参数解析，泛型参数无法解析时反射扫描doFilter方法
+     *
+     * @param filter    过滤器
+     * @param index     编译期索引
+     * @param kind      索引组件种类
+     * @param chainType 过滤器链类型
+     * @return {@link Class} 不存在doFilter方法时返回null
+     */
+    private Class<EcologyRequest> findRequestClass(Ordered filter,
+                                                   EcologyIndex index,
+                                                   IndexKind kind,
+                                                   Class<?> chainType) {
+        List<IndexedBinding> bindings = index.find(kind, AopUtils.getTargetClass(filter));
+        if (CollectionUtils.isNotEmpty(bindings)) {
+            return bindings.get(0).getRequestClass();
+        }
+        Class<?> filterType = HandlerFilterChain.class == chainType
+                ? EcologyHandlerFilter.class
+                : EcologyReactiveHandlerFilter.class;
+        Class<?> targetClass = AopUtils.getTargetClass(filter);
+        Class<?> requestClass = ResolvableType.forClass(targetClass)
+                .as(filterType)
+                .resolveGeneric(0);
+        if (null != requestClass && EcologyRequest.class != requestClass) {
+            return (Class<EcologyRequest>) requestClass;
+        }
+        for (Method method : targetClass.getMethods()) {
+            if (isDoFilterMethod(method, chainType)) {
+                return (Class<EcologyRequest>) ResolvableType.forMethodParameter(method, 0, targetClass).resolve();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 运行时添加过滤器
+     * <p>
+     * 按order插入请求已有的过滤器中，非请求级生命周期的过滤器在添加前回调init方法；
+     * 过滤器列表整体替换，不修改正在被读取的列表
+     *
+     * @param filter 过滤器
+     * @return {@link Class} 过滤器绑定的请求Class
+     */
+    public synchronized Class<EcologyRequest> addFilter(EcologyHandlerFilter filter) {
+        Assert.notNull(filter, "The filter argument is required; it must not be null");
+        Class<EcologyRequest> requestClass = findRequestClass(filter, EcologyIndex.load(appContext),
+                IndexKind.FILTER, HandlerFilterChain.class);
+        Assert.notNull(requestClass, "The filter does not declare a doFilter method,filter = "
+                + filter.getClass().getName());
+        if (!filter.isPerRequestLifecycle()) {
+            filter.init();
+        }
+        addIt(handlerFilterMap, requestClass, filter);
+        return requestClass;
+    }
 
-        for (Map.Entry<Class<EcologyRequest>, TreeSet<EcologyHandlerFilter>> entry : map.entrySet()) { // outer
-            Class<EcologyRequest> key = entry.getKey();
-            for (EcologyHandlerFilter interceptor : entry.getValue()) { // inner
-                putIt(key, interceptor);
-            } // end inner
-        } // end outer
+    /**
+     * 运行时移除过滤器
+     * <p>
+     * 不回调destroy方法：正在执行的请求可能仍在使用该过滤器，由调用方在请求排空后自行销毁
+     *
+     * @param filter 过滤器（与添加时为同一对象）
+     * @return {@link Class} 过滤器原绑定的请求Class，未注册时返回null
+     */
+    public synchronized Class<EcologyRequest> removeFilter(EcologyHandlerFilter filter) {
+        Assert.notNull(filter, "The filter argument is required; it must not be null");
+        return removeIt(handlerFilterMap, filter);
+    }
 
-        map.clear();
+    /**
+     * 运行时添加响应式过滤器
+     *
+     * @param filter 响应式过滤器
+     * @return {@link Class} 过滤器绑定的请求Class
+     */
+    public synchronized Class<EcologyRequest> addReactiveFilter(EcologyReactiveHandlerFilter filter) {
+        Assert.notNull(filter, "The filter argument is required; it must not be null");
+        Class<EcologyRequest> requestClass = findRequestClass(filter, EcologyIndex.load(appContext),
+                IndexKind.REACTIVE_FILTER, ReactiveHandlerFilterChain.class);
+        Assert.notNull(requestClass, "The filter does not declare a doFilter method,filter = "
+                + filter.getClass().getName());
+        addIt(reactiveHandlerFilterMap, requestClass, filter);
+        return requestClass;
     }
 
     /**
-     * @param key   Map键
-     * @param value Map值
+     * 运行时移除响应式过滤器
+     *
+     * @param filter 响应式过滤器（与添加时为同一对象）
+     * @return {@link Class} 过滤器原绑定的请求Class，未注册时返回null
      */
-    @SuppressWarnings({"rawtypes"})
-    private void putIt(Class<EcologyRequest> key, EcologyHandlerFilter value) {
-        this.handlerFilterMap.compute(key, (k, v) -> {
-            if (CollectionUtils.isEmpty(v)) {
-                v = new ArrayList<>();
-            }
-            v.add(value);
-            return v;
+    public synchronized Class<EcologyRequest> removeReactiveFilter(EcologyReactiveHandlerFilter filter) {
+        Assert.notNull(filter, "The filter argument is required; it must not be null");
+        return removeIt(reactiveHandlerFilterMap, filter);
+    }
+
+    /**
+     * 复制请求的过滤器列表，按order插入后整体替换
+     *
+     * @param filterMap 目标过滤器Map
+     * @param key       Map键
+     * @param value     过滤器
+     */
+    private static void addIt(ConcurrentMap filterMap,
+                              Class<EcologyRequest> key,
+                              Ordered value) {
+        filterMap.compute(key, (k, v) -> {
+            List<Ordered> list = null == v ? new ArrayList<>(1) : new ArrayList<>((List<Ordered>) v);
+            list.add(value);
+            // 稳定排序，order相同时保持添加顺序
+            list.sort(new HandlerFilterComparator<>());
+            return list;
         });
     }
 
     /**
-     * @param map   Map容器
-     * @param key   Map键
-     * @param value Map值
+     * 复制请求的过滤器列表，移除后整体替换
+     *
+     * @param filterMap 目标过滤器Map
+     * @param value     过滤器
+     * @return {@link Class} 过滤器原绑定的请求Class，未注册时返回null
+     */
+    private static Class<EcologyRequest> removeIt(ConcurrentMap filterMap, Ordered value) {
+        for (Map.Entry<Class<EcologyRequest>, List> entry
+                : ((ConcurrentMap<Class<EcologyRequest>, List>) filterMap).entrySet()) {
+            List<Ordered> list = new ArrayList<>(entry.getValue());
+            if (list.removeIf(filter -> filter == value)) {
+                if (list.isEmpty()) {
+                    filterMap.remove(entry.getKey());
+                } else {
+                    filterMap.put(entry.getKey(), list);
+                }
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param filterMap 目标过滤器Map
+     * @param key       Map键
+     * @param value     Map值
      */
     @SuppressWarnings({"rawtypes"})
-    private static void sortIt(HashMap<Class<EcologyRequest>, TreeSet<EcologyHandlerFilter>> map,
-                               Class<EcologyRequest> key,
-                               EcologyHandlerFilter value) {
-        // key如果不存在则新建TreeSet插入值，key如果已经存在则添加到TreeSet中
-        map.compute(key, (k, v) -> {
+    private static void putIt(ConcurrentMap<Class<EcologyRequest>, List> filterMap,
+                              Class<EcologyRequest> key,
+                              Ordered value) {
+        filterMap.compute(key, (k, v) -> {
             if (CollectionUtils.isEmpty(v)) {
-                v = new TreeSet<>(new HandlerFilterComparator<>());
+                v = new ArrayList<>();
             }
             v.add(value);
             return v;
@@ -149,10 +339,11 @@ public class HandlerFilterBox {
      * 匹配方法参数个数；
      * 匹配方法参数类型；
      *
-     * @param method 方法
+     * @param method    方法
+     * @param chainType 过滤器链类型
      * @return boolean
      */
-    private boolean isDoFilterMethod(Method method) {
+    private boolean isDoFilterMethod(Method method, Class<?> chainType) {
         Class<?>[] parameterTypes = method.getParameterTypes();
         return Modifier.isPublic(method.getModifiers())
                 && !method.isSynthetic()
@@ -160,7 +351,7 @@ public class HandlerFilterBox {
                 && Constant.DO_FILTER_METHOD_PARAMETER_COUNT == method.getParameterCount()
                 && EcologyRequest.class.isAssignableFrom(parameterTypes[0])
                 && EcologyResponse.class.isAssignableFrom(parameterTypes[1])
-                && HandlerFilterChain.class.isAssignableFrom(parameterTypes[2]);
+                && chainType.isAssignableFrom(parameterTypes[2]);
 
     }
 
@@ -187,13 +378,30 @@ public class HandlerFilterBox {
         return this.getHandlerFilterMap().get(key);
     }
 
+    /**
+     * 获取响应式过滤器Map
+     *
+     * @return {@link ConcurrentMap}
+     */
+    public ConcurrentMap<Class<EcologyRequest>, List<EcologyReactiveHandlerFilter>> getReactiveHandlerFilterMap() {
+        return this.reactiveHandlerFilterMap;
+    }
+
+    /**
+     * 根据键获取响应式过滤器
+     *
+     * @param key Map键值
+     * @return {@link List}
+     */
+    public List<EcologyReactiveHandlerFilter> getReactiveHandlerFilterByKey(Class<EcologyRequest> key) {
+        List<EcologyReactiveHandlerFilter> filters = this.reactiveHandlerFilterMap.get(key);
+        return null == filters ? Collections.emptyList() : filters;
+    }
+
     /**
      * 自定义过滤器比较器
      */
-    private static class HandlerFilterComparator<Q extends EcologyRequest,
-            P extends EcologyResponse,
-            H extends EcologyRequestHandler<Q, P>,
-            F extends EcologyHandlerFilter<Q, P, H>> implements Comparator<F> {
+    private static class HandlerFilterComparator<F extends Ordered> implements Comparator<F> {
 
         @Override
         public int compare(F o1, F o2) {
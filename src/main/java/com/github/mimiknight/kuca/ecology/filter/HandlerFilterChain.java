@@ -1,5 +1,6 @@
 package com.github.mimiknight.kuca.ecology.filter;
 
+import com.github.mimiknight.kuca.ecology.deadline.Deadline;
 import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
 import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
 
@@ -22,4 +23,15 @@ public interface HandlerFilterChain {
      */
     <Q extends EcologyRequest,
             P extends EcologyResponse> void doFilter(Q request, P response) throws Exception;
+
+    /**
+     * 获取当前请求的截止时间
+     * <p>
+     * 过滤器可据此判断剩余时间，或在耗时操作前调用{@link Deadline#check()}提前结束
+     *
+     * @return {@link Deadline} 未设置截止时间时返回null
+     */
+    default Deadline getDeadline() {
+        return null;
+    }
 }
@@ -1,5 +1,10 @@
 package com.github.mimiknight.kuca.ecology.filter;
 
+import com.github.mimiknight.kuca.ecology.deadline.Deadline;
+import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+
 /**
  * Handler过滤器链工厂类
  *
@@ -14,9 +19,38 @@ public class HandlerFilterChainFactory {
     /**
      * 获取过滤器链
      *
+     * @param <Q>     接口入参泛型
+     * @param <P>     接口出参泛型
+     * @param <H>     业务处理器泛型
+     * @param filters 共享的有序过滤器数组
+     * @param handler 接口业务处理器
+     * @return {@link ApplicationHandlerFilterChain}
+     */
+    @SuppressWarnings({"rawtypes"})
+    public static <Q extends EcologyRequest,
+            P extends EcologyResponse,
+            H extends EcologyRequestHandler<Q, P>> ApplicationHandlerFilterChain getFilterChain(EcologyHandlerFilter[] filters,
+                                                                                               H handler) {
+        return new ApplicationHandlerFilterChain(filters, handler);
+    }
+
+    /**
+     * 获取带截止时间的过滤器链
+     *
+     * @param <Q>      接口入参泛型
+     * @param <P>      接口出参泛型
+     * @param <H>      业务处理器泛型
+     * @param filters  共享的有序过滤器数组
+     * @param handler  接口业务处理器
+     * @param deadline 截止时间，可为null
      * @return {@link ApplicationHandlerFilterChain}
      */
-    public static ApplicationHandlerFilterChain getFilterChain() {
-        return new ApplicationHandlerFilterChain();
+    @SuppressWarnings({"rawtypes"})
+    public static <Q extends EcologyRequest,
+            P extends EcologyResponse,
+            H extends EcologyRequestHandler<Q, P>> ApplicationHandlerFilterChain getFilterChain(EcologyHandlerFilter[] filters,
+                                                                                               H handler,
+                                                                                               Deadline deadline) {
+        return new ApplicationHandlerFilterChain(filters, handler, deadline);
     }
 }
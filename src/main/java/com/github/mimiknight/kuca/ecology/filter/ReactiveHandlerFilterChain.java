@@ -0,0 +1,26 @@
+package com.github.mimiknight.kuca.ecology.filter;
+
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * 响应式过滤器链接口
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 14:05:12
+ */
+public interface ReactiveHandlerFilterChain {
+
+    /**
+     * 过滤器方法体
+     *
+     * @param <Q>      接口入参泛型
+     * @param <P>      接口出参泛型
+     * @param request  接口入参
+     * @param response 接口出参
+     * @return {@link Mono} 后续过滤器与业务处理完成时完成
+     */
+    <Q extends EcologyRequest,
+            P extends EcologyResponse> Mono<Void> doFilter(Q request, P response);
+}
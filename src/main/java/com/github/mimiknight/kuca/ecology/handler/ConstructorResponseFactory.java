@@ -0,0 +1,32 @@
+package com.github.mimiknight.kuca.ecology.handler;
+
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * 基于构造器的响应对象工厂
+ * <p>
+ * 构造器在创建工厂时解析并缓存，避免每次请求时重复查找构造器
+ *
+ * @param <P> 响应参数泛型
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 09:15:02
+ */
+public class ConstructorResponseFactory<P extends EcologyResponse> implements EcologyResponseFactory<P> {
+
+    private final Constructor<P> constructor;
+
+    public ConstructorResponseFactory(Class<P> responseClass) throws NoSuchMethodException {
+        Assert.notNull(responseClass, "The responseClass argument is required; it must not be null");
+        this.constructor = responseClass.getDeclaredConstructor();
+        ReflectionUtils.makeAccessible(this.constructor);
+    }
+
+    @Override
+    public P newInstance() throws Exception {
+        return constructor.newInstance();
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.mimiknight.kuca.ecology.handler;
+
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 异步请求处理器接口
+ * <p>
+ * 与{@link EcologyRequestHandler}一样由HandlerBox注册，同一个请求只能绑定一个同步或异步处理器；
+ * handle方法应尽快返回，下游I/O完成后再完成返回的CompletionStage
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 13:02:18
+ */
+public interface EcologyAsyncRequestHandler<Q extends EcologyRequest, P extends EcologyResponse> {
+
+    /**
+     * 处理方法
+     *
+     * @param request  请求参数
+     * @param response 响应参数
+     * @return {@link CompletionStage} 完成时的值作为最终响应，值为null时使用传入的响应参数
+     * @throws Exception 异常
+     */
+    CompletionStage<P> handle(Q request, P response) throws Exception;
+
+}
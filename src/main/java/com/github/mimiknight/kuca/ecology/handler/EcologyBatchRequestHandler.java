@@ -0,0 +1,33 @@
+package com.github.mimiknight.kuca.ecology.handler;
+
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+
+import java.util.List;
+
+/**
+ * 批量请求处理器接口
+ * <p>
+ * 可选接口，批量执行时同一请求类型的请求通过一次handleBatch调用处理（例如一次SQL批量查询）；
+ * 单个请求执行时仍调用handle方法，实现类须同时实现handle方法
+ * <p>
+ * 只有请求的调度计划没有任何执行阶段时才会批量处理：没有过滤器、拦截器、限流、舱壁、截止时间、响应缓存、幂等与请求合并；
+ * 否则批量执行时每个请求仍逐个调用handle方法，以保证各阶段完整执行，调度计划构建时输出警告日志。
+ * 度量与JFR事件不影响批量处理，一次批量处理记录为处理器阶段的一个样本
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 15:31:50
+ */
+public interface EcologyBatchRequestHandler<Q extends EcologyRequest, P extends EcologyResponse>
+        extends EcologyRequestHandler<Q, P> {
+
+    /**
+     * 批量处理方法
+     *
+     * @param requests  请求参数集合
+     * @param responses 响应参数集合，与请求参数按下标一一对应
+     * @throws Exception 异常
+     */
+    void handleBatch(List<Q> requests, List<P> responses) throws Exception;
+
+}
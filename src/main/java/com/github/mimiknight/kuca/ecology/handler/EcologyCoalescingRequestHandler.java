@@ -0,0 +1,43 @@
+package com.github.mimiknight.kuca.ecology.handler;
+
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+
+/**
+ * 请求合并处理器接口
+ * <p>
+ * 可选接口，合并键相同的并发请求只执行一次handle方法，其余请求等待该次执行完成后复制其响应；
+ * 过滤器仍按请求逐个执行，只有过滤器链末端的处理器调用被合并；
+ * 响应体持有资源的响应（如{@link com.github.mimiknight.kuca.ecology.model.response.DirectBufferResponse}）不合并
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 16:12:40
+ */
+public interface EcologyCoalescingRequestHandler<Q extends EcologyRequest, P extends EcologyResponse>
+        extends EcologyRequestHandler<Q, P> {
+
+    /**
+     * 获取合并键
+     * <p>
+     * 合并键需正确实现equals与hashCode方法
+     *
+     * @param request 请求参数
+     * @return {@link Object} 合并键，为null时该请求不参与合并
+     */
+    Object coalescingKey(Q request);
+
+    /**
+     * 复制响应
+     * <p>
+     * 默认按{@link ResponseCopier#copy(EcologyResponse, EcologyResponse)}复制，响应体按JSON深复制；
+     * 响应体无法通过JSON还原时需覆盖该方法
+     *
+     * @param source 合并执行得到的响应
+     * @param target 当前请求的响应
+     * @throws Exception 复制失败
+     */
+    default void copyResponse(P source, P target) throws Exception {
+        ResponseCopier.copy(source, target);
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.github.mimiknight.kuca.ecology.handler;
+
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * 响应式请求处理器接口
+ * <p>
+ * 与{@link EcologyRequestHandler}一样由HandlerBox注册，同一个请求只能绑定一个处理器；
+ * handle方法不应阻塞，返回的Mono在被订阅时执行业务逻辑
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 14:20:36
+ */
+public interface EcologyReactiveRequestHandler<Q extends EcologyRequest, P extends EcologyResponse> {
+
+    /**
+     * 处理方法
+     *
+     * @param request  请求参数
+     * @param response 响应参数
+     * @return {@link Mono} 发出的值作为最终响应，为空时使用传入的响应参数
+     */
+    Mono<P> handle(Q request, P response);
+
+}
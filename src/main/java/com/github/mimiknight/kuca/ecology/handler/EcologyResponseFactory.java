@@ -0,0 +1,23 @@
+package com.github.mimiknight.kuca.ecology.handler;
+
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+
+/**
+ * 响应对象工厂接口
+ *
+ * @param <P> 响应参数泛型
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 09:12:40
+ */
+@FunctionalInterface
+public interface EcologyResponseFactory<P extends EcologyResponse> {
+
+    /**
+     * 创建响应对象
+     *
+     * @return {@link P} 响应对象
+     * @throws Exception 异常
+     */
+    P newInstance() throws Exception;
+
+}
@@ -1,6 +1,10 @@
 package com.github.mimiknight.kuca.ecology.handler;
 
 import com.github.mimiknight.kuca.ecology.exception.RequestRepeatBindException;
+import com.github.mimiknight.kuca.ecology.index.EcologyIndex;
+import com.github.mimiknight.kuca.ecology.index.IndexKind;
+import com.github.mimiknight.kuca.ecology.index.IndexedBinding;
+import com.github.mimiknight.kuca.ecology.jfr.DispatchFailureRecorder;
 import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
 import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -8,10 +12,17 @@ import org.apache.commons.collections4.MapUtils;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 import javax.annotation.PostConstruct;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -43,6 +54,11 @@ public class HandlerBox {
          */
         int HANDLE_METHOD_PARAMETER_COUNT = 2;
 
+        /**
+         * 响应式处理器依赖的Reactor类名
+         */
+        String REACTOR_CLASS_NAME = "reactor.core.publisher.Mono";
+
     }
 
     @Autowired
@@ -53,35 +69,198 @@ public class HandlerBox {
      */
     private final ConcurrentMap<Class<EcologyRequest>, EcologyRequestHandler> requestHandlerMap;
 
+    /**
+     * Request与异步Handler映射Map
+     */
+    private final ConcurrentMap<Class<EcologyRequest>, EcologyAsyncRequestHandler> requestAsyncHandlerMap;
+
+    /**
+     * Request与响应式Handler映射Map
+     */
+    private final ConcurrentMap<Class<EcologyRequest>, EcologyReactiveRequestHandler> requestReactiveHandlerMap;
+
     /**
      * Request与Response映射Map
      */
     private final ConcurrentMap<Class<EcologyRequest>, Class<EcologyResponse>> requestResponseMap;
 
+    /**
+     * Response与响应对象工厂映射Map
+     */
+    private final ConcurrentMap<Class<EcologyResponse>, EcologyResponseFactory> responseFactoryMap;
+
     public HandlerBox() {
         requestHandlerMap = new ConcurrentHashMap<>(Constant.INIT_CAPACITY);
+        requestAsyncHandlerMap = new ConcurrentHashMap<>(Constant.INIT_CAPACITY);
+        requestReactiveHandlerMap = new ConcurrentHashMap<>(Constant.INIT_CAPACITY);
         requestResponseMap = new ConcurrentHashMap<>(Constant.INIT_CAPACITY);
+        responseFactoryMap = new ConcurrentHashMap<>(Constant.INIT_CAPACITY);
     }
 
     /**
      * 初始化方法
      */
     @PostConstruct
-    public void init() {
+    public void init() throws NoSuchMethodException {
         initRequestResponseHandlerMap();
+        initResponseFactoryMap();
     }
 
     /**
      * 初始化Map
+     * <p>
+     * 优先使用编译期索引，未被索引的Handler回退为反射扫描
      */
     private void initRequestResponseHandlerMap() {
-        Map<String, EcologyRequestHandler> handlerMap = appContext.getBeansOfType(EcologyRequestHandler.class);
+        EcologyIndex index = EcologyIndex.load(appContext);
+        initRequestResponseHandlerMap(index, IndexKind.HANDLER, EcologyRequestHandler.class, requestHandlerMap);
+        initRequestResponseHandlerMap(index, IndexKind.ASYNC_HANDLER, EcologyAsyncRequestHandler.class,
+                requestAsyncHandlerMap);
+        // 响应式处理器依赖Reactor
+        if (ClassUtils.isPresent(Constant.REACTOR_CLASS_NAME, appContext.getClassLoader())) {
+            initRequestResponseHandlerMap(index, IndexKind.REACTIVE_HANDLER, EcologyReactiveRequestHandler.class,
+                    requestReactiveHandlerMap);
+        }
+    }
+
+    /**
+     * 按Handler类型初始化Map
+     *
+     * @param <H>         Handler泛型
+     * @param index       编译期索引
+     * @param kind        索引组件种类
+     * @param handlerType Handler类型
+     * @param requestMap  Request与Handler映射Map
+     */
+    private <H> void initRequestResponseHandlerMap(EcologyIndex index,
+                                                   IndexKind kind,
+                                                   Class<H> handlerType,
+                                                   ConcurrentMap<Class<EcologyRequest>, H> requestMap) {
+        Map<String, H> handlerMap = appContext.getBeansOfType(handlerType);
         if (MapUtils.isEmpty(handlerMap)) {
             return;
         }
-        for (EcologyRequestHandler handler : handlerMap.values()) {
-            for (Method method : AopUtils.getTargetClass(handler).getMethods()) {
-                buildRequestResponseHandlerMap(handler, method);
+        for (H handler : handlerMap.values()) {
+            for (IndexedBinding binding : findBindings(index, kind, AopUtils.getTargetClass(handler))) {
+                buildRequestResponseHandlerMap(requestMap, handler,
+                        binding.getRequestClass(), binding.getResponseClass());
+            }
+        }
+    }
+
+    /**
+     * 运行时注册或替换Handler
+     * <p>
+     * 按Handler实现的接口绑定其handle方法声明的请求，请求已绑定其它Handler时替换原有绑定；
+     * 返回绑定的请求Class，由调用方据此重新编排调度计划
+     *
+     * @param handler Handler对象
+     * @return {@link List} 绑定的请求Class
+     * @throws NoSuchMethodException 响应类不存在无参构造器
+     */
+    public synchronized List<Class<EcologyRequest>> register(Object handler) throws NoSuchMethodException {
+        Assert.notNull(handler, "The handler argument is required; it must not be null");
+        EcologyIndex index = EcologyIndex.load(appContext);
+        Class<?> targetClass = AopUtils.getTargetClass(handler);
+        boolean reactive = ClassUtils.isPresent(Constant.REACTOR_CLASS_NAME, appContext.getClassLoader())
+                && handler instanceof EcologyReactiveRequestHandler;
+        List<IndexedBinding> bindings = handler instanceof EcologyRequestHandler
+                ? findBindings(index, IndexKind.HANDLER, targetClass) : Collections.emptyList();
+        List<IndexedBinding> asyncBindings = handler instanceof EcologyAsyncRequestHandler
+                ? findBindings(index, IndexKind.ASYNC_HANDLER, targetClass) : Collections.emptyList();
+        List<IndexedBinding> reactiveBindings = reactive
+                ? findBindings(index, IndexKind.REACTIVE_HANDLER, targetClass) : Collections.emptyList();
+        // 先创建全部响应对象工厂，失败时不改变原有绑定
+        for (List<IndexedBinding> list : Arrays.asList(bindings, asyncBindings, reactiveBindings)) {
+            for (IndexedBinding binding : list) {
+                Class<EcologyResponse> responseClass = binding.getResponseClass();
+                if (!responseFactoryMap.containsKey(responseClass)) {
+                    responseFactoryMap.put(responseClass, ResponseFactories.create(responseClass));
+                }
+            }
+        }
+        List<Class<EcologyRequest>> requestClasses = new ArrayList<>();
+        rebind(bindings, handler, requestHandlerMap, requestClasses);
+        rebind(asyncBindings, handler, requestAsyncHandlerMap, requestClasses);
+        rebind(reactiveBindings, handler, requestReactiveHandlerMap, requestClasses);
+        Assert.notEmpty(requestClasses, "The handler does not declare any handle method,handler = "
+                + targetClass.getName());
+        log.info("The handler is registered,handler = {},requests = {}", targetClass.getSimpleName(), requestClasses);
+        return requestClasses;
+    }
+
+    /**
+     * 替换请求的Handler绑定
+     *
+     * @param bindings       Handler绑定的Request与Response
+     * @param handler        Handler对象，与requestMap的Handler类型一致
+     * @param requestMap     Request与Handler映射Map
+     * @param requestClasses 已绑定的请求Class
+     */
+    private void rebind(List<IndexedBinding> bindings,
+                        Object handler,
+                        ConcurrentMap requestMap,
+                        List<Class<EcologyRequest>> requestClasses) {
+        for (IndexedBinding binding : bindings) {
+            Class<EcologyRequest> requestClass = binding.getRequestClass();
+            // 同一个请求只能绑定一个处理器，替换时解除其它类型处理器的绑定
+            requestHandlerMap.remove(requestClass);
+            requestAsyncHandlerMap.remove(requestClass);
+            requestReactiveHandlerMap.remove(requestClass);
+            requestMap.put(requestClass, handler);
+            requestResponseMap.put(requestClass, binding.getResponseClass());
+            requestClasses.add(requestClass);
+        }
+    }
+
+    /**
+     * 找出Handler绑定的Request与Response
+     * <p>
+     * 优先使用编译期索引，未被索引时反射扫描handle方法，方法参数按Handler的实际类型参数解析
+     *
+     * @param index       编译期索引
+     * @param kind        索引组件种类
+     * @param targetClass Handler的目标Class
+     * @return {@link List}
+     */
+    private List<IndexedBinding> findBindings(EcologyIndex index, IndexKind kind, Class<?> targetClass) {
+        List<IndexedBinding> bindings = index.find(kind, targetClass);
+        if (null != bindings) {
+            return bindings;
+        }
+        bindings = new ArrayList<>(1);
+        for (Method method : targetClass.getMethods()) {
+            if (isHandleMethod(method)) {
+                Class<?> requestClass = ResolvableType.forMethodParameter(method, 0, targetClass).resolve();
+                Class<?> responseClass = ResolvableType.forMethodParameter(method, 1, targetClass).resolve();
+                bindings.add(new IndexedBinding((Class<EcologyRequest>) requestClass,
+                        (Class<EcologyResponse>) responseClass));
+            }
+        }
+        return bindings;
+    }
+
+    /**
+     * 初始化响应对象工厂Map
+     * <p>
+     * 优先使用容器中自定义的{@link EcologyResponseFactory}，否则为响应类生成工厂
+     */
+    private void initResponseFactoryMap() throws NoSuchMethodException {
+        Map<String, EcologyResponseFactory> factoryMap = appContext.getBeansOfType(EcologyResponseFactory.class);
+        for (EcologyResponseFactory factory : factoryMap.values()) {
+            Class<?> responseClass = ResolvableType.forClass(AopUtils.getTargetClass(factory))
+                    .as(EcologyResponseFactory.class)
+                    .resolveGeneric(0);
+            if (null == responseClass) {
+                log.warn("The response factory is ignored,because of unresolvable response type,factory = {}",
+                        factory.getClass().getSimpleName());
+                continue;
+            }
+            responseFactoryMap.putIfAbsent((Class<EcologyResponse>) responseClass, factory);
+        }
+        for (Class<EcologyResponse> responseClass : requestResponseMap.values()) {
+            if (!responseFactoryMap.containsKey(responseClass)) {
+                responseFactoryMap.put(responseClass, ResponseFactories.create(responseClass));
             }
         }
     }
@@ -125,22 +304,22 @@ public class HandlerBox {
      * <p>
      * Request:Response=1:1 and Response:Request=1:N
      *
-     * @param handler Handler对象
-     * @param method  handle方法
+     * @param requestMap    Request与Handler映射Map
+     * @param handler       Handler对象
+     * @param requestClass  请求Class
+     * @param responseClass 响应Class
      */
-    private <H extends EcologyRequestHandler<?, ?>> void buildRequestResponseHandlerMap(H handler, Method method) {
-        if (!isHandleMethod(method)) {
-            return;
-        }
-        Class<?>[] parameterTypes = method.getParameterTypes();
-        Class<EcologyRequest> requestClass = (Class<EcologyRequest>) parameterTypes[0];
-        Class<EcologyResponse> responseClass = (Class<EcologyResponse>) parameterTypes[1];
+    private <H> void buildRequestResponseHandlerMap(ConcurrentMap<Class<EcologyRequest>, H> requestMap,
+                                                    H handler,
+                                                    Class<EcologyRequest> requestClass,
+                                                    Class<EcologyResponse> responseClass) {
         // Handler:Request=1:1 and Request:Handler=1:1
-        requestHandlerMap.compute(requestClass, (k, v) -> {
+        requestMap.compute(requestClass, (k, v) -> {
             if (null != v) {
                 String format = "The request can not repeat bind handler,request = %s,handler = %s";
                 String tip = String.format(format, k.getSimpleName(), v.getClass().getSimpleName());
                 log.error(tip);
+                DispatchFailureRecorder.repeatBind(k, v.getClass(), tip);
                 throw new RequestRepeatBindException(tip);
             }
             return handler;
@@ -151,6 +330,7 @@ public class HandlerBox {
                 String format = "The request can not repeat bind response,request = %s,response = %s";
                 String tip = String.format(format, k.getSimpleName(), v.getSimpleName());
                 log.error(tip);
+                DispatchFailureRecorder.repeatBind(k, handler.getClass(), tip);
                 throw new RequestRepeatBindException(tip);
             }
             return responseClass;
@@ -166,6 +346,24 @@ public class HandlerBox {
         return requestHandlerMap;
     }
 
+    /**
+     * 获取 RequestAsyncHandlerMap
+     *
+     * @return {@link ConcurrentMap}
+     */
+    public ConcurrentMap<Class<EcologyRequest>, EcologyAsyncRequestHandler> getRequestAsyncHandlerMap() {
+        return requestAsyncHandlerMap;
+    }
+
+    /**
+     * 获取 RequestReactiveHandlerMap
+     *
+     * @return {@link ConcurrentMap}
+     */
+    public ConcurrentMap<Class<EcologyRequest>, EcologyReactiveRequestHandler> getRequestReactiveHandlerMap() {
+        return requestReactiveHandlerMap;
+    }
+
     /**
      * 获取 RequestResponseMap
      *
@@ -174,4 +372,13 @@ public class HandlerBox {
     public ConcurrentMap<Class<EcologyRequest>, Class<EcologyResponse>> getRequestResponseMap() {
         return requestResponseMap;
     }
+
+    /**
+     * 获取 ResponseFactoryMap
+     *
+     * @return {@link ConcurrentMap}
+     */
+    public ConcurrentMap<Class<EcologyResponse>, EcologyResponseFactory> getResponseFactoryMap() {
+        return responseFactoryMap;
+    }
 }
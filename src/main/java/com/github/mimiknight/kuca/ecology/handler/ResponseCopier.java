@@ -0,0 +1,124 @@
+package com.github.mimiknight.kuca.ecology.handler;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.mimiknight.kuca.ecology.model.response.BaseResponse;
+import com.github.mimiknight.kuca.ecology.model.response.DirectBufferResponse;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+import com.github.mimiknight.kuca.ecology.model.response.FileRegion;
+import com.github.mimiknight.kuca.ecology.model.response.PushResponse;
+import com.github.mimiknight.kuca.ecology.model.response.StreamingResponse;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.UUID;
+
+/**
+ * 响应对象复制工具类
+ * <p>
+ * 按属性复制响应对象，其中{@link BaseResponse}的响应体按JSON序列化后反序列化深复制，
+ * 复制得到的响应与原响应不共享可变的响应体；字符串、基本类型包装类、枚举、文件区间等不可变的响应体直接引用。
+ * 响应体按响应类声明的泛型类型反序列化，无法通过JSON还原的响应体需自定义复制方式；
+ * 响应体持有资源的响应（堆外缓冲、推送流、流式输出）只能由一个调用方消费，不能复制，见{@link #isCopyable(Class)}
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 17:20:36
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public final class ResponseCopier {
+
+    /**
+     * 复制响应体使用的ObjectMapper
+     */
+    private static final class ObjectMapperHolder {
+
+        private static final ObjectMapper INSTANCE = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    }
+
+    private ResponseCopier() {
+    }
+
+    /**
+     * 响应是否可以复制后由多个调用方共享
+     * <p>
+     * 响应缓存与请求合并只用于可复制的响应
+     *
+     * @param responseClass 响应Class
+     * @return boolean 响应体持有需释放或只能消费一次的资源时返回false
+     */
+    public static boolean isCopyable(Class<?> responseClass) {
+        return null != responseClass
+                && !DirectBufferResponse.class.isAssignableFrom(responseClass)
+                && !PushResponse.class.isAssignableFrom(responseClass)
+                && !StreamingResponse.class.isAssignableFrom(responseClass);
+    }
+
+    /**
+     * 复制响应
+     *
+     * @param source 源响应
+     * @param target 目标响应
+     * @throws IOException 响应体无法通过JSON复制
+     */
+    public static void copy(EcologyResponse source, EcologyResponse target) throws IOException {
+        Assert.notNull(source, "The source argument is required; it must not be null");
+        Assert.notNull(target, "The target argument is required; it must not be null");
+        BeanUtils.copyProperties(source, target);
+        if (!(source instanceof BaseResponse) || !(target instanceof BaseResponse)) {
+            return;
+        }
+        Object body = ((BaseResponse) source).getBody();
+        if (null == body || isImmutable(body)) {
+            return;
+        }
+        ((BaseResponse) target).setBody(copyBody(body, target.getClass()));
+    }
+
+    /**
+     * 深复制响应体
+     *
+     * @param body          响应体
+     * @param responseClass 目标响应Class
+     * @return {@link Object} 响应体副本
+     * @throws IOException 响应体无法通过JSON复制
+     */
+    private static Object copyBody(Object body, Class<?> responseClass) throws IOException {
+        ObjectMapper mapper = ObjectMapperHolder.INSTANCE;
+        ResolvableType declared = ResolvableType.forClass(responseClass).as(BaseResponse.class).getGeneric(0);
+        Class<?> declaredClass = declared.resolve();
+        // 声明的泛型无法解析或与实际类型不兼容时按实际类型复制
+        JavaType type = null == declaredClass || !declaredClass.isInstance(body)
+                ? mapper.constructType(body.getClass())
+                : mapper.constructType(declared.getType());
+        byte[] json = mapper.writeValueAsBytes(body);
+        return mapper.readValue(json, type);
+    }
+
+    /**
+     * 是否为不可变类型
+     *
+     * @param value 值
+     * @return boolean
+     */
+    private static boolean isImmutable(Object value) {
+        Class<?> type = value.getClass();
+        return value instanceof String
+                || value instanceof Enum
+                || ClassUtils.isPrimitiveWrapper(type)
+                || type == BigDecimal.class
+                || type == BigInteger.class
+                || type == UUID.class
+                || type == FileRegion.class;
+    }
+}
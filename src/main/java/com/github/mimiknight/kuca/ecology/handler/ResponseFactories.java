@@ -0,0 +1,93 @@
+package com.github.mimiknight.kuca.ecology.handler;
+
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+
+/**
+ * 响应对象工厂工具类
+ * <p>
+ * 优先通过{@link LambdaMetafactory}生成直接调用无参构造器的工厂，生成的工厂与手写的{@code Response::new}等价；
+ * 响应类非public、无public无参构造器或对当前类加载器不可见时，退化为{@link ConstructorResponseFactory}
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 10:05:33
+ */
+@Slf4j
+public final class ResponseFactories {
+
+    private interface Constant {
+
+        /**
+         * 工厂接口方法名
+         */
+        String FACTORY_METHOD_NAME = "newInstance";
+
+    }
+
+    private ResponseFactories() {
+    }
+
+    /**
+     * 创建响应对象工厂
+     *
+     * @param <P>           响应参数泛型
+     * @param responseClass 响应Class
+     * @return {@link EcologyResponseFactory}
+     * @throws NoSuchMethodException 响应类不存在无参构造器
+     */
+    public static <P extends EcologyResponse> EcologyResponseFactory<P> create(Class<P> responseClass)
+            throws NoSuchMethodException {
+        Assert.notNull(responseClass, "The responseClass argument is required; it must not be null");
+        if (isBindable(responseClass)) {
+            try {
+                return bind(responseClass);
+            } catch (Throwable ex) {
+                log.debug("The response factory can not be bound,response = {}", responseClass.getName(), ex);
+            }
+        }
+        return new ConstructorResponseFactory<>(responseClass);
+    }
+
+    /**
+     * 响应类能否生成直接调用的工厂
+     *
+     * @param responseClass 响应Class
+     * @return boolean
+     */
+    private static boolean isBindable(Class<?> responseClass) {
+        return Modifier.isPublic(responseClass.getModifiers())
+                && !Modifier.isAbstract(responseClass.getModifiers())
+                && ClassUtils.isVisible(responseClass, ResponseFactories.class.getClassLoader())
+                && ClassUtils.hasConstructor(responseClass);
+    }
+
+    /**
+     * 通过LambdaMetafactory生成工厂
+     *
+     * @param <P>           响应参数泛型
+     * @param responseClass 响应Class
+     * @return {@link EcologyResponseFactory}
+     * @throws Throwable 生成失败
+     */
+    @SuppressWarnings({"unchecked"})
+    private static <P extends EcologyResponse> EcologyResponseFactory<P> bind(Class<P> responseClass) throws Throwable {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle constructor = lookup.findConstructor(responseClass, MethodType.methodType(void.class));
+        CallSite callSite = LambdaMetafactory.metafactory(lookup,
+                Constant.FACTORY_METHOD_NAME,
+                MethodType.methodType(EcologyResponseFactory.class),
+                MethodType.methodType(EcologyResponse.class),
+                constructor,
+                MethodType.methodType(responseClass));
+        return (EcologyResponseFactory<P>) callSite.getTarget().invoke();
+    }
+}
@@ -0,0 +1,356 @@
+package com.github.mimiknight.kuca.ecology.idempotent;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mimiknight.kuca.ecology.exception.IdempotencyConflictException;
+import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
+import com.github.mimiknight.kuca.ecology.handler.EcologyResponseFactory;
+import com.github.mimiknight.kuca.ecology.model.request.BaseRequest;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.Assert;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 单个请求Class的幂等执行器
+ * <p>
+ * 同一实例内相同幂等键的并发请求等待首个请求的执行结果，不访问存储；
+ * 跨实例的重复请求由存储的占用记录判定，按轮询间隔等待占用方完成。
+ * 存储键由请求Class、调用方身份摘要与幂等键组成；记录中保存请求查询参数与请求体的摘要作为指纹，
+ * 相同幂等键的请求指纹不一致时抛出{@link IdempotencyConflictException}，不重放首次请求的响应。
+ * 响应以JSON保存，重放时反序列化到当前请求的响应对象上，只适用于可以JSON序列化的响应
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 10:36:22
+ */
+@Slf4j
+@SuppressWarnings({"rawtypes"})
+public final class EcologyIdempotency {
+
+    private interface Constant {
+
+        /**
+         * 幂等键最大长度
+         */
+        int MAX_KEY_LENGTH = 255;
+
+        /**
+         * 摘要算法
+         */
+        String DIGEST_ALGORITHM = "SHA-256";
+
+        /**
+         * 存储键各部分的分隔符
+         */
+        char KEY_SEPARATOR = ':';
+
+    }
+
+    /**
+     * 请求Class
+     */
+    @Getter
+    private final Class<?> requestClass;
+
+    /**
+     * 携带幂等键的请求头名称
+     */
+    @Getter
+    private final String header;
+
+    /**
+     * 执行结果的保留时长（毫秒）
+     */
+    @Getter
+    private final long ttlMillis;
+
+    /**
+     * 存储键前缀，不同请求Class的相同幂等键互不影响
+     */
+    private final String keyPrefix;
+
+    private final EcologyIdempotencyStore store;
+
+    /**
+     * 调用方身份解析器，为null时不区分调用方
+     */
+    private final EcologyIdempotencyIdentityResolver identityResolver;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 执行租约时长（毫秒）
+     */
+    private final long pendingTimeoutMillis;
+
+    /**
+     * 等待时限（纳秒）
+     */
+    private final long waitTimeoutNanos;
+
+    /**
+     * 跨实例等待的轮询间隔（毫秒）
+     */
+    private final long pollIntervalMillis;
+
+    /**
+     * 本实例内执行中的请求
+     */
+    private final ConcurrentMap<String, Execution> inflight;
+
+    EcologyIdempotency(Class<?> requestClass,
+                       String header,
+                       long ttlMillis,
+                       EcologyIdempotencyStore store,
+                       EcologyIdempotencyIdentityResolver identityResolver,
+                       ObjectMapper objectMapper,
+                       long pendingTimeoutMillis,
+                       long waitTimeoutNanos,
+                       long pollIntervalMillis) {
+        this.requestClass = requestClass;
+        this.header = header;
+        this.ttlMillis = ttlMillis;
+        this.keyPrefix = requestClass.getName() + Constant.KEY_SEPARATOR;
+        this.store = store;
+        this.identityResolver = identityResolver;
+        this.objectMapper = objectMapper;
+        this.pendingTimeoutMillis = pendingTimeoutMillis;
+        this.waitTimeoutNanos = waitTimeoutNanos;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.inflight = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * 读取请求的幂等键
+     *
+     * @param request 请求参数
+     * @return {@link String} 未携带幂等键时返回null
+     */
+    public String resolveKey(EcologyRequest request) {
+        if (!(request instanceof BaseRequest)) {
+            return null;
+        }
+        String key = StringUtils.trimToNull(((BaseRequest<?, ?>) request).getFirstHeader(header));
+        if (null != key && key.length() > Constant.MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("The idempotency key is too long,maxLength = "
+                    + Constant.MAX_KEY_LENGTH);
+        }
+        return key;
+    }
+
+    /**
+     * 幂等执行
+     *
+     * @param key      幂等键
+     * @param request  请求参数
+     * @param response 响应参数
+     * @param handler  业务处理器
+     * @param <Q>      请求泛型
+     * @param <P>      响应泛型
+     * @throws Exception 处理器异常，或等待超时、并发的首个请求未记录结果、请求指纹不一致时的{@link IdempotencyConflictException}
+     */
+    public <Q extends EcologyRequest, P extends EcologyResponse> void execute(String key,
+                                                                             Q request,
+                                                                             P response,
+                                                                             EcologyRequestHandler<Q, P> handler)
+            throws Exception {
+        long deadline = System.nanoTime() + waitTimeoutNanos;
+        String storeKey = storeKey(key, request);
+        String fingerprint = fingerprint(request);
+        Execution own = new Execution(fingerprint);
+        Execution running = inflight.putIfAbsent(storeKey, own);
+        if (null != running) {
+            if (null != running.fingerprint && null != fingerprint && !running.fingerprint.equals(fingerprint)) {
+                throw new IdempotencyConflictException(requestClass, key, true);
+            }
+            String payload = await(running.future, key, deadline);
+            if (null == payload) {
+                // 首个请求的响应无法序列化，结果未被记录；重复请求不再执行处理器
+                throw new IdempotencyConflictException(requestClass, key);
+            }
+            decode(payload, response);
+            return;
+        }
+        try {
+            own.future.complete(executeOnce(storeKey, key, fingerprint, request, response, handler, deadline));
+        } catch (Throwable e) {
+            own.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflight.remove(storeKey, own);
+        }
+    }
+
+    /**
+     * 通过存储占用后执行，已有完成的记录时直接重放
+     *
+     * @return {@link String} 序列化后的响应，无法序列化时返回null
+     */
+    private <Q extends EcologyRequest, P extends EcologyResponse> String executeOnce(String storeKey,
+                                                                                    String key,
+                                                                                    String fingerprint,
+                                                                                    Q request,
+                                                                                    P response,
+                                                                                    EcologyRequestHandler<Q, P> handler,
+                                                                                    long deadline)
+            throws Exception {
+        String owner = UUID.randomUUID().toString();
+        IdempotencyRecord record = store.claim(storeKey, owner, fingerprint,
+                System.currentTimeMillis() + pendingTimeoutMillis);
+        while (null != record) {
+            if (record.isFingerprintMismatch(fingerprint)) {
+                throw new IdempotencyConflictException(requestClass, key, true);
+            }
+            if (record.isCompleted()) {
+                decode(record.getPayload(), response);
+                return record.getPayload();
+            }
+            // 其它实例执行中
+            if (System.nanoTime() - deadline >= 0) {
+                throw new IdempotencyConflictException(requestClass, key);
+            }
+            TimeUnit.MILLISECONDS.sleep(pollIntervalMillis);
+            record = store.claim(storeKey, owner, fingerprint, System.currentTimeMillis() + pendingTimeoutMillis);
+        }
+        try {
+            handler.handle(request, response);
+        } catch (Throwable e) {
+            store.release(storeKey, owner);
+            throw e;
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            log.warn("The idempotent response is not recorded,because it can not be serialized,request = {},cause = {}",
+                    requestClass.getName(), e.getMessage());
+            store.release(storeKey, owner);
+            return null;
+        }
+        if (!store.complete(storeKey, owner, payload, System.currentTimeMillis() + ttlMillis)) {
+            log.warn("The idempotent response is not recorded,because the lease has expired,request = {},key = {}",
+                    requestClass.getName(), key);
+        }
+        return payload;
+    }
+
+    /**
+     * 等待本实例内首个请求的执行结果
+     */
+    private String await(CompletableFuture<String> running, String key, long deadline) throws Exception {
+        try {
+            return running.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyConflictException(requestClass, key);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw (Error) cause;
+        }
+    }
+
+    /**
+     * 校验响应可经ObjectMapper序列化后重放
+     *
+     * @param responseFactory 响应对象工厂
+     * @throws IllegalStateException 响应无法序列化或反序列化时抛出
+     */
+    public void verifyReplayable(EcologyResponseFactory<?> responseFactory) {
+        Assert.notNull(responseFactory, "The responseFactory argument is required; it must not be null");
+        try {
+            EcologyResponse response = responseFactory.newInstance();
+            decode(objectMapper.writeValueAsString(response), response);
+        } catch (Exception e) {
+            throw new IllegalStateException("The idempotent response can not be recorded and replayed,request = "
+                    + requestClass.getName(), e);
+        }
+    }
+
+    private void decode(String payload, EcologyResponse response) throws Exception {
+        objectMapper.readerForUpdating(response).readValue(payload);
+    }
+
+    /**
+     * 生成存储键
+     * <p>
+     * 调用方身份以摘要写入，长度固定且不含分隔符，不同调用方的相同幂等键不会拼接出相同的存储键
+     */
+    private String storeKey(String key, EcologyRequest request) {
+        String identity = null == identityResolver ? null : identityResolver.resolve(request);
+        String identityDigest = null == identity ? "" : digest(identity.getBytes(StandardCharsets.UTF_8));
+        return keyPrefix + identityDigest + Constant.KEY_SEPARATOR + key;
+    }
+
+    /**
+     * 生成请求指纹：请求查询参数与请求体的JSON摘要
+     *
+     * @return {@link String} 非{@link BaseRequest}或无法序列化时返回null，不校验指纹
+     */
+    private String fingerprint(EcologyRequest request) {
+        if (!(request instanceof BaseRequest)) {
+            return null;
+        }
+        BaseRequest<?, ?> baseRequest = (BaseRequest<?, ?>) request;
+        try {
+            return digest(objectMapper.writeValueAsBytes(baseRequest.getQuery()),
+                    objectMapper.writeValueAsBytes(baseRequest.getBody()));
+        } catch (JsonProcessingException e) {
+            log.warn("The idempotent request fingerprint is skipped,because it can not be serialized,request = {},cause = {}",
+                    requestClass.getName(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static String digest(byte[]... parts) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(Constant.DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (byte[] part : parts) {
+            // 长度前缀，避免不同的拆分得到相同的摘要
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(part.length).array());
+            digest.update(part);
+        }
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    /**
+     * 本实例内执行中的请求
+     */
+    private static final class Execution {
+
+        /**
+         * 请求指纹
+         */
+        private final String fingerprint;
+
+        /**
+         * 序列化后的响应
+         */
+        private final CompletableFuture<String> future;
+
+        private Execution(String fingerprint) {
+            this.fingerprint = fingerprint;
+            this.future = new CompletableFuture<>();
+        }
+    }
+}
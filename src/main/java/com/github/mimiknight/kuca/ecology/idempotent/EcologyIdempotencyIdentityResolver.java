@@ -0,0 +1,24 @@
+package com.github.mimiknight.kuca.ecology.idempotent;
+
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+
+/**
+ * 幂等调用方身份解析器
+ * <p>
+ * 容器中存在该类型的Bean时，幂等存储键包含调用方身份，不同调用方使用相同的幂等键互不影响；
+ * 不存在时全部调用方共享同一个幂等键空间。在请求线程上调用，实现须线程安全
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 19:05:52
+ */
+public interface EcologyIdempotencyIdentityResolver {
+
+    /**
+     * 解析调用方身份
+     *
+     * @param request 请求参数
+     * @return {@link String} 调用方身份（如用户ID或租户ID），匿名调用方返回null
+     */
+    String resolve(EcologyRequest request);
+
+}
@@ -0,0 +1,58 @@
+package com.github.mimiknight.kuca.ecology.idempotent;
+
+/**
+ * 幂等存储
+ * <p>
+ * 容器中存在该类型的Bean时使用该Bean，否则按kuca.ecology.idempotency.store创建内置存储。
+ * 实现须保证{@link #claim}的原子性：同一存储键同时只有一个调用方占用成功，
+ * 且{@link #complete}与{@link #release}只对占用方仍持有的执行中记录生效
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 10:09:40
+ */
+public interface EcologyIdempotencyStore {
+
+    /**
+     * 占用存储键
+     * <p>
+     * 存储键不存在或已有记录已过期时写入执行中的记录并返回null；否则返回已有记录，不做修改
+     *
+     * @param key         存储键
+     * @param owner       占用方令牌
+     * @param fingerprint 请求指纹，可为null
+     * @param expiresAt   执行租约的到期时间（毫秒时间戳），执行方异常退出时租约到期后可被重新占用
+     * @return {@link IdempotencyRecord} 占用成功时返回null
+     */
+    IdempotencyRecord claim(String key, String owner, String fingerprint, long expiresAt);
+
+    /**
+     * 记录执行结果
+     * <p>
+     * 只有记录仍由占用方持有且处于执行中时生效；租约到期后被其它调用方重新占用的记录不被覆盖
+     *
+     * @param key       存储键
+     * @param owner     占用方令牌
+     * @param payload   序列化后的响应
+     * @param expiresAt 结果保留的到期时间（毫秒时间戳）
+     * @return boolean 是否已记录
+     */
+    boolean complete(String key, String owner, String payload, long expiresAt);
+
+    /**
+     * 释放占用方持有的执行中的记录，已完成或已被重新占用的记录不受影响
+     *
+     * @param key   存储键
+     * @param owner 占用方令牌
+     */
+    void release(String key, String owner);
+
+    /**
+     * 删除一批已过期的记录
+     *
+     * @param now       当前时间（毫秒时间戳）
+     * @param batchSize 本批最多删除的条数
+     * @return int 删除的条数，小于batchSize时表示已没有过期记录
+     */
+    int purgeExpired(long now, int batchSize);
+
+}
@@ -0,0 +1,47 @@
+package com.github.mimiknight.kuca.ecology.idempotent;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 幂等请求注解
+ * <p>
+ * 标注在同步请求处理器或请求参数类上，携带幂等键请求头的请求只执行一次，
+ * 有效期内相同幂等键的重复请求直接返回首次执行的响应；并发的重复请求等待首次执行完成。
+ * 同时标注时以处理器上的注解为准；未携带幂等键的请求正常执行。
+ * 处理器抛出异常时不记录结果，客户端可使用同一幂等键重试。
+ * 响应须可经JSON序列化后重放；标注在异步或响应式处理器上、或响应无法重放时调度计划构建失败
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 10:02:16
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EcologyIdempotent {
+
+    /**
+     * 执行结果的保留时长
+     *
+     * @return long
+     */
+    long ttl() default 24;
+
+    /**
+     * 保留时长单位
+     *
+     * @return {@link TimeUnit}
+     */
+    TimeUnit timeUnit() default TimeUnit.HOURS;
+
+    /**
+     * 携带幂等键的请求头名称，为空时使用kuca.ecology.idempotency.header
+     *
+     * @return {@link String}
+     */
+    String header() default "";
+}
@@ -0,0 +1,258 @@
+package com.github.mimiknight.kuca.ecology.idempotent;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.mimiknight.kuca.ecology.config.EcologyProperties;
+import com.github.mimiknight.kuca.ecology.handler.EcologyResponseFactory;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 装载幂等执行器的容器
+ * <p>
+ * 调度计划构建时按处理器或请求参数类上的{@link EcologyIdempotent}注解为每个请求Class创建幂等执行器，
+ * 全部执行器共享同一个存储，并按固定间隔分批清理过期记录；
+ * 可通过kuca.ecology.idempotency.enabled=false关闭
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 10:48:57
+ */
+@Slf4j
+@ConditionalOnProperty(prefix = "kuca.ecology.idempotency", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class IdempotencyBox {
+
+    private interface Constant {
+
+        int INIT_CAPACITY = 16;
+
+        String THREAD_NAME = "ecology-idempotency-cleanup";
+
+    }
+
+    @Autowired
+    private ObjectProvider<EcologyProperties> propertiesProvider;
+
+    @Autowired
+    private ObjectProvider<EcologyIdempotencyStore> storeProvider;
+
+    @Autowired
+    private ObjectProvider<EcologyIdempotencyIdentityResolver> identityResolverProvider;
+
+    @Autowired
+    private ObjectProvider<JdbcTemplate> jdbcTemplateProvider;
+
+    @Autowired
+    private ObjectProvider<ObjectMapper> objectMapperProvider;
+
+    /**
+     * 请求Class与幂等执行器映射Map
+     */
+    private final ConcurrentMap<Class<?>, EcologyIdempotency> idempotencyMap;
+
+    /**
+     * 幂等配置
+     */
+    private EcologyProperties.Idempotency settings;
+
+    /**
+     * 幂等存储
+     */
+    private EcologyIdempotencyStore store;
+
+    /**
+     * 调用方身份解析器
+     */
+    private EcologyIdempotencyIdentityResolver identityResolver;
+
+    /**
+     * 响应序列化器
+     */
+    private ObjectMapper objectMapper;
+
+    /**
+     * 过期清理调度器
+     */
+    private ScheduledThreadPoolExecutor scheduler;
+
+    public IdempotencyBox() {
+        this.idempotencyMap = new ConcurrentHashMap<>(Constant.INIT_CAPACITY);
+    }
+
+    /**
+     * 初始化方法
+     */
+    @PostConstruct
+    public void init() {
+        this.settings = propertiesProvider.getIfAvailable(EcologyProperties::new).getIdempotency();
+        this.store = storeProvider.getIfAvailable(this::createStore);
+        this.identityResolver = identityResolverProvider.getIfAvailable();
+        // 复制容器中的ObjectMapper，不修改应用的全局配置
+        this.objectMapper = objectMapperProvider.getIfAvailable(ObjectMapper::new).copy()
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, Constant.THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = settings.getCleanupInterval().toMillis();
+        this.scheduler.scheduleWithFixedDelay(this::purgeExpired, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 销毁方法
+     */
+    @PreDestroy
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 创建内置存储
+     *
+     * @return {@link EcologyIdempotencyStore}
+     */
+    private EcologyIdempotencyStore createStore() {
+        if (IdempotencyStoreType.MEMORY == settings.getStore()) {
+            return new MemoryIdempotencyStore(settings.getMemoryMaximumSize());
+        }
+        JdbcTemplate jdbcTemplate = jdbcTemplateProvider.getIfAvailable();
+        if (null == jdbcTemplate) {
+            throw new IllegalStateException("The JDBC idempotency store requires a JdbcTemplate bean");
+        }
+        JdbcIdempotencyStore jdbcStore = new JdbcIdempotencyStore(jdbcTemplate, settings.getTableName());
+        if (settings.isInitializeSchema()) {
+            jdbcStore.initializeSchema();
+        }
+        return new TieredIdempotencyStore(new MemoryIdempotencyStore(settings.getMemoryMaximumSize()), jdbcStore);
+    }
+
+    /**
+     * 创建幂等执行器
+     * <p>
+     * 创建时以新建的响应对象校验响应可序列化后重放，无法重放时抛出异常，启动失败
+     *
+     * @param requestClass    请求Class
+     * @param handler         业务处理器
+     * @param responseFactory 响应对象工厂，用于校验
+     * @return {@link EcologyIdempotency} 未标注{@link EcologyIdempotent}时返回null
+     * @throws IllegalStateException 响应无法序列化或反序列化时抛出
+     */
+    public EcologyIdempotency create(Class<EcologyRequest> requestClass,
+                                     Object handler,
+                                     EcologyResponseFactory<?> responseFactory) {
+        EcologyIdempotent annotation = findAnnotation(requestClass, handler);
+        if (null == annotation) {
+            idempotencyMap.remove(requestClass);
+            return null;
+        }
+        String header = StringUtils.isNotBlank(annotation.header())
+                ? annotation.header().trim()
+                : settings.getHeader();
+        EcologyIdempotency idempotency = new EcologyIdempotency(requestClass,
+                header,
+                annotation.timeUnit().toMillis(annotation.ttl()),
+                store,
+                identityResolver,
+                objectMapper,
+                settings.getPendingTimeout().toMillis(),
+                settings.getWaitTimeout().toNanos(),
+                settings.getPollInterval().toMillis());
+        idempotency.verifyReplayable(responseFactory);
+        idempotencyMap.put(requestClass, idempotency);
+        log.debug("The idempotency is created,request = {},header = {}", requestClass.getName(), header);
+        return idempotency;
+    }
+
+    /**
+     * 是否标注了{@link EcologyIdempotent}
+     *
+     * @param requestClass 请求Class
+     * @param handler      业务处理器
+     * @return boolean
+     */
+    public boolean isAnnotated(Class<EcologyRequest> requestClass, Object handler) {
+        return null != findAnnotation(requestClass, handler);
+    }
+
+    /**
+     * 查找幂等注解，处理器上的注解优先
+     */
+    private static EcologyIdempotent findAnnotation(Class<EcologyRequest> requestClass, Object handler) {
+        EcologyIdempotent annotation = AnnotatedElementUtils.findMergedAnnotation(
+                AopUtils.getTargetClass(handler), EcologyIdempotent.class);
+        if (null == annotation) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(requestClass, EcologyIdempotent.class);
+        }
+        return annotation;
+    }
+
+    /**
+     * 分批清理过期记录，直到没有过期记录
+     *
+     * @return int 清理的条数
+     */
+    public int purgeExpired() {
+        int batchSize = settings.getCleanupBatchSize();
+        int total = 0;
+        try {
+            int count;
+            do {
+                count = store.purgeExpired(System.currentTimeMillis(), batchSize);
+                total += count;
+            } while (count >= batchSize && !Thread.currentThread().isInterrupted());
+        } catch (RuntimeException e) {
+            log.warn("The expired idempotency records are not purged,cause = {}", e.getMessage());
+        }
+        if (total > 0) {
+            log.debug("The expired idempotency records are purged,count = {}", total);
+        }
+        return total;
+    }
+
+    /**
+     * 获取幂等存储
+     *
+     * @return {@link EcologyIdempotencyStore}
+     */
+    public EcologyIdempotencyStore getStore() {
+        return store;
+    }
+
+    /**
+     * 获取幂等执行器
+     *
+     * @param requestClass 请求Class
+     * @return {@link EcologyIdempotency} 不存在时返回null
+     */
+    public EcologyIdempotency getIdempotency(Class<?> requestClass) {
+        return idempotencyMap.get(requestClass);
+    }
+
+    /**
+     * 获取全部幂等执行器
+     *
+     * @return {@link Map}
+     */
+    public Map<Class<?>, EcologyIdempotency> getIdempotencyMap() {
+        return Collections.unmodifiableMap(idempotencyMap);
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.mimiknight.kuca.ecology.idempotent;
+
+import lombok.Getter;
+
+/**
+ * 幂等记录
+ * <p>
+ * 不可变；执行中的记录没有响应，过期时间为执行租约的到期时间，
+ * 已完成的记录的过期时间为结果保留的到期时间；占用方令牌标识持有租约的执行，只有占用方可以完成或释放记录
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 10:07:12
+ */
+@Getter
+public final class IdempotencyRecord {
+
+    /**
+     * 存储键（请求Class与幂等键）
+     */
+    private final String key;
+
+    /**
+     * 记录状态
+     */
+    private final IdempotencyState state;
+
+    /**
+     * 占用方令牌，每次执行生成
+     */
+    private final String owner;
+
+    /**
+     * 请求指纹（请求查询参数与请求体的摘要），为null时不校验
+     */
+    private final String fingerprint;
+
+    /**
+     * 序列化后的响应，执行中时为null
+     */
+    private final String payload;
+
+    /**
+     * 过期时间（毫秒时间戳）
+     */
+    private final long expiresAt;
+
+    public IdempotencyRecord(String key,
+                             IdempotencyState state,
+                             String owner,
+                             String fingerprint,
+                             String payload,
+                             long expiresAt) {
+        this.key = key;
+        this.state = state;
+        this.owner = owner;
+        this.fingerprint = fingerprint;
+        this.payload = payload;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 是否已完成
+     *
+     * @return boolean
+     */
+    public boolean isCompleted() {
+        return IdempotencyState.COMPLETED == state;
+    }
+
+    /**
+     * 请求指纹是否与记录不一致
+     * <p>
+     * 任一方没有指纹时视为一致
+     *
+     * @param fingerprint 当前请求的指纹
+     * @return boolean
+     */
+    public boolean isFingerprintMismatch(String fingerprint) {
+        return null != this.fingerprint && null != fingerprint && !this.fingerprint.equals(fingerprint);
+    }
+
+    /**
+     * 是否已过期
+     *
+     * @param now 当前时间（毫秒时间戳）
+     * @return boolean
+     */
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+}
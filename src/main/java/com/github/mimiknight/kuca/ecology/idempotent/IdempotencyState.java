@@ -0,0 +1,21 @@
+package com.github.mimiknight.kuca.ecology.idempotent;
+
+/**
+ * 幂等记录状态
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 10:04:51
+ */
+public enum IdempotencyState {
+
+    /**
+     * 执行中，过期前其它相同幂等键的请求等待其完成
+     */
+    PENDING,
+
+    /**
+     * 已完成，记录中保存了序列化后的响应
+     */
+    COMPLETED
+
+}
@@ -0,0 +1,21 @@
+package com.github.mimiknight.kuca.ecology.idempotent;
+
+/**
+ * 内置幂等存储类型
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 10:05:37
+ */
+public enum IdempotencyStoreType {
+
+    /**
+     * 进程内存储，只在单个实例内去重，重启后丢失
+     */
+    MEMORY,
+
+    /**
+     * 内存层在前、JDBC层在后的分层存储，多个实例共享同一张表去重
+     */
+    JDBC
+
+}
@@ -0,0 +1,164 @@
+package com.github.mimiknight.kuca.ecology.idempotent;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.Assert;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * JDBC幂等存储
+ * <p>
+ * 以幂等存储键为主键，依靠主键冲突保证同一存储键只被一个实例占用；
+ * 记录执行结果与释放时以占用方令牌和执行中状态为条件，租约到期后被重新占用的记录不会被原占用方覆盖或删除；
+ * 建表语句使用{@code CREATE TABLE IF NOT EXISTS}，适用于H2、MySQL与PostgreSQL，
+ * 其它数据库应关闭kuca.ecology.idempotency.initialize-schema并自行建表。
+ * 过期清理先按过期时间查出一批存储键，再批量删除，不依赖各数据库不同的分页删除语法
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 10:25:48
+ */
+@Slf4j
+public class JdbcIdempotencyStore implements EcologyIdempotencyStore {
+
+    private interface Constant {
+
+        /**
+         * 表名格式，表名会拼接到SQL中，只允许字母、数字、下划线与点
+         */
+        Pattern TABLE_NAME_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+
+        /**
+         * 占用冲突时的最大重试次数（已有记录在重试间隙被删除或过期）
+         */
+        int MAX_CLAIM_ATTEMPTS = 3;
+
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String createTableSql;
+
+    private final String insertSql;
+
+    private final String selectSql;
+
+    private final String deleteExpiredSql;
+
+    private final String completeSql;
+
+    private final String releaseSql;
+
+    private final String selectExpiredSql;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, String tableName) {
+        Assert.notNull(jdbcTemplate, "The jdbcTemplate argument is required; it must not be null");
+        Assert.isTrue(null != tableName && Constant.TABLE_NAME_PATTERN.matcher(tableName).matches(),
+                "The tableName argument is invalid,tableName = " + tableName);
+        this.jdbcTemplate = jdbcTemplate;
+        this.createTableSql = "CREATE TABLE IF NOT EXISTS " + tableName + " ("
+                + "idempotency_key VARCHAR(512) NOT NULL PRIMARY KEY,"
+                + "state VARCHAR(16) NOT NULL,"
+                + "owner VARCHAR(64),"
+                + "fingerprint VARCHAR(64),"
+                + "payload TEXT,"
+                + "expires_at BIGINT NOT NULL)";
+        this.insertSql = "INSERT INTO " + tableName
+                + " (idempotency_key, state, owner, fingerprint, payload, expires_at) VALUES (?, ?, ?, ?, NULL, ?)";
+        this.selectSql = "SELECT state, owner, fingerprint, payload, expires_at FROM " + tableName
+                + " WHERE idempotency_key = ?";
+        this.deleteExpiredSql = "DELETE FROM " + tableName + " WHERE idempotency_key = ? AND expires_at <= ?";
+        this.completeSql = "UPDATE " + tableName
+                + " SET state = ?, payload = ?, expires_at = ? WHERE idempotency_key = ? AND owner = ? AND state = ?";
+        this.releaseSql = "DELETE FROM " + tableName + " WHERE idempotency_key = ? AND owner = ? AND state = ?";
+        this.selectExpiredSql = "SELECT idempotency_key FROM " + tableName + " WHERE expires_at <= ?";
+    }
+
+    /**
+     * 建表（表已存在时不做修改）
+     */
+    public void initializeSchema() {
+        jdbcTemplate.execute(createTableSql);
+    }
+
+    @Override
+    public IdempotencyRecord claim(String key, String owner, String fingerprint, long expiresAt) {
+        Assert.notNull(key, "The key argument is required; it must not be null");
+        Assert.notNull(owner, "The owner argument is required; it must not be null");
+        for (int attempt = 0; attempt < Constant.MAX_CLAIM_ATTEMPTS; attempt++) {
+            try {
+                jdbcTemplate.update(insertSql, key, IdempotencyState.PENDING.name(), owner, fingerprint, expiresAt);
+                return null;
+            } catch (DuplicateKeyException e) {
+                log.trace("The idempotency key is already claimed,key = {}", key);
+            }
+            IdempotencyRecord existing = find(key);
+            if (null == existing) {
+                // 已有记录在冲突后被释放或清理
+                continue;
+            }
+            long now = System.currentTimeMillis();
+            if (!existing.isExpired(now)) {
+                return existing;
+            }
+            // 按过期时间删除，并发删除时只有一个调用方生效，之后重新竞争插入
+            jdbcTemplate.update(deleteExpiredSql, key, now);
+        }
+        log.debug("The idempotency key is contended,key = {}", key);
+        // 多次冲突仍未占用，视为执行中，由调用方等待后重试
+        return new IdempotencyRecord(key, IdempotencyState.PENDING, null, null, null, expiresAt);
+    }
+
+    @Override
+    public boolean complete(String key, String owner, String payload, long expiresAt) {
+        return jdbcTemplate.update(completeSql, IdempotencyState.COMPLETED.name(), payload, expiresAt,
+                key, owner, IdempotencyState.PENDING.name()) > 0;
+    }
+
+    @Override
+    public void release(String key, String owner) {
+        jdbcTemplate.update(releaseSql, key, owner, IdempotencyState.PENDING.name());
+    }
+
+    @Override
+    public int purgeExpired(long now, int batchSize) {
+        List<String> keys = jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(selectExpiredSql);
+            statement.setMaxRows(batchSize);
+            statement.setLong(1, now);
+            return statement;
+        }, (rs, rowNum) -> rs.getString(1));
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> args = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            args.add(new Object[]{key, now});
+        }
+        // 条件中带上过期时间，查询后被重新占用的记录不会被删除
+        jdbcTemplate.batchUpdate(deleteExpiredSql, args);
+        return keys.size();
+    }
+
+    /**
+     * 查询记录
+     *
+     * @param key 存储键
+     * @return {@link IdempotencyRecord} 不存在时返回null
+     */
+    private IdempotencyRecord find(String key) {
+        List<IdempotencyRecord> records = jdbcTemplate.query(selectSql,
+                (rs, rowNum) -> new IdempotencyRecord(key,
+                        IdempotencyState.valueOf(rs.getString(1)),
+                        rs.getString(2),
+                        rs.getString(3),
+                        rs.getString(4),
+                        rs.getLong(5)),
+                key);
+        return records.isEmpty() ? null : records.get(0);
+    }
+}
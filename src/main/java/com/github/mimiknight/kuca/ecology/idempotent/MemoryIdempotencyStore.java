@@ -0,0 +1,190 @@
+package com.github.mimiknight.kuca.ecology.idempotent;
+
+import com.github.mimiknight.kuca.ecology.exception.IdempotencyStoreFullException;
+import org.springframework.util.Assert;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * 进程内幂等存储
+ * <p>
+ * 只在单个实例内去重。记录数达到上限时按完成先后淘汰最早完成的记录，淘汰后相同幂等键的请求会重新执行；
+ * 只有执行中的记录占满上限时才拒绝新的存储键并抛出{@link IdempotencyStoreFullException}，
+ * 执行中的记录不被淘汰。淘汰不扫描全部记录，过期记录由定时清理分批删除；
+ * 作为{@link TieredIdempotencyStore}的内存层时只缓存已完成的记录
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 10:14:03
+ */
+public class MemoryIdempotencyStore implements EcologyIdempotencyStore {
+
+    private interface Constant {
+
+        int INIT_CAPACITY = 64;
+
+    }
+
+    /**
+     * 存储键与记录映射Map
+     */
+    private final Map<String, IdempotencyRecord> records;
+
+    /**
+     * 已完成记录的存储键，按完成先后排列，用于淘汰
+     */
+    private final LinkedHashSet<String> completedKeys;
+
+    /**
+     * 最多保存的记录数
+     */
+    private final int maximumSize;
+
+    public MemoryIdempotencyStore(int maximumSize) {
+        Assert.isTrue(maximumSize > 0, "The maximumSize argument must be greater than 0");
+        this.records = new HashMap<>(Constant.INIT_CAPACITY);
+        this.completedKeys = new LinkedHashSet<>(Constant.INIT_CAPACITY);
+        this.maximumSize = maximumSize;
+    }
+
+    @Override
+    public synchronized IdempotencyRecord claim(String key, String owner, String fingerprint, long expiresAt) {
+        Assert.notNull(key, "The key argument is required; it must not be null");
+        Assert.notNull(owner, "The owner argument is required; it must not be null");
+        IdempotencyRecord existing = records.get(key);
+        if (null != existing && !existing.isExpired(System.currentTimeMillis())) {
+            return existing;
+        }
+        if (null == existing) {
+            if (!evictForNewKey()) {
+                throw new IdempotencyStoreFullException(key, maximumSize);
+            }
+        } else {
+            // 已过期的记录直接替换
+            completedKeys.remove(key);
+        }
+        records.put(key, new IdempotencyRecord(key, IdempotencyState.PENDING, owner, fingerprint, null, expiresAt));
+        return null;
+    }
+
+    @Override
+    public synchronized boolean complete(String key, String owner, String payload, long expiresAt) {
+        IdempotencyRecord existing = records.get(key);
+        if (!isHeldBy(existing, owner)) {
+            return false;
+        }
+        records.put(key, new IdempotencyRecord(key, IdempotencyState.COMPLETED, owner,
+                existing.getFingerprint(), payload, expiresAt));
+        completedKeys.add(key);
+        return true;
+    }
+
+    @Override
+    public synchronized void release(String key, String owner) {
+        if (isHeldBy(records.get(key), owner)) {
+            records.remove(key);
+        }
+    }
+
+    /**
+     * 记录是否为占用方持有的执行中记录
+     */
+    private static boolean isHeldBy(IdempotencyRecord record, String owner) {
+        return null != record && !record.isCompleted() && null != owner && owner.equals(record.getOwner());
+    }
+
+    /**
+     * 为新的存储键腾出空间
+     * <p>
+     * 记录数达到上限时淘汰最早完成的记录
+     *
+     * @return boolean 只剩执行中的记录、无法腾出空间时返回false
+     */
+    private boolean evictForNewKey() {
+        Iterator<String> iterator = completedKeys.iterator();
+        while (records.size() >= maximumSize) {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            records.remove(iterator.next());
+            iterator.remove();
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized int purgeExpired(long now, int batchSize) {
+        int count = 0;
+        Iterator<IdempotencyRecord> iterator = records.values().iterator();
+        while (count < batchSize && iterator.hasNext()) {
+            IdempotencyRecord record = iterator.next();
+            if (record.isExpired(now)) {
+                iterator.remove();
+                completedKeys.remove(record.getKey());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 获取未过期的记录
+     *
+     * @param key 存储键
+     * @param now 当前时间（毫秒时间戳）
+     * @return {@link IdempotencyRecord} 不存在或已过期时返回null
+     */
+    public synchronized IdempotencyRecord get(String key, long now) {
+        IdempotencyRecord record = records.get(key);
+        return null == record || record.isExpired(now) ? null : record;
+    }
+
+    /**
+     * 写入已完成的记录，覆盖已有记录
+     * <p>
+     * 记录数达到上限时淘汰最早完成的记录，只剩执行中的记录时不写入
+     *
+     * @param record 已完成的记录
+     */
+    public synchronized void put(IdempotencyRecord record) {
+        Assert.notNull(record, "The record argument is required; it must not be null");
+        Assert.isTrue(record.isCompleted(), "The record argument must be completed");
+        String key = record.getKey();
+        if (!records.containsKey(key) && !evictForNewKey()) {
+            return;
+        }
+        records.put(key, record);
+        completedKeys.remove(key);
+        completedKeys.add(key);
+    }
+
+    /**
+     * 删除记录
+     *
+     * @param key 存储键
+     */
+    public synchronized void remove(String key) {
+        records.remove(key);
+        completedKeys.remove(key);
+    }
+
+    /**
+     * 获取最多保存的记录数
+     *
+     * @return int
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * 获取记录条数（含已过期未清理的记录）
+     *
+     * @return int
+     */
+    public synchronized int size() {
+        return records.size();
+    }
+}
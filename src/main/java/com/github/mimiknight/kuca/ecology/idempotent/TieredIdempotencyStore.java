@@ -0,0 +1,67 @@
+package com.github.mimiknight.kuca.ecology.idempotent;
+
+import org.springframework.util.Assert;
+
+/**
+ * 分层幂等存储
+ * <p>
+ * 后备存储负责占用与持久化，是多个实例之间的唯一依据；内存层只缓存已完成的记录，
+ * 重复请求命中内存层时不访问后备存储。内存层记录数达到其上限后淘汰最早缓存的记录
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 10:19:25
+ */
+public class TieredIdempotencyStore implements EcologyIdempotencyStore {
+
+    /**
+     * 内存层
+     */
+    private final MemoryIdempotencyStore memory;
+
+    /**
+     * 后备存储
+     */
+    private final EcologyIdempotencyStore backing;
+
+    public TieredIdempotencyStore(MemoryIdempotencyStore memory, EcologyIdempotencyStore backing) {
+        Assert.notNull(memory, "The memory argument is required; it must not be null");
+        Assert.notNull(backing, "The backing argument is required; it must not be null");
+        this.memory = memory;
+        this.backing = backing;
+    }
+
+    @Override
+    public IdempotencyRecord claim(String key, String owner, String fingerprint, long expiresAt) {
+        IdempotencyRecord cached = memory.get(key, System.currentTimeMillis());
+        if (null != cached) {
+            return cached;
+        }
+        IdempotencyRecord record = backing.claim(key, owner, fingerprint, expiresAt);
+        if (null != record && record.isCompleted()) {
+            cache(record);
+        }
+        return record;
+    }
+
+    @Override
+    public boolean complete(String key, String owner, String payload, long expiresAt) {
+        return backing.complete(key, owner, payload, expiresAt);
+    }
+
+    @Override
+    public void release(String key, String owner) {
+        backing.release(key, owner);
+    }
+
+    @Override
+    public int purgeExpired(long now, int batchSize) {
+        // 内存层不访问外部资源，一次清理完
+        memory.purgeExpired(now, Integer.MAX_VALUE);
+        return backing.purgeExpired(now, batchSize);
+    }
+
+    private void cache(IdempotencyRecord record) {
+        // 内存层已满时淘汰最早缓存的记录
+        memory.put(record);
+    }
+}
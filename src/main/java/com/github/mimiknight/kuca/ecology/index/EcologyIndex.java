@@ -0,0 +1,277 @@
+package com.github.mimiknight.kuca.ecology.index;
+
+import com.github.mimiknight.kuca.ecology.config.EcologyProperties;
+import com.github.mimiknight.kuca.ecology.filter.HandlerFilterChain;
+import com.github.mimiknight.kuca.ecology.filter.ReactiveHandlerFilterChain;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ecology编译期索引
+ * <p>
+ * 读取类路径上全部由kuca-ecology-indexer生成的{@code META-INF/kuca-ecology.index}，
+ * 记录Handler、过滤器与拦截器绑定的Request与Response；
+ * 容器据此直接建立映射，未被索引或索引已失效的组件仍回退为反射扫描
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 08:34:27
+ */
+@Slf4j
+@SuppressWarnings({"unchecked"})
+public final class EcologyIndex {
+
+    private interface Constant {
+
+        /**
+         * 索引文件位置
+         */
+        String INDEX_LOCATION = "META-INF/kuca-ecology.index";
+
+        /**
+         * 注释行前缀
+         */
+        String COMMENT_PREFIX = "#";
+
+        /**
+         * 索引行字段数：种类、组件、请求、响应
+         */
+        int FIELD_COUNT = 4;
+
+        /**
+         * 绑定方法中请求与响应参数的个数
+         */
+        int BINDING_PARAMETER_COUNT = 2;
+
+    }
+
+    /**
+     * 空索引
+     */
+    private static final EcologyIndex EMPTY = new EcologyIndex(null, Collections.emptyMap());
+
+    /**
+     * 按类加载器缓存的索引（弱引用，不阻止类加载器回收）
+     */
+    private static final Map<ClassLoader, EcologyIndex> CACHE = new ConcurrentReferenceHashMap<>();
+
+    /**
+     * 加载组件的类加载器
+     */
+    private final ClassLoader classLoader;
+
+    /**
+     * 种类与组件类名到绑定类名的映射，值为成对的请求与响应类名
+     */
+    private final Map<String, List<String>> entries;
+
+    private EcologyIndex(ClassLoader classLoader, Map<String, List<String>> entries) {
+        this.classLoader = classLoader;
+        this.entries = entries;
+    }
+
+    /**
+     * 加载容器对应的索引
+     * <p>
+     * 配置{@code kuca.ecology.index.enabled=false}时返回空索引，全部组件使用反射扫描
+     *
+     * @param appContext 应用上下文
+     * @return {@link EcologyIndex}
+     */
+    public static EcologyIndex load(ApplicationContext appContext) {
+        Assert.notNull(appContext, "The appContext argument is required; it must not be null");
+        EcologyProperties properties = appContext.getBeanProvider(EcologyProperties.class)
+                .getIfAvailable(EcologyProperties::new);
+        if (!properties.getIndex().isEnabled()) {
+            return EMPTY;
+        }
+        return load(appContext.getClassLoader());
+    }
+
+    /**
+     * 加载类加载器对应的索引
+     *
+     * @param classLoader 类加载器，为null时使用默认类加载器
+     * @return {@link EcologyIndex}
+     */
+    public static EcologyIndex load(ClassLoader classLoader) {
+        ClassLoader loader = null == classLoader ? ClassUtils.getDefaultClassLoader() : classLoader;
+        if (null == loader) {
+            return EMPTY;
+        }
+        return CACHE.computeIfAbsent(loader, EcologyIndex::doLoad);
+    }
+
+    private static EcologyIndex doLoad(ClassLoader classLoader) {
+        Map<String, List<String>> entries = new HashMap<>();
+        try {
+            Enumeration<URL> urls = classLoader.getResources(Constant.INDEX_LOCATION);
+            while (urls.hasMoreElements()) {
+                read(urls.nextElement(), entries);
+            }
+        } catch (IOException e) {
+            log.warn("The ecology index is ignored,because it can not be read,cause = {}", e.getMessage());
+            return EMPTY;
+        }
+        if (entries.isEmpty()) {
+            return EMPTY;
+        }
+        log.debug("The ecology index is loaded,components = {}", entries.size());
+        return new EcologyIndex(classLoader, entries);
+    }
+
+    private static void read(URL url, Map<String, List<String>> entries) throws IOException {
+        try (InputStream in = url.openStream();
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while (null != (line = reader.readLine())) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith(Constant.COMMENT_PREFIX)) {
+                    continue;
+                }
+                String[] fields = line.split(" ");
+                if (Constant.FIELD_COUNT != fields.length) {
+                    log.warn("The ecology index line is ignored,line = {},index = {}", line, url);
+                    continue;
+                }
+                List<String> bindings = entries.computeIfAbsent(key(fields[0], fields[1]), k -> new ArrayList<>(2));
+                bindings.add(fields[2]);
+                bindings.add(fields[3]);
+            }
+        }
+    }
+
+    private static String key(String kind, String componentClassName) {
+        return kind + ' ' + componentClassName;
+    }
+
+    /**
+     * 索引是否为空
+     *
+     * @return boolean
+     */
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * 查找组件绑定的Request与Response
+     * <p>
+     * 组件未被索引，或索引中的类无法加载、不再是请求与响应类型，或组件已不存在以其为参数的public方法时返回null，
+     * 调用方应回退为反射扫描
+     *
+     * @param kind           组件种类
+     * @param componentClass 组件Class（代理对象应传入目标Class）
+     * @return {@link List} 或 null
+     */
+    public List<IndexedBinding> find(IndexKind kind, Class<?> componentClass) {
+        List<String> bindings = entries.get(key(kind.name(), componentClass.getName()));
+        if (null == bindings) {
+            return null;
+        }
+        List<IndexedBinding> result = new ArrayList<>(bindings.size() / 2);
+        for (int i = 0; i < bindings.size(); i += 2) {
+            Class<?> requestClass = resolve(bindings.get(i), componentClass);
+            Class<?> responseClass = resolve(bindings.get(i + 1), componentClass);
+            if (null == requestClass || null == responseClass
+                    || !EcologyRequest.class.isAssignableFrom(requestClass)
+                    || !EcologyResponse.class.isAssignableFrom(responseClass)
+                    || !hasBindingMethod(kind, componentClass, requestClass, responseClass)) {
+                log.warn("The ecology index entry is stale,fall back to reflection,component = {}",
+                        componentClass.getName());
+                return null;
+            }
+            result.add(new IndexedBinding((Class<EcologyRequest>) requestClass,
+                    (Class<EcologyResponse>) responseClass));
+        }
+        return result;
+    }
+
+    /**
+     * 组件是否存在以索引中的请求与响应为参数的public方法
+     * <p>
+     * 先按索引中的类型直接查找方法，找不到时（如方法声明在泛型父类上）再按组件的实际类型参数解析全部public方法；
+     * 组件重新编译后未重建索引时据此识别失效的索引
+     *
+     * @param kind           组件种类
+     * @param componentClass 组件Class
+     * @param requestClass   索引中的请求Class
+     * @param responseClass  索引中的响应Class
+     * @return boolean
+     */
+    private static boolean hasBindingMethod(IndexKind kind,
+                                            Class<?> componentClass,
+                                            Class<?> requestClass,
+                                            Class<?> responseClass) {
+        try {
+            Method method = componentClass.getMethod(kind.getMethodName(),
+                    parameterTypes(kind, requestClass, responseClass));
+            if (!method.isSynthetic()) {
+                return true;
+            }
+        } catch (NoSuchMethodException e) {
+            // 方法参数为泛型变量时按实际类型参数查找
+        }
+        for (Method method : componentClass.getMethods()) {
+            if (method.isSynthetic()
+                    || !kind.getMethodName().equals(method.getName())
+                    || method.getParameterCount() < Constant.BINDING_PARAMETER_COUNT) {
+                continue;
+            }
+            if (requestClass == ResolvableType.forMethodParameter(method, 0, componentClass).resolve()
+                    && responseClass == ResolvableType.forMethodParameter(method, 1, componentClass).resolve()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 组件绑定方法的参数类型
+     * <p>
+     * 过滤器的第三个参数为过滤器链；响应式过滤器链只在该分支中引用，未引入Reactor时不会加载
+     *
+     * @param kind          组件种类
+     * @param requestClass  请求Class
+     * @param responseClass 响应Class
+     * @return {@link Class} 数组
+     */
+    private static Class<?>[] parameterTypes(IndexKind kind, Class<?> requestClass, Class<?> responseClass) {
+        switch (kind) {
+            case FILTER:
+                return new Class<?>[]{requestClass, responseClass, HandlerFilterChain.class};
+            case REACTIVE_FILTER:
+                return new Class<?>[]{requestClass, responseClass, ReactiveHandlerFilterChain.class};
+            default:
+                return new Class<?>[]{requestClass, responseClass};
+        }
+    }
+
+    private Class<?> resolve(String className, Class<?> componentClass) {
+        ClassLoader loader = null == componentClass.getClassLoader() ? classLoader : componentClass.getClassLoader();
+        try {
+            return ClassUtils.forName(className, loader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+}
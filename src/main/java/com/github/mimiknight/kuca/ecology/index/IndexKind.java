@@ -0,0 +1,60 @@
+package com.github.mimiknight.kuca.ecology.index;
+
+/**
+ * 索引组件种类
+ * <p>
+ * 名称与kuca-ecology-indexer写入索引文件的种类一致
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 08:30:06
+ */
+public enum IndexKind {
+
+    /**
+     * 同步处理器
+     */
+    HANDLER("handle"),
+
+    /**
+     * 异步处理器
+     */
+    ASYNC_HANDLER("handle"),
+
+    /**
+     * 响应式处理器
+     */
+    REACTIVE_HANDLER("handle"),
+
+    /**
+     * 过滤器
+     */
+    FILTER("doFilter"),
+
+    /**
+     * 响应式过滤器
+     */
+    REACTIVE_FILTER("doFilter"),
+
+    /**
+     * 拦截器
+     */
+    INTERCEPTOR("doBefore");
+
+    /**
+     * 组件绑定请求的方法名
+     */
+    private final String methodName;
+
+    IndexKind(String methodName) {
+        this.methodName = methodName;
+    }
+
+    /**
+     * 获取组件绑定请求的方法名
+     *
+     * @return {@link String}
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+}
@@ -0,0 +1,30 @@
+package com.github.mimiknight.kuca.ecology.index;
+
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+import lombok.Getter;
+
+/**
+ * 索引中组件绑定的Request与Response
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 08:31:44
+ */
+@Getter
+public final class IndexedBinding {
+
+    /**
+     * 请求Class
+     */
+    private final Class<EcologyRequest> requestClass;
+
+    /**
+     * 响应Class
+     */
+    private final Class<EcologyResponse> responseClass;
+
+    public IndexedBinding(Class<EcologyRequest> requestClass, Class<EcologyResponse> responseClass) {
+        this.requestClass = requestClass;
+        this.responseClass = responseClass;
+    }
+}
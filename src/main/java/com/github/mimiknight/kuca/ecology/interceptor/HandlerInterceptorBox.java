@@ -1,11 +1,16 @@
 package com.github.mimiknight.kuca.ecology.interceptor;
 
+import com.github.mimiknight.kuca.ecology.index.EcologyIndex;
+import com.github.mimiknight.kuca.ecology.index.IndexKind;
+import com.github.mimiknight.kuca.ecology.index.IndexedBinding;
 import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
 import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
+import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.ResolvableType;
 import org.springframework.util.Assert;
 
 import javax.annotation.PostConstruct;
@@ -14,10 +19,8 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -73,6 +76,8 @@ public class HandlerInterceptorBox {
 
     /**
      * 初始化
+     * <p>
+     * 优先使用编译期索引，未被索引的拦截器回退为反射扫描
      */
     @SuppressWarnings({"rawtypes"})
     public void initInterceptMap() {
@@ -80,68 +85,118 @@ public class HandlerInterceptorBox {
         if (MapUtils.isEmpty(map)) {
             return;
         }
-        buildInterceptorMap(map.values());
+        buildInterceptorMap(map.values(), EcologyIndex.load(appContext));
     }
 
     /**
      * 构建拦截器容器Map
      *
      * @param interceptors 拦截器集合
+     * @param index        编译期索引
      */
     @SuppressWarnings({"rawtypes", "unchecked"})
-    private void buildInterceptorMap(Collection<EcologyHandlerInterceptor> interceptors) {
+    private void buildInterceptorMap(Collection<EcologyHandlerInterceptor> interceptors, EcologyIndex index) {
         Assert.notEmpty(interceptors, "The interceptors argument is required; it must not be empty");
 
-        HashMap<Class<EcologyRequest>, TreeSet<EcologyHandlerInterceptor>> map = new HashMap<>();
+        for (EcologyHandlerInterceptor interceptor : interceptors) {
+            Class<EcologyRequest> requestClass = findRequestClass(interceptor, index);
+            if (null != requestClass) {
+                putIt(requestClass, interceptor);
+            }
+        }
 
-        for (EcologyHandlerInterceptor interceptor : interceptors) { // outer
-            for (Method method : interceptor.getClass().getMethods()) { // inner
-                if (isDoBeforeMethod(method)) {
-                    Class<EcologyRequest> requestClass = (Class<EcologyRequest>) method.getParameterTypes()[0];
-                    sortIt(map, requestClass, interceptor);
-                    break;
-                }
-            } // end inner
-        } // end outer
+        // 稳定排序，order相同时保持Bean的注册顺序
+        for (List<EcologyHandlerInterceptor<?, ?>> list : handlerInterceptorMap.values()) {
+            list.sort(new HandlerInteceptorComparator());
+        }
+    }
 
-        for (Map.Entry<Class<EcologyRequest>, TreeSet<EcologyHandlerInterceptor>> entry : map.entrySet()) { // outer
-            Class<EcologyRequest> key = entry.getKey();
-            for (EcologyHandlerInterceptor interceptor : entry.getValue()) { // inner
-                putIt(key, interceptor);
-            } // end inner
-        } // end outer
+    /**
+     * 找出拦截器绑定的请求Class
+     * <p>
+     * 优先使用编译期索引，未被索引时按拦截器接口的泛型参数解析，泛型参数无法解析时反射扫描doBefore方法；
+     * 未重写doBefore方法的拦截器只能由泛型参数确定绑定的请求
+     *
+     * @param interceptor 拦截器
+     * @param index       编译期索引
+     * @return {@link Class} 不存在doBefore方法时返回null
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Class<EcologyRequest> findRequestClass(EcologyHandlerInterceptor interceptor, EcologyIndex index) {
+        List<IndexedBinding> bindings = index.find(IndexKind.INTERCEPTOR, AopUtils.getTargetClass(interceptor));
+        if (CollectionUtils.isNotEmpty(bindings)) {
+            return bindings.get(0).getRequestClass();
+        }
+        Class<?> targetClass = AopUtils.getTargetClass(interceptor);
+        Class<?> requestClass = ResolvableType.forClass(targetClass)
+                .as(EcologyHandlerInterceptor.class)
+                .resolveGeneric(0);
+        if (null != requestClass && EcologyRequest.class != requestClass) {
+            return (Class<EcologyRequest>) requestClass;
+        }
+        for (Method method : targetClass.getMethods()) {
+            if (isDoBeforeMethod(method)) {
+                return (Class<EcologyRequest>) ResolvableType.forMethodParameter(method, 0, targetClass).resolve();
+            }
+        }
+        return null;
+    }
 
-        map.clear();
+    /**
+     * 运行时添加拦截器
+     * <p>
+     * 按order插入请求已有的拦截器中；拦截器列表整体替换，不修改正在被读取的列表
+     *
+     * @param interceptor 拦截器
+     * @return {@link Class} 拦截器绑定的请求Class
+     */
+    public synchronized Class<EcologyRequest> addInterceptor(EcologyHandlerInterceptor<?, ?> interceptor) {
+        Assert.notNull(interceptor, "The interceptor argument is required; it must not be null");
+        Class<EcologyRequest> requestClass = findRequestClass(interceptor, EcologyIndex.load(appContext));
+        Assert.notNull(requestClass, "The interceptor does not declare a doBefore method,interceptor = "
+                + interceptor.getClass().getName());
+        this.handlerInterceptorMap.compute(requestClass, (k, v) -> {
+            List<EcologyHandlerInterceptor<?, ?>> list = null == v ? new ArrayList<>(1) : new ArrayList<>(v);
+            list.add(interceptor);
+            // 稳定排序，order相同时保持添加顺序
+            list.sort(new HandlerInteceptorComparator());
+            return list;
+        });
+        return requestClass;
     }
 
     /**
-     * @param key   Map键
-     * @param value Map值
+     * 运行时移除拦截器
+     *
+     * @param interceptor 拦截器（与添加时为同一对象）
+     * @return {@link Class} 拦截器原绑定的请求Class，未注册时返回null
      */
-    @SuppressWarnings({"rawtypes"})
-    private void putIt(Class<EcologyRequest> key, EcologyHandlerInterceptor value) {
-        this.handlerInterceptorMap.compute(key, (k, v) -> {
-            if (CollectionUtils.isEmpty(v)) {
-                v = new ArrayList<>();
+    public synchronized Class<EcologyRequest> removeInterceptor(EcologyHandlerInterceptor<?, ?> interceptor) {
+        Assert.notNull(interceptor, "The interceptor argument is required; it must not be null");
+        for (Map.Entry<Class<EcologyRequest>, List<EcologyHandlerInterceptor<?, ?>>> entry
+                : handlerInterceptorMap.entrySet()) {
+            List<EcologyHandlerInterceptor<?, ?>> list = new ArrayList<>(entry.getValue());
+            if (list.removeIf(i -> i == interceptor)) {
+                if (list.isEmpty()) {
+                    handlerInterceptorMap.remove(entry.getKey());
+                } else {
+                    handlerInterceptorMap.put(entry.getKey(), list);
+                }
+                return entry.getKey();
             }
-            v.add(value);
-            return v;
-        });
+        }
+        return null;
     }
 
     /**
-     * @param map   Map容器
      * @param key   Map键
      * @param value Map值
      */
     @SuppressWarnings({"rawtypes"})
-    private static void sortIt(HashMap<Class<EcologyRequest>, TreeSet<EcologyHandlerInterceptor>> map,
-                               Class<EcologyRequest> key,
-                               EcologyHandlerInterceptor value) {
-        // key如果不存在则新建TreeSet插入值，key如果已经存在则添加到TreeSet中
-        map.compute(key, (k, v) -> {
+    private void putIt(Class<EcologyRequest> key, EcologyHandlerInterceptor value) {
+        this.handlerInterceptorMap.compute(key, (k, v) -> {
             if (CollectionUtils.isEmpty(v)) {
-                v = new TreeSet<>(new HandlerInteceptorComparator<>());
+                v = new ArrayList<>();
             }
             v.add(value);
             return v;
@@ -183,12 +238,10 @@ public class HandlerInterceptorBox {
     /**
      * 自定义拦截器比较器
      */
-    private static class HandlerInteceptorComparator<Q extends EcologyRequest,
-            P extends EcologyResponse,
-            I extends EcologyHandlerInterceptor<Q, P>> implements Comparator<I> {
+    private static class HandlerInteceptorComparator implements Comparator<EcologyHandlerInterceptor<?, ?>> {
 
         @Override
-        public int compare(I o1, I o2) {
+        public int compare(EcologyHandlerInterceptor<?, ?> o1, EcologyHandlerInterceptor<?, ?> o2) {
             return Integer.compare(o1.getOrder(), o2.getOrder());
         }
     }
@@ -0,0 +1,54 @@
+package com.github.mimiknight.kuca.ecology.jfr;
+
+/**
+ * 调度失败JFR事件记录工具类
+ * <p>
+ * 运行环境不支持JFR时不做任何处理
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 19:36:22
+ */
+public final class DispatchFailureRecorder {
+
+    private interface Constant {
+
+        String HANDLER_NOT_FOUND = "handler-not-found";
+
+        String REPEAT_BIND = "repeat-bind";
+
+    }
+
+    /**
+     * JFR事件支持，运行环境不支持JFR时为null
+     */
+    private static final FlightRecorderSupport SUPPORT = FlightRecorderSupportHolder.INSTANCE;
+
+    private DispatchFailureRecorder() {
+    }
+
+    /**
+     * 记录请求未绑定处理器
+     *
+     * @param requestClass 请求Class
+     * @param handlerClass 处理器Class，未知时为null
+     * @param message      失败信息
+     */
+    public static void handlerNotFound(Class<?> requestClass, Class<?> handlerClass, String message) {
+        if (null != SUPPORT) {
+            SUPPORT.dispatchFailure(requestClass, handlerClass, Constant.HANDLER_NOT_FOUND, message);
+        }
+    }
+
+    /**
+     * 记录请求重复绑定处理器或响应
+     *
+     * @param requestClass 请求Class
+     * @param handlerClass 处理器Class
+     * @param message      失败信息
+     */
+    public static void repeatBind(Class<?> requestClass, Class<?> handlerClass, String message) {
+        if (null != SUPPORT) {
+            SUPPORT.dispatchFailure(requestClass, handlerClass, Constant.REPEAT_BIND, message);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.github.mimiknight.kuca.ecology.jfr;
+
+import com.github.mimiknight.kuca.ecology.config.EcologyProperties;
+import com.github.mimiknight.kuca.ecology.filter.EcologyHandlerFilter;
+import com.github.mimiknight.kuca.ecology.handler.EcologyAsyncRequestHandler;
+import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
+import com.github.mimiknight.kuca.ecology.interceptor.EcologyHandlerInterceptor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ecology JFR事件记录器
+ * <p>
+ * 调度计划构建时为业务处理器、过滤器、拦截器套上记录JFR事件的包装；
+ * 未开始录制时每次调用只多一次事件开关判断，不创建事件对象，持续时间低于配置阈值的事件不提交。
+ * 阈值也可以通过JFR配置文件中事件的threshold设置调整，两者同时生效
+ * <p>
+ * 默认关闭，需配置kuca.ecology.jfr.enabled=true开启；依赖jdk.jfr的类通过{@link FlightRecorderSupport}隔离
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 19:30:47
+ */
+@Slf4j
+@ConditionalOnClass(name = "jdk.jfr.Event")
+@ConditionalOnProperty(prefix = "kuca.ecology.jfr", name = "enabled", havingValue = "true")
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class EcologyFlightRecorder {
+
+    @Autowired
+    private ObjectProvider<EcologyProperties> propertiesProvider;
+
+    private FlightRecorderSupport support;
+
+    private boolean enabled;
+
+    private long handlerThresholdNanos;
+
+    private long filterThresholdNanos;
+
+    private long interceptorThresholdNanos;
+
+    @PostConstruct
+    public void init() {
+        EcologyProperties.Jfr jfr = propertiesProvider.getIfAvailable(EcologyProperties::new).getJfr();
+        this.handlerThresholdNanos = jfr.getHandlerThreshold().toNanos();
+        this.filterThresholdNanos = jfr.getFilterThreshold().toNanos();
+        this.interceptorThresholdNanos = jfr.getInterceptorThreshold().toNanos();
+        this.support = FlightRecorderSupportHolder.INSTANCE;
+        this.enabled = null != support && support.isAvailable();
+        if (!enabled) {
+            log.debug("The flight recorder is not available,ecology JFR events are disabled.");
+        }
+    }
+
+    /**
+     * JFR事件是否可用
+     *
+     * @return boolean
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 包装业务处理器
+     *
+     * @param requestClass 请求Class
+     * @param handler      业务处理器
+     * @return {@link EcologyRequestHandler}
+     */
+    public EcologyRequestHandler decorate(Class<?> requestClass, EcologyRequestHandler handler) {
+        return support.decorateHandler(handler,
+                requestClass,
+                AopUtils.getTargetClass(handler),
+                handlerThresholdNanos);
+    }
+
+    /**
+     * 包装异步业务处理器
+     *
+     * @param requestClass 请求Class
+     * @param handler      异步业务处理器
+     * @param target       实际的业务处理器，用于事件中的处理器Class
+     * @return {@link EcologyAsyncRequestHandler}
+     */
+    public EcologyAsyncRequestHandler decorate(Class<?> requestClass,
+                                               EcologyAsyncRequestHandler handler,
+                                               Object target) {
+        return support.decorateAsyncHandler(handler,
+                requestClass,
+                AopUtils.getTargetClass(target),
+                handlerThresholdNanos);
+    }
+
+    /**
+     * 包装过滤器
+     *
+     * @param requestClass 请求Class
+     * @param filters      有序的过滤器
+     * @return {@link EcologyHandlerFilter} 新数组
+     */
+    public EcologyHandlerFilter[] decorate(Class<?> requestClass, EcologyHandlerFilter[] filters) {
+        EcologyHandlerFilter[] decorated = new EcologyHandlerFilter[filters.length];
+        for (int i = 0; i < filters.length; i++) {
+            decorated[i] = support.decorateFilter(filters[i],
+                    requestClass,
+                    AopUtils.getTargetClass(filters[i]),
+                    filterThresholdNanos);
+        }
+        return decorated;
+    }
+
+    /**
+     * 包装拦截器
+     *
+     * @param requestClass 请求Class
+     * @param interceptors 有序的拦截器
+     * @return {@link List} 新集合
+     */
+    public List<EcologyHandlerInterceptor<?, ?>> decorate(Class<?> requestClass,
+                                                          List<EcologyHandlerInterceptor<?, ?>> interceptors) {
+        List<EcologyHandlerInterceptor<?, ?>> decorated = new ArrayList<>(interceptors.size());
+        for (EcologyHandlerInterceptor interceptor : interceptors) {
+            decorated.add(support.decorateInterceptor(interceptor,
+                    requestClass,
+                    AopUtils.getTargetClass(interceptor),
+                    interceptorThresholdNanos));
+        }
+        return decorated;
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.mimiknight.kuca.ecology.jfr;
+
+import com.github.mimiknight.kuca.ecology.filter.EcologyHandlerFilter;
+import com.github.mimiknight.kuca.ecology.handler.EcologyAsyncRequestHandler;
+import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
+import com.github.mimiknight.kuca.ecology.interceptor.EcologyHandlerInterceptor;
+
+/**
+ * JFR事件支持接口
+ * <p>
+ * 依赖jdk.jfr的实现与事件类位于单独的源码目录src/main/java-jfr，主源码只通过该接口访问，
+ * 按Java 8 API（--release 8）编译主源码时不引用jdk.jfr
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 17:48:12
+ */
+@SuppressWarnings({"rawtypes"})
+interface FlightRecorderSupport {
+
+    /**
+     * 运行环境是否支持录制
+     *
+     * @return boolean
+     */
+    boolean isAvailable();
+
+    /**
+     * 包装业务处理器
+     *
+     * @param handler        业务处理器
+     * @param requestClass   请求Class
+     * @param handlerClass   处理器Class
+     * @param thresholdNanos 提交阈值（纳秒）
+     * @return {@link EcologyRequestHandler}
+     */
+    EcologyRequestHandler decorateHandler(EcologyRequestHandler handler,
+                                          Class<?> requestClass,
+                                          Class<?> handlerClass,
+                                          long thresholdNanos);
+
+    /**
+     * 包装异步业务处理器
+     *
+     * @param handler        异步业务处理器
+     * @param requestClass   请求Class
+     * @param handlerClass   处理器Class
+     * @param thresholdNanos 提交阈值（纳秒）
+     * @return {@link EcologyAsyncRequestHandler}
+     */
+    EcologyAsyncRequestHandler decorateAsyncHandler(EcologyAsyncRequestHandler handler,
+                                                    Class<?> requestClass,
+                                                    Class<?> handlerClass,
+                                                    long thresholdNanos);
+
+    /**
+     * 包装过滤器
+     *
+     * @param filter         过滤器
+     * @param requestClass   请求Class
+     * @param filterClass    过滤器Class
+     * @param thresholdNanos 提交阈值（纳秒）
+     * @return {@link EcologyHandlerFilter}
+     */
+    EcologyHandlerFilter decorateFilter(EcologyHandlerFilter filter,
+                                        Class<?> requestClass,
+                                        Class<?> filterClass,
+                                        long thresholdNanos);
+
+    /**
+     * 包装拦截器
+     *
+     * @param interceptor      拦截器
+     * @param requestClass     请求Class
+     * @param interceptorClass 拦截器Class
+     * @param thresholdNanos   提交阈值（纳秒）
+     * @return {@link EcologyHandlerInterceptor}
+     */
+    EcologyHandlerInterceptor decorateInterceptor(EcologyHandlerInterceptor interceptor,
+                                                  Class<?> requestClass,
+                                                  Class<?> interceptorClass,
+                                                  long thresholdNanos);
+
+    /**
+     * 记录调度失败事件
+     *
+     * @param requestClass 请求Class
+     * @param handlerClass 处理器Class，未知时为null
+     * @param failure      失败类型
+     * @param message      失败信息
+     */
+    void dispatchFailure(Class<?> requestClass, Class<?> handlerClass, String failure, String message);
+
+}
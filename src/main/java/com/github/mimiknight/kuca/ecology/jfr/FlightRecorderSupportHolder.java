@@ -0,0 +1,50 @@
+package com.github.mimiknight.kuca.ecology.jfr;
+
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * JFR事件支持持有类
+ * <p>
+ * 运行环境存在jdk.jfr且类路径中存在实现类时按类名加载实现，否则为null
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 17:52:40
+ */
+final class FlightRecorderSupportHolder {
+
+    private interface Constant {
+
+        String JFR_EVENT_CLASS_NAME = "jdk.jfr.Event";
+
+        String SUPPORT_CLASS_NAME = "com.github.mimiknight.kuca.ecology.jfr.JdkFlightRecorderSupport";
+
+    }
+
+    /**
+     * JFR事件支持，不支持JFR时为null
+     */
+    static final FlightRecorderSupport INSTANCE = load();
+
+    private FlightRecorderSupportHolder() {
+    }
+
+    /**
+     * 加载JFR事件支持
+     *
+     * @return {@link FlightRecorderSupport} 不支持JFR时返回null
+     */
+    private static FlightRecorderSupport load() {
+        ClassLoader classLoader = FlightRecorderSupportHolder.class.getClassLoader();
+        if (!ClassUtils.isPresent(Constant.JFR_EVENT_CLASS_NAME, classLoader)
+                || !ClassUtils.isPresent(Constant.SUPPORT_CLASS_NAME, classLoader)) {
+            return null;
+        }
+        try {
+            Class<?> supportClass = ClassUtils.forName(Constant.SUPPORT_CLASS_NAME, classLoader);
+            return (FlightRecorderSupport) ReflectionUtils.accessibleConstructor(supportClass).newInstance();
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.github.mimiknight.kuca.ecology.metrics;
+
+import com.github.mimiknight.kuca.ecology.config.EcologyProperties;
+import com.github.mimiknight.kuca.ecology.filter.EcologyHandlerFilter;
+import com.github.mimiknight.kuca.ecology.handler.EcologyAsyncRequestHandler;
+import com.github.mimiknight.kuca.ecology.handler.EcologyBatchRequestHandler;
+import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
+import com.github.mimiknight.kuca.ecology.interceptor.EcologyHandlerInterceptor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ecology度量
+ * <p>
+ * 调度计划构建时为业务处理器、过滤器、拦截器套上记录度量的包装，运行时不再判断度量是否开启；
+ * 容器中没有{@link MeterRegistry}或通过kuca.ecology.metrics.enabled=false关闭时不做任何包装，请求路径上没有额外开销
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 18:30:52
+ */
+@Slf4j
+@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+@ConditionalOnProperty(prefix = "kuca.ecology.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class EcologyMetrics {
+
+    private interface Constant {
+
+        String HANDLER_METER_NAME = "kuca.ecology.handler";
+
+        String FILTER_METER_NAME = "kuca.ecology.filter";
+
+        String INTERCEPTOR_METER_NAME = "kuca.ecology.interceptor";
+
+        String ERRORS_SUFFIX = ".errors";
+
+        String ACTIVE_SUFFIX = ".active";
+
+        String REQUEST_TAG = "request";
+
+        String HANDLER_TAG = "handler";
+
+        String FILTER_TAG = "filter";
+
+        String INTERCEPTOR_TAG = "interceptor";
+
+        String PHASE_TAG = "phase";
+
+        String PHASE_BEFORE = "before";
+
+        String PHASE_AFTER_RETURN = "after_return";
+
+        String PHASE_AFTER_THROWING = "after_throwing";
+
+    }
+
+    @Autowired
+    private ObjectProvider<MeterRegistry> registryProvider;
+
+    @Autowired
+    private ObjectProvider<EcologyProperties> propertiesProvider;
+
+    private MeterRegistry registry;
+
+    private boolean percentileHistogram;
+
+    /**
+     * 执行中数量，按度量名称与标签保存强引用，调度计划重建时复用同一计数器
+     */
+    private final ConcurrentMap<List<Object>, AtomicInteger> activeCounts = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        this.registry = registryProvider.getIfUnique();
+        this.percentileHistogram = propertiesProvider.getIfAvailable(EcologyProperties::new)
+                .getMetrics()
+                .isPercentileHistogram();
+        if (null == registry) {
+            log.debug("The MeterRegistry is absent,ecology metrics are disabled.");
+        }
+    }
+
+    /**
+     * 度量是否可用
+     *
+     * @return boolean
+     */
+    public boolean isEnabled() {
+        return null != registry;
+    }
+
+    /**
+     * 包装业务处理器
+     * <p>
+     * 批量处理器包装后仍可批量处理，一次批量处理记录为一个样本
+     *
+     * @param requestClass 请求Class
+     * @param handler      业务处理器
+     * @return {@link EcologyRequestHandler}
+     */
+    public EcologyRequestHandler decorate(Class<?> requestClass, EcologyRequestHandler handler) {
+        if (handler instanceof EcologyBatchRequestHandler) {
+            return new TimedBatchRequestHandler((EcologyBatchRequestHandler) handler,
+                    handlerMeter(requestClass, handler));
+        }
+        return new TimedRequestHandler(handler, handlerMeter(requestClass, handler));
+    }
+
+    /**
+     * 包装异步业务处理器
+     *
+     * @param requestClass 请求Class
+     * @param handler      异步业务处理器
+     * @param target       实际的业务处理器，用于度量标签
+     * @return {@link EcologyAsyncRequestHandler}
+     */
+    public EcologyAsyncRequestHandler decorate(Class<?> requestClass,
+                                               EcologyAsyncRequestHandler handler,
+                                               Object target) {
+        return new TimedAsyncRequestHandler(handler, handlerMeter(requestClass, target));
+    }
+
+    /**
+     * 包装过滤器
+     *
+     * @param requestClass 请求Class
+     * @param filters      有序的过滤器
+     * @return {@link EcologyHandlerFilter} 新数组
+     */
+    public EcologyHandlerFilter[] decorate(Class<?> requestClass, EcologyHandlerFilter[] filters) {
+        EcologyHandlerFilter[] decorated = new EcologyHandlerFilter[filters.length];
+        for (int i = 0; i < filters.length; i++) {
+            Tags tags = Tags.of(Constant.REQUEST_TAG, requestClass.getName(),
+                    Constant.FILTER_TAG, AopUtils.getTargetClass(filters[i]).getName());
+            decorated[i] = new TimedHandlerFilter(filters[i], stageMeter(Constant.FILTER_METER_NAME, tags, false));
+        }
+        return decorated;
+    }
+
+    /**
+     * 包装拦截器
+     *
+     * @param requestClass 请求Class
+     * @param interceptors 有序的拦截器
+     * @return {@link List} 新集合
+     */
+    public List<EcologyHandlerInterceptor<?, ?>> decorate(Class<?> requestClass,
+                                                          List<EcologyHandlerInterceptor<?, ?>> interceptors) {
+        List<EcologyHandlerInterceptor<?, ?>> decorated = new ArrayList<>(interceptors.size());
+        for (EcologyHandlerInterceptor interceptor : interceptors) {
+            Tags tags = Tags.of(Constant.REQUEST_TAG, requestClass.getName(),
+                    Constant.INTERCEPTOR_TAG, AopUtils.getTargetClass(interceptor).getName());
+            decorated.add(new TimedHandlerInterceptor(interceptor,
+                    stageMeter(Constant.INTERCEPTOR_METER_NAME, tags.and(Constant.PHASE_TAG, Constant.PHASE_BEFORE), false),
+                    stageMeter(Constant.INTERCEPTOR_METER_NAME, tags.and(Constant.PHASE_TAG, Constant.PHASE_AFTER_RETURN), false),
+                    stageMeter(Constant.INTERCEPTOR_METER_NAME, tags.and(Constant.PHASE_TAG, Constant.PHASE_AFTER_THROWING), false)));
+        }
+        return decorated;
+    }
+
+    /**
+     * 创建业务处理器度量
+     *
+     * @param requestClass 请求Class
+     * @param handler      业务处理器
+     * @return {@link StageMeter}
+     */
+    private StageMeter handlerMeter(Class<?> requestClass, Object handler) {
+        Tags tags = Tags.of(Constant.REQUEST_TAG, requestClass.getName(),
+                Constant.HANDLER_TAG, AopUtils.getTargetClass(handler).getName());
+        return stageMeter(Constant.HANDLER_METER_NAME, tags, true);
+    }
+
+    /**
+     * 创建阶段度量
+     * <p>
+     * 只有处理器阶段注册执行中数量，并按配置发布直方图；过滤器与拦截器只记录普通耗时，避免直方图桶数随阶段数倍增
+     *
+     * @param name         度量名称
+     * @param tags         度量标签
+     * @param handlerStage 是否为处理器阶段
+     * @return {@link StageMeter}
+     */
+    private StageMeter stageMeter(String name, Tags tags, boolean handlerStage) {
+        Timer timer = Timer.builder(name)
+                .tags(tags)
+                .publishPercentileHistogram(handlerStage && percentileHistogram)
+                .register(registry);
+        Counter errors = Counter.builder(name + Constant.ERRORS_SUFFIX)
+                .tags(tags)
+                .register(registry);
+        AtomicInteger activeCount = null;
+        if (handlerStage) {
+            activeCount = activeCounts.computeIfAbsent(Arrays.asList(name, tags), key -> activeGauge(name, tags));
+        }
+        return new StageMeter(timer, errors, activeCount);
+    }
+
+    /**
+     * 注册执行中数量
+     * <p>
+     * 计数器由{@link #activeCounts}与度量同时强引用，不会被回收为过期值
+     *
+     * @param name 度量名称
+     * @param tags 度量标签
+     * @return {@link AtomicInteger}
+     */
+    private AtomicInteger activeGauge(String name, Tags tags) {
+        AtomicInteger activeCount = new AtomicInteger();
+        Gauge.builder(name + Constant.ACTIVE_SUFFIX, activeCount, AtomicInteger::get)
+                .tags(tags)
+                .strongReference(true)
+                .register(registry);
+        return activeCount;
+    }
+}
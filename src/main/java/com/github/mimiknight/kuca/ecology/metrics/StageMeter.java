@@ -0,0 +1,61 @@
+package com.github.mimiknight.kuca.ecology.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 单个执行阶段的度量
+ * <p>
+ * 启动时按请求Class与阶段预先注册，运行时只记录耗时与计数，不再查找Meter
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 18:10:26
+ */
+final class StageMeter {
+
+    private final Timer timer;
+
+    private final Counter errors;
+
+    /**
+     * 执行中的数量（未注册Gauge时为null）
+     */
+    private final AtomicInteger active;
+
+    StageMeter(Timer timer, Counter errors, AtomicInteger active) {
+        this.timer = timer;
+        this.errors = errors;
+        this.active = active;
+    }
+
+    /**
+     * 开始计时
+     *
+     * @return long 开始时间（纳秒）
+     */
+    long start() {
+        if (null != active) {
+            active.incrementAndGet();
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * 结束计时
+     *
+     * @param startNanos 开始时间（纳秒）
+     * @param error      是否执行失败
+     */
+    void stop(long startNanos, boolean error) {
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        if (error) {
+            errors.increment();
+        }
+        if (null != active) {
+            active.decrementAndGet();
+        }
+    }
+}
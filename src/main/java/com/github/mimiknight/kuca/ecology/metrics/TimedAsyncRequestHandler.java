@@ -0,0 +1,41 @@
+package com.github.mimiknight.kuca.ecology.metrics;
+
+import com.github.mimiknight.kuca.ecology.handler.EcologyAsyncRequestHandler;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 记录度量的异步业务处理器
+ * <p>
+ * 耗时从调用handle方法开始，到返回的CompletionStage完成为止
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 18:16:39
+ */
+final class TimedAsyncRequestHandler<Q extends EcologyRequest, P extends EcologyResponse>
+        implements EcologyAsyncRequestHandler<Q, P> {
+
+    private final EcologyAsyncRequestHandler<Q, P> handler;
+
+    private final StageMeter meter;
+
+    TimedAsyncRequestHandler(EcologyAsyncRequestHandler<Q, P> handler, StageMeter meter) {
+        this.handler = handler;
+        this.meter = meter;
+    }
+
+    @Override
+    public CompletionStage<P> handle(Q request, P response) throws Exception {
+        long start = meter.start();
+        CompletionStage<P> stage;
+        try {
+            stage = handler.handle(request, response);
+        } catch (Exception | Error ex) {
+            meter.stop(start, true);
+            throw ex;
+        }
+        return stage.whenComplete((value, throwable) -> meter.stop(start, null != throwable));
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.mimiknight.kuca.ecology.metrics;
+
+import com.github.mimiknight.kuca.ecology.handler.EcologyBatchRequestHandler;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+
+import java.util.List;
+
+/**
+ * 记录度量的批量业务处理器
+ * <p>
+ * 单个请求与{@link TimedRequestHandler}一致；一次批量处理记录为处理器阶段的一个样本
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-19 11:42:18
+ */
+final class TimedBatchRequestHandler<Q extends EcologyRequest, P extends EcologyResponse>
+        implements EcologyBatchRequestHandler<Q, P> {
+
+    private final EcologyBatchRequestHandler<Q, P> handler;
+
+    private final StageMeter meter;
+
+    TimedBatchRequestHandler(EcologyBatchRequestHandler<Q, P> handler, StageMeter meter) {
+        this.handler = handler;
+        this.meter = meter;
+    }
+
+    @Override
+    public void handle(Q request, P response) throws Exception {
+        long start = meter.start();
+        boolean error = true;
+        try {
+            handler.handle(request, response);
+            error = false;
+        } finally {
+            meter.stop(start, error);
+        }
+    }
+
+    @Override
+    public void handleBatch(List<Q> requests, List<P> responses) throws Exception {
+        long start = meter.start();
+        boolean error = true;
+        try {
+            handler.handleBatch(requests, responses);
+            error = false;
+        } finally {
+            meter.stop(start, error);
+        }
+    }
+}
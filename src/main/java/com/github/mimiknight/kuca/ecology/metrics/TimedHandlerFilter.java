@@ -0,0 +1,61 @@
+package com.github.mimiknight.kuca.ecology.metrics;
+
+import com.github.mimiknight.kuca.ecology.filter.EcologyHandlerFilter;
+import com.github.mimiknight.kuca.ecology.filter.HandlerFilterChain;
+import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+
+/**
+ * 记录度量的过滤器
+ * <p>
+ * 记录的耗时包含后续过滤器与处理器，相邻两个过滤器的耗时之差即为前一个过滤器自身的耗时；
+ * 生命周期方法与排序直接委托给原过滤器
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 18:20:15
+ */
+final class TimedHandlerFilter<Q extends EcologyRequest, P extends EcologyResponse, H extends EcologyRequestHandler<Q, P>>
+        implements EcologyHandlerFilter<Q, P, H> {
+
+    private final EcologyHandlerFilter<Q, P, H> filter;
+
+    private final StageMeter meter;
+
+    TimedHandlerFilter(EcologyHandlerFilter<Q, P, H> filter, StageMeter meter) {
+        this.filter = filter;
+        this.meter = meter;
+    }
+
+    @Override
+    public void init() {
+        filter.init();
+    }
+
+    @Override
+    public void doFilter(Q request, P response, HandlerFilterChain chain) throws Exception {
+        long start = meter.start();
+        boolean error = true;
+        try {
+            filter.doFilter(request, response, chain);
+            error = false;
+        } finally {
+            meter.stop(start, error);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        filter.destroy();
+    }
+
+    @Override
+    public boolean isPerRequestLifecycle() {
+        return filter.isPerRequestLifecycle();
+    }
+
+    @Override
+    public int getOrder() {
+        return filter.getOrder();
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.mimiknight.kuca.ecology.metrics;
+
+import com.github.mimiknight.kuca.ecology.interceptor.EcologyHandlerInterceptor;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+
+/**
+ * 记录度量的拦截器
+ * <p>
+ * 前置拦截、后置返回拦截、后置异常拦截分别记录；后置异常拦截重新抛出传入的异常不计为错误
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 18:24:48
+ */
+final class TimedHandlerInterceptor<Q extends EcologyRequest, P extends EcologyResponse>
+        implements EcologyHandlerInterceptor<Q, P> {
+
+    private final EcologyHandlerInterceptor<Q, P> interceptor;
+
+    private final StageMeter beforeMeter;
+
+    private final StageMeter afterReturnMeter;
+
+    private final StageMeter afterThrowingMeter;
+
+    TimedHandlerInterceptor(EcologyHandlerInterceptor<Q, P> interceptor,
+                            StageMeter beforeMeter,
+                            StageMeter afterReturnMeter,
+                            StageMeter afterThrowingMeter) {
+        this.interceptor = interceptor;
+        this.beforeMeter = beforeMeter;
+        this.afterReturnMeter = afterReturnMeter;
+        this.afterThrowingMeter = afterThrowingMeter;
+    }
+
+    @Override
+    public boolean doBefore(Q request, P response) throws Exception {
+        long start = beforeMeter.start();
+        boolean error = true;
+        try {
+            boolean result = interceptor.doBefore(request, response);
+            error = false;
+            return result;
+        } finally {
+            beforeMeter.stop(start, error);
+        }
+    }
+
+    @Override
+    public boolean doAfterReturn(Q request, P response) throws Exception {
+        long start = afterReturnMeter.start();
+        boolean error = true;
+        try {
+            boolean result = interceptor.doAfterReturn(request, response);
+            error = false;
+            return result;
+        } finally {
+            afterReturnMeter.stop(start, error);
+        }
+    }
+
+    @Override
+    public boolean doAfterThrowing(Q request, P response, Exception ex) throws Exception {
+        long start = afterThrowingMeter.start();
+        boolean error = true;
+        try {
+            boolean result = interceptor.doAfterThrowing(request, response, ex);
+            error = false;
+            return result;
+        } catch (Exception thrown) {
+            error = thrown != ex;
+            throw thrown;
+        } finally {
+            afterThrowingMeter.stop(start, error);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return interceptor.getOrder();
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.mimiknight.kuca.ecology.metrics;
+
+import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import com.github.mimiknight.kuca.ecology.model.response.EcologyResponse;
+
+/**
+ * 记录度量的业务处理器
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 18:14:02
+ */
+final class TimedRequestHandler<Q extends EcologyRequest, P extends EcologyResponse>
+        implements EcologyRequestHandler<Q, P> {
+
+    private final EcologyRequestHandler<Q, P> handler;
+
+    private final StageMeter meter;
+
+    TimedRequestHandler(EcologyRequestHandler<Q, P> handler, StageMeter meter) {
+        this.handler = handler;
+        this.meter = meter;
+    }
+
+    @Override
+    public void handle(Q request, P response) throws Exception {
+        long start = meter.start();
+        boolean error = true;
+        try {
+            handler.handle(request, response);
+            error = false;
+        } finally {
+            meter.stop(start, error);
+        }
+    }
+}
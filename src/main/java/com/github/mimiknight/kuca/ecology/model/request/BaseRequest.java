@@ -1,11 +1,15 @@
 package com.github.mimiknight.kuca.ecology.model.request;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.http.HttpHeaders;
 
 /**
  * 请求参数接口
+ * <p>
+ * 请求头在首次调用{@link #getHeaders()}时创建，未携带请求头的内部调用不分配请求头对象；
+ * 框架内部只读取请求头时使用{@link #getFirstHeader(String)}与{@link #hasHeaders()}，不会触发创建
  *
  * @author victor2015yhm@gmail.com
  * @since 2023-03-08 23:36:33
@@ -22,6 +26,7 @@ public abstract class BaseRequest<Q, B> implements EcologyRequest {
     /**
      * 请求头
      */
+    @Getter(AccessLevel.NONE)
     private HttpHeaders headers;
 
     /**
@@ -30,6 +35,38 @@ public abstract class BaseRequest<Q, B> implements EcologyRequest {
     private B body;
 
     protected BaseRequest() {
-        this.headers = new HttpHeaders();
+    }
+
+    /**
+     * 获取请求头
+     * <p>
+     * 未设置请求头时创建空的请求头，可直接添加
+     *
+     * @return {@link HttpHeaders}
+     */
+    public HttpHeaders getHeaders() {
+        if (null == headers) {
+            headers = new HttpHeaders();
+        }
+        return headers;
+    }
+
+    /**
+     * 是否携带请求头
+     *
+     * @return boolean 未设置请求头或请求头为空时返回false
+     */
+    public boolean hasHeaders() {
+        return null != headers && !headers.isEmpty();
+    }
+
+    /**
+     * 获取请求头的第一个值
+     *
+     * @param headerName 请求头名称（不区分大小写）
+     * @return {@link String} 未携带该请求头时返回null
+     */
+    public String getFirstHeader(String headerName) {
+        return null == headers ? null : headers.getFirst(headerName);
     }
 }
@@ -0,0 +1,97 @@
+package com.github.mimiknight.kuca.ecology.model.request;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * JSON数组元素迭代器
+ * <p>
+ * 从输入流中逐个解析JSON数组元素，任一时刻只持有当前元素，内存占用与数组长度无关；
+ * 解析失败时抛出{@link UncheckedIOException}
+ *
+ * @param <T> 元素泛型
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 00:31:18
+ */
+public final class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+
+    private final JsonParser parser;
+
+    private final ObjectMapper objectMapper;
+
+    private final Class<T> elementType;
+
+    /**
+     * 是否已读取到下一个元素的起始标记
+     */
+    private boolean ready;
+
+    /**
+     * 是否已读取到数组结束标记
+     */
+    private boolean finished;
+
+    JsonArrayIterator(ObjectMapper objectMapper, InputStream inputStream, Class<T> elementType) throws IOException {
+        this.objectMapper = objectMapper;
+        this.elementType = elementType;
+        this.parser = objectMapper.getFactory().createParser(inputStream);
+        JsonToken token = parser.nextToken();
+        if (null == token) {
+            // 空请求体视为空数组
+            this.finished = true;
+            return;
+        }
+        if (JsonToken.START_ARRAY != token) {
+            parser.close();
+            throw new IOException("The request body is not a json array,first token = " + token);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (finished) {
+            return false;
+        }
+        if (ready) {
+            return true;
+        }
+        try {
+            JsonToken token = parser.nextToken();
+            if (null == token || JsonToken.END_ARRAY == token) {
+                finished = true;
+                return false;
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        ready = true;
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ready = false;
+        try {
+            return objectMapper.readValue(parser, elementType);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        parser.close();
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.mimiknight.kuca.ecology.model.request;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 流式请求参数抽象类
+ * <p>
+ * 请求体以{@link InputStream}形式提供，不预先反序列化；业务处理器可直接读取输入流，
+ * 或通过{@link #iterateArray(Class)}逐个处理JSON数组元素，内存占用与请求体大小无关。
+ * 请求体只能被读取一次，过滤器与拦截器不应读取请求体
+ *
+ * @param <Q> 请求行查询参数泛型
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 00:36:02
+ */
+public abstract class StreamingRequest<Q> extends BaseRequest<Q, InputStream> {
+
+    /**
+     * 未注入ObjectMapper时使用的默认实例
+     */
+    private static final class DefaultObjectMapperHolder {
+
+        private static final ObjectMapper INSTANCE = new ObjectMapper().findAndRegisterModules();
+
+    }
+
+    /**
+     * 解析JSON使用的ObjectMapper，由参数解析器注入
+     */
+    private transient ObjectMapper objectMapper;
+
+    /**
+     * 设置解析JSON使用的ObjectMapper
+     *
+     * @param objectMapper ObjectMapper
+     */
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 以JSON数组元素迭代器的方式读取请求体
+     * <p>
+     * 迭代器使用完毕后应关闭
+     *
+     * @param <T>         元素泛型
+     * @param elementType 元素类型
+     * @return {@link JsonArrayIterator}
+     * @throws IOException 请求体不是JSON数组或读取失败
+     */
+    public <T> JsonArrayIterator<T> iterateArray(Class<T> elementType) throws IOException {
+        InputStream body = getBody();
+        if (null == body) {
+            throw new IOException("The request body stream is absent");
+        }
+        ObjectMapper mapper = null == objectMapper ? DefaultObjectMapperHolder.INSTANCE : objectMapper;
+        return new JsonArrayIterator<>(mapper, body, elementType);
+    }
+}
@@ -6,7 +6,8 @@ import lombok.Setter;
 /**
  * 字节数组响应对象
  * <p>
- * 文件下载时使用
+ * 文件下载时使用，文件内容完整保存在堆内存中；大文件建议使用{@link FileResponse}，
+ * 较大的二进制内容建议使用{@link DirectBufferResponse}
  *
  * @author victor2015yhm@gmail.com
  * @since 2023-03-09 19:58:20
@@ -0,0 +1,24 @@
+package com.github.mimiknight.kuca.ecology.model.response;
+
+import com.github.mimiknight.kuca.ecology.buffer.PooledBuffer;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 池化堆外缓冲区响应对象
+ * <p>
+ * 响应体从{@link com.github.mimiknight.kuca.ecology.buffer.EcologyBufferPool}获取，
+ * 适用于较大的二进制响应；Web层写出缓冲区中已写入的数据后自动归还到缓冲池
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 00:05:37
+ */
+@Getter
+@Setter
+public final class DirectBufferResponse extends BaseResponse<PooledBuffer> {
+
+    /**
+     * 内容类型，为null时使用application/octet-stream
+     */
+    private String contentType;
+}
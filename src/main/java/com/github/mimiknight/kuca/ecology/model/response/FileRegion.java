@@ -0,0 +1,107 @@
+package com.github.mimiknight.kuca.ecology.model.response;
+
+import lombok.Getter;
+import org.springframework.util.Assert;
+
+import java.io.File;
+import java.nio.file.Path;
+
+/**
+ * 文件区域
+ * <p>
+ * 只记录文件路径与区域范围，不持有文件内容；由Web层按区域零拷贝写出
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 22:58:40
+ */
+@Getter
+public final class FileRegion {
+
+    /**
+     * 文件路径
+     */
+    private final Path path;
+
+    /**
+     * 区域起始位置
+     */
+    private final long position;
+
+    /**
+     * 区域长度，小于0时表示到文件末尾
+     */
+    private final long count;
+
+    /**
+     * 内容类型，为null时按文件名推断
+     */
+    private final String contentType;
+
+    /**
+     * 下载文件名，为null时按inline方式返回
+     */
+    private final String fileName;
+
+    private FileRegion(Path path, long position, long count, String contentType, String fileName) {
+        Assert.notNull(path, "The path argument is required; it must not be null");
+        Assert.isTrue(position >= 0, "The position argument must not be negative");
+        this.path = path;
+        this.position = position;
+        this.count = count;
+        this.contentType = contentType;
+        this.fileName = fileName;
+    }
+
+    /**
+     * 整个文件
+     *
+     * @param path 文件路径
+     * @return {@link FileRegion}
+     */
+    public static FileRegion of(Path path) {
+        return new FileRegion(path, 0, -1, null, null);
+    }
+
+    /**
+     * 整个文件
+     *
+     * @param file 文件
+     * @return {@link FileRegion}
+     */
+    public static FileRegion of(File file) {
+        Assert.notNull(file, "The file argument is required; it must not be null");
+        return of(file.toPath());
+    }
+
+    /**
+     * 文件的指定区域
+     *
+     * @param path     文件路径
+     * @param position 区域起始位置
+     * @param count    区域长度，小于0时表示到文件末尾
+     * @return {@link FileRegion}
+     */
+    public static FileRegion of(Path path, long position, long count) {
+        return new FileRegion(path, position, count, null, null);
+    }
+
+    /**
+     * 设置内容类型
+     *
+     * @param contentType 内容类型
+     * @return {@link FileRegion} 新的文件区域
+     */
+    public FileRegion withContentType(String contentType) {
+        return new FileRegion(path, position, count, contentType, fileName);
+    }
+
+    /**
+     * 设置下载文件名，以attachment方式返回
+     *
+     * @param fileName 下载文件名
+     * @return {@link FileRegion} 新的文件区域
+     */
+    public FileRegion withFileName(String fileName) {
+        return new FileRegion(path, position, count, contentType, fileName);
+    }
+}
@@ -0,0 +1,18 @@
+package com.github.mimiknight.kuca.ecology.model.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 文件区域响应对象
+ * <p>
+ * 文件下载时使用，响应体只指向文件或文件区域，Web层以零拷贝方式写出并支持Range请求，
+ * 堆内存占用与文件大小无关
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 23:01:12
+ */
+@Getter
+@Setter
+public final class FileResponse extends BaseResponse<FileRegion> {
+}
@@ -0,0 +1,19 @@
+package com.github.mimiknight.kuca.ecology.model.response;
+
+import com.github.mimiknight.kuca.ecology.push.PushStream;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 推送流响应对象
+ * <p>
+ * 响应体为有界缓冲的{@link PushStream}，以Server-Sent Events或分块的NDJSON格式推送，
+ * 适合推送大结果集或实时数据；业务处理器返回后由生产者继续发送数据，客户端消费过慢或断开时推送流关闭
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 01:38:14
+ */
+@Getter
+@Setter
+public final class PushResponse extends BaseResponse<PushStream> {
+}
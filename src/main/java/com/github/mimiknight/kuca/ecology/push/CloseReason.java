@@ -0,0 +1,35 @@
+package com.github.mimiknight.kuca.ecology.push;
+
+/**
+ * 推送流关闭原因
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 01:02:11
+ */
+public enum CloseReason {
+
+    /**
+     * 生产者正常完成
+     */
+    COMPLETED,
+
+    /**
+     * 生产者异常结束
+     */
+    FAILED,
+
+    /**
+     * 客户端消费过慢，缓冲区持续已满超过阈值
+     */
+    SLOW_CLIENT,
+
+    /**
+     * 客户端断开连接或写出失败
+     */
+    DISCONNECTED,
+
+    /**
+     * 超过推送流的最长持续时间
+     */
+    TIMEOUT
+}
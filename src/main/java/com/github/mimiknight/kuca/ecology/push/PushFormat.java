@@ -0,0 +1,20 @@
+package com.github.mimiknight.kuca.ecology.push;
+
+/**
+ * 推送流格式
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 01:03:40
+ */
+public enum PushFormat {
+
+    /**
+     * Server-Sent Events（text/event-stream）
+     */
+    SSE,
+
+    /**
+     * 以换行分隔的JSON（application/x-ndjson），分块传输
+     */
+    NDJSON
+}
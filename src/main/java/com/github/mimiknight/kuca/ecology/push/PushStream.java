@@ -0,0 +1,451 @@
+package com.github.mimiknight.kuca.ecology.push;
+
+import com.github.mimiknight.kuca.ecology.exception.PushStreamClosedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 推送流
+ * <p>
+ * 生产者向有界缓冲区发送数据，Web层在客户端可写时取出并写出，缓冲区容量即推送流占用内存的上限；
+ * 背压通过以下方式反馈给生产者：
+ * <p>
+ * {@link #tryEmit(Object)}缓冲区已满时立即返回false；
+ * <p>
+ * {@link #emit(Object)}缓冲区已满时阻塞等待；
+ * <p>
+ * {@link #onDemand(Runnable)}缓冲区由满变为可写时回调，适合非阻塞的生产者。
+ * <p>
+ * 缓冲区持续已满超过慢客户端阈值时以{@link CloseReason#SLOW_CLIENT}关闭；
+ * 客户端断开、写出失败或超时时同样关闭，之后的发送抛出{@link PushStreamClosedException}
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 01:14:36
+ */
+@Slf4j
+public final class PushStream {
+
+    private interface Constant {
+
+        /**
+         * 默认慢客户端阈值
+         */
+        Duration DEFAULT_SLOW_CLIENT_TIMEOUT = Duration.ofSeconds(30);
+
+    }
+
+    /**
+     * 推送流格式
+     */
+    private final PushFormat format;
+
+    /**
+     * 缓冲区容量
+     */
+    private final int capacity;
+
+    /**
+     * 慢客户端阈值（纳秒）
+     */
+    private final long slowClientTimeoutNanos;
+
+    /**
+     * 最长持续时间（毫秒），不大于0时不限制
+     */
+    private final long timeoutMillis;
+
+    /**
+     * 环形缓冲区
+     */
+    private final Object[] items;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notFull = lock.newCondition();
+
+    private int head;
+
+    private int tail;
+
+    private int count;
+
+    /**
+     * 缓冲区开始持续已满的时间（纳秒），未满时为0
+     */
+    private long fullSince;
+
+    /**
+     * 生产者是否已结束
+     */
+    private boolean completed;
+
+    /**
+     * 生产者异常结束的原因
+     */
+    private Throwable failure;
+
+    /**
+     * 关闭原因，未关闭时为null
+     */
+    private volatile CloseReason closeReason;
+
+    /**
+     * Web层的写出回调
+     */
+    private volatile Runnable drainCallback;
+
+    /**
+     * 缓冲区由满变为可写时的回调
+     */
+    private volatile Runnable demandCallback;
+
+    private final List<Consumer<CloseReason>> closeCallbacks = new CopyOnWriteArrayList<>();
+
+    public PushStream(PushFormat format, int capacity, Duration slowClientTimeout, Duration timeout) {
+        Assert.notNull(format, "The format argument is required; it must not be null");
+        Assert.isTrue(capacity > 0, "The capacity argument must be positive");
+        Assert.notNull(slowClientTimeout, "The slowClientTimeout argument is required; it must not be null");
+        this.format = format;
+        this.capacity = capacity;
+        this.slowClientTimeoutNanos = slowClientTimeout.toNanos();
+        this.timeoutMillis = null == timeout ? 0 : timeout.toMillis();
+        this.items = new Object[capacity];
+    }
+
+    /**
+     * Server-Sent Events推送流，不限制持续时间
+     *
+     * @param capacity 缓冲区容量
+     * @return {@link PushStream}
+     */
+    public static PushStream sse(int capacity) {
+        return new PushStream(PushFormat.SSE, capacity, Constant.DEFAULT_SLOW_CLIENT_TIMEOUT, null);
+    }
+
+    /**
+     * 以换行分隔的JSON推送流，不限制持续时间
+     *
+     * @param capacity 缓冲区容量
+     * @return {@link PushStream}
+     */
+    public static PushStream ndjson(int capacity) {
+        return new PushStream(PushFormat.NDJSON, capacity, Constant.DEFAULT_SLOW_CLIENT_TIMEOUT, null);
+    }
+
+    /**
+     * 尝试发送数据，缓冲区已满时立即返回
+     *
+     * @param item 数据，可为{@link SseEvent}
+     * @return boolean 缓冲区已满时返回false
+     * @throws PushStreamClosedException 推送流已关闭
+     */
+    public boolean tryEmit(Object item) {
+        Assert.notNull(item, "The item argument is required; it must not be null");
+        boolean slow = false;
+        lock.lock();
+        try {
+            ensureOpen();
+            if (count == capacity) {
+                long now = System.nanoTime();
+                if (0 == fullSince) {
+                    fullSince = now;
+                } else if (now - fullSince >= slowClientTimeoutNanos) {
+                    slow = true;
+                }
+                if (!slow) {
+                    return false;
+                }
+            } else {
+                enqueue(item);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (slow) {
+            close(CloseReason.SLOW_CLIENT);
+            throw new PushStreamClosedException(CloseReason.SLOW_CLIENT);
+        }
+        signalDrain();
+        return true;
+    }
+
+    /**
+     * 发送数据，缓冲区已满时阻塞等待，等待超过慢客户端阈值时关闭推送流
+     *
+     * @param item 数据，可为{@link SseEvent}
+     * @throws InterruptedException      等待时被中断
+     * @throws PushStreamClosedException 推送流已关闭或客户端消费过慢
+     */
+    public void emit(Object item) throws InterruptedException {
+        Assert.notNull(item, "The item argument is required; it must not be null");
+        boolean slow = false;
+        lock.lockInterruptibly();
+        try {
+            long nanos = slowClientTimeoutNanos;
+            while (count == capacity && null == closeReason) {
+                if (nanos <= 0) {
+                    slow = true;
+                    break;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            if (!slow) {
+                ensureOpen();
+                enqueue(item);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (slow) {
+            close(CloseReason.SLOW_CLIENT);
+            throw new PushStreamClosedException(CloseReason.SLOW_CLIENT);
+        }
+        signalDrain();
+    }
+
+    /**
+     * 正常结束，缓冲区中的数据写出后关闭
+     */
+    public void complete() {
+        lock.lock();
+        try {
+            if (null != closeReason || completed) {
+                return;
+            }
+            completed = true;
+        } finally {
+            lock.unlock();
+        }
+        signalDrain();
+    }
+
+    /**
+     * 异常结束，缓冲区中的数据写出后关闭
+     *
+     * @param failure 异常
+     */
+    public void completeWithError(Throwable failure) {
+        lock.lock();
+        try {
+            if (null != closeReason || completed) {
+                return;
+            }
+            this.completed = true;
+            this.failure = failure;
+        } finally {
+            lock.unlock();
+        }
+        log.warn("The push stream is completed with error", failure);
+        signalDrain();
+    }
+
+    /**
+     * 注册缓冲区由满变为可写时的回调，在写出线程中执行，不应阻塞
+     *
+     * @param callback 回调
+     */
+    public void onDemand(Runnable callback) {
+        this.demandCallback = callback;
+    }
+
+    /**
+     * 注册关闭回调
+     *
+     * @param callback 回调
+     */
+    public void onClose(Consumer<CloseReason> callback) {
+        Assert.notNull(callback, "The callback argument is required; it must not be null");
+        closeCallbacks.add(callback);
+        CloseReason reason = closeReason;
+        if (null != reason && closeCallbacks.remove(callback)) {
+            callback.accept(reason);
+        }
+    }
+
+    /**
+     * 缓冲区剩余容量
+     *
+     * @return int
+     */
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacity - count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 是否已关闭
+     *
+     * @return boolean
+     */
+    public boolean isClosed() {
+        return null != closeReason;
+    }
+
+    /**
+     * 获取关闭原因
+     *
+     * @return {@link CloseReason} 未关闭时返回null
+     */
+    public CloseReason getCloseReason() {
+        return closeReason;
+    }
+
+    /**
+     * 获取推送流格式
+     *
+     * @return {@link PushFormat}
+     */
+    public PushFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * 获取最长持续时间
+     *
+     * @param unit 时间单位
+     * @return long 不大于0时不限制
+     */
+    public long getTimeout(TimeUnit unit) {
+        return unit.convert(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 绑定Web层的写出回调
+     *
+     * @param callback 写出回调
+     */
+    void bind(Runnable callback) {
+        this.drainCallback = callback;
+        callback.run();
+    }
+
+    /**
+     * 取出数据
+     *
+     * @return {@link Object} 缓冲区为空时返回null
+     */
+    Object poll() {
+        boolean wasFull;
+        Object item;
+        lock.lock();
+        try {
+            if (0 == count) {
+                return null;
+            }
+            wasFull = count == capacity;
+            item = items[head];
+            items[head] = null;
+            head = head + 1 == capacity ? 0 : head + 1;
+            count--;
+            fullSince = 0;
+            notFull.signal();
+        } finally {
+            lock.unlock();
+        }
+        Runnable callback = demandCallback;
+        if (wasFull && null != callback) {
+            try {
+                callback.run();
+            } catch (RuntimeException ex) {
+                log.warn("The demand callback of push stream failed", ex);
+            }
+        }
+        return item;
+    }
+
+    /**
+     * 生产者已结束且缓冲区已写空
+     *
+     * @return boolean
+     */
+    boolean isDrained() {
+        lock.lock();
+        try {
+            return completed && 0 == count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 获取生产者异常结束的原因
+     *
+     * @return {@link Throwable} 正常结束时返回null
+     */
+    Throwable getFailure() {
+        lock.lock();
+        try {
+            return failure;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 关闭推送流，丢弃缓冲区中未写出的数据并唤醒等待的生产者
+     *
+     * @param reason 关闭原因
+     * @return boolean 已关闭时返回false
+     */
+    boolean close(CloseReason reason) {
+        lock.lock();
+        try {
+            if (null != closeReason) {
+                return false;
+            }
+            closeReason = reason;
+            Arrays.fill(items, null);
+            count = 0;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        for (Consumer<CloseReason> callback : closeCallbacks) {
+            if (closeCallbacks.remove(callback)) {
+                try {
+                    callback.accept(reason);
+                } catch (RuntimeException ex) {
+                    log.warn("The close callback of push stream failed", ex);
+                }
+            }
+        }
+        signalDrain();
+        return true;
+    }
+
+    private void enqueue(Object item) {
+        items[tail] = item;
+        tail = tail + 1 == capacity ? 0 : tail + 1;
+        count++;
+    }
+
+    private void ensureOpen() {
+        CloseReason reason = closeReason;
+        if (null != reason) {
+            throw new PushStreamClosedException(reason);
+        }
+        if (completed) {
+            throw new IllegalStateException("The push stream is already completed");
+        }
+    }
+
+    private void signalDrain() {
+        Runnable callback = drainCallback;
+        if (null != callback) {
+            callback.run();
+        }
+    }
+}
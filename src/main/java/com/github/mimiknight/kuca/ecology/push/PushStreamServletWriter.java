@@ -0,0 +1,270 @@
+package com.github.mimiknight.kuca.ecology.push;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 推送流Servlet写出器
+ * <p>
+ * 基于Servlet非阻塞IO：只在{@link ServletOutputStream#isReady()}为true时从推送流中取出数据写出，
+ * 客户端消费变慢时数据停留在推送流的有界缓冲区中，由此将背压传递给生产者；
+ * 写出由容器回调或生产者发送数据触发，同一时刻只有一个线程写出
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 01:26:05
+ */
+@Slf4j
+public final class PushStreamServletWriter implements WriteListener, AsyncListener {
+
+    private interface Constant {
+
+        String SSE_CONTENT_TYPE = "text/event-stream;charset=UTF-8";
+
+        String NDJSON_CONTENT_TYPE = "application/x-ndjson;charset=UTF-8";
+
+        String NO_CACHE = "no-cache";
+
+        /**
+         * 关闭反向代理缓冲的响应头
+         */
+        String ACCEL_BUFFERING = "X-Accel-Buffering";
+
+    }
+
+    private final PushStream stream;
+
+    private final AsyncContext asyncContext;
+
+    private final ServletOutputStream outputStream;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 写出请求计数，保证同一时刻只有一个线程写出
+     */
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private volatile boolean finished;
+
+    private PushStreamServletWriter(PushStream stream,
+                                    AsyncContext asyncContext,
+                                    ServletOutputStream outputStream,
+                                    ObjectMapper objectMapper) {
+        this.stream = stream;
+        this.asyncContext = asyncContext;
+        this.outputStream = outputStream;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 开始写出推送流
+     *
+     * @param stream       推送流
+     * @param request      HTTP请求
+     * @param response     HTTP响应
+     * @param objectMapper 序列化非String数据使用的ObjectMapper
+     * @throws IOException IO异常
+     */
+    public static void start(PushStream stream,
+                             HttpServletRequest request,
+                             HttpServletResponse response,
+                             ObjectMapper objectMapper) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(PushFormat.SSE == stream.getFormat()
+                ? Constant.SSE_CONTENT_TYPE
+                : Constant.NDJSON_CONTENT_TYPE);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, Constant.NO_CACHE);
+        response.setHeader(Constant.ACCEL_BUFFERING, "no");
+        AsyncContext asyncContext = request.isAsyncStarted()
+                ? request.getAsyncContext()
+                : request.startAsync(request, response);
+        asyncContext.setTimeout(Math.max(0, stream.getTimeout(TimeUnit.MILLISECONDS)));
+        PushStreamServletWriter writer = new PushStreamServletWriter(stream,
+                asyncContext,
+                response.getOutputStream(),
+                objectMapper);
+        asyncContext.addListener(writer);
+        writer.outputStream.setWriteListener(writer);
+        stream.bind(writer::drain);
+    }
+
+    @Override
+    public void onWritePossible() {
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        log.debug("The push stream write failed", throwable);
+        finish(CloseReason.DISCONNECTED);
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        finish(CloseReason.DISCONNECTED);
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        finish(CloseReason.TIMEOUT);
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        finish(CloseReason.DISCONNECTED);
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+        // 不需要处理
+    }
+
+    /**
+     * 在客户端可写时写出缓冲区中的数据
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            if (!finished) {
+                try {
+                    drainLoop();
+                } catch (IOException | IllegalStateException ex) {
+                    log.debug("The push stream write failed", ex);
+                    finish(CloseReason.DISCONNECTED);
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void drainLoop() throws IOException {
+        CloseReason reason = stream.getCloseReason();
+        if (null != reason) {
+            finish(reason);
+            return;
+        }
+        while (outputStream.isReady()) {
+            Object item = stream.poll();
+            if (null == item) {
+                if (stream.isDrained()) {
+                    finish(null == stream.getFailure() ? CloseReason.COMPLETED : CloseReason.FAILED);
+                    return;
+                }
+                // 缓冲区已写空，将已写出的数据发送给客户端
+                outputStream.flush();
+                return;
+            }
+            byte[] frame = encode(item);
+            if (frame.length > 0) {
+                outputStream.write(frame);
+            }
+        }
+    }
+
+    /**
+     * 结束写出并关闭推送流
+     *
+     * @param reason 关闭原因
+     */
+    private void finish(CloseReason reason) {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        stream.close(reason);
+        try {
+            asyncContext.complete();
+        } catch (IllegalStateException ex) {
+            // 异步请求已结束
+            log.debug("The async context of push stream is already completed");
+        }
+    }
+
+    /**
+     * 编码数据帧
+     *
+     * @param item 数据
+     * @return byte[]
+     * @throws IOException 序列化失败
+     */
+    private byte[] encode(Object item) throws IOException {
+        SseEvent event = item instanceof SseEvent ? (SseEvent) item : null;
+        Object data = null == event ? item : event.getData();
+        StringBuilder frame = new StringBuilder();
+        if (PushFormat.NDJSON == stream.getFormat()) {
+            if (null == data) {
+                return new byte[0];
+            }
+            frame.append(toText(data)).append('\n');
+            return frame.toString().getBytes(StandardCharsets.UTF_8);
+        }
+        if (null != event) {
+            // 注释行以冒号开头，客户端忽略
+            appendLines(frame, ":", event.getComment());
+            appendLines(frame, "id:", event.getId());
+            appendLines(frame, "event:", event.getName());
+            if (event.getRetry() > 0) {
+                frame.append("retry:").append(event.getRetry()).append('\n');
+            }
+        }
+        if (null != data) {
+            appendLines(frame, "data:", toText(data));
+        }
+        frame.append('\n');
+        return frame.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String toText(Object data) throws IOException {
+        if (data instanceof CharSequence) {
+            return data.toString();
+        }
+        return objectMapper.writeValueAsString(data);
+    }
+
+    /**
+     * 按行写入字段
+     * <p>
+     * 按SSE规范，{@code \r\n}、{@code \r}、{@code \n}均为行结束符，值中的每一行都写为同名字段，
+     * 避免值中的换行注入其他字段或提前结束事件
+     *
+     * @param frame 事件帧
+     * @param field 字段前缀
+     * @param value 字段值，可为null
+     */
+    private static void appendLines(StringBuilder frame, String field, String value) {
+        if (null == value) {
+            return;
+        }
+        int start = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c != '\n' && c != '\r') {
+                continue;
+            }
+            frame.append(field).append(value, start, i).append('\n');
+            if (c == '\r' && i + 1 < length && value.charAt(i + 1) == '\n') {
+                i++;
+            }
+            start = i + 1;
+        }
+        frame.append(field).append(value, start, length).append('\n');
+    }
+}
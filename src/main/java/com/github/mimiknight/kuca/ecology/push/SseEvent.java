@@ -0,0 +1,99 @@
+package com.github.mimiknight.kuca.ecology.push;
+
+import lombok.Getter;
+
+/**
+ * Server-Sent Events事件
+ * <p>
+ * 数据为String时原样写出，其他对象按JSON序列化；NDJSON格式下只写出数据
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 01:05:27
+ */
+@Getter
+public final class SseEvent {
+
+    /**
+     * 事件ID
+     */
+    private final String id;
+
+    /**
+     * 事件名称
+     */
+    private final String name;
+
+    /**
+     * 事件数据
+     */
+    private final Object data;
+
+    /**
+     * 客户端重连间隔（毫秒），不大于0时不写出
+     */
+    private final long retry;
+
+    /**
+     * 注释，可作为心跳检测客户端是否断开
+     */
+    private final String comment;
+
+    private SseEvent(String id, String name, Object data, long retry, String comment) {
+        this.id = id;
+        this.name = name;
+        this.data = data;
+        this.retry = retry;
+        this.comment = comment;
+    }
+
+    /**
+     * 只包含数据的事件
+     *
+     * @param data 事件数据
+     * @return {@link SseEvent}
+     */
+    public static SseEvent of(Object data) {
+        return new SseEvent(null, null, data, 0, null);
+    }
+
+    /**
+     * 带名称的事件
+     *
+     * @param name 事件名称
+     * @param data 事件数据
+     * @return {@link SseEvent}
+     */
+    public static SseEvent of(String name, Object data) {
+        return new SseEvent(null, name, data, 0, null);
+    }
+
+    /**
+     * 注释事件
+     *
+     * @param comment 注释
+     * @return {@link SseEvent}
+     */
+    public static SseEvent comment(String comment) {
+        return new SseEvent(null, null, null, 0, comment);
+    }
+
+    /**
+     * 设置事件ID
+     *
+     * @param id 事件ID
+     * @return {@link SseEvent} 新的事件
+     */
+    public SseEvent withId(String id) {
+        return new SseEvent(id, name, data, retry, comment);
+    }
+
+    /**
+     * 设置客户端重连间隔
+     *
+     * @param retry 重连间隔（毫秒）
+     * @return {@link SseEvent} 新的事件
+     */
+    public SseEvent withRetry(long retry) {
+        return new SseEvent(id, name, data, retry, comment);
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.mimiknight.kuca.ecology.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 限流注解
+ * <p>
+ * 标注在请求处理器或请求参数类上，在过滤器链之前按令牌桶限制该请求Class的吞吐量，令牌耗尽时抛出
+ * {@link com.github.mimiknight.kuca.ecology.exception.RateLimitExceededException}；
+ * 同时标注时以处理器上的注解为准
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 21:05:52
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EcologyRateLimit {
+
+    /**
+     * 每秒产生的令牌数
+     *
+     * @return double
+     */
+    double permitsPerSecond();
+
+    /**
+     * 令牌桶容量，即允许的瞬时突发数；小于1时取每秒令牌数（至少为1）
+     *
+     * @return int
+     */
+    int burst() default 0;
+
+    /**
+     * 限流键所在的请求头名称
+     * <p>
+     * 为空时按请求Class整体限流；不为空时每个请求头值独立限流，请求头缺失的请求共用请求Class的令牌桶
+     *
+     * @return {@link String}
+     */
+    String keyHeader() default "";
+
+    /**
+     * 按请求头限流时最多保留的令牌桶数量，超出后淘汰最久未使用的令牌桶
+     *
+     * @return int
+     */
+    int maxKeys() default 4096;
+
+}
@@ -0,0 +1,81 @@
+package com.github.mimiknight.kuca.ecology.ratelimit;
+
+import com.github.mimiknight.kuca.ecology.exception.RateLimitExceededException;
+import com.github.mimiknight.kuca.ecology.model.request.BaseRequest;
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * 单个请求Class的限流器
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 21:24:08
+ */
+public final class EcologyRateLimiter {
+
+    /**
+     * 请求Class
+     */
+    @Getter
+    private final Class<?> requestClass;
+
+    /**
+     * 限流键所在的请求头名称，按请求Class整体限流时为null
+     */
+    @Getter
+    private final String keyHeader;
+
+    /**
+     * 请求Class整体的令牌桶（请求头缺失的请求也使用该令牌桶）
+     */
+    private final TokenBucket bucket;
+
+    /**
+     * 按请求头值隔离的令牌桶（按请求Class整体限流时为null）
+     */
+    private final KeyedTokenBuckets keyedBuckets;
+
+    EcologyRateLimiter(Class<?> requestClass, EcologyRateLimit rateLimit) {
+        int burst = rateLimit.burst() > 0
+                ? rateLimit.burst()
+                : Math.max(1, (int) Math.ceil(rateLimit.permitsPerSecond()));
+        this.requestClass = requestClass;
+        this.bucket = new TokenBucket(rateLimit.permitsPerSecond(), burst);
+        if (StringUtils.isBlank(rateLimit.keyHeader())) {
+            this.keyHeader = null;
+            this.keyedBuckets = null;
+        } else {
+            this.keyHeader = rateLimit.keyHeader();
+            this.keyedBuckets = new KeyedTokenBuckets(rateLimit.permitsPerSecond(), burst, rateLimit.maxKeys());
+        }
+    }
+
+    /**
+     * 获取令牌，令牌耗尽时抛出异常
+     *
+     * @param request 请求参数
+     * @throws RateLimitExceededException 令牌耗尽
+     */
+    public void acquire(EcologyRequest request) {
+        long now = System.nanoTime();
+        String key = resolveKey(request);
+        boolean acquired = null == key ? bucket.tryAcquire(now) : keyedBuckets.tryAcquire(key, now);
+        if (!acquired) {
+            throw new RateLimitExceededException(requestClass, key);
+        }
+    }
+
+    /**
+     * 解析限流键
+     *
+     * @param request 请求参数
+     * @return {@link String} 按请求Class整体限流或请求头缺失时为null
+     */
+    private String resolveKey(EcologyRequest request) {
+        if (null == keyedBuckets || !(request instanceof BaseRequest)) {
+            return null;
+        }
+        return ((BaseRequest<?, ?>) request).getFirstHeader(keyHeader);
+    }
+}
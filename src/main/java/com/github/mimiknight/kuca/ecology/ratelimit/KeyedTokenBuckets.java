@@ -0,0 +1,122 @@
+package com.github.mimiknight.kuca.ecology.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 按键隔离的有界令牌桶表
+ * <p>
+ * 固定容量的开放寻址表，每个键只能落在两个候选槽位中；两个槽位都被其他键占用时，
+ * 淘汰理论到达时间较早（最接近满桶、最久未使用）的令牌桶。替换通过CAS完成，不使用锁，
+ * 键的数量再多也不会让内存无限增长；活跃键数量应小于容量，否则被淘汰的键会以满桶重新开始
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 21:16:44
+ */
+public final class KeyedTokenBuckets {
+
+    private interface Constant {
+
+        int MAX_CAPACITY = 1 << 30;
+
+        int GOLDEN_RATIO = 0x9E3779B9;
+
+    }
+
+    private final double permitsPerSecond;
+
+    private final int burst;
+
+    private final AtomicReferenceArray<Entry> table;
+
+    private final int mask;
+
+    /**
+     * 构造方法
+     *
+     * @param permitsPerSecond 每秒产生的令牌数
+     * @param burst            令牌桶容量
+     * @param maxKeys          最多保留的令牌桶数量
+     */
+    public KeyedTokenBuckets(double permitsPerSecond, int burst, int maxKeys) {
+        if (maxKeys < 2) {
+            throw new IllegalArgumentException("The maxKeys must be greater than 1");
+        }
+        int capacity = Integer.highestOneBit(Math.min(Constant.MAX_CAPACITY, maxKeys - 1)) << 1;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.table = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * 尝试为指定键获取一个令牌
+     *
+     * @param key      限流键
+     * @param nowNanos 当前时间（{@link System#nanoTime()}）
+     * @return boolean
+     */
+    public boolean tryAcquire(String key, long nowNanos) {
+        return bucket(key).tryAcquire(nowNanos);
+    }
+
+    /**
+     * 获取指定键的令牌桶，不存在时创建
+     *
+     * @param key 限流键
+     * @return {@link TokenBucket}
+     */
+    private TokenBucket bucket(String key) {
+        int hash = key.hashCode();
+        int first = (hash ^ (hash >>> 16)) & mask;
+        int second = ((hash * Constant.GOLDEN_RATIO) >>> 16) & mask;
+        Entry firstEntry = table.get(first);
+        if (null != firstEntry && firstEntry.key.equals(key)) {
+            return firstEntry.bucket;
+        }
+        Entry secondEntry = table.get(second);
+        if (null != secondEntry && secondEntry.key.equals(key)) {
+            return secondEntry.bucket;
+        }
+        // 优先使用空槽位，否则淘汰理论到达时间较早的令牌桶
+        int slot;
+        Entry victim;
+        if (null == firstEntry) {
+            slot = first;
+            victim = null;
+        } else if (null == secondEntry) {
+            slot = second;
+            victim = null;
+        } else if (firstEntry.bucket.getTat() <= secondEntry.bucket.getTat()) {
+            slot = first;
+            victim = firstEntry;
+        } else {
+            slot = second;
+            victim = secondEntry;
+        }
+        Entry created = new Entry(key, new TokenBucket(permitsPerSecond, burst));
+        if (table.compareAndSet(slot, victim, created)) {
+            return created.bucket;
+        }
+        // 并发写入同一槽位时，优先使用其他线程为同一个键创建的令牌桶
+        Entry winner = table.get(slot);
+        if (null != winner && winner.key.equals(key)) {
+            return winner.bucket;
+        }
+        return created.bucket;
+    }
+
+    /**
+     * 令牌桶表条目
+     */
+    private static final class Entry {
+
+        private final String key;
+
+        private final TokenBucket bucket;
+
+        private Entry(String key, TokenBucket bucket) {
+            this.key = key;
+            this.bucket = bucket;
+        }
+    }
+}
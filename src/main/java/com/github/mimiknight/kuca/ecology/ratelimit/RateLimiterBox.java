@@ -0,0 +1,84 @@
+package com.github.mimiknight.kuca.ecology.ratelimit;
+
+import com.github.mimiknight.kuca.ecology.model.request.EcologyRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 装载限流器的容器
+ * <p>
+ * 调度计划构建时按处理器或请求参数类上的{@link EcologyRateLimit}注解为每个请求Class创建独立的限流器；
+ * 可通过kuca.ecology.rate-limit.enabled=false关闭
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 21:30:15
+ */
+@Slf4j
+@ConditionalOnProperty(prefix = "kuca.ecology.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimiterBox {
+
+    private interface Constant {
+
+        int INIT_CAPACITY = 16;
+
+    }
+
+    /**
+     * 请求Class与限流器映射Map
+     */
+    private final ConcurrentMap<Class<?>, EcologyRateLimiter> limiterMap;
+
+    public RateLimiterBox() {
+        this.limiterMap = new ConcurrentHashMap<>(Constant.INIT_CAPACITY);
+    }
+
+    /**
+     * 创建限流器
+     *
+     * @param requestClass 请求Class
+     * @param handler      业务处理器
+     * @return {@link EcologyRateLimiter} 未标注{@link EcologyRateLimit}时返回null
+     */
+    public EcologyRateLimiter create(Class<EcologyRequest> requestClass, Object handler) {
+        EcologyRateLimit rateLimit = AnnotatedElementUtils.findMergedAnnotation(
+                AopUtils.getTargetClass(handler), EcologyRateLimit.class);
+        if (null == rateLimit) {
+            rateLimit = AnnotatedElementUtils.findMergedAnnotation(requestClass, EcologyRateLimit.class);
+        }
+        if (null == rateLimit) {
+            limiterMap.remove(requestClass);
+            return null;
+        }
+        EcologyRateLimiter limiter = new EcologyRateLimiter(requestClass, rateLimit);
+        limiterMap.put(requestClass, limiter);
+        log.debug("The rate limiter is created,request = {},permitsPerSecond = {},keyHeader = {}",
+                requestClass.getName(), rateLimit.permitsPerSecond(), rateLimit.keyHeader());
+        return limiter;
+    }
+
+    /**
+     * 获取限流器
+     *
+     * @param requestClass 请求Class
+     * @return {@link EcologyRateLimiter} 不存在时返回null
+     */
+    public EcologyRateLimiter getLimiter(Class<?> requestClass) {
+        return limiterMap.get(requestClass);
+    }
+
+    /**
+     * 获取全部限流器
+     *
+     * @return {@link Map}
+     */
+    public Map<Class<?>, EcologyRateLimiter> getLimiterMap() {
+        return Collections.unmodifiableMap(limiterMap);
+    }
+}
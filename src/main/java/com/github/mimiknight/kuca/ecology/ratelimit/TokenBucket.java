@@ -0,0 +1,81 @@
+package com.github.mimiknight.kuca.ecology.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 令牌桶
+ * <p>
+ * 以GCRA算法实现，与令牌桶等价：只保存一个理论到达时间（TAT），每次获取令牌时通过一次CAS将其后移一个令牌间隔，
+ * 后移后超出当前时间不多于容量个间隔即获取成功；不使用锁，也不需要后台线程补充令牌
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 21:09:30
+ */
+public final class TokenBucket {
+
+    private interface Constant {
+
+        double NANOS_PER_SECOND = 1_000_000_000D;
+
+    }
+
+    /**
+     * 令牌间隔（纳秒）
+     */
+    private final long intervalNanos;
+
+    /**
+     * 允许超前的时长（纳秒），即容量个令牌间隔
+     */
+    private final long toleranceNanos;
+
+    /**
+     * 理论到达时间（纳秒）
+     */
+    private final AtomicLong tat;
+
+    /**
+     * 构造方法
+     *
+     * @param permitsPerSecond 每秒产生的令牌数
+     * @param burst            令牌桶容量
+     */
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("The permitsPerSecond and burst must be greater than 0");
+        }
+        this.intervalNanos = Math.max(1L, (long) (Constant.NANOS_PER_SECOND / permitsPerSecond));
+        this.toleranceNanos = intervalNanos * burst;
+        this.tat = new AtomicLong(Long.MIN_VALUE);
+    }
+
+    /**
+     * 尝试获取一个令牌
+     *
+     * @param nowNanos 当前时间（{@link System#nanoTime()}）
+     * @return boolean
+     */
+    public boolean tryAcquire(long nowNanos) {
+        for (; ; ) {
+            long current = tat.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            if (next - nowNanos > toleranceNanos) {
+                return false;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 获取理论到达时间
+     * <p>
+     * 不晚于当前时间时令牌桶为满，与新建的令牌桶等价
+     *
+     * @return long
+     */
+    long getTat() {
+        return tat.get();
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.mimiknight.kuca.ecology.web;
+
+import com.github.mimiknight.kuca.ecology.buffer.PooledBuffer;
+import com.github.mimiknight.kuca.ecology.model.response.DirectBufferResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * {@link DirectBufferResponse}返回值处理器
+ * <p>
+ * 将缓冲区中已写入的数据直接写出到HTTP响应，写出完成或失败后归还缓冲区
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 00:09:44
+ */
+public class DirectBufferResponseReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return DirectBufferResponse.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue,
+                                  MethodParameter returnType,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest) throws Exception {
+        mavContainer.setRequestHandled(true);
+        DirectBufferResponse directBufferResponse = (DirectBufferResponse) returnValue;
+        PooledBuffer body = null == directBufferResponse ? null : directBufferResponse.getBody();
+        try {
+            HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+            HttpServletResponse response = webRequest.getNativeResponse(HttpServletResponse.class);
+            if (null == request || null == response) {
+                return;
+            }
+            if (null == body) {
+                response.setStatus(HttpStatus.NO_CONTENT.value());
+                return;
+            }
+            String contentType = directBufferResponse.getContentType();
+            response.setContentType(null == contentType ? MediaType.APPLICATION_OCTET_STREAM_VALUE : contentType);
+            // 读取[0, position)区间，不改变缓冲区自身的位置
+            ByteBuffer buffer = body.getBuffer().duplicate();
+            buffer.flip();
+            response.setContentLength(buffer.remaining());
+            if (HttpMethod.HEAD.matches(request.getMethod())) {
+                return;
+            }
+            WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } finally {
+            if (null != body) {
+                body.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.mimiknight.kuca.ecology.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Spring MVC扩展注册器
+ * <p>
+ * 在{@link RequestMappingHandlerAdapter}初始化完成后，将Ecology的参数解析器与返回值处理器放在默认处理器之前，
+ * 避免请求体被预先读取或响应被{@code @ResponseBody}的处理器按JSON写出
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 23:21:09
+ */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class EcologyWebMvcRegistrar implements BeanPostProcessor, BeanFactoryAware {
+
+    private BeanFactory beanFactory;
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (!(bean instanceof RequestMappingHandlerAdapter)) {
+            return bean;
+        }
+        RequestMappingHandlerAdapter adapter = (RequestMappingHandlerAdapter) bean;
+        ObjectMapper objectMapper = beanFactory.getBeanProvider(ObjectMapper.class).getIfAvailable();
+        List<HandlerMethodArgumentResolver> resolvers = adapter.getArgumentResolvers();
+        if (null != resolvers) {
+            List<HandlerMethodArgumentResolver> list = new ArrayList<>(resolvers.size() + 1);
+            list.add(new StreamingRequestArgumentResolver(objectMapper));
+            list.addAll(resolvers);
+            adapter.setArgumentResolvers(list);
+        }
+        List<HandlerMethodReturnValueHandler> handlers = adapter.getReturnValueHandlers();
+        if (null != handlers) {
+            List<HandlerMethodReturnValueHandler> list = new ArrayList<>(handlers.size() + 3);
+            list.add(new FileResponseReturnValueHandler());
+            list.add(new DirectBufferResponseReturnValueHandler());
+            list.add(new PushResponseReturnValueHandler(objectMapper));
+            list.addAll(handlers);
+            adapter.setReturnValueHandlers(list);
+        }
+        return bean;
+    }
+}
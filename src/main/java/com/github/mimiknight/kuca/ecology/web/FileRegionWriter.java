@@ -0,0 +1,248 @@
+package com.github.mimiknight.kuca.ecology.web;
+
+import com.github.mimiknight.kuca.ecology.model.response.FileRegion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 文件区域写出工具类
+ * <p>
+ * 容器支持sendfile（如Tomcat NIO连接器）时交由容器直接发送文件，否则通过{@link FileChannel#transferTo}写出；
+ * 支持单区间的Range请求与If-Range条件，多区间请求按完整内容返回
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 23:08:25
+ */
+@Slf4j
+public final class FileRegionWriter {
+
+    private interface Constant {
+
+        /**
+         * 容器是否支持sendfile的请求属性
+         */
+        String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+
+        /**
+         * sendfile文件名请求属性
+         */
+        String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+
+        /**
+         * sendfile起始位置请求属性
+         */
+        String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+
+        /**
+         * sendfile结束位置（不包含）请求属性
+         */
+        String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+        /**
+         * Range单位
+         */
+        String BYTES = "bytes";
+
+        /**
+         * HEAD请求方法
+         */
+        String HEAD = "HEAD";
+
+    }
+
+    private FileRegionWriter() {
+    }
+
+    /**
+     * 写出文件区域
+     *
+     * @param region   文件区域
+     * @param request  HTTP请求
+     * @param response HTTP响应
+     * @throws IOException IO异常
+     */
+    public static void write(FileRegion region,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        Path path = region.getPath();
+        if (!Files.isRegularFile(path) || !Files.isReadable(path)) {
+            log.warn("The file is not found or not readable,path = {}", path);
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        long fileSize = Files.size(path);
+        long regionStart = Math.min(region.getPosition(), fileSize);
+        long length = region.getCount() < 0
+                ? fileSize - regionStart
+                : Math.min(region.getCount(), fileSize - regionStart);
+        long lastModified = Files.getLastModifiedTime(path).toMillis();
+        String etag = "\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(regionStart)
+                + "-" + Long.toHexString(length) + "\"";
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, Constant.BYTES);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setContentType(resolveContentType(region));
+        if (null != region.getFileName()) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename(region.getFileName(), StandardCharsets.UTF_8)
+                    .build()
+                    .toString());
+        }
+        // 解析Range请求，offset为相对区域起始位置的偏移
+        long offset = 0;
+        long count = length;
+        HttpRange range = resolveRange(request, etag, lastModified);
+        if (null != range) {
+            if (length == 0 || !isSatisfiable(range, length)) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, Constant.BYTES + " */" + length);
+                response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            offset = range.getRangeStart(length);
+            long end = range.getRangeEnd(length);
+            count = end - offset + 1;
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    Constant.BYTES + " " + offset + "-" + end + "/" + length);
+        }
+        response.setContentLengthLong(count);
+        if (Constant.HEAD.equalsIgnoreCase(request.getMethod()) || count == 0) {
+            return;
+        }
+        transfer(path, regionStart + offset, count, request, response);
+    }
+
+    /**
+     * 传输文件内容
+     *
+     * @param path     文件路径
+     * @param position 文件起始位置
+     * @param count    传输长度
+     * @param request  HTTP请求
+     * @param response HTTP响应
+     * @throws IOException IO异常
+     */
+    private static void transfer(Path path,
+                                 long position,
+                                 long count,
+                                 HttpServletRequest request,
+                                 HttpServletResponse response) throws IOException {
+        // 容器支持sendfile时，由容器在请求结束后直接发送文件
+        if (Boolean.TRUE.equals(request.getAttribute(Constant.SENDFILE_SUPPORT))
+                && path.getFileSystem() == FileSystems.getDefault()) {
+            request.setAttribute(Constant.SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(Constant.SENDFILE_START, position);
+            request.setAttribute(Constant.SENDFILE_END, position + count);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long remaining = count;
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, target);
+                if (written <= 0) {
+                    // 文件在传输期间被截断
+                    throw new IOException("The file is truncated during transfer,path = " + path);
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+
+    /**
+     * 解析Range请求
+     *
+     * @param request      HTTP请求
+     * @param etag         实体标签
+     * @param lastModified 最后修改时间
+     * @return {@link HttpRange} 不是单区间Range请求或If-Range条件不满足时返回null
+     */
+    private static HttpRange resolveRange(HttpServletRequest request, String etag, long lastModified) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (null == header || !isIfRangeMatched(request, etag, lastModified)) {
+            return null;
+        }
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(header);
+        } catch (IllegalArgumentException ex) {
+            // 格式错误的Range请求头按完整内容返回
+            return null;
+        }
+        return ranges.size() == 1 ? ranges.get(0) : null;
+    }
+
+    /**
+     * Range区间是否可满足
+     *
+     * @param range  Range区间
+     * @param length 内容长度
+     * @return boolean
+     */
+    private static boolean isSatisfiable(HttpRange range, long length) {
+        try {
+            long start = range.getRangeStart(length);
+            return start < length && start <= range.getRangeEnd(length);
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * If-Range条件是否满足
+     *
+     * @param request      HTTP请求
+     * @param etag         实体标签
+     * @param lastModified 最后修改时间
+     * @return boolean 没有If-Range请求头时返回true
+     */
+    private static boolean isIfRangeMatched(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (null == ifRange) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return etag.equals(ifRange);
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * 获取内容类型
+     *
+     * @param region 文件区域
+     * @return {@link String}
+     */
+    private static String resolveContentType(FileRegion region) {
+        if (null != region.getContentType()) {
+            return region.getContentType();
+        }
+        String name = null == region.getFileName()
+                ? String.valueOf(region.getPath().getFileName())
+                : region.getFileName();
+        return MediaTypeFactory.getMediaType(name).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+    }
+}
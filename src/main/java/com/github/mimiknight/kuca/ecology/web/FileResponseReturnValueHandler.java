@@ -0,0 +1,48 @@
+package com.github.mimiknight.kuca.ecology.web;
+
+import com.github.mimiknight.kuca.ecology.model.response.FileRegion;
+import com.github.mimiknight.kuca.ecology.model.response.FileResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * {@link FileResponse}返回值处理器
+ * <p>
+ * 将响应体指向的文件区域直接写出到HTTP响应，不经过消息转换器；
+ * 返回CompletableFuture或Mono时，异步完成后同样由该处理器写出
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-17 23:16:52
+ */
+public class FileResponseReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return FileResponse.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue,
+                                  MethodParameter returnType,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest) throws Exception {
+        mavContainer.setRequestHandled(true);
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        HttpServletResponse response = webRequest.getNativeResponse(HttpServletResponse.class);
+        if (null == request || null == response) {
+            return;
+        }
+        FileRegion region = null == returnValue ? null : ((FileResponse) returnValue).getBody();
+        if (null == region) {
+            response.setStatus(HttpStatus.NO_CONTENT.value());
+            return;
+        }
+        FileRegionWriter.write(region, request, response);
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.mimiknight.kuca.ecology.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mimiknight.kuca.ecology.model.response.PushResponse;
+import com.github.mimiknight.kuca.ecology.push.PushStream;
+import com.github.mimiknight.kuca.ecology.push.PushStreamServletWriter;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * {@link PushResponse}返回值处理器
+ * <p>
+ * 开启Servlet异步处理，并由{@link PushStreamServletWriter}以非阻塞IO写出推送流
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 01:41:50
+ */
+public class PushResponseReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+    /**
+     * 序列化非String数据使用的ObjectMapper
+     */
+    private final ObjectMapper objectMapper;
+
+    public PushResponseReturnValueHandler(ObjectMapper objectMapper) {
+        this.objectMapper = null == objectMapper ? new ObjectMapper().findAndRegisterModules() : objectMapper;
+    }
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return PushResponse.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue,
+                                  MethodParameter returnType,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest) throws Exception {
+        mavContainer.setRequestHandled(true);
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        HttpServletResponse response = webRequest.getNativeResponse(HttpServletResponse.class);
+        if (null == request || null == response) {
+            return;
+        }
+        PushStream stream = null == returnValue ? null : ((PushResponse) returnValue).getBody();
+        if (null == stream) {
+            response.setStatus(HttpStatus.NO_CONTENT.value());
+            return;
+        }
+        PushStreamServletWriter.start(stream, request, response, objectMapper);
+    }
+}
@@ -0,0 +1,171 @@
+package com.github.mimiknight.kuca.ecology.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mimiknight.kuca.ecology.model.request.StreamingRequest;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.validation.BindException;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.UnsupportedEncodingException;
+import java.lang.reflect.Modifier;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link StreamingRequest}参数解析器
+ * <p>
+ * 实例化请求参数对象，复制请求头，按请求行参数绑定查询参数对象，并将请求体输入流直接作为请求体，不读取其内容；
+ * 查询参数只从请求行解析，不调用{@link javax.servlet.ServletRequest#getParameterMap()}，表单请求体不会被容器提前读取
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 00:44:27
+ */
+public class StreamingRequestArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private interface Constant {
+
+        /**
+         * 查询参数对象的绑定名称
+         */
+        String QUERY_OBJECT_NAME = "query";
+
+        /**
+         * 请求行查询参数的编码
+         */
+        String QUERY_ENCODING = StandardCharsets.UTF_8.name();
+
+    }
+
+    /**
+     * 解析JSON使用的ObjectMapper，可为null
+     */
+    private final ObjectMapper objectMapper;
+
+    public StreamingRequestArgumentResolver(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return StreamingRequest.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked"})
+    public Object resolveArgument(MethodParameter parameter,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest,
+                                  WebDataBinderFactory binderFactory) throws Exception {
+        HttpServletRequest servletRequest = webRequest.getNativeRequest(HttpServletRequest.class);
+        if (null == servletRequest) {
+            throw new IllegalStateException("The streaming request is only supported in servlet environment");
+        }
+        StreamingRequest<Object> request =
+                (StreamingRequest<Object>) BeanUtils.instantiateClass(parameter.getParameterType());
+        request.setObjectMapper(objectMapper);
+        request.setHeaders(copyHeaders(servletRequest));
+        request.setQuery(bindQuery(parameter, servletRequest, webRequest, binderFactory));
+        request.setBody(servletRequest.getInputStream());
+        return request;
+    }
+
+    /**
+     * 复制请求头
+     *
+     * @param servletRequest HTTP请求
+     * @return {@link HttpHeaders}
+     */
+    private static HttpHeaders copyHeaders(HttpServletRequest servletRequest) {
+        HttpHeaders headers = new HttpHeaders();
+        Enumeration<String> names = servletRequest.getHeaderNames();
+        while (names.hasMoreElements()) {
+            String name = names.nextElement();
+            Enumeration<String> values = servletRequest.getHeaders(name);
+            while (values.hasMoreElements()) {
+                headers.add(name, values.nextElement());
+            }
+        }
+        return headers;
+    }
+
+    /**
+     * 按请求行参数绑定查询参数对象
+     * <p>
+     * 查询参数类型为String时直接使用原始查询字符串，为其他简单类型、接口或抽象类时不绑定
+     *
+     * @param parameter      方法参数
+     * @param servletRequest HTTP请求
+     * @param webRequest     请求
+     * @param binderFactory  数据绑定器工厂
+     * @return {@link Object} 无法解析查询参数类型时返回null
+     * @throws Exception 绑定失败
+     */
+    private static Object bindQuery(MethodParameter parameter,
+                                    HttpServletRequest servletRequest,
+                                    NativeWebRequest webRequest,
+                                    WebDataBinderFactory binderFactory) throws Exception {
+        Class<?> queryClass = ResolvableType.forMethodParameter(parameter)
+                .as(StreamingRequest.class)
+                .resolveGeneric(0);
+        if (String.class == queryClass) {
+            return servletRequest.getQueryString();
+        }
+        if (null == queryClass
+                || Object.class == queryClass
+                || BeanUtils.isSimpleProperty(queryClass)
+                || queryClass.isInterface()
+                || Modifier.isAbstract(queryClass.getModifiers())) {
+            return null;
+        }
+        Object query = BeanUtils.instantiateClass(queryClass);
+        if (null == binderFactory) {
+            return query;
+        }
+        WebDataBinder binder = binderFactory.createBinder(webRequest, query, Constant.QUERY_OBJECT_NAME);
+        binder.bind(new MutablePropertyValues(parseQuery(servletRequest.getQueryString())));
+        if (binder.getBindingResult().hasErrors()) {
+            throw new BindException(binder.getBindingResult());
+        }
+        return query;
+    }
+
+    /**
+     * 解析请求行查询字符串
+     *
+     * @param queryString 查询字符串，可为null
+     * @return {@link Map} 参数名与参数值数组
+     * @throws UnsupportedEncodingException 不支持的编码
+     */
+    private static Map<String, String[]> parseQuery(String queryString) throws UnsupportedEncodingException {
+        Map<String, String[]> parameters = new LinkedHashMap<>();
+        if (null == queryString || queryString.isEmpty()) {
+            return parameters;
+        }
+        Map<String, List<String>> values = new LinkedHashMap<>();
+        for (String pair : queryString.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int index = pair.indexOf('=');
+            String name = URLDecoder.decode(index < 0 ? pair : pair.substring(0, index), Constant.QUERY_ENCODING);
+            String value = index < 0 ? "" : URLDecoder.decode(pair.substring(index + 1), Constant.QUERY_ENCODING);
+            values.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+        }
+        values.forEach((name, list) -> parameters.put(name, list.toArray(new String[0])));
+        return parameters;
+    }
+}
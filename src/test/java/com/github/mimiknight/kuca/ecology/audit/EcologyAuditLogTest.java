@@ -0,0 +1,287 @@
+package com.github.mimiknight.kuca.ecology.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mimiknight.kuca.ecology.config.EcologyProperties;
+import com.github.mimiknight.kuca.ecology.model.request.BaseRequest;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 审计日志测试
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 20:06:43
+ */
+class EcologyAuditLogTest {
+
+    private static final String TRACE_HEADER = "X-Trace";
+
+    private static final long AWAIT_MILLIS = 5_000L;
+
+    static class AuditedRequest extends BaseRequest<String, String> {
+    }
+
+    static class AuditedHandler {
+    }
+
+    private static final AuditedHandler HANDLER = new AuditedHandler();
+
+    private static AuditedRequest request(String trace) {
+        AuditedRequest request = new AuditedRequest();
+        request.getHeaders().add(TRACE_HEADER, trace);
+        return request;
+    }
+
+    private static AnnotationConfigApplicationContext context(EcologyProperties properties,
+                                                              JdbcTemplate jdbcTemplate,
+                                                              EcologyAuditSink sink) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("audit",
+                Collections.singletonMap("kuca.ecology.audit.enabled", "true")));
+        context.registerBean(EcologyProperties.class, () -> properties);
+        if (null != jdbcTemplate) {
+            context.registerBean(JdbcTemplate.class, () -> jdbcTemplate);
+        }
+        if (null != sink) {
+            context.registerBean(EcologyAuditSink.class, () -> sink);
+        }
+        context.register(EcologyAuditLog.class);
+        context.refresh();
+        return context;
+    }
+
+    private static JdbcTemplate jdbcTemplate() {
+        return new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""));
+    }
+
+    private static int count(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ecology_audit_log", Integer.class);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + AWAIT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "The condition is not met in time");
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+    @Test
+    void writesBatchWhenBatchSizeReached() throws Exception {
+        EcologyProperties properties = new EcologyProperties();
+        properties.getAudit().setBatchSize(10);
+        properties.getAudit().setFlushInterval(Duration.ofMinutes(1));
+        properties.getAudit().setHeaders(Arrays.asList(TRACE_HEADER, "X-Missing"));
+        JdbcTemplate jdbcTemplate = jdbcTemplate();
+        try (AnnotationConfigApplicationContext context = context(properties, jdbcTemplate, null)) {
+            EcologyAuditLog auditLog = context.getBean(EcologyAuditLog.class);
+            for (int i = 0; i < 9; i++) {
+                auditLog.record(HANDLER, request("t-" + i), 1_000L, null);
+            }
+            auditLog.record(HANDLER, request("t-boom"), 2_000L, new IllegalStateException("boom"));
+            // 写入完成后才累计统计，以统计为准等待
+            await(() -> 1 == auditLog.stats().getFlushCount());
+
+            AuditLogStats stats = auditLog.stats();
+            assertEquals(10, stats.getWrittenCount());
+            assertEquals(10, count(jdbcTemplate));
+            Map<String, Object> row = jdbcTemplate.queryForMap(
+                    "SELECT * FROM ecology_audit_log WHERE outcome = 'FAILURE'");
+            assertEquals(AuditedRequest.class.getName(), row.get("REQUEST_CLASS"));
+            assertEquals(AuditedHandler.class.getName(), row.get("HANDLER_CLASS"));
+            assertEquals(IllegalStateException.class.getName(), row.get("ERROR_CLASS"));
+            assertEquals(2L, ((Number) row.get("LATENCY_MICROS")).longValue());
+            assertEquals("{\"X-Trace\":\"t-boom\"}", row.get("HEADERS"));
+        }
+    }
+
+    @Test
+    void flushesPartialBatchAfterInterval() throws Exception {
+        EcologyProperties properties = new EcologyProperties();
+        properties.getAudit().setBatchSize(100);
+        properties.getAudit().setFlushInterval(Duration.ofMillis(200));
+        JdbcTemplate jdbcTemplate = jdbcTemplate();
+        try (AnnotationConfigApplicationContext context = context(properties, jdbcTemplate, null)) {
+            EcologyAuditLog auditLog = context.getBean(EcologyAuditLog.class);
+            for (int i = 0; i < 3; i++) {
+                auditLog.record(HANDLER, request("t-" + i), 1_000L, null);
+            }
+            // 未达到批量大小，只能由写入间隔触发
+            await(() -> 3 == auditLog.stats().getWrittenCount());
+            assertEquals(3, count(jdbcTemplate));
+        }
+    }
+
+    @Test
+    void drainsQueueOnShutdown() {
+        EcologyProperties properties = new EcologyProperties();
+        properties.getAudit().setBatchSize(100);
+        properties.getAudit().setFlushInterval(Duration.ofMinutes(1));
+        JdbcTemplate jdbcTemplate = jdbcTemplate();
+        try (AnnotationConfigApplicationContext context = context(properties, jdbcTemplate, null)) {
+            EcologyAuditLog auditLog = context.getBean(EcologyAuditLog.class);
+            for (int i = 0; i < 5; i++) {
+                auditLog.record(HANDLER, request("t-" + i), 1_000L, null);
+            }
+        }
+        assertEquals(5, count(jdbcTemplate));
+    }
+
+    @Test
+    void dropsWhenQueueFull() throws Exception {
+        EcologyProperties properties = new EcologyProperties();
+        properties.getAudit().setBatchSize(2);
+        properties.getAudit().setQueueCapacity(4);
+        CountDownLatch gate = new CountDownLatch(1);
+        AtomicInteger written = new AtomicInteger();
+        EcologyAuditSink sink = records -> {
+            gate.await();
+            written.addAndGet(records.size());
+        };
+        try (AnnotationConfigApplicationContext context = context(properties, null, sink)) {
+            EcologyAuditLog auditLog = context.getBean(EcologyAuditLog.class);
+            for (int i = 0; i < 50; i++) {
+                auditLog.record(HANDLER, request("t-" + i), 1_000L, null);
+            }
+            AuditLogStats stats = auditLog.stats();
+            // 写入线程阻塞时最多容纳队列中的记录与正在写入的一批
+            assertTrue(stats.getDroppedCount() >= 50 - 4 - 2, String.valueOf(stats.getDroppedCount()));
+            assertEquals(50, stats.getRecordedCount() + stats.getDroppedCount());
+            gate.countDown();
+        }
+        assertTrue(written.get() <= 4 + 2, String.valueOf(written.get()));
+    }
+
+    @Test
+    void blocksUntilQueueHasSpace() {
+        EcologyProperties properties = new EcologyProperties();
+        properties.getAudit().setBatchSize(2);
+        properties.getAudit().setQueueCapacity(4);
+        properties.getAudit().setQueueFullPolicy(AuditQueueFullPolicy.BLOCK);
+        properties.getAudit().setBlockTimeout(Duration.ofSeconds(5));
+        AtomicInteger written = new AtomicInteger();
+        EcologyAuditSink sink = records -> {
+            TimeUnit.MILLISECONDS.sleep(20);
+            written.addAndGet(records.size());
+        };
+        try (AnnotationConfigApplicationContext context = context(properties, null, sink)) {
+            EcologyAuditLog auditLog = context.getBean(EcologyAuditLog.class);
+            for (int i = 0; i < 12; i++) {
+                auditLog.record(HANDLER, request("t-" + i), 1_000L, null);
+            }
+            AuditLogStats stats = auditLog.stats();
+            assertEquals(0, stats.getDroppedCount());
+            assertEquals(12, stats.getRecordedCount());
+        }
+        assertEquals(12, written.get());
+    }
+
+    @Test
+    void blockDropsAfterTimeout() throws Exception {
+        EcologyProperties properties = new EcologyProperties();
+        properties.getAudit().setBatchSize(2);
+        properties.getAudit().setQueueCapacity(4);
+        properties.getAudit().setQueueFullPolicy(AuditQueueFullPolicy.BLOCK);
+        properties.getAudit().setBlockTimeout(Duration.ofMillis(50));
+        CountDownLatch gate = new CountDownLatch(1);
+        EcologyAuditSink sink = records -> gate.await();
+        try (AnnotationConfigApplicationContext context = context(properties, null, sink)) {
+            EcologyAuditLog auditLog = context.getBean(EcologyAuditLog.class);
+            for (int i = 0; i < 10; i++) {
+                auditLog.record(HANDLER, request("t-" + i), 1_000L, null);
+            }
+            AuditLogStats stats = auditLog.stats();
+            assertTrue(stats.getDroppedCount() > 0, String.valueOf(stats.getDroppedCount()));
+            assertEquals(10, stats.getRecordedCount() + stats.getDroppedCount());
+            gate.countDown();
+        }
+    }
+
+    @Test
+    void truncatesOversizedHeaders() throws Exception {
+        EcologyProperties properties = new EcologyProperties();
+        properties.getAudit().setBatchSize(2);
+        properties.getAudit().setFlushInterval(Duration.ofMinutes(1));
+        properties.getAudit().setHeaders(Collections.singletonList(TRACE_HEADER));
+        JdbcTemplate jdbcTemplate = jdbcTemplate();
+        try (AnnotationConfigApplicationContext context = context(properties, jdbcTemplate, null)) {
+            EcologyAuditLog auditLog = context.getBean(EcologyAuditLog.class);
+            auditLog.record(HANDLER, request(StringUtils.repeat('x', 10_000)), 1_000L, null);
+            auditLog.record(HANDLER, request("t-ok"), 1_000L, null);
+            await(() -> 1 == auditLog.stats().getFlushCount());
+
+            assertEquals(2, auditLog.stats().getWrittenCount());
+            assertEquals(0, auditLog.stats().getFailedCount());
+            assertEquals(1, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM ecology_audit_log WHERE headers = ?", Integer.class,
+                    "{\"X-Trace\":\"" + StringUtils.repeat('x', 256) + "\"}"));
+        }
+
+        // 自定义记录的请求头整体超出列长度时从末尾舍弃
+        JdbcAuditSink sink = new JdbcAuditSink(jdbcTemplate, new ObjectMapper(), "ecology_audit_log");
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (int i = 0; i < 10; i++) {
+            headers.put("X-Header-" + i, StringUtils.repeat('y', 1_000));
+        }
+        sink.write(Collections.singletonList(new AuditRecord(AuditedRequest.class, AuditedHandler.class,
+                AuditOutcome.SUCCESS, null, 1_000L, System.currentTimeMillis(), headers)));
+        String json = jdbcTemplate.queryForObject(
+                "SELECT headers FROM ecology_audit_log WHERE headers LIKE '%X-Header-0%'", String.class);
+        assertTrue(json.length() <= 4000, String.valueOf(json.length()));
+        Map<?, ?> written = new ObjectMapper().readValue(json, Map.class);
+        assertEquals(Arrays.asList("X-Header-0", "X-Header-1", "X-Header-2"), new ArrayList<>(written.keySet()));
+    }
+
+    @Test
+    void retriesFailedBatchOneByOne() throws Exception {
+        EcologyProperties properties = new EcologyProperties();
+        properties.getAudit().setBatchSize(5);
+        properties.getAudit().setFlushInterval(Duration.ofMinutes(1));
+        properties.getAudit().setHeaders(Collections.singletonList(TRACE_HEADER));
+        List<String> written = new CopyOnWriteArrayList<>();
+        // 含有无法写入的记录时整批失败
+        EcologyAuditSink sink = records -> {
+            for (AuditRecord record : records) {
+                if ("t-bad".equals(record.getHeaders().get(TRACE_HEADER))) {
+                    throw new IllegalStateException("bad record");
+                }
+            }
+            records.forEach(record -> written.add(record.getHeaders().get(TRACE_HEADER)));
+        };
+        try (AnnotationConfigApplicationContext context = context(properties, null, sink)) {
+            EcologyAuditLog auditLog = context.getBean(EcologyAuditLog.class);
+            for (int i = 0; i < 4; i++) {
+                auditLog.record(HANDLER, request("t-" + i), 1_000L, null);
+            }
+            auditLog.record(HANDLER, request("t-bad"), 1_000L, null);
+            await(() -> 1 == auditLog.stats().getFlushCount());
+
+            AuditLogStats stats = auditLog.stats();
+            assertEquals(4, stats.getWrittenCount());
+            assertEquals(1, stats.getFailedCount());
+            assertEquals(Arrays.asList("t-0", "t-1", "t-2", "t-3"), written);
+        }
+    }
+}
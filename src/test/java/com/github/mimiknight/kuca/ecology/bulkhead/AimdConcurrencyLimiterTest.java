@@ -0,0 +1,94 @@
+package com.github.mimiknight.kuca.ecology.bulkhead;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AIMD并发限制器测试
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 18:20:16
+ */
+class AimdConcurrencyLimiterTest {
+
+    private static final long THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static final long FAST_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final long SLOW_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private static AimdConcurrencyLimiter limiter(int initialLimit) {
+        return new AimdConcurrencyLimiter(initialLimit, 2, 10, THRESHOLD_NANOS, 0.5);
+    }
+
+    /**
+     * 获取指定数量的许可
+     */
+    private static void acquire(ConcurrencyLimiter limiter, int permits) {
+        for (int i = 0; i < permits; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+    }
+
+    @Test
+    void rejectsWhenInFlightReachesLimit() {
+        AimdConcurrencyLimiter limiter = limiter(2);
+        acquire(limiter, 2);
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+        limiter.release(SLOW_NANOS, false);
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    void increasesByOneOnFastSuccessWhenUtilized() {
+        AimdConcurrencyLimiter limiter = limiter(4);
+        acquire(limiter, 2);
+        limiter.release(FAST_NANOS, true);
+        assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    void keepsLimitWhenUnderutilized() {
+        AimdConcurrencyLimiter limiter = limiter(4);
+        acquire(limiter, 1);
+        limiter.release(FAST_NANOS, true);
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void backsOffOnFailure() {
+        AimdConcurrencyLimiter limiter = limiter(8);
+        acquire(limiter, 1);
+        limiter.release(FAST_NANOS, false);
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void backsOffWhenLatencyExceedsThreshold() {
+        AimdConcurrencyLimiter limiter = limiter(8);
+        acquire(limiter, 8);
+        limiter.release(SLOW_NANOS, true);
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void staysWithinBounds() {
+        AimdConcurrencyLimiter limiter = limiter(3);
+        for (int i = 0; i < 5; i++) {
+            acquire(limiter, 1);
+            limiter.release(FAST_NANOS, false);
+        }
+        assertEquals(2, limiter.getLimit());
+
+        limiter = limiter(10);
+        acquire(limiter, 10);
+        limiter.release(FAST_NANOS, true);
+        assertEquals(10, limiter.getLimit());
+    }
+}
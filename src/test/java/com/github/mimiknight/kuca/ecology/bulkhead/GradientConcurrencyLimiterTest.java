@@ -0,0 +1,79 @@
+package com.github.mimiknight.kuca.ecology.bulkhead;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 梯度并发限制器测试
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 18:26:41
+ */
+class GradientConcurrencyLimiterTest {
+
+    private static final long BASE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * 获取指定数量的许可
+     */
+    private static void acquire(ConcurrencyLimiter limiter, int permits) {
+        for (int i = 0; i < permits; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+    }
+
+    @Test
+    void growsAtSteadyLatencyWhenUtilized() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(4, 1, 100);
+        acquire(limiter, 2);
+        // 梯度为1，目标上限 = 4 + sqrt(4) = 6，平滑后向上取整为5
+        limiter.release(BASE_NANOS, true);
+        assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    void keepsLimitWhenUnderutilized() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(10, 1, 100);
+        acquire(limiter, 1);
+        limiter.release(BASE_NANOS, true);
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void shrinksWhenLatencyRises() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(20, 1, 100);
+        acquire(limiter, 20);
+        limiter.release(BASE_NANOS, true);
+        int limit = limiter.getLimit();
+        // 耗时为最小耗时的10倍，梯度取下限0.5：目标上限 = 21 × 0.5 + sqrt(21) ≈ 15.08，平滑后向下取整为19
+        limiter.release(BASE_NANOS * 10, true);
+        assertEquals(21, limit);
+        assertEquals(19, limiter.getLimit());
+    }
+
+    @Test
+    void shrinksOnFailure() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(20, 1, 100);
+        acquire(limiter, 1);
+        // 目标上限 = 20 × 0.5 + sqrt(20) ≈ 14.47，平滑后向下取整为18
+        limiter.release(BASE_NANOS, false);
+        assertEquals(18, limiter.getLimit());
+    }
+
+    @Test
+    void staysWithinBounds() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(3, 3, 100);
+        acquire(limiter, 1);
+        limiter.release(BASE_NANOS, false);
+        assertEquals(3, limiter.getLimit());
+
+        limiter = new GradientConcurrencyLimiter(8, 1, 8);
+        acquire(limiter, 8);
+        limiter.release(BASE_NANOS, true);
+        assertEquals(8, limiter.getLimit());
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.mimiknight.kuca.ecology.core;
+
+import com.github.mimiknight.kuca.ecology.bulkhead.BulkheadBox;
+import com.github.mimiknight.kuca.ecology.bulkhead.ConcurrencyLimiter;
+import com.github.mimiknight.kuca.ecology.bulkhead.EcologyBulkhead;
+import com.github.mimiknight.kuca.ecology.deadline.EcologyDeadline;
+import com.github.mimiknight.kuca.ecology.exception.DeadlineExceededException;
+import com.github.mimiknight.kuca.ecology.handler.EcologyAsyncRequestHandler;
+import com.github.mimiknight.kuca.ecology.model.request.BaseRequest;
+import com.github.mimiknight.kuca.ecology.model.response.BaseResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.annotation.ImportCandidates;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 异步调度舱壁许可测试
+ * <p>
+ * 截止时间结束调用方可见的结果后，处理器仍在执行时不释放舱壁许可
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-19 09:40:18
+ */
+class AsyncDispatchBulkheadTest {
+
+    private static final String ECOLOGY_PACKAGE = "com.github.mimiknight.kuca.ecology.";
+
+    static class SlowRequest extends BaseRequest<Void, String> {
+    }
+
+    static class SlowResponse extends BaseResponse<String> {
+    }
+
+    @EcologyBulkhead(limit = 1)
+    @EcologyDeadline(timeout = 50)
+    static class SlowHandler implements EcologyAsyncRequestHandler<SlowRequest, SlowResponse> {
+
+        private final CompletableFuture<SlowResponse> work = new CompletableFuture<>();
+
+        @Override
+        public CompletionStage<SlowResponse> handle(SlowRequest request, SlowResponse response) {
+            return work;
+        }
+    }
+
+    /**
+     * starter注册的全部自动配置类
+     */
+    private static Class<?>[] ecologyAutoConfigurations() {
+        ClassLoader classLoader = AsyncDispatchBulkheadTest.class.getClassLoader();
+        List<Class<?>> configurations = new ArrayList<>();
+        for (String name : ImportCandidates.load(AutoConfiguration.class, classLoader)) {
+            if (name.startsWith(ECOLOGY_PACKAGE)) {
+                configurations.add(ClassUtils.resolveClassName(name, classLoader));
+            }
+        }
+        return configurations.toArray(new Class<?>[0]);
+    }
+
+    @Test
+    void holdsPermitUntilHandlerCompletes() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(ecologyAutoConfigurations()))
+                .withBean(SlowHandler.class)
+                .run(context -> {
+                    HandlerExecutor handlerExecutor = context.getBean(HandlerExecutor.class);
+                    SlowHandler handler = context.getBean(SlowHandler.class);
+                    ConcurrencyLimiter limiter = context.getBean(BulkheadBox.class).getLimiter(SlowRequest.class);
+
+                    CompletableFuture<SlowResponse> result = handlerExecutor.executeAsync(new SlowRequest());
+                    ExecutionException e = assertThrows(ExecutionException.class,
+                            () -> result.get(5, TimeUnit.SECONDS));
+                    assertInstanceOf(DeadlineExceededException.class, e.getCause());
+                    // 截止时间不取消处理器自身的结果，许可仍被占用
+                    assertFalse(handler.work.isDone());
+                    assertEquals(1, limiter.getInFlight());
+
+                    handler.work.complete(new SlowResponse());
+                    assertEquals(0, limiter.getInFlight());
+                });
+    }
+}
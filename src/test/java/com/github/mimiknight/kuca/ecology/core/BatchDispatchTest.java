@@ -0,0 +1,146 @@
+package com.github.mimiknight.kuca.ecology.core;
+
+import com.github.mimiknight.kuca.ecology.handler.EcologyBatchRequestHandler;
+import com.github.mimiknight.kuca.ecology.interceptor.EcologyHandlerInterceptor;
+import com.github.mimiknight.kuca.ecology.model.request.BaseRequest;
+import com.github.mimiknight.kuca.ecology.model.response.BaseResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.annotation.ImportCandidates;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 批量执行测试
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-19 12:03:26
+ */
+class BatchDispatchTest {
+
+    private static final String ECOLOGY_PACKAGE = "com.github.mimiknight.kuca.ecology.";
+
+    static class LookupRequest extends BaseRequest<Void, String> {
+    }
+
+    static class LookupResponse extends BaseResponse<String> {
+    }
+
+    static class LookupHandler implements EcologyBatchRequestHandler<LookupRequest, LookupResponse> {
+
+        private final AtomicInteger singleCalls = new AtomicInteger();
+
+        private final AtomicInteger batchCalls = new AtomicInteger();
+
+        @Override
+        public void handle(LookupRequest request, LookupResponse response) {
+            singleCalls.incrementAndGet();
+            response.setBody(request.getBody());
+        }
+
+        @Override
+        public void handleBatch(List<LookupRequest> requests, List<LookupResponse> responses) {
+            batchCalls.incrementAndGet();
+            for (int i = 0; i < requests.size(); i++) {
+                responses.get(i).setBody(requests.get(i).getBody());
+            }
+        }
+    }
+
+    static class LookupInterceptor implements EcologyHandlerInterceptor<LookupRequest, LookupResponse> {
+
+        @Override
+        public int getOrder() {
+            return 0;
+        }
+    }
+
+    /**
+     * starter注册的全部自动配置类
+     */
+    private static Class<?>[] ecologyAutoConfigurations() {
+        ClassLoader classLoader = BatchDispatchTest.class.getClassLoader();
+        List<Class<?>> configurations = new ArrayList<>();
+        for (String name : ImportCandidates.load(AutoConfiguration.class, classLoader)) {
+            if (name.startsWith(ECOLOGY_PACKAGE)) {
+                configurations.add(ClassUtils.resolveClassName(name, classLoader));
+            }
+        }
+        return configurations.toArray(new Class<?>[0]);
+    }
+
+    private static List<LookupRequest> requests(String... bodies) {
+        List<LookupRequest> requests = new ArrayList<>(bodies.length);
+        for (String body : bodies) {
+            LookupRequest request = new LookupRequest();
+            request.setBody(body);
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    private static List<String> bodies(List<?> responses) {
+        List<String> bodies = new ArrayList<>(responses.size());
+        for (Object response : responses) {
+            bodies.add(((LookupResponse) response).getBody());
+        }
+        return bodies;
+    }
+
+    @Test
+    void batchesTimedHandlerAsOneSample() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(ecologyAutoConfigurations()))
+                .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                .withBean(LookupHandler.class)
+                .run(context -> {
+                    HandlerExecutor handlerExecutor = context.getBean(HandlerExecutor.class);
+                    assertTrue(handlerExecutor.getPlan(LookupRequest.class).isBatchable());
+
+                    List<?> responses = handlerExecutor.executeAll(requests("a", "b", "c"));
+                    assertEquals(Arrays.asList("a", "b", "c"), bodies(responses));
+                    LookupHandler handler = context.getBean(LookupHandler.class);
+                    assertEquals(1, handler.batchCalls.get());
+                    assertEquals(0, handler.singleCalls.get());
+
+                    Timer timer = context.getBean(MeterRegistry.class).find("kuca.ecology.handler").timer();
+                    assertNotNull(timer);
+                    assertEquals(1L, timer.count());
+                });
+    }
+
+    @Test
+    void executesOneByOneWhenInterceptorsApply() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(ecologyAutoConfigurations()))
+                .withBean(LookupHandler.class)
+                .withBean(LookupInterceptor.class)
+                .run(context -> {
+                    HandlerExecutor handlerExecutor = context.getBean(HandlerExecutor.class);
+                    DispatchPlan plan = handlerExecutor.getPlan(LookupRequest.class);
+                    assertFalse(plan.isBatchable());
+                    assertEquals(Collections.singletonList("interceptor"), plan.getBatchBlockingStages());
+
+                    List<?> responses = handlerExecutor.executeAll(requests("a", "b"));
+                    assertEquals(Arrays.asList("a", "b"), bodies(responses));
+                    LookupHandler handler = context.getBean(LookupHandler.class);
+                    assertEquals(0, handler.batchCalls.get());
+                    assertEquals(2, handler.singleCalls.get());
+                });
+    }
+}
@@ -0,0 +1,119 @@
+package com.github.mimiknight.kuca.ecology.core;
+
+import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
+import com.github.mimiknight.kuca.ecology.model.request.BaseRequest;
+import com.github.mimiknight.kuca.ecology.model.response.BaseResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.annotation.ImportCandidates;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.util.ClassUtils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 调度分配回归测试
+ * <p>
+ * 使用starter的默认自动配置，在单线程中反复创建简单请求并通过HandlerExecutor执行，
+ * 按当前线程分配的字节数计算每次调度（含请求与响应对象）的平均分配量，超过上限时失败；
+ * JVM不支持线程分配统计时跳过
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 20:31:54
+ */
+class DispatchAllocationTest {
+
+    private interface Constant {
+
+        /**
+         * 每次调度分配字节数上限
+         */
+        long MAX_BYTES_PER_DISPATCH = 64L;
+
+        /**
+         * 预热次数
+         */
+        int WARMUP_ITERATIONS = 200_000;
+
+        /**
+         * 测量次数
+         */
+        int MEASUREMENT_ITERATIONS = 500_000;
+
+        /**
+         * starter自动配置类的包前缀
+         */
+        String ECOLOGY_PACKAGE = "com.github.mimiknight.kuca.ecology.";
+
+    }
+
+    static class PingRequest extends BaseRequest<Void, String> {
+    }
+
+    static class PingResponse extends BaseResponse<String> {
+    }
+
+    static class PingHandler implements EcologyRequestHandler<PingRequest, PingResponse> {
+
+        @Override
+        public void handle(PingRequest request, PingResponse response) {
+            response.setBody(request.getBody());
+        }
+    }
+
+    /**
+     * starter注册的全部自动配置类
+     */
+    private static Class<?>[] ecologyAutoConfigurations() {
+        ClassLoader classLoader = DispatchAllocationTest.class.getClassLoader();
+        List<Class<?>> configurations = new ArrayList<>();
+        for (String name : ImportCandidates.load(AutoConfiguration.class, classLoader)) {
+            if (name.startsWith(Constant.ECOLOGY_PACKAGE)) {
+                configurations.add(ClassUtils.resolveClassName(name, classLoader));
+            }
+        }
+        return configurations.toArray(new Class<?>[0]);
+    }
+
+    private static void run(HandlerExecutor handlerExecutor, int iterations) throws Exception {
+        for (int i = 0; i < iterations; i++) {
+            PingRequest request = new PingRequest();
+            request.setBody("ping");
+            handlerExecutor.execute(request);
+        }
+    }
+
+    @Test
+    void dispatchAllocationStaysWithinLimit() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean,
+                "The thread allocation statistics are not supported by this JVM");
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        assumeTrue(allocationBean.isThreadAllocatedMemorySupported(),
+                "The thread allocation statistics are not supported by this JVM");
+        allocationBean.setThreadAllocatedMemoryEnabled(true);
+
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(ecologyAutoConfigurations()))
+                .withBean(PingHandler.class)
+                .run(context -> {
+                    HandlerExecutor handlerExecutor = context.getBean(HandlerExecutor.class);
+                    run(handlerExecutor, Constant.WARMUP_ITERATIONS);
+                    long threadId = Thread.currentThread().getId();
+                    long before = allocationBean.getThreadAllocatedBytes(threadId);
+                    run(handlerExecutor, Constant.MEASUREMENT_ITERATIONS);
+                    long after = allocationBean.getThreadAllocatedBytes(threadId);
+                    double bytesPerDispatch = (double) (after - before) / Constant.MEASUREMENT_ITERATIONS;
+                    assertTrue(bytesPerDispatch <= Constant.MAX_BYTES_PER_DISPATCH,
+                            String.format("bytes/dispatch = %.1f, max = %d",
+                                    bytesPerDispatch, Constant.MAX_BYTES_PER_DISPATCH));
+                });
+    }
+}
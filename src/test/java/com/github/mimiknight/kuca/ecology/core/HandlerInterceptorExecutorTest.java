@@ -0,0 +1,90 @@
+package com.github.mimiknight.kuca.ecology.core;
+
+import com.github.mimiknight.kuca.ecology.interceptor.EcologyHandlerInterceptor;
+import com.github.mimiknight.kuca.ecology.model.request.BaseRequest;
+import com.github.mimiknight.kuca.ecology.model.response.BaseResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 拦截器执行器测试
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-19 09:12:40
+ */
+class HandlerInterceptorExecutorTest {
+
+    static class PingRequest extends BaseRequest<Void, String> {
+    }
+
+    static class PingResponse extends BaseResponse<String> {
+    }
+
+    /**
+     * 前置拦截抛出异常，后置异常拦截吞掉异常并计数
+     */
+    static class RejectingInterceptor implements EcologyHandlerInterceptor<PingRequest, PingResponse> {
+
+        private final AtomicInteger afterThrowingCalls = new AtomicInteger();
+
+        @Override
+        public boolean doBefore(PingRequest request, PingResponse response) {
+            throw new IllegalStateException("denied");
+        }
+
+        @Override
+        public boolean doAfterThrowing(PingRequest request, PingResponse response, Exception ex) {
+            afterThrowingCalls.incrementAndGet();
+            return true;
+        }
+
+        @Override
+        public int getOrder() {
+            return 0;
+        }
+    }
+
+    private final HandlerInterceptorExecutor executor = new HandlerInterceptorExecutor();
+
+    private final AtomicInteger handlerCalls = new AtomicInteger();
+
+    @Test
+    void doBeforeExceptionPropagatesForSyncHandler() {
+        RejectingInterceptor interceptor = new RejectingInterceptor();
+        List<EcologyHandlerInterceptor<?, ?>> interceptors = Collections.singletonList(interceptor);
+        assertThrows(IllegalStateException.class, () -> executor.execute(interceptors,
+                new PingRequest(),
+                new PingResponse(),
+                (PingRequest request, PingResponse response) -> handlerCalls.incrementAndGet()));
+        assertEquals(0, interceptor.afterThrowingCalls.get());
+        assertEquals(0, handlerCalls.get());
+    }
+
+    @Test
+    void doBeforeExceptionFailsAsyncResult() {
+        RejectingInterceptor interceptor = new RejectingInterceptor();
+        List<EcologyHandlerInterceptor<?, ?>> interceptors = Collections.singletonList(interceptor);
+        CompletableFuture<PingResponse> result = executor.executeAsync(interceptors,
+                new PingRequest(),
+                new PingResponse(),
+                (PingRequest request, PingResponse response) -> {
+                    handlerCalls.incrementAndGet();
+                    return CompletableFuture.completedFuture(response);
+                });
+        assertTrue(result.isCompletedExceptionally());
+        ExecutionException e = assertThrows(ExecutionException.class, result::get);
+        assertSame(IllegalStateException.class, e.getCause().getClass());
+        assertEquals(0, interceptor.afterThrowingCalls.get());
+        assertEquals(0, handlerCalls.get());
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.mimiknight.kuca.ecology.core;
+
+import com.github.mimiknight.kuca.ecology.handler.EcologyAsyncRequestHandler;
+import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
+import com.github.mimiknight.kuca.ecology.idempotent.EcologyIdempotent;
+import com.github.mimiknight.kuca.ecology.model.request.BaseRequest;
+import com.github.mimiknight.kuca.ecology.model.response.BaseResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.annotation.ImportCandidates;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 幂等调度计划校验测试
+ * <p>
+ * 幂等不支持的调度计划在构建时失败，不在运行时静默忽略
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-19 11:05:47
+ */
+class IdempotentPlanValidationTest {
+
+    private static final String ECOLOGY_PACKAGE = "com.github.mimiknight.kuca.ecology.";
+
+    static class OrderRequest extends BaseRequest<Void, String> {
+    }
+
+    static class OrderResponse extends BaseResponse<String> {
+    }
+
+    /**
+     * 无法序列化的响应
+     */
+    static class BrokenResponse extends BaseResponse<String> {
+
+        public String getBroken() {
+            throw new IllegalStateException("broken");
+        }
+    }
+
+    @EcologyIdempotent
+    static class AsyncOrderHandler implements EcologyAsyncRequestHandler<OrderRequest, OrderResponse> {
+
+        @Override
+        public CompletionStage<OrderResponse> handle(OrderRequest request, OrderResponse response) {
+            return CompletableFuture.completedFuture(response);
+        }
+    }
+
+    @EcologyIdempotent
+    static class BrokenOrderHandler implements EcologyRequestHandler<OrderRequest, BrokenResponse> {
+
+        @Override
+        public void handle(OrderRequest request, BrokenResponse response) {
+        }
+    }
+
+    /**
+     * starter注册的全部自动配置类
+     */
+    private static Class<?>[] ecologyAutoConfigurations() {
+        ClassLoader classLoader = IdempotentPlanValidationTest.class.getClassLoader();
+        List<Class<?>> configurations = new ArrayList<>();
+        for (String name : ImportCandidates.load(AutoConfiguration.class, classLoader)) {
+            if (name.startsWith(ECOLOGY_PACKAGE)) {
+                configurations.add(ClassUtils.resolveClassName(name, classLoader));
+            }
+        }
+        return configurations.toArray(new Class<?>[0]);
+    }
+
+    private static void assertStartupFails(Class<?> handlerClass) {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(ecologyAutoConfigurations()))
+                .withBean(handlerClass)
+                .run(context -> {
+                    Throwable failure = context.getStartupFailure();
+                    assertNotNull(failure);
+                    while (null != failure.getCause() && !(failure instanceof IllegalStateException)) {
+                        failure = failure.getCause();
+                    }
+                    assertTrue(failure instanceof IllegalStateException
+                            && failure.getMessage().startsWith("The idempotent"), String.valueOf(failure));
+                });
+    }
+
+    @Test
+    void rejectsAsyncHandler() {
+        assertStartupFails(AsyncOrderHandler.class);
+    }
+
+    @Test
+    void rejectsUnreplayableResponse() {
+        assertStartupFails(BrokenOrderHandler.class);
+    }
+}
@@ -0,0 +1,188 @@
+package com.github.mimiknight.kuca.ecology.core;
+
+import com.github.mimiknight.kuca.ecology.cache.CacheStage;
+import com.github.mimiknight.kuca.ecology.cache.EcologyCacheable;
+import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
+import com.github.mimiknight.kuca.ecology.idempotent.EcologyIdempotent;
+import com.github.mimiknight.kuca.ecology.interceptor.EcologyHandlerInterceptor;
+import com.github.mimiknight.kuca.ecology.model.request.BaseRequest;
+import com.github.mimiknight.kuca.ecology.model.response.BaseResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.annotation.ImportCandidates;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 拦截器阶段位置测试
+ * <p>
+ * 拦截器位于幂等与缓存之外：命中缓存与重放的请求同样经过拦截器，
+ * 前置拦截未放行与异常被后置异常拦截处理的响应不写入缓存、不记录为幂等结果
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-19 10:21:35
+ */
+class InterceptorPlacementTest {
+
+    private static final String ECOLOGY_PACKAGE = "com.github.mimiknight.kuca.ecology.";
+
+    private static final String CALLER_HEADER = "X-Caller";
+
+    private static final String IDEMPOTENCY_HEADER = "Idempotency-Key";
+
+    private static final String ALLOWED_CALLER = "a";
+
+    static class CallerRequest extends BaseRequest<Void, String> {
+    }
+
+    static class CachedRequest extends CallerRequest {
+    }
+
+    static class EarlyCachedRequest extends CallerRequest {
+    }
+
+    static class PaymentRequest extends CallerRequest {
+    }
+
+    static class CallerResponse extends BaseResponse<String> {
+    }
+
+    /**
+     * 只放行指定调用方，并吞掉处理器抛出的异常
+     */
+    static class CallerInterceptor implements EcologyHandlerInterceptor<CallerRequest, CallerResponse> {
+
+        @Override
+        public boolean doBefore(CallerRequest request, CallerResponse response) {
+            return ALLOWED_CALLER.equals(request.getFirstHeader(CALLER_HEADER));
+        }
+
+        @Override
+        public boolean doAfterThrowing(CallerRequest request, CallerResponse response, Exception ex) {
+            return true;
+        }
+
+        @Override
+        public int getOrder() {
+            return 0;
+        }
+    }
+
+    @EcologyCacheable
+    static class CachedHandler implements EcologyRequestHandler<CachedRequest, CallerResponse> {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public void handle(CachedRequest request, CallerResponse response) {
+            response.setBody("cached-" + calls.incrementAndGet());
+        }
+    }
+
+    @EcologyCacheable(stage = CacheStage.BEFORE_FILTERS)
+    static class EarlyCachedHandler implements EcologyRequestHandler<EarlyCachedRequest, CallerResponse> {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public void handle(EarlyCachedRequest request, CallerResponse response) {
+            response.setBody("early-" + calls.incrementAndGet());
+        }
+    }
+
+    @EcologyIdempotent
+    static class PaymentHandler implements EcologyRequestHandler<PaymentRequest, CallerResponse> {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public void handle(PaymentRequest request, CallerResponse response) {
+            if (1 == calls.incrementAndGet()) {
+                throw new IllegalStateException("boom");
+            }
+            response.setBody("paid-" + calls.get());
+        }
+    }
+
+    /**
+     * starter注册的全部自动配置类
+     */
+    private static Class<?>[] ecologyAutoConfigurations() {
+        ClassLoader classLoader = InterceptorPlacementTest.class.getClassLoader();
+        List<Class<?>> configurations = new ArrayList<>();
+        for (String name : ImportCandidates.load(AutoConfiguration.class, classLoader)) {
+            if (name.startsWith(ECOLOGY_PACKAGE)) {
+                configurations.add(ClassUtils.resolveClassName(name, classLoader));
+            }
+        }
+        return configurations.toArray(new Class<?>[0]);
+    }
+
+    private static <Q extends CallerRequest> Q request(Q request, String caller) {
+        request.getHeaders().add(CALLER_HEADER, caller);
+        return request;
+    }
+
+    private static ApplicationContextRunner runner() {
+        return new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(ecologyAutoConfigurations()))
+                .withBean(CallerInterceptor.class)
+                .withBean(CachedHandler.class)
+                .withBean(EarlyCachedHandler.class)
+                .withBean(PaymentHandler.class);
+    }
+
+    @Test
+    void cacheHitStillRunsInterceptors() {
+        runner().run(context -> {
+            HandlerExecutor handlerExecutor = context.getBean(HandlerExecutor.class);
+            CallerResponse allowed = handlerExecutor.execute(request(new CachedRequest(), ALLOWED_CALLER));
+            assertEquals("cached-1", allowed.getBody());
+            // 缓存键只包含请求参数，未被放行的调用方不能取得缓存的响应
+            CallerResponse denied = handlerExecutor.execute(request(new CachedRequest(), "b"));
+            assertNull(denied.getBody());
+            assertEquals(1, context.getBean(CachedHandler.class).calls.get());
+        });
+    }
+
+    @Test
+    void vetoedResponseIsNotCached() {
+        runner().run(context -> {
+            HandlerExecutor handlerExecutor = context.getBean(HandlerExecutor.class);
+            assertNull(handlerExecutor.<CachedRequest, CallerResponse, CachedHandler>execute(
+                    request(new CachedRequest(), "b")).getBody());
+            assertEquals("cached-1", handlerExecutor.<CachedRequest, CallerResponse, CachedHandler>execute(
+                    request(new CachedRequest(), ALLOWED_CALLER)).getBody());
+
+            assertNull(handlerExecutor.<EarlyCachedRequest, CallerResponse, EarlyCachedHandler>execute(
+                    request(new EarlyCachedRequest(), "b")).getBody());
+            assertEquals("early-1", handlerExecutor.<EarlyCachedRequest, CallerResponse, EarlyCachedHandler>execute(
+                    request(new EarlyCachedRequest(), ALLOWED_CALLER)).getBody());
+        });
+    }
+
+    @Test
+    void swallowedExceptionIsNotStoredAsIdempotentResult() {
+        runner().run(context -> {
+            HandlerExecutor handlerExecutor = context.getBean(HandlerExecutor.class);
+            PaymentRequest first = request(new PaymentRequest(), ALLOWED_CALLER);
+            first.getHeaders().add(IDEMPOTENCY_HEADER, "k");
+            assertNull(handlerExecutor.<PaymentRequest, CallerResponse, PaymentHandler>execute(first).getBody());
+
+            // 异常被后置异常拦截吞掉，幂等键已释放，重试时重新执行处理器
+            PaymentRequest retry = request(new PaymentRequest(), ALLOWED_CALLER);
+            retry.getHeaders().add(IDEMPOTENCY_HEADER, "k");
+            assertEquals("paid-2", handlerExecutor.<PaymentRequest, CallerResponse, PaymentHandler>execute(retry)
+                    .getBody());
+            assertEquals(2, context.getBean(PaymentHandler.class).calls.get());
+        });
+    }
+}
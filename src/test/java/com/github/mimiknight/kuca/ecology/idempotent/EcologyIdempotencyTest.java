@@ -0,0 +1,162 @@
+package com.github.mimiknight.kuca.ecology.idempotent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mimiknight.kuca.ecology.exception.IdempotencyConflictException;
+import com.github.mimiknight.kuca.ecology.handler.EcologyRequestHandler;
+import com.github.mimiknight.kuca.ecology.model.request.BaseRequest;
+import com.github.mimiknight.kuca.ecology.model.response.BaseResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 幂等执行器测试
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 19:50:26
+ */
+class EcologyIdempotencyTest {
+
+    private static final String HEADER = "Idempotency-Key";
+
+    private static final String TENANT_HEADER = "X-Tenant";
+
+    static class PayRequest extends BaseRequest<String, String> {
+    }
+
+    static class PayResponse extends BaseResponse<String> {
+    }
+
+    /**
+     * 无法序列化的响应
+     */
+    static class BrokenResponse extends PayResponse {
+
+        public String getBroken() {
+            throw new IllegalStateException("broken");
+        }
+    }
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final EcologyRequestHandler<PayRequest, PayResponse> handler =
+            (request, response) -> response.setBody("pay-" + calls.incrementAndGet());
+
+    private static EcologyIdempotency idempotency(EcologyIdempotencyIdentityResolver identityResolver) {
+        return new EcologyIdempotency(PayRequest.class,
+                HEADER,
+                TimeUnit.MINUTES.toMillis(1),
+                new MemoryIdempotencyStore(100),
+                identityResolver,
+                new ObjectMapper(),
+                TimeUnit.MINUTES.toMillis(1),
+                TimeUnit.SECONDS.toNanos(1),
+                10L);
+    }
+
+    private static PayRequest request(String tenant, String query, String body) {
+        PayRequest request = new PayRequest();
+        request.setQuery(query);
+        request.setBody(body);
+        request.getHeaders().add(HEADER, "k");
+        if (null != tenant) {
+            request.getHeaders().add(TENANT_HEADER, tenant);
+        }
+        return request;
+    }
+
+    private String execute(EcologyIdempotency idempotency, PayRequest request) throws Exception {
+        PayResponse response = new PayResponse();
+        idempotency.execute(idempotency.resolveKey(request), request, response, handler);
+        return response.getBody();
+    }
+
+    @Test
+    void replaysSameRequest() throws Exception {
+        EcologyIdempotency idempotency = idempotency(null);
+        assertEquals("pay-1", execute(idempotency, request(null, "q", "b")));
+        assertEquals("pay-1", execute(idempotency, request(null, "q", "b")));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void rejectsReusedKeyWithDifferentRequest() throws Exception {
+        EcologyIdempotency idempotency = idempotency(null);
+        assertEquals("pay-1", execute(idempotency, request(null, "q", "b")));
+        IdempotencyConflictException e = assertThrows(IdempotencyConflictException.class,
+                () -> execute(idempotency, request(null, "q", "other")));
+        assertTrue(e.isFingerprintMismatch());
+        assertThrows(IdempotencyConflictException.class, () -> execute(idempotency, request(null, "other", "b")));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void isolatesCallers() throws Exception {
+        EcologyIdempotency idempotency = idempotency(request -> ((PayRequest) request).getFirstHeader(TENANT_HEADER));
+        assertEquals("pay-1", execute(idempotency, request("a", "q", "b")));
+        assertEquals("pay-2", execute(idempotency, request("b", "q", "b")));
+        assertEquals("pay-1", execute(idempotency, request("a", "q", "b")));
+        // 不同调用方的请求参数互不校验
+        assertEquals("pay-3", execute(idempotency, request("c", "q", "other")));
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void rejectsUnreplayableResponseAtCreation() {
+        EcologyIdempotency idempotency = idempotency(null);
+        idempotency.verifyReplayable(PayResponse::new);
+        assertThrows(IllegalStateException.class, () -> idempotency.verifyReplayable(BrokenResponse::new));
+    }
+
+    @Test
+    void concurrentDuplicateDoesNotRerunWhenResultIsNotRecorded() throws Exception {
+        EcologyIdempotency idempotency = idempotency(null);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        EcologyRequestHandler<PayRequest, PayResponse> slowHandler = (request, response) -> {
+            calls.incrementAndGet();
+            entered.countDown();
+            release.await();
+        };
+        Thread first = new Thread(() -> {
+            try {
+                PayRequest request = request(null, "q", "b");
+                idempotency.execute(idempotency.resolveKey(request), request, new BrokenResponse(), slowHandler);
+            } catch (Exception ignored) {
+                // 首个请求的结果无法记录，不影响本测试
+            }
+        });
+        first.start();
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        Thread duplicate = new Thread(() -> {
+            try {
+                PayRequest request = request(null, "q", "b");
+                idempotency.execute(idempotency.resolveKey(request), request, new BrokenResponse(), slowHandler);
+            } catch (Exception e) {
+                failure.set(e);
+            }
+        });
+        duplicate.start();
+        // 重复请求进入等待后再结束首个请求
+        long deadline = System.currentTimeMillis() + 5_000L;
+        while (Thread.State.TIMED_WAITING != duplicate.getState()) {
+            assertTrue(System.currentTimeMillis() < deadline, "The duplicate request is not waiting");
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+        release.countDown();
+        first.join(5_000L);
+        duplicate.join(5_000L);
+
+        assertTrue(failure.get() instanceof IdempotencyConflictException, String.valueOf(failure.get()));
+        assertEquals(1, calls.get());
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.mimiknight.kuca.ecology.idempotent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JDBC幂等存储测试
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 19:31:08
+ */
+class JdbcIdempotencyStoreTest {
+
+    private static final String TABLE_NAME = "ecology_idempotency";
+
+    private static final long LEASE_MILLIS = 60_000L;
+
+    private SingleConnectionDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:" + UUID.randomUUID(), "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        store = new JdbcIdempotencyStore(jdbcTemplate, TABLE_NAME);
+        store.initializeSchema();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.destroy();
+    }
+
+    private static long leaseExpiresAt() {
+        return System.currentTimeMillis() + LEASE_MILLIS;
+    }
+
+    private int count(String state) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + TABLE_NAME + " WHERE state = ?",
+                Integer.class, state);
+    }
+
+    @Test
+    void claimsOnlyOnce() {
+        assertNull(store.claim("k", "owner-1", "f", leaseExpiresAt()));
+        IdempotencyRecord existing = store.claim("k", "owner-2", "f", leaseExpiresAt());
+        assertEquals(IdempotencyState.PENDING, existing.getState());
+        assertEquals("owner-1", existing.getOwner());
+        assertEquals("f", existing.getFingerprint());
+    }
+
+    @Test
+    void reclaimsExpiredLease() {
+        assertNull(store.claim("k", "owner-1", "f", System.currentTimeMillis() - 1));
+        assertNull(store.claim("k", "owner-2", "f", leaseExpiresAt()));
+        assertEquals("owner-2", store.claim("k", "owner-3", "f", leaseExpiresAt()).getOwner());
+    }
+
+    @Test
+    void completesOnlyByOwner() {
+        assertNull(store.claim("k", "owner-1", "f", leaseExpiresAt()));
+        assertFalse(store.complete("k", "owner-2", "{}", leaseExpiresAt()));
+        assertEquals(0, count(IdempotencyState.COMPLETED.name()));
+
+        assertTrue(store.complete("k", "owner-1", "{\"a\":1}", leaseExpiresAt()));
+        IdempotencyRecord record = store.claim("k", "owner-2", "f", leaseExpiresAt());
+        assertTrue(record.isCompleted());
+        assertEquals("{\"a\":1}", record.getPayload());
+        // 已完成的记录不能再次完成
+        assertFalse(store.complete("k", "owner-1", "{}", leaseExpiresAt()));
+    }
+
+    @Test
+    void expiredOwnerDoesNotOverwriteNewOwner() {
+        assertNull(store.claim("k", "owner-1", "f", System.currentTimeMillis() - 1));
+        assertNull(store.claim("k", "owner-2", "f", leaseExpiresAt()));
+        assertFalse(store.complete("k", "owner-1", "{}", leaseExpiresAt()));
+        store.release("k", "owner-1");
+        assertEquals(1, count(IdempotencyState.PENDING.name()));
+        assertTrue(store.complete("k", "owner-2", "{}", leaseExpiresAt()));
+    }
+
+    @Test
+    void releasesOnlyOwnPendingRecord() {
+        assertNull(store.claim("k", "owner-1", "f", leaseExpiresAt()));
+        store.release("k", "owner-2");
+        assertEquals(1, count(IdempotencyState.PENDING.name()));
+        store.release("k", "owner-1");
+        assertEquals(0, count(IdempotencyState.PENDING.name()));
+
+        assertNull(store.claim("k", "owner-3", "f", leaseExpiresAt()));
+        assertTrue(store.complete("k", "owner-3", "{}", leaseExpiresAt()));
+        store.release("k", "owner-3");
+        assertEquals(1, count(IdempotencyState.COMPLETED.name()));
+    }
+
+    @Test
+    void purgesExpiredInBatches() {
+        for (int i = 0; i < 12; i++) {
+            store.claim("old-" + i, "owner", null, 1L);
+        }
+        assertNull(store.claim("live", "owner", null, leaseExpiresAt()));
+        long now = System.currentTimeMillis();
+        assertEquals(5, store.purgeExpired(now, 5));
+        assertEquals(5, store.purgeExpired(now, 5));
+        assertEquals(2, store.purgeExpired(now, 5));
+        assertEquals(0, store.purgeExpired(now, 5));
+        assertEquals(1, count(IdempotencyState.PENDING.name()));
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.mimiknight.kuca.ecology.idempotent;
+
+import com.github.mimiknight.kuca.ecology.exception.IdempotencyStoreFullException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 进程内幂等存储测试
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 19:44:15
+ */
+class MemoryIdempotencyStoreTest {
+
+    private static final long LEASE_MILLIS = 60_000L;
+
+    private static long leaseExpiresAt() {
+        return System.currentTimeMillis() + LEASE_MILLIS;
+    }
+
+    @Test
+    void rejectsNewKeysWhenFull() {
+        MemoryIdempotencyStore store = new MemoryIdempotencyStore(2);
+        assertNull(store.claim("a", "owner", null, leaseExpiresAt()));
+        assertNull(store.claim("b", "owner", null, leaseExpiresAt()));
+        assertThrows(IdempotencyStoreFullException.class, () -> store.claim("c", "owner", null, leaseExpiresAt()));
+        // 已有的存储键不受上限影响
+        assertEquals(IdempotencyState.PENDING, store.claim("a", "other", null, leaseExpiresAt()).getState());
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void evictsOldestCompletedRecordWhenFull() {
+        MemoryIdempotencyStore store = new MemoryIdempotencyStore(2);
+        assertNull(store.claim("a", "owner", null, leaseExpiresAt()));
+        assertTrue(store.complete("a", "owner", "{}", leaseExpiresAt()));
+        assertNull(store.claim("b", "owner", null, leaseExpiresAt()));
+        assertTrue(store.complete("b", "owner", "{}", leaseExpiresAt()));
+        // 已完成的记录按完成先后淘汰，新的存储键不被拒绝
+        assertNull(store.claim("c", "owner", null, leaseExpiresAt()));
+        assertNull(store.get("a", System.currentTimeMillis()));
+        assertTrue(store.get("b", System.currentTimeMillis()).isCompleted());
+        assertEquals(2, store.size());
+        // 只剩执行中的记录时拒绝
+        assertNull(store.claim("d", "owner", null, leaseExpiresAt()));
+        assertThrows(IdempotencyStoreFullException.class, () -> store.claim("e", "owner", null, leaseExpiresAt()));
+    }
+
+    @Test
+    void replacesExpiredRecordWithoutCapacity() {
+        MemoryIdempotencyStore store = new MemoryIdempotencyStore(1);
+        assertNull(store.claim("a", "owner", null, System.currentTimeMillis() - 1));
+        assertNull(store.claim("a", "other", null, leaseExpiresAt()));
+        assertEquals(1, store.size());
+        assertEquals(1, store.purgeExpired(System.currentTimeMillis() + 2 * LEASE_MILLIS, 10));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void completesAndReleasesOnlyByOwner() {
+        MemoryIdempotencyStore store = new MemoryIdempotencyStore(10);
+        assertNull(store.claim("k", "owner-1", "f", leaseExpiresAt()));
+        assertFalse(store.complete("k", "owner-2", "{}", leaseExpiresAt()));
+        store.release("k", "owner-2");
+        assertTrue(store.complete("k", "owner-1", "{}", leaseExpiresAt()));
+        store.release("k", "owner-1");
+        IdempotencyRecord record = store.claim("k", "owner-3", "f", leaseExpiresAt());
+        assertTrue(record.isCompleted());
+        assertEquals("f", record.getFingerprint());
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.mimiknight.kuca.ecology.idempotent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 分层幂等存储测试
+ *
+ * @author MiMiKnight victor2015yhm@gmail.com
+ * @since 2026-10-18 19:38:52
+ */
+class TieredIdempotencyStoreTest {
+
+    private static final String TABLE_NAME = "ecology_idempotency";
+
+    private static final long LEASE_MILLIS = 60_000L;
+
+    private SingleConnectionDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private MemoryIdempotencyStore memory;
+
+    private TieredIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:" + UUID.randomUUID(), "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        JdbcIdempotencyStore backing = new JdbcIdempotencyStore(jdbcTemplate, TABLE_NAME);
+        backing.initializeSchema();
+        memory = new MemoryIdempotencyStore(2);
+        store = new TieredIdempotencyStore(memory, backing);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.destroy();
+    }
+
+    private static long leaseExpiresAt() {
+        return System.currentTimeMillis() + LEASE_MILLIS;
+    }
+
+    @Test
+    void pendingRecordsAreNotCached() {
+        assertNull(store.claim("k", "owner-1", "f", leaseExpiresAt()));
+        assertEquals(IdempotencyState.PENDING, store.claim("k", "owner-2", "f", leaseExpiresAt()).getState());
+        assertEquals(0, memory.size());
+    }
+
+    @Test
+    void completedRecordsAreServedFromMemory() {
+        assertNull(store.claim("k", "owner-1", "f", leaseExpiresAt()));
+        assertTrue(store.complete("k", "owner-1", "{}", leaseExpiresAt()));
+        // 首次读取已完成的记录时写入内存层，之后不再访问后备存储
+        assertTrue(store.claim("k", "owner-2", "f", leaseExpiresAt()).isCompleted());
+        assertEquals(1, memory.size());
+        jdbcTemplate.update("DELETE FROM " + TABLE_NAME);
+        IdempotencyRecord cached = store.claim("k", "owner-3", "g", leaseExpiresAt());
+        assertTrue(cached.isCompleted());
+        assertTrue(cached.isFingerprintMismatch("g"));
+    }
+
+    @Test
+    void completeAndReleaseRequireOwner() {
+        assertNull(store.claim("k", "owner-1", "f", leaseExpiresAt()));
+        assertFalse(store.complete("k", "owner-2", "{}", leaseExpiresAt()));
+        store.release("k", "owner-2");
+        assertEquals(IdempotencyState.PENDING, store.claim("k", "owner-2", "f", leaseExpiresAt()).getState());
+        store.release("k", "owner-1");
+        assertNull(store.claim("k", "owner-2", "f", leaseExpiresAt()));
+    }
+
+    @Test
+    void memoryLayerStaysBounded() {
+        for (int i = 0; i < 4; i++) {
+            String key = "k-" + i;
+            assertNull(store.claim(key, "owner", null, leaseExpiresAt()));
+            assertTrue(store.complete(key, "owner", "{}", leaseExpiresAt()));
+            assertTrue(store.claim(key, "other", null, leaseExpiresAt()).isCompleted());
+        }
+        assertEquals(2, memory.size());
+    }
+
+    @Test
+    void purgesBothLayers() {
+        assertNull(store.claim("k", "owner", null, System.currentTimeMillis() + 50));
+        assertTrue(store.complete("k", "owner", "{}", System.currentTimeMillis() + 50));
+        assertTrue(store.claim("k", "other", null, leaseExpiresAt()).isCompleted());
+        assertEquals(1, memory.size());
+        long later = System.currentTimeMillis() + 100;
+        assertEquals(1, store.purgeExpired(later, 10));
+        assertEquals(0, memory.size());
+    }
+}